@@ -20,9 +20,11 @@
 package io.jenetics.ext;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Hashes.hash;
 
 import java.util.Random;
+import java.util.concurrent.Executor;
 
 import io.jenetics.AltererResult;
 import io.jenetics.Chromosome;
@@ -63,7 +65,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.5
- * @version 3.5
+ * @version 4.3
  */
 public class WeaselMutator<
 	G extends Gene<?, G>,
@@ -93,6 +95,22 @@ public class WeaselMutator<
 		);
 	}
 
+	/**
+	 * The weasel mutation mutates every individual with one random engine.
+	 * The given {@code executor} is therefore not used.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return alter(population, generation);
+	}
+
 	@Override
 	protected MutatorResult<Genotype<G>> mutate(
 		final Genotype<G> genotype,
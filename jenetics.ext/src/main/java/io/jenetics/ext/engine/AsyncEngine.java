@@ -0,0 +1,443 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.engine.EvolutionStreamImpl;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * The {@code AsyncEngine} is a <em>steady-state</em> evolution engine, which
+ * doesn't wait for the evaluation of the whole offspring population. It keeps
+ * a configurable number of fitness evaluations <em>in flight</em> and inserts
+ * every evaluated individual into the population as soon as its evaluation has
+ * been finished. The new individual replaces the worst individual of the
+ * population, if it is not worse than it.
+ *
+ * <pre> {@code
+ *              +----------------------+    +------------+
+ *              |      Population      |--->|  Select &  |
+ *   (Start) -->|                      |    |   Alter    |
+ *              +----------------------+    +-----+------+
+ *                   ^  replace worst             |
+ *                   |                            v
+ *              +----+---------------------------------+
+ *              |  N evaluations in flight (Executor)  |---> Result every
+ *              +--------------------------------------+     K evaluations
+ * }</pre>
+ *
+ * This removes the generational barrier of the {@link Engine}, where all
+ * cores are waiting for the slowest fitness evaluation of the generation. To
+ * keep the existing {@link io.jenetics.engine.Limits} and collectors working,
+ * the {@code AsyncEngine} emits an {@link EvolutionResult} after every
+ * {@code K} finished evaluations. Each emitted result increments the
+ * generation counter. Only the evaluations of newly created individuals are
+ * counted. Offspring, which haven't been changed by the alterer, are already
+ * part of the population and are not evaluated again.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .minimizing()
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> best = AsyncEngine.of(engine)
+ *     .stream()
+ *     .limit(Limits.bySteadyFitness(20))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * The given {@code Engine} serves as configuration template. Its genotype
+ * factory, fitness function, offspring selector, alterer, phenotype
+ * validator, maximal phenotype age, optimization strategy, population size,
+ * executor and clock are used by the {@code AsyncEngine}. Invalid offspring
+ * are discarded before their evaluation. An evaluated individual replaces
+ * an individual, which exceeds the maximal phenotype age, in the first place.
+ * The configured engine evaluator is not used, since every individual is
+ * evaluated on its own. Closing the evolution stream cancels the evaluations,
+ * which are still in flight.
+ *
+ * @see ConcatEngine
+ * @see CyclicEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@SuppressWarnings("deprecation")
+public final class AsyncEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final int _maxInFlight;
+	private final int _resultInterval;
+
+	/**
+	 * Create a new asynchronous engine with the given parameters.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param maxInFlight the number of fitness evaluations which are kept in
+	 *        flight
+	 * @param resultInterval the number of finished evaluations after which a
+	 *        new {@link EvolutionResult} is emitted
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlight} or
+	 *         {@code resultInterval} is smaller than one
+	 */
+	public AsyncEngine(
+		final Engine<G, C> engine,
+		final int maxInFlight,
+		final int resultInterval
+	) {
+		_engine = requireNonNull(engine);
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException(format(
+				"Max in flight count must be greater than zero, but was %d.",
+				maxInFlight
+			));
+		}
+		if (resultInterval < 1) {
+			throw new IllegalArgumentException(format(
+				"Result interval must be greater than zero, but was %d.",
+				resultInterval
+			));
+		}
+
+		_maxInFlight = maxInFlight;
+		_resultInterval = resultInterval;
+	}
+
+	/**
+	 * Return the number of fitness evaluations which are kept in flight.
+	 *
+	 * @return the number of fitness evaluations which are kept in flight
+	 */
+	public int getMaxInFlight() {
+		return _maxInFlight;
+	}
+
+	/**
+	 * Return the number of finished evaluations after which a new
+	 * {@link EvolutionResult} is emitted.
+	 *
+	 * @return the number of evaluations per emitted evolution result
+	 */
+	public int getResultInterval() {
+		return _resultInterval;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		final AsyncSpliterator spliterator = new AsyncSpliterator(start);
+		final EvolutionStream<G, C> stream =
+			new EvolutionStreamImpl<>(spliterator, false);
+
+		stream.onClose(spliterator::close);
+		return stream;
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return stream(() -> EvolutionStart.of(
+			init.getPopulation()
+				.map(gt -> Phenotype.of(
+					gt,
+					init.getGeneration(),
+					_engine.getFitnessFunction(),
+					_engine.getFitnessScaler())),
+			init.getGeneration()
+		));
+	}
+
+	private Phenotype<G, C> newPhenotype(final long generation) {
+		return Phenotype.of(
+			_engine.getGenotypeFactory().newInstance(),
+			generation,
+			_engine.getFitnessFunction(),
+			_engine.getFitnessScaler()
+		);
+	}
+
+	private Phenotype<G, C> toFixedPhenotype(final Phenotype<G, C> pt) {
+		return
+			pt.getFitnessFunction() == _engine.getFitnessFunction() &&
+			pt.getFitnessScaler() == _engine.getFitnessScaler()
+				? pt
+				: pt.newInstance(
+					pt.getGeneration(),
+					_engine.getFitnessFunction(),
+					_engine.getFitnessScaler()
+				);
+	}
+
+	/**
+	 * Create a new asynchronous engine from the given {@code engine}. The
+	 * number of evaluations in flight is set to the number of available
+	 * processors and an evolution result is emitted after every
+	 * <em>population size</em> finished evaluations.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new asynchronous engine
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	AsyncEngine<G, C> of(final Engine<G, C> engine) {
+		return new AsyncEngine<>(
+			engine,
+			Runtime.getRuntime().availableProcessors(),
+			engine.getPopulationSize()
+		);
+	}
+
+
+	/**
+	 * Spliterator which performs the actual steady-state evolution.
+	 */
+	private final class AsyncSpliterator
+		implements Spliterator<EvolutionResult<G, C>>
+	{
+		private final Supplier<EvolutionStart<G, C>> _start;
+		private final BlockingQueue<CompletableFuture<Phenotype<G, C>>>
+			_completed = new LinkedBlockingQueue<>();
+		private final Set<CompletableFuture<Phenotype<G, C>>>
+			_inFlight = ConcurrentHashMap.newKeySet();
+
+		private MSeq<Phenotype<G, C>> _population;
+		private long _generation;
+		private volatile boolean _closed;
+
+		private int _alterCount;
+		private int _killCount;
+		private int _invalidCount;
+
+		AsyncSpliterator(final Supplier<EvolutionStart<G, C>> start) {
+			_start = requireNonNull(start);
+		}
+
+		@Override
+		public boolean
+		tryAdvance(final Consumer<? super EvolutionResult<G, C>> action) {
+			if (_closed) {
+				return false;
+			}
+
+			final Clock clock = _engine.getClock();
+			final Instant start = clock.instant();
+
+			if (_population == null) {
+				init();
+			}
+
+			_alterCount = 0;
+			_killCount = 0;
+			_invalidCount = 0;
+
+			int evaluations = 0;
+			while (evaluations < _resultInterval && !_closed) {
+				// The number of spawns without a new evaluation is limited,
+				// since the alterers might not create any new individual.
+				int idle = 0;
+				while (_inFlight.size() < _maxInFlight &&
+					idle < _engine.getPopulationSize())
+				{
+					idle = spawn() ? 0 : idle + 1;
+				}
+
+				if (_inFlight.isEmpty()) {
+					break;
+				}
+
+				insert(take());
+				++evaluations;
+			}
+
+			final Duration duration = Duration.between(start, clock.instant());
+			action.accept(EvolutionResult.of(
+				_engine.getOptimize(),
+				_population.toISeq(),
+				_generation++,
+				EvolutionDurations.of(
+					Duration.ZERO,
+					Duration.ZERO,
+					Duration.ZERO,
+					Duration.ZERO,
+					Duration.ZERO,
+					duration,
+					duration
+				),
+				_killCount,
+				_invalidCount,
+				_alterCount
+			));
+
+			return true;
+		}
+
+		private void init() {
+			final EvolutionStart<G, C> es = _start.get();
+			_generation = es.getGeneration();
+
+			final Stream<Phenotype<G, C>> stream = Stream.concat(
+				es.getPopulation().stream().map(AsyncEngine.this::toFixedPhenotype),
+				Stream.generate(() -> newPhenotype(es.getGeneration()))
+			);
+
+			_population = stream
+				.limit(_engine.getPopulationSize())
+				.map(this::evaluate)
+				.collect(ISeq.toISeq())
+				.map(CompletableFuture::join)
+				.copy();
+		}
+
+		// Selects and alters new offspring and starts the evaluation of the
+		// valid, newly created individuals. Returns true, if at least one
+		// evaluation has been started.
+		private boolean spawn() {
+			final ISeq<Phenotype<G, C>> parents = _engine.getOffspringSelector()
+				.select(_population, 2, _engine.getOptimize());
+
+			final AltererResult<G, C> offspring = _engine.getAlterer()
+				.alter(parents, _generation);
+			_alterCount += offspring.getAlterations();
+
+			boolean spawned = false;
+			for (Phenotype<G, C> pt : offspring.getPopulation()) {
+				// Parents, which haven't been altered, are already part of
+				// the population and are not evaluated again.
+				if (!pt.isEvaluated()) {
+					if (_engine.getPhenotypeValidator().test(pt)) {
+						final CompletableFuture<Phenotype<G, C>> result =
+							evaluate(pt);
+						_inFlight.add(result);
+						result.whenComplete((p, e) -> _completed.add(result));
+						spawned = true;
+					} else {
+						++_invalidCount;
+					}
+				}
+			}
+
+			return spawned;
+		}
+
+		private CompletableFuture<Phenotype<G, C>>
+		evaluate(final Phenotype<G, C> pt) {
+			return pt.isEvaluated()
+				? CompletableFuture.completedFuture(pt)
+				: CompletableFuture.supplyAsync(pt::evaluate, _engine.getExecutor());
+		}
+
+		private Phenotype<G, C> take() {
+			try {
+				final CompletableFuture<Phenotype<G, C>> result = _completed.take();
+				_inFlight.remove(result);
+				return result.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CompletionException(e);
+			}
+		}
+
+		// Replaces an individual, which exceeds the maximal phenotype age, or
+		// the worst individual, if the new one is not worse.
+		private void insert(final Phenotype<G, C> pt) {
+			final long maxAge = _engine.getMaximalPhenotypeAge();
+
+			int worst = 0;
+			for (int i = 0; i < _population.size(); ++i) {
+				if (_population.get(i).getAge(_generation) > maxAge) {
+					_population.set(i, pt);
+					++_killCount;
+					return;
+				}
+				if (_engine.getOptimize()
+						.compare(_population.get(i), _population.get(worst)) < 0)
+				{
+					worst = i;
+				}
+			}
+
+			if (_engine.getOptimize().compare(pt, _population.get(worst)) >= 0) {
+				_population.set(worst, pt);
+			}
+		}
+
+		// Cancels the evaluations, which are still in flight.
+		void close() {
+			_closed = true;
+			_inFlight.forEach(result -> result.cancel(false));
+			_inFlight.clear();
+		}
+
+		@Override
+		public Spliterator<EvolutionResult<G, C>> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return NONNULL | ORDERED;
+		}
+
+	}
+
+}
@@ -0,0 +1,466 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+import io.jenetics.ext.engine.EvaluationWorker.Batch;
+import io.jenetics.ext.engine.EvaluationWorker.MessageInputStream;
+import io.jenetics.ext.engine.EvaluationWorker.Result;
+
+/**
+ * Genotype evaluator, which distributes the fitness evaluation to a set of
+ * {@link EvaluationWorker}s. The genotypes are split into batches, which are
+ * sent over TCP to the workers. Every worker pulls a new batch as soon as one
+ * of its batches has been evaluated, which balances the load between fast
+ * and slow workers. Up to {@code pipelineDepth} batches are in flight per
+ * worker, which hides the network latency. If a worker dies, its unanswered
+ * batches are re-dispatched to the remaining workers.
+ *
+ * <pre>{@code
+ * final DistributedEvaluator<DoubleGene, Double> evaluator =
+ *     DistributedEvaluator.of(9001, 9002, 9003);
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .evaluator(evaluator)
+ *     .build();
+ * }</pre>
+ *
+ * The fitness function is hosted by the workers. The fitness function given
+ * to the {@link #evaluate(Seq, Function)} method is not used. Dead workers
+ * are reconnected at the start of the next evaluation.
+ *
+ * @see EvaluationWorker
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class DistributedEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Engine.GenotypeEvaluator<G, C>, Closeable
+{
+
+	private static final int DEFAULT_BATCH_SIZE = 10;
+	private static final int DEFAULT_PIPELINE_DEPTH = 2;
+
+	private final List<InetSocketAddress> _workers;
+	private final int _batchSize;
+	private final int _pipelineDepth;
+
+	private final Connection[] _connections;
+	private final ExecutorService _executor;
+	private final LongAdder _redispatched = new LongAdder();
+
+	/**
+	 * Create a new distributed evaluator.
+	 *
+	 * @param workers the addresses of the evaluation workers
+	 * @param batchSize the maximal number of genotypes sent in one batch
+	 * @param pipelineDepth the maximal number of batches in flight per worker
+	 * @throws NullPointerException if the {@code workers} or one of its
+	 *         elements is {@code null}
+	 * @throws IllegalArgumentException if the {@code workers} list is empty,
+	 *         or the {@code batchSize} or {@code pipelineDepth} is smaller
+	 *         than one
+	 */
+	public DistributedEvaluator(
+		final List<InetSocketAddress> workers,
+		final int batchSize,
+		final int pipelineDepth
+	) {
+		workers.forEach(Objects::requireNonNull);
+		if (workers.isEmpty()) {
+			throw new IllegalArgumentException("No evaluation workers given.");
+		}
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Batch size must be greater than zero, but was %d.",
+				batchSize
+			));
+		}
+		if (pipelineDepth < 1) {
+			throw new IllegalArgumentException(format(
+				"Pipeline depth must be greater than zero, but was %d.",
+				pipelineDepth
+			));
+		}
+
+		_workers = new ArrayList<>(workers);
+		_batchSize = batchSize;
+		_pipelineDepth = pipelineDepth;
+		_connections = new Connection[workers.size()];
+		_executor = Executors.newCachedThreadPool(runnable -> {
+			final Thread thread = new Thread(runnable, "DistributedEvaluator");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Return the maximal number of genotypes sent in one batch.
+	 *
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return _batchSize;
+	}
+
+	/**
+	 * Return the maximal number of batches in flight per worker.
+	 *
+	 * @return the pipeline depth
+	 */
+	public int getPipelineDepth() {
+		return _pipelineDepth;
+	}
+
+	/**
+	 * Return the number of batches, which has been re-dispatched to another
+	 * worker, because the original worker died.
+	 *
+	 * @return the number of re-dispatched batches
+	 */
+	public long getRedispatchedBatches() {
+		return _redispatched.sum();
+	}
+
+	/**
+	 * Evaluates the given genotypes on the evaluation workers.
+	 *
+	 * @param population the genotypes to evaluate
+	 * @param fitness the fitness function. Not used, since the fitness
+	 *        function is hosted by the workers.
+	 * @return the fitness values of the given genotypes
+	 * @throws UncheckedIOException if no evaluation worker is available
+	 * @throws IllegalStateException if the fitness evaluation of a genotype
+	 *         has failed on a worker
+	 */
+	@Override
+	public synchronized ISeq<C> evaluate(
+		final Seq<Genotype<G>> population,
+		final Function<? super Genotype<G>, ? extends C> fitness
+	) {
+		if (population.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final List<Connection> connections = connect();
+		final Evaluation evaluation = new Evaluation(population, connections.size());
+
+		final List<Future<?>> loops = connections.stream()
+			.map(c -> _executor.submit(() -> evaluation.dispatch(c)))
+			.collect(Collectors.toList());
+
+		try {
+			return evaluation.result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			throw e;
+		} finally {
+			for (Future<?> loop : loops) {
+				join(loop);
+			}
+		}
+	}
+
+	private static void join(final Future<?> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception ignore) {
+		}
+	}
+
+	// (Re)connects the dead workers and returns all open connections.
+	private List<Connection> connect() {
+		final List<Connection> connections = new ArrayList<>();
+		IOException error = null;
+
+		for (int i = 0; i < _connections.length; ++i) {
+			if (_connections[i] == null || _connections[i].isClosed()) {
+				try {
+					_connections[i] = new Connection(_workers.get(i));
+				} catch (IOException e) {
+					_connections[i] = null;
+					error = e;
+				}
+			}
+			if (_connections[i] != null) {
+				connections.add(_connections[i]);
+			}
+		}
+
+		if (connections.isEmpty()) {
+			throw new UncheckedIOException("No evaluation worker available.", error);
+		}
+
+		return connections;
+	}
+
+	/**
+	 * Closes the connections to the evaluation workers.
+	 */
+	@Override
+	public synchronized void close() {
+		for (int i = 0; i < _connections.length; ++i) {
+			if (_connections[i] != null) {
+				_connections[i].close();
+				_connections[i] = null;
+			}
+		}
+		_executor.shutdownNow();
+	}
+
+
+	/**
+	 * The state of one distributed evaluation.
+	 */
+	private final class Evaluation {
+		private final Batch END = new Batch(-1, new Object[0]);
+
+		private final Object[] _fitness;
+		private final int _connections;
+
+		private final BlockingDeque<Batch> _pending = new LinkedBlockingDeque<>();
+		private final AtomicInteger _remaining;
+		private final AtomicInteger _alive;
+
+		final CompletableFuture<ISeq<C>> result = new CompletableFuture<>();
+
+		Evaluation(final Seq<Genotype<G>> population, final int connections) {
+			_fitness = new Object[population.size()];
+			_connections = connections;
+
+			final int batches = (population.size() + _batchSize - 1)/_batchSize;
+			for (int i = 0; i < batches; ++i) {
+				final int from = i*_batchSize;
+				final int until = Math.min(from + _batchSize, population.size());
+				_pending.add(new Batch(
+					i,
+					population.subSeq(from, until).toArray()
+				));
+			}
+
+			_remaining = new AtomicInteger(batches);
+			_alive = new AtomicInteger(connections);
+		}
+
+		// Sends and receives the batches of one worker connection, until all
+		// batches has been evaluated or the connection has been closed.
+		void dispatch(final Connection connection) {
+			final Map<Integer, Batch> inflight = new HashMap<>();
+			try {
+				while (!result.isDone() || !inflight.isEmpty()) {
+					Batch batch = null;
+					while (!result.isDone() &&
+						inflight.size() < _pipelineDepth &&
+						(batch = _pending.poll()) != null &&
+						batch != END)
+					{
+						inflight.put(batch.id, batch);
+						connection.send(batch);
+					}
+					if (inflight.isEmpty()) {
+						if (!result.isDone()) {
+							final Batch next = _pending.take();
+							if (next != END) {
+								_pending.addFirst(next);
+							}
+						}
+					} else {
+						final Result res = connection.receive();
+						completed(inflight.remove(res.id), res, connection);
+					}
+				}
+			} catch (IOException | ClassNotFoundException e) {
+				connection.close();
+				_redispatched.add(inflight.size());
+				inflight.values().forEach(_pending::addFirst);
+
+				if (_alive.decrementAndGet() == 0 && !result.isDone()) {
+					result.completeExceptionally(new UncheckedIOException(
+						"All evaluation workers died.",
+						e instanceof IOException
+							? (IOException)e
+							: new IOException(e)
+					));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void completed(
+			final Batch batch,
+			final Result res,
+			final Connection connection
+		) {
+			if (res.error != null) {
+				result.completeExceptionally(new IllegalStateException(format(
+					"Fitness evaluation failed on worker %s: %s",
+					connection.address, res.error
+				)));
+				stop();
+			} else {
+				System.arraycopy(
+					res.fitness, 0,
+					_fitness, batch.id*_batchSize,
+					res.fitness.length
+				);
+				if (_remaining.decrementAndGet() == 0) {
+					result.complete(fitness());
+					stop();
+				}
+			}
+		}
+
+		// Wakes up all connection loops which are waiting for a new batch.
+		private void stop() {
+			for (int i = 0; i < _connections; ++i) {
+				_pending.add(END);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private ISeq<C> fitness() {
+			return Arrays.stream(_fitness)
+				.map(f -> (C)f)
+				.collect(ISeq.toISeq());
+		}
+	}
+
+	/**
+	 * Connection to one evaluation worker.
+	 */
+	private static final class Connection {
+		final InetSocketAddress address;
+		private final Socket _socket;
+		private final ObjectOutputStream _out;
+		private final ObjectInputStream _in;
+
+		Connection(final InetSocketAddress address) throws IOException {
+			this.address = address;
+			_socket = new Socket();
+			try {
+				_socket.connect(address);
+				_socket.setTcpNoDelay(true);
+				_out = new ObjectOutputStream(_socket.getOutputStream());
+				_out.flush();
+				_in = new MessageInputStream(_socket.getInputStream(), true);
+			} catch (IOException e) {
+				_socket.close();
+				throw e;
+			}
+		}
+
+		void send(final Batch batch) throws IOException {
+			_out.writeObject(batch);
+			_out.reset();
+			_out.flush();
+		}
+
+		Result receive() throws IOException, ClassNotFoundException {
+			return (Result)_in.readObject();
+		}
+
+		boolean isClosed() {
+			return _socket.isClosed();
+		}
+
+		void close() {
+			try {
+				_socket.close();
+			} catch (IOException ignore) {
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new distributed evaluator for the workers listening on the
+	 * given {@code ports} of the loopback address. The genotypes are sent in
+	 * batches of ten, with two batches in flight per worker.
+	 *
+	 * @param ports the ports of the evaluation workers
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new distributed evaluator
+	 * @throws IllegalArgumentException if no {@code ports} are given
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	DistributedEvaluator<G, C> of(final int... ports) {
+		return new DistributedEvaluator<>(
+			IntStream.of(ports)
+				.mapToObj(p -> new InetSocketAddress(InetAddress.getLoopbackAddress(), p))
+				.collect(Collectors.toList()),
+			DEFAULT_BATCH_SIZE,
+			DEFAULT_PIPELINE_DEPTH
+		);
+	}
+
+}
@@ -0,0 +1,424 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.engine.Problem;
+
+/**
+ * Evaluation worker, which serves the fitness evaluation requests of a
+ * {@link DistributedEvaluator}. The worker hosts the fitness function and
+ * listens on a TCP socket for batches of genotypes. Every received batch is
+ * evaluated and the fitness values are sent back to the requesting
+ * evaluator. The batches of one connection are evaluated in the order they
+ * are received.
+ *
+ * <pre>{@code
+ * final EvaluationWorker<DoubleGene, Double> worker =
+ *     EvaluationWorker.start(0, gt -> fitness(gt));
+ *
+ * final DistributedEvaluator<DoubleGene, Double> evaluator =
+ *     DistributedEvaluator.of(worker.getPort());
+ * }</pre>
+ *
+ * The worker can also be started as separate process, with the port and the
+ * class name of the fitness function as arguments. The fitness function class
+ * must have a public no-arg constructor and must implement either the
+ * {@link Function}{@code <Genotype<G>, C>} or the {@link Problem} interface.
+ *
+ * <pre>{@code
+ * $ java -cp <classpath> io.jenetics.ext.engine.EvaluationWorker 0 org.example.Fitness
+ * EvaluationWorker listening on port 35127
+ * }</pre>
+ *
+ * @apiNote
+ * The genotypes and fitness values are transferred with the Java
+ * serialization. The worker must therefore only be exposed to trusted
+ * clients and can only be bound to a loopback address. Only the protocol
+ * messages, the {@code io.jenetics} types, {@link Gene} and
+ * {@link Chromosome} implementations, strings, numbers and enums are
+ * deserialized. Messages containing other classes are rejected.
+ *
+ * @see DistributedEvaluator
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class EvaluationWorker<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Closeable
+{
+
+	private final Function<? super Genotype<G>, ? extends C> _fitness;
+	private final ServerSocket _server;
+	private final Set<Socket> _sockets = ConcurrentHashMap.newKeySet();
+	private final LongAdder _evaluations = new LongAdder();
+	private final Thread _acceptor;
+
+	private volatile boolean _closed = false;
+
+	private EvaluationWorker(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final ServerSocket server
+	) {
+		_fitness = requireNonNull(fitness);
+		_server = requireNonNull(server);
+		_acceptor = thread(this::accept, "acceptor");
+	}
+
+	/**
+	 * Return the address the worker is listening on.
+	 *
+	 * @return the worker address
+	 */
+	public InetSocketAddress getAddress() {
+		return (InetSocketAddress)_server.getLocalSocketAddress();
+	}
+
+	/**
+	 * Return the port the worker is listening on.
+	 *
+	 * @return the worker port
+	 */
+	public int getPort() {
+		return _server.getLocalPort();
+	}
+
+	/**
+	 * Return the number of fitness evaluations performed by this worker.
+	 *
+	 * @return the number of performed fitness evaluations
+	 */
+	public long getEvaluations() {
+		return _evaluations.sum();
+	}
+
+	/**
+	 * Stops the worker and closes all open client connections. Batches which
+	 * are currently evaluated are not answered and will be re-dispatched by
+	 * the requesting {@link DistributedEvaluator}.
+	 */
+	@Override
+	public void close() {
+		_closed = true;
+		closeQuietly(_server);
+		_sockets.forEach(EvaluationWorker::closeQuietly);
+	}
+
+	private Thread thread(final Runnable runnable, final String name) {
+		final Thread thread = new Thread(
+			runnable,
+			"EvaluationWorker-" + getPort() + "-" + name
+		);
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	private void accept() {
+		while (!_closed) {
+			try {
+				final Socket socket = _server.accept();
+				socket.setTcpNoDelay(true);
+				_sockets.add(socket);
+				if (_closed) {
+					closeQuietly(socket);
+				} else {
+					thread(() -> serve(socket), "connection");
+				}
+			} catch (IOException e) {
+				if (!_closed) {
+					close();
+				}
+			}
+		}
+	}
+
+	private void serve(final Socket socket) {
+		try (ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream())) {
+			out.flush();
+			final ObjectInputStream in =
+				new MessageInputStream(socket.getInputStream(), false);
+
+			while (!_closed) {
+				final Batch batch = (Batch)in.readObject();
+				out.writeObject(evaluate(batch));
+				out.reset();
+				out.flush();
+			}
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			// The connection has been closed by the client, is broken or has
+			// sent an invalid message. The client re-dispatches the unanswered
+			// batches.
+		} finally {
+			_sockets.remove(socket);
+			closeQuietly(socket);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Result evaluate(final Batch batch) {
+		final Object[] fitness = new Object[batch.genotypes.length];
+		try {
+			for (int i = 0; i < fitness.length; ++i) {
+				fitness[i] = _fitness.apply((Genotype<G>)batch.genotypes[i]);
+				_evaluations.increment();
+			}
+			return new Result(batch.id, fitness, null);
+		} catch (RuntimeException e) {
+			return new Result(batch.id, null, e.toString());
+		}
+	}
+
+	private static void closeQuietly(final Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException ignore) {
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Start a new evaluation worker, which listens on the given
+	 * {@code address}. Since the genotypes are transferred with the Java
+	 * serialization, only loopback addresses are allowed.
+	 *
+	 * @param address the loopback address the worker is listening on
+	 * @param fitness the fitness function used for evaluating the genotypes
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new, running evaluation worker
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code address} is not
+	 *         a resolved loopback address
+	 * @throws IOException if the server socket can't be opened
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluationWorker<G, C> start(
+		final InetSocketAddress address,
+		final Function<? super Genotype<G>, ? extends C> fitness
+	)
+		throws IOException
+	{
+		requireNonNull(address);
+		requireNonNull(fitness);
+		if (address.getAddress() == null ||
+			!address.getAddress().isLoopbackAddress())
+		{
+			throw new IllegalArgumentException(
+				"Worker must be bound to a loopback address: " + address
+			);
+		}
+
+		final ServerSocket server = new ServerSocket();
+		try {
+			server.bind(address);
+		} catch (IOException e) {
+			closeQuietly(server);
+			throw e;
+		}
+
+		return new EvaluationWorker<>(fitness, server);
+	}
+
+	/**
+	 * Start a new evaluation worker, which listens on the given {@code port}
+	 * of the loopback address.
+	 *
+	 * @param port the port the worker is listening on. If zero, a free port
+	 *        is chosen.
+	 * @param fitness the fitness function used for evaluating the genotypes
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new, running evaluation worker
+	 * @throws NullPointerException if the given {@code fitness} function is
+	 *         {@code null}
+	 * @throws IOException if the server socket can't be opened
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluationWorker<G, C> start(
+		final int port,
+		final Function<? super Genotype<G>, ? extends C> fitness
+	)
+		throws IOException
+	{
+		return start(
+			new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+			fitness
+		);
+	}
+
+	/**
+	 * Starts an evaluation worker process. The first argument is the port the
+	 * worker is listening on and the second argument is the class name of
+	 * the fitness function.
+	 *
+	 * @param args the worker arguments: {@code <port> <fitness-class>}
+	 * @throws Exception if the worker can't be started
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static void main(final String[] args) throws Exception {
+		if (args.length != 2) {
+			System.err.println(
+				"Usage: EvaluationWorker <port> <fitness-class>"
+			);
+			System.exit(1);
+		}
+
+		final Object function = Class.forName(args[1])
+			.getDeclaredConstructor()
+			.newInstance();
+		final Function<Genotype, Comparable> fitness =
+			function instanceof Problem
+				? ((Problem)function)::fitness
+				: (Function<Genotype, Comparable>)function;
+
+		final EvaluationWorker<?, ?> worker =
+			start(Integer.parseInt(args[0]), (Function)fitness);
+
+		System.out.println("EvaluationWorker listening on port " + worker.getPort());
+		System.out.flush();
+
+		worker._acceptor.join();
+	}
+
+
+	/* *************************************************************************
+	 * Protocol messages.
+	 * ************************************************************************/
+
+	/**
+	 * Object input stream for the protocol messages. The classes of the
+	 * received objects are checked before they are instantiated. Only the
+	 * protocol messages, the {@code io.jenetics} types, {@link Gene} and
+	 * {@link Chromosome} implementations, strings, numbers and enums (and
+	 * arrays of them) are allowed. The stream of the evaluator additionally
+	 * allows {@link Comparable} fitness types.
+	 */
+	static final class MessageInputStream extends ObjectInputStream {
+		private final boolean _fitness;
+
+		MessageInputStream(final InputStream in, final boolean fitness)
+			throws IOException
+		{
+			super(in);
+			_fitness = fitness;
+		}
+
+		@Override
+		protected Class<?> resolveClass(final ObjectStreamClass desc)
+			throws IOException, ClassNotFoundException
+		{
+			final Class<?> type = super.resolveClass(desc);
+			if (!isAllowed(type)) {
+				throw new InvalidClassException(
+					desc.getName(), "Class is not allowed in worker messages."
+				);
+			}
+			return type;
+		}
+
+		private boolean isAllowed(final Class<?> type) {
+			Class<?> component = type;
+			while (component.isArray()) {
+				component = component.getComponentType();
+			}
+
+			return component.isPrimitive() ||
+				component == Object.class ||
+				component == String.class ||
+				component == Boolean.class ||
+				component == Character.class ||
+				Number.class.isAssignableFrom(component) &&
+					component.getName().startsWith("java.") ||
+				Enum.class.isAssignableFrom(component) ||
+				component.getName().startsWith("io.jenetics.") ||
+				Gene.class.isAssignableFrom(component) ||
+				Chromosome.class.isAssignableFrom(component) ||
+				_fitness && Comparable.class.isAssignableFrom(component);
+		}
+	}
+
+	/**
+	 * Batch of genotypes, sent from the evaluator to the worker.
+	 */
+	static final class Batch implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final int id;
+		final Object[] genotypes;
+
+		Batch(final int id, final Object[] genotypes) {
+			this.id = id;
+			this.genotypes = genotypes;
+		}
+	}
+
+	/**
+	 * Fitness values of an evaluated batch, sent from the worker back to the
+	 * evaluator. If the fitness evaluation has failed, the {@code error}
+	 * message is set instead of the {@code fitness} values.
+	 */
+	static final class Result implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final int id;
+		final Object[] fitness;
+		final String error;
+
+		Result(final int id, final Object[] fitness, final String error) {
+			this.id = id;
+			this.fitness = fitness;
+			this.error = error;
+		}
+	}
+
+}
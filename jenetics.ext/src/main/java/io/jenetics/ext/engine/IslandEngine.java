@@ -0,0 +1,502 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.engine.EvolutionStreamImpl;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * The {@code IslandEngine} evolves a given set of evolution engines, the
+ * <em>islands</em>, concurrently. Every island has its own population. After
+ * a given number of generations, the <em>migration interval</em>, the best
+ * individuals of every island migrate to the neighbouring islands, where they
+ * replace the worst individuals. The neighbourhood of the islands is defined
+ * by the migration {@link Topology}.
+ *
+ * <pre> {@code
+ *          +------------+   migrants    +------------+
+ *  (Start) |            |-------------->|            |
+ * -------->|  Engine 1  |               |  Engine 2  |
+ *          |            |<--------------|            |
+ *          +------------+               +------------+
+ *                 |                            |
+ *                 +-------------+--------------+
+ *                               |  merged
+ *                               +-----------> Result
+ * }</pre>
+ *
+ * The islands are evolved without any synchronization between two migration
+ * events. The populations of all islands of the same generation are merged
+ * into one {@link EvolutionResult}, which is emitted by the evolution stream
+ * of the {@code IslandEngine}.
+ *
+ * <pre>{@code
+ *  final Problem<double[], DoubleGene, Double> problem = Problem.of(
+ *      v -> Math.sin(v[0])*Math.cos(v[1]),
+ *      Codecs.ofVector(DoubleRange.of(0, 2*Math.PI), 2)
+ *  );
+ *
+ *  final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *      .minimizing()
+ *      .executor(Runnable::run)
+ *      .build();
+ *
+ *  final Genotype<DoubleGene> result = new IslandEngine<>(
+ *          Collections.nCopies(8, engine),
+ *          IslandEngine.Topology.ring(),
+ *          20,
+ *          2,
+ *          ForkJoinPool.commonPool())
+ *      .stream()
+ *      .limit(Limits.bySteadyFitness(100))
+ *      .collect(EvolutionResult.toBestGenotype());
+ * }</pre>
+ *
+ * Since every island is evolved by its own thread, it is recommended to use
+ * island engines with a synchronous executor, as shown in the example above.
+ * The island engine streams are restarted after every migration event. This
+ * means, that limits of the island engines are applied per migration
+ * interval. The overall evolution stream must be limited additionally. All
+ * islands must solve the same problem, since the migrated individuals keep
+ * their fitness function.
+ *
+ * @see ConcatEngine
+ * @see CyclicEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends EnginePool<G, C>
+{
+
+	/**
+	 * Defines the neighbourhood of the islands, which is used for the
+	 * migration of the individuals.
+	 */
+	@FunctionalInterface
+	public static interface Topology {
+
+		/**
+		 * Return the indexes of the islands, which send their best individuals
+		 * to the island with the given {@code index}.
+		 *
+		 * @param index the index of the receiving island
+		 * @param islands the number of islands
+		 * @return the indexes of the sending islands
+		 */
+		public int[] sources(final int index, final int islands);
+
+		/**
+		 * Return a ring topology, where every island receives the migrants of
+		 * its predecessor island.
+		 *
+		 * @return a ring topology
+		 */
+		public static Topology ring() {
+			return (index, islands) -> islands > 1
+				? new int[]{(index + islands - 1)%islands}
+				: new int[0];
+		}
+
+		/**
+		 * Return a fully connected topology, where every island receives the
+		 * migrants of all other islands.
+		 *
+		 * @return a fully connected topology
+		 */
+		public static Topology fullyConnected() {
+			return (index, islands) -> IntStream.range(0, islands)
+				.filter(i -> i != index)
+				.toArray();
+		}
+
+		/**
+		 * Return a random topology, where every island receives the migrants
+		 * of one, randomly chosen, other island. The source island is chosen
+		 * anew for every migration event, using the random engine of the
+		 * {@link RandomRegistry}.
+		 *
+		 * @return a random topology
+		 */
+		public static Topology random() {
+			return (index, islands) -> {
+				if (islands > 1) {
+					final Random random = RandomRegistry.getRandom();
+					final int source = random.nextInt(islands - 1);
+					return new int[]{source < index ? source : source + 1};
+				} else {
+					return new int[0];
+				}
+			};
+		}
+	}
+
+	private final Topology _topology;
+	private final int _interval;
+	private final int _migrants;
+	private final Executor _executor;
+
+	/**
+	 * Create a new island engine with the given parameters.
+	 *
+	 * @param engines the evolution engines which are evolved as islands
+	 * @param topology the migration topology
+	 * @param interval the number of generations between two migration events
+	 * @param migrants the number of best individuals, every island sends to
+	 *        its neighbours
+	 * @param executor the executor used for evolving the islands
+	 * @throws NullPointerException if one of the arguments or one of the
+	 *         {@code engines} is {@code null}
+	 * @throws IllegalArgumentException if the migration {@code interval} is
+	 *         smaller than one or the number of {@code migrants} is negative
+	 */
+	public IslandEngine(
+		final List<? extends EvolutionStreamable<G, C>> engines,
+		final Topology topology,
+		final int interval,
+		final int migrants,
+		final Executor executor
+	) {
+		super(engines);
+		_topology = requireNonNull(topology);
+		_executor = requireNonNull(executor);
+
+		if (interval < 1) {
+			throw new IllegalArgumentException(format(
+				"Migration interval must be greater than zero, but was %d.",
+				interval
+			));
+		}
+		if (migrants < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of migrants must not be negative, but was %d.",
+				migrants
+			));
+		}
+
+		_interval = interval;
+		_migrants = migrants;
+	}
+
+	/**
+	 * Return the migration topology of the islands.
+	 *
+	 * @return the migration topology
+	 */
+	public Topology getTopology() {
+		return _topology;
+	}
+
+	/**
+	 * Return the number of generations between two migration events.
+	 *
+	 * @return the migration interval
+	 */
+	public int getInterval() {
+		return _interval;
+	}
+
+	/**
+	 * Return the number of best individuals, every island sends to its
+	 * neighbours.
+	 *
+	 * @return the number of migrants per island
+	 */
+	public int getMigrants() {
+		return _migrants;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		return new EvolutionStreamImpl<>(
+			new IslandSpliterator(
+				_engines.stream()
+					.map(engine -> (Supplier<EvolutionStream<G, C>>)
+						() -> engine.stream(start))
+					.collect(Collectors.toList())
+			),
+			false
+		);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		return new EvolutionStreamImpl<>(
+			new IslandSpliterator(
+				_engines.stream()
+					.map(engine -> (Supplier<EvolutionStream<G, C>>)
+						() -> engine.stream(init))
+					.collect(Collectors.toList())
+			),
+			false
+		);
+	}
+
+	/**
+	 * Create a new island engine with the given {@code engines}. The islands
+	 * are connected with a {@link Topology#ring()} topology and the best
+	 * individual of every island migrates every ten generations. The islands
+	 * are evolved by the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param engines the evolution engines which are evolved as islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if the {@code engines} or one of it's
+	 *         elements is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(final List<? extends EvolutionStreamable<G, C>> engines) {
+		return new IslandEngine<>(
+			engines,
+			Topology.ring(),
+			10,
+			1,
+			ForkJoinPool.commonPool()
+		);
+	}
+
+
+	/**
+	 * Spliterator which evolves the islands, migrates the individuals and
+	 * merges the island results.
+	 */
+	private final class IslandSpliterator
+		implements Spliterator<EvolutionResult<G, C>>
+	{
+		// The island streams of the next migration interval. Islands which
+		// has been terminated are set to null.
+		private final List<Supplier<EvolutionStream<G, C>>> _islands;
+		private final Deque<EvolutionResult<G, C>> _results = new ArrayDeque<>();
+
+		IslandSpliterator(final List<Supplier<EvolutionStream<G, C>>> islands) {
+			_islands = new ArrayList<>(islands);
+		}
+
+		@Override
+		public boolean
+		tryAdvance(final Consumer<? super EvolutionResult<G, C>> action) {
+			if (_results.isEmpty()) {
+				evolve();
+			}
+
+			final EvolutionResult<G, C> result = _results.poll();
+			if (result != null) {
+				action.accept(result);
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		// Evolves all active islands for one migration interval.
+		private void evolve() {
+			final List<CompletableFuture<List<EvolutionResult<G, C>>>> futures =
+				new ArrayList<>();
+			for (Supplier<EvolutionStream<G, C>> island : _islands) {
+				futures.add(
+					island != null
+						? CompletableFuture.supplyAsync(
+							() -> island.get()
+								.limit(_interval)
+								.collect(Collectors.toList()),
+							_executor)
+						: CompletableFuture.completedFuture(
+							new ArrayList<EvolutionResult<G, C>>())
+				);
+			}
+
+			final List<List<EvolutionResult<G, C>>> results = futures.stream()
+				.map(CompletableFuture::join)
+				.collect(Collectors.toList());
+
+			merge(results);
+			migrate(results);
+		}
+
+		private void merge(final List<List<EvolutionResult<G, C>>> results) {
+			final int generations = results.stream()
+				.mapToInt(List::size)
+				.max()
+				.orElse(0);
+
+			for (int i = 0; i < generations; ++i) {
+				final int generation = i;
+				_results.add(merge(
+					results.stream()
+						.filter(r -> r.size() > generation)
+						.map(r -> r.get(generation))
+						.collect(ISeq.toISeq())
+				));
+			}
+		}
+
+		private EvolutionResult<G, C>
+		merge(final ISeq<EvolutionResult<G, C>> results) {
+			final EvolutionResult<G, C> first = results.get(0);
+			return EvolutionResult.of(
+				first.getOptimize(),
+				results.stream()
+					.flatMap(r -> r.getPopulation().stream())
+					.collect(ISeq.toISeq()),
+				first.getGeneration(),
+				results.stream()
+					.mapToLong(EvolutionResult::getTotalGenerations)
+					.max()
+					.orElse(first.getTotalGenerations()),
+				results.stream()
+					.map(EvolutionResult::getDurations)
+					.max(Comparator.naturalOrder())
+					.orElse(EvolutionDurations.ZERO),
+				results.stream().mapToInt(EvolutionResult::getKillCount).sum(),
+				results.stream().mapToInt(EvolutionResult::getInvalidCount).sum(),
+				results.stream().mapToInt(EvolutionResult::getAlterCount).sum()
+			);
+		}
+
+		// Prepares the island streams of the next migration interval. Islands
+		// which terminated before the end of the interval are not continued.
+		private void migrate(final List<List<EvolutionResult<G, C>>> results) {
+			final List<EvolutionResult<G, C>> last = new ArrayList<>();
+			for (int i = 0; i < results.size(); ++i) {
+				final List<EvolutionResult<G, C>> island = results.get(i);
+				last.add(
+					_islands.get(i) != null && island.size() == _interval
+						? island.get(island.size() - 1)
+						: null
+				);
+			}
+
+			for (int i = 0; i < last.size(); ++i) {
+				final EvolutionResult<G, C> result = last.get(i);
+				if (result != null) {
+					final EvolutionStart<G, C> start = EvolutionStart.of(
+						immigrate(result, emigrants(i, last)),
+						result.getTotalGenerations() + 1
+					);
+					final EvolutionStreamable<G, C> engine = _engines.get(i);
+					_islands.set(i, () -> engine.stream(() -> start));
+				} else {
+					_islands.set(i, null);
+				}
+			}
+		}
+
+		// Collects the best individuals of the source islands of the given
+		// island.
+		private ISeq<Phenotype<G, C>> emigrants(
+			final int index,
+			final List<EvolutionResult<G, C>> results
+		) {
+			if (_migrants == 0) {
+				return ISeq.empty();
+			}
+
+			return Arrays.stream(_topology.sources(index, results.size()))
+				.filter(i -> i != index && results.get(i) != null)
+				.mapToObj(results::get)
+				.flatMap(r -> r.getPopulation().stream()
+					.sorted(r.getOptimize().<Phenotype<G, C>>descending())
+					.limit(_migrants))
+				.collect(ISeq.toISeq());
+		}
+
+		// Replaces the worst individuals of the given result population with
+		// the given migrants.
+		private ISeq<Phenotype<G, C>> immigrate(
+			final EvolutionResult<G, C> result,
+			final ISeq<Phenotype<G, C>> migrants
+		) {
+			if (migrants.isEmpty()) {
+				return result.getPopulation();
+			}
+
+			final Optimize optimize = result.getOptimize();
+			final MSeq<Phenotype<G, C>> population = result.getPopulation().copy();
+			population.sort(optimize.descending());
+
+			final int count = Math.min(migrants.size(), population.size());
+			final ISeq<Phenotype<G, C>> best = migrants.copy()
+				.sort(optimize.descending())
+				.toISeq();
+			for (int i = 0; i < count; ++i) {
+				population.set(population.size() - count + i, best.get(i));
+			}
+
+			return population.toISeq();
+		}
+
+		@Override
+		public Spliterator<EvolutionResult<G, C>> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return NONNULL | ORDERED;
+		}
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.Limits;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AsyncEngineTest {
+
+	@Test
+	public void resultInterval() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 1000))
+			.populationSize(20)
+			.build();
+
+		final ISeq<EvolutionResult<IntegerGene, Integer>> results =
+			new AsyncEngine<>(engine, 4, 10)
+				.stream()
+				.limit(15)
+				.collect(ISeq.toISeq());
+
+		Assert.assertEquals(results.length(), 15);
+		for (int i = 0; i < results.length(); ++i) {
+			final EvolutionResult<IntegerGene, Integer> result = results.get(i);
+			Assert.assertEquals(result.getGeneration(), i + 1);
+			Assert.assertEquals(result.getPopulation().length(), 20);
+			Assert.assertTrue(result.getPopulation().forAll(pt -> pt.isEvaluated()));
+		}
+
+		// The best fitness never decreases with replace-worst insertion.
+		for (int i = 1; i < results.length(); ++i) {
+			Assert.assertTrue(
+				results.get(i).getBestFitness() >=
+				results.get(i - 1).getBestFitness()
+			);
+		}
+	}
+
+	@Test
+	public void initialGenotypes() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 1000))
+			.populationSize(10)
+			.build();
+
+		final ISeq<Genotype<IntegerGene>> genotypes = ISeq.<Genotype<IntegerGene>>of(
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(1000, 0, 1000)))
+		);
+
+		final EvolutionResult<IntegerGene, Integer> result = AsyncEngine.of(engine)
+			.stream(genotypes)
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getBestFitness(), Integer.valueOf(1000));
+	}
+
+	@Test(timeOut = 20_000L)
+	public void optimize() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Problem<Double, DoubleGene, Double> problem = Problem.of(
+				x -> x*x,
+				Codecs.ofScalar(DoubleRange.of(-10, 10))
+			);
+
+			final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+				.minimizing()
+				.alterers(new Mutator<>(0.5))
+				.populationSize(30)
+				.executor(executor)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> result =
+				new AsyncEngine<>(engine, 8, 30)
+					.stream()
+					.limit(Limits.byFitnessThreshold(0.01))
+					.limit(1000)
+					.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertTrue(result.getBestFitness() < 0.01);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void evaluationCount() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> {
+					evaluations.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				IntegerChromosome.of(0, 1000))
+			.alterers(new Mutator<>(0.1))
+			.executor(Runnable::run)
+			.populationSize(20)
+			.build();
+
+		new AsyncEngine<>(engine, 1, 10)
+			.stream()
+			.limit(5)
+			.forEach(r -> {});
+
+		// Unchanged offspring are not counted as finished evaluations.
+		Assert.assertTrue(evaluations.get() - 20 >= 5*10);
+	}
+
+	@Test
+	public void validatorAndMaximalPhenotypeAge() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 1000))
+			.alterers(new Mutator<>(0.5))
+			.phenotypeValidator(pt -> pt.getGenotype().getGene().getAllele() < 900)
+			.maximalPhenotypeAge(2)
+			.executor(Runnable::run)
+			.populationSize(20)
+			.build();
+
+		final ISeq<EvolutionResult<IntegerGene, Integer>> results =
+			new AsyncEngine<>(engine, 4, 20)
+				.stream()
+				.limit(10)
+				.collect(ISeq.toISeq());
+
+		Assert.assertTrue(
+			results.stream().mapToInt(EvolutionResult::getInvalidCount).sum() > 0
+		);
+		Assert.assertTrue(
+			results.stream().mapToInt(EvolutionResult::getKillCount).sum() > 0
+		);
+	}
+
+	@Test(timeOut = 20_000L)
+	public void closeCancelsEvaluations() throws InterruptedException {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final AtomicInteger evaluations = new AtomicInteger();
+			final Engine<IntegerGene, Integer> engine = Engine
+				.builder(
+					gt -> {
+						evaluations.incrementAndGet();
+						try {
+							Thread.sleep(100);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return gt.getGene().getAllele();
+					},
+					IntegerChromosome.of(0, 1000))
+				.alterers(new Mutator<>(1.0))
+				.executor(executor)
+				.populationSize(4)
+				.build();
+
+			try (EvolutionStream<IntegerGene, Integer> stream =
+					new AsyncEngine<>(engine, 8, 1).stream())
+			{
+				stream.limit(Limits.byFixedGeneration(1)).forEach(r -> {});
+			}
+
+			final int count = evaluations.get();
+			Thread.sleep(500);
+			Assert.assertEquals(evaluations.get(), count);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxInFlight() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 1000))
+			.build();
+
+		new AsyncEngine<>(engine, 0, 10);
+	}
+
+}
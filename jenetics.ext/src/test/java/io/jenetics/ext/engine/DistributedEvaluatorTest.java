@@ -0,0 +1,319 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Collections.singletonMap;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DistributedEvaluatorTest {
+
+	public static final class Fitness
+		implements Function<Genotype<IntegerGene>, Integer>
+	{
+		@Override
+		public Integer apply(final Genotype<IntegerGene> gt) {
+			return gt.getGene().intValue()*2;
+		}
+	}
+
+	private static ISeq<Genotype<IntegerGene>> genotypes(final int size) {
+		return Genotype.of(IntegerChromosome.of(0, 1000)).instances()
+			.limit(size)
+			.collect(ISeq.toISeq());
+	}
+
+	private static ISeq<Integer> expected(final ISeq<Genotype<IntegerGene>> gts) {
+		return gts.map(new Fitness());
+	}
+
+	private static Function<Genotype<IntegerGene>, Integer> slow(final int millis) {
+		return gt -> {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new Fitness().apply(gt);
+		};
+	}
+
+	@Test
+	public void evaluate() throws IOException {
+		final List<EvaluationWorker<IntegerGene, Integer>> workers = new ArrayList<>();
+		try {
+			for (int i = 0; i < 3; ++i) {
+				workers.add(EvaluationWorker.start(0, slow(1)));
+			}
+
+			try (DistributedEvaluator<IntegerGene, Integer> evaluator =
+					DistributedEvaluator.of(
+						workers.stream().mapToInt(EvaluationWorker::getPort).toArray()))
+			{
+				for (int i = 0; i < 3; ++i) {
+					final ISeq<Genotype<IntegerGene>> gts = genotypes(253);
+					Assert.assertEquals(evaluator.evaluate(gts, null), expected(gts));
+				}
+			}
+
+			long evaluations = 0;
+			for (EvaluationWorker<IntegerGene, Integer> worker : workers) {
+				Assert.assertTrue(worker.getEvaluations() > 0);
+				evaluations += worker.getEvaluations();
+			}
+			Assert.assertEquals(evaluations, 3*253);
+		} finally {
+			workers.forEach(EvaluationWorker::close);
+		}
+	}
+
+	@Test
+	public void evaluateEmpty() throws IOException {
+		try (EvaluationWorker<IntegerGene, Integer> worker =
+				EvaluationWorker.start(0, new Fitness());
+			DistributedEvaluator<IntegerGene, Integer> evaluator =
+				DistributedEvaluator.of(worker.getPort()))
+		{
+			Assert.assertEquals(evaluator.evaluate(ISeq.empty(), null), ISeq.empty());
+		}
+	}
+
+	@Test
+	public void redispatch() throws IOException {
+		final AtomicInteger count = new AtomicInteger();
+		final EvaluationWorker<IntegerGene, Integer> healthy =
+			EvaluationWorker.start(0, slow(1));
+
+		final List<EvaluationWorker<IntegerGene, Integer>> dying = new ArrayList<>();
+		dying.add(EvaluationWorker.start(0, gt -> {
+			if (count.incrementAndGet() == 15) {
+				dying.get(0).close();
+			}
+			return new Fitness().apply(gt);
+		}));
+
+		try (DistributedEvaluator<IntegerGene, Integer> evaluator =
+				new DistributedEvaluator<>(
+					ISeq.of(healthy.getAddress(), dying.get(0).getAddress()).asList(),
+					5,
+					3))
+		{
+			final ISeq<Genotype<IntegerGene>> gts = genotypes(200);
+			Assert.assertEquals(evaluator.evaluate(gts, null), expected(gts));
+			Assert.assertTrue(evaluator.getRedispatchedBatches() > 0);
+
+			// The dead worker is skipped in the next evaluation.
+			final ISeq<Genotype<IntegerGene>> next = genotypes(50);
+			Assert.assertEquals(evaluator.evaluate(next, null), expected(next));
+		} finally {
+			healthy.close();
+			dying.get(0).close();
+		}
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void allWorkersDead() throws IOException {
+		final EvaluationWorker<IntegerGene, Integer> worker =
+			EvaluationWorker.start(0, new Fitness());
+		final int port = worker.getPort();
+		worker.close();
+
+		try (DistributedEvaluator<IntegerGene, Integer> evaluator =
+				DistributedEvaluator.of(port))
+		{
+			evaluator.evaluate(genotypes(10), null);
+		}
+	}
+
+	@Test
+	public void fitnessFailure() throws IOException {
+		try (EvaluationWorker<IntegerGene, Integer> worker =
+				EvaluationWorker.start(0, gt -> {
+					if (gt.getGene().intValue() > 500) {
+						throw new ArithmeticException("Too big");
+					}
+					return 0;
+				});
+			DistributedEvaluator<IntegerGene, Integer> evaluator =
+				DistributedEvaluator.of(worker.getPort()))
+		{
+			try {
+				evaluator.evaluate(genotypes(100), null);
+				Assert.fail("Expected IllegalStateException.");
+			} catch (IllegalStateException e) {
+				Assert.assertTrue(e.getMessage().contains("Too big"));
+			}
+
+			// The connection is still usable after a failed evaluation.
+			final ISeq<Genotype<IntegerGene>> gts = genotypes(100).stream()
+				.filter(gt -> gt.getGene().intValue() <= 500)
+				.collect(ISeq.toISeq());
+			Assert.assertEquals(
+				evaluator.evaluate(gts, null),
+				gts.map(gt -> 0)
+			);
+		}
+	}
+
+	@Test
+	public void engineEvaluation() throws IOException {
+		try (EvaluationWorker<IntegerGene, Integer> worker1 =
+				EvaluationWorker.start(0, new Fitness());
+			EvaluationWorker<IntegerGene, Integer> worker2 =
+				EvaluationWorker.start(0, new Fitness());
+			DistributedEvaluator<IntegerGene, Integer> evaluator =
+				DistributedEvaluator.of(worker1.getPort(), worker2.getPort()))
+		{
+			final Engine<IntegerGene, Integer> engine = Engine
+				.builder(new Fitness(), IntegerChromosome.of(0, 1000))
+				.populationSize(50)
+				.evaluator(evaluator)
+				.build();
+
+			final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+				.limit(20)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(
+				result.getBestFitness(),
+				new Fitness().apply(result.getBestPhenotype().getGenotype())
+			);
+			Assert.assertTrue(worker1.getEvaluations() + worker2.getEvaluations() > 50);
+		}
+	}
+
+	@Test(timeOut = 60_000)
+	public void workerProcesses() throws Exception {
+		final List<Process> processes = new ArrayList<>();
+		final List<Integer> ports = new ArrayList<>();
+		try {
+			for (int i = 0; i < 3; ++i) {
+				final Process process = new ProcessBuilder(
+					System.getProperty("java.home") + File.separator +
+						"bin" + File.separator + "java",
+					"-cp", System.getProperty("java.class.path"),
+					EvaluationWorker.class.getName(),
+					"0",
+					Fitness.class.getName()
+				).start();
+				processes.add(process);
+
+				final BufferedReader reader = new BufferedReader(
+					new InputStreamReader(process.getInputStream()));
+				final String line = reader.readLine();
+				ports.add(Integer.parseInt(line.substring(line.lastIndexOf(' ') + 1)));
+			}
+
+			try (DistributedEvaluator<IntegerGene, Integer> evaluator =
+					DistributedEvaluator.of(
+						ports.stream().mapToInt(Integer::intValue).toArray()))
+			{
+				final ISeq<Genotype<IntegerGene>> gts = genotypes(500);
+				Assert.assertEquals(evaluator.evaluate(gts, null), expected(gts));
+
+				// Kill one worker process; its work is re-dispatched.
+				processes.get(1).destroyForcibly().waitFor();
+
+				final ISeq<Genotype<IntegerGene>> next = genotypes(500);
+				Assert.assertEquals(evaluator.evaluate(next, null), expected(next));
+			}
+		} finally {
+			processes.forEach(Process::destroyForcibly);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void nonLoopbackAddress() throws IOException {
+		EvaluationWorker.start(
+			new InetSocketAddress(InetAddress.getByName("0.0.0.0"), 0),
+			new Fitness()
+		);
+	}
+
+	@Test
+	public void rejectNotAllowedClasses() throws Exception {
+		try (EvaluationWorker<IntegerGene, Integer> worker =
+				EvaluationWorker.start(0, new Fitness());
+			Socket socket = new Socket(worker.getAddress().getAddress(), worker.getPort()))
+		{
+			final ObjectOutputStream out =
+				new ObjectOutputStream(socket.getOutputStream());
+			out.writeObject(new EvaluationWorker.Batch(
+				0,
+				new Object[]{new HashMap<>(singletonMap("key", "value"))}
+			));
+			out.flush();
+
+			final ObjectInputStream in =
+				new ObjectInputStream(socket.getInputStream());
+			try {
+				in.readObject();
+				Assert.fail("Expected closed connection.");
+			} catch (EOFException | SocketException e) {
+				Assert.assertEquals(worker.getEvaluations(), 0);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noWorkers() {
+		new DistributedEvaluator<IntegerGene, Integer>(new ArrayList<>(), 10, 2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidBatchSize() {
+		new DistributedEvaluator<IntegerGene, Integer>(
+			ISeq.of(new InetSocketAddress(InetAddress.getLoopbackAddress(), 1))
+				.asList(),
+			0,
+			2
+		);
+	}
+
+}
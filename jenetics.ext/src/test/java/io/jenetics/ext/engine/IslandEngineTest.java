@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static io.jenetics.ext.engine.ConcatEngineTest.streamable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStreamable;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static Engine<IntegerGene, Integer> engine(final int min, final int max) {
+		return Engine
+			.builder(
+				gt -> gt.getGene().intValue(),
+				IntegerChromosome.of(min, max))
+			.populationSize(10)
+			.selector(new TruncationSelector<>())
+			.alterers(new Mutator<>(0.0))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	@Test
+	public void evolve() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> gt.getGene().intValue(),
+				IntegerChromosome.of(0, 1000))
+			.populationSize(20)
+			.executor(Runnable::run)
+			.build();
+
+		final List<EvolutionResult<IntegerGene, Integer>> results =
+			new IslandEngine<>(
+				Collections.nCopies(4, engine),
+				IslandEngine.Topology.ring(),
+				5,
+				2,
+				ForkJoinPool.commonPool()
+			)
+			.stream()
+			.limit(23)
+			.collect(Collectors.toList());
+
+		Assert.assertEquals(results.size(), 23);
+		for (int i = 0; i < results.size(); ++i) {
+			Assert.assertEquals(results.get(i).getGeneration(), i + 1);
+			Assert.assertEquals(results.get(i).getPopulation().size(), 4*20);
+		}
+	}
+
+	@Test
+	public void migrate() {
+		final List<EvolutionResult<IntegerGene, Integer>> results =
+			new IslandEngine<>(
+				Arrays.asList(engine(100, 100), engine(0, 0)),
+				IslandEngine.Topology.ring(),
+				2,
+				1,
+				Runnable::run
+			)
+			.stream()
+			.limit(6)
+			.collect(Collectors.toList());
+
+		final int[] counts = results.stream()
+			.mapToInt(r -> (int)r.getPopulation().stream()
+				.filter(pt -> pt.getFitness() == 100)
+				.count())
+			.toArray();
+
+		Assert.assertEquals(counts[0], 10);
+		Assert.assertEquals(counts[1], 10);
+		for (int i = 2; i < counts.length; ++i) {
+			Assert.assertTrue(counts[i] > 10, Arrays.toString(counts));
+		}
+	}
+
+	@Test
+	public void noMigration() {
+		final int[] counts = new IslandEngine<>(
+				Arrays.asList(engine(100, 100), engine(0, 0)),
+				IslandEngine.Topology.fullyConnected(),
+				1,
+				0,
+				Runnable::run
+			)
+			.stream()
+			.limit(5)
+			.mapToInt(r -> (int)r.getPopulation().stream()
+				.filter(pt -> pt.getFitness() == 100)
+				.count())
+			.toArray();
+
+		Assert.assertEquals(counts, new int[]{10, 10, 10, 10, 10});
+	}
+
+	@Test
+	public void terminatingIslands() {
+		final List<EvolutionStreamable<IntegerGene, Integer>> engines =
+			Arrays.asList(streamable(2), streamable(3));
+
+		final long count = new IslandEngine<>(
+				engines,
+				IslandEngine.Topology.ring(),
+				5,
+				1,
+				Runnable::run
+			)
+			.stream()
+			.count();
+
+		Assert.assertEquals(count, 3);
+	}
+
+	@Test
+	public void noIslands() {
+		final long count = IslandEngine.<IntegerGene, Integer>of(Collections.emptyList())
+			.stream()
+			.count();
+
+		Assert.assertEquals(count, 0);
+	}
+
+	@Test
+	public void ring() {
+		final IslandEngine.Topology topology = IslandEngine.Topology.ring();
+		Assert.assertEquals(topology.sources(0, 4), new int[]{3});
+		Assert.assertEquals(topology.sources(1, 4), new int[]{0});
+		Assert.assertEquals(topology.sources(3, 4), new int[]{2});
+		Assert.assertEquals(topology.sources(0, 1), new int[0]);
+	}
+
+	@Test
+	public void fullyConnected() {
+		final IslandEngine.Topology topology = IslandEngine.Topology.fullyConnected();
+		Assert.assertEquals(topology.sources(0, 4), new int[]{1, 2, 3});
+		Assert.assertEquals(topology.sources(2, 4), new int[]{0, 1, 3});
+		Assert.assertEquals(topology.sources(0, 1), new int[0]);
+	}
+
+	@Test
+	public void random() {
+		final IslandEngine.Topology topology = IslandEngine.Topology.random();
+		for (int i = 0; i < 1000; ++i) {
+			final int index = i%5;
+			final int[] sources = topology.sources(index, 5);
+
+			Assert.assertEquals(sources.length, 1);
+			Assert.assertNotEquals(sources[0], index);
+			Assert.assertTrue(sources[0] >= 0 && sources[0] < 5);
+		}
+		Assert.assertEquals(topology.sources(0, 1), new int[0]);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidInterval() {
+		new IslandEngine<>(
+			Collections.nCopies(2, engine(0, 10)),
+			IslandEngine.Topology.ring(),
+			0,
+			1,
+			Runnable::run
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMigrants() {
+		new IslandEngine<>(
+			Collections.nCopies(2, engine(0, 10)),
+			IslandEngine.Topology.ring(),
+			1,
+			-1,
+			Runnable::run
+		);
+	}
+
+}
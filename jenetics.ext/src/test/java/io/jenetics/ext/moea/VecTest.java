@@ -24,6 +24,14 @@ import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.TournamentSelector;
+import io.jenetics.util.ISeq;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -39,6 +47,23 @@ public class VecTest {
 		Assert.assertEquals(Vec.of(new double[100]).length(), 100);
 	}
 
+	@Test
+	public void tournamentSelection() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Genotype.of(DoubleChromosome.of(0, 1, 2)).instances()
+				.limit(2000)
+				.map(gt -> Phenotype.<DoubleGene, Vec<double[]>>of(gt, 1, g ->
+					Vec.of(g.getChromosome().as(DoubleChromosome.class).toArray())
+				).evaluate())
+				.collect(ISeq.toISeq());
+
+		final TournamentSelector<DoubleGene, Vec<double[]>> selector =
+			new TournamentSelector<>(3);
+
+		Assert.assertEquals(selector.select(population, 100, Optimize.MAXIMUM).size(), 100);
+		Assert.assertEquals(selector.select(population, 100, Optimize.MINIMUM).size(), 100);
+	}
+
 	@Test
 	public void comparator() {
 		final double[] d1 = new Random().doubles(10).toArray();
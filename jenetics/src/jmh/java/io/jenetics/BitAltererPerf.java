@@ -0,0 +1,116 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Measures the alteration of big {@link BitChromosome}s.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BitAltererPerf {
+
+	@Param({"1000", "1000000"})
+	public int length;
+
+	@Param({"10"})
+	public int populationSize;
+
+	private ISeq<Phenotype<BitGene, Integer>> population;
+	private BitChromosome chromosome;
+
+	private final Alterer<BitGene, Integer> mutator = new Mutator<>(0.5);
+	private final Alterer<BitGene, Integer> bitFlipMutator = new BitFlipMutator<>(0.5);
+	private final Alterer<BitGene, Integer> multiPointCrossover = new MultiPointCrossover<>(1, 4);
+	private final Alterer<BitGene, Integer> uniformCrossover = new UniformCrossover<>(1, 0.5);
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final Function<Genotype<BitGene>, Integer> ff = gt -> 0;
+		final Genotype<BitGene> gtf = Genotype.of(BitChromosome.of(length, 0.5));
+
+		population = gtf.instances()
+			.limit(populationSize)
+			.map(gt -> Phenotype.of(gt, 1, ff))
+			.collect(ISeq.toISeq());
+		chromosome = BitChromosome.of(length, 0.5);
+	}
+
+	@Benchmark
+	public Object mutator() {
+		return mutator.alter(population, 1);
+	}
+
+	@Benchmark
+	public Object bitFlipMutator() {
+		return bitFlipMutator.alter(population, 1);
+	}
+
+	@Benchmark
+	public Object multiPointCrossover() {
+		return multiPointCrossover.alter(population, 1);
+	}
+
+	@Benchmark
+	public Object uniformCrossover() {
+		return uniformCrossover.alter(population, 1);
+	}
+
+	@Benchmark
+	public int bitCount() {
+		return chromosome.bitCount();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + BitAltererPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
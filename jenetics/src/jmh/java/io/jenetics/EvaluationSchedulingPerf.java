@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the plain and the cost aware execution of evaluation tasks with
+ * skewed execution costs.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EvaluationSchedulingPerf {
+
+	static final int SIZE = 500;
+
+	/**
+	 * The cost distribution of the tasks:
+	 * <ul>
+	 *     <li>{@code uniform}: all tasks have the same costs</li>
+	 *     <li>{@code pareto}: heavy tailed costs, randomly ordered</li>
+	 *     <li>{@code tail}: few very expensive tasks at the end</li>
+	 * </ul>
+	 */
+	@Param({"uniform", "pareto", "tail"})
+	public String distribution;
+
+	private final ForkJoinPool _pool = ForkJoinPool.commonPool();
+
+	private ISeq<Runnable> _tasks;
+	private double[] _costs;
+
+	@Setup
+	public void setup() {
+		final Random random = new Random(123);
+		_costs = new double[SIZE];
+		for (int i = 0; i < SIZE; ++i) {
+			switch (distribution) {
+				case "pareto":
+					_costs[i] = 100/Math.pow(1 - random.nextDouble(), 1/1.2);
+					break;
+				case "tail":
+					_costs[i] = i >= SIZE - SIZE/50 ? 50_000 : 100;
+					break;
+				default:
+					_costs[i] = 1_000;
+			}
+			_costs[i] = Math.min(_costs[i], 100_000);
+		}
+
+		final Runnable[] tasks = new Runnable[SIZE];
+		for (int i = 0; i < SIZE; ++i) {
+			tasks[i] = new Task((long)_costs[i]);
+		}
+		_tasks = ISeq.of(tasks);
+	}
+
+	@Benchmark
+	public void plain() {
+		try (Concurrency c = Concurrency.with(_pool)) {
+			c.execute(_tasks);
+		}
+	}
+
+	@Benchmark
+	public void costAware() {
+		try (Concurrency c = Concurrency.with(_pool)) {
+			c.execute(_tasks, _costs);
+		}
+	}
+
+	private static final class Task implements Runnable {
+		private final long _tokens;
+
+		Task(final long tokens) {
+			_tokens = tokens;
+		}
+
+		@Override
+		public void run() {
+			Blackhole.consumeCPU(_tokens);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + EvaluationSchedulingPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(7)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the bulk alteration of numeric chromosomes, which store their
+ * alleles in primitive arrays ({@code PACKED}), with the gene-wise alteration
+ * of chromosomes which store gene objects ({@code OBJECT}). The genes of the
+ * {@code OBJECT} chromosomes are kept as objects by giving the last gene
+ * slightly different bounds.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class NumericAltererPerf {
+
+	@Param({"DOUBLE", "INTEGER", "LONG"})
+	public String chromosome;
+
+	@Param({"PACKED", "OBJECT"})
+	public String storage;
+
+	@Param({"1000"})
+	public int length;
+
+	@Param({"100"})
+	public int populationSize;
+
+	private ISeq population;
+
+	private final Alterer gaussianMutator = new GaussianMutator<>(0.5);
+	private final Alterer meanAlterer = new MeanAlterer<>(0.5);
+	private final Alterer intermediateCrossover = new IntermediateCrossover<>(0.5);
+	private final Alterer lineCrossover = new LineCrossover<>(0.5);
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final boolean packed = storage.equals("PACKED");
+		final Function<Genotype, Integer> ff = Object::hashCode;
+
+		population = IntStream.range(0, populationSize)
+			.mapToObj(i -> Genotype.of(newChromosome(chromosome, packed, length)))
+			.map(gt -> Phenotype.of(gt, 1, ff))
+			.collect(ISeq.toISeq());
+	}
+
+	private static Chromosome<?> newChromosome(
+		final String chromosome,
+		final boolean packed,
+		final int length
+	) {
+		final int n = packed ? length : length - 1;
+		switch (chromosome) {
+			case "DOUBLE":
+				return DoubleChromosome.of(ISeq.<DoubleGene>of(() -> DoubleGene.of(0, 100), n)
+					.append(packed ? ISeq.empty() : ISeq.of(DoubleGene.of(0, 101))));
+			case "INTEGER":
+				return IntegerChromosome.of(ISeq.<IntegerGene>of(() -> IntegerGene.of(0, 100), n)
+					.append(packed ? ISeq.empty() : ISeq.of(IntegerGene.of(0, 101))));
+			case "LONG":
+				return LongChromosome.of(ISeq.<LongGene>of(() -> LongGene.of(0, 100), n)
+					.append(packed ? ISeq.empty() : ISeq.of(LongGene.of(0, 101))));
+			default: throw new IllegalArgumentException(chromosome);
+		}
+	}
+
+	@Benchmark
+	public Object gaussianMutator() {
+		return gaussianMutator.alter(population, 1);
+	}
+
+	@Benchmark
+	public Object meanAlterer() {
+		return meanAlterer.alter(population, 1);
+	}
+
+	@Benchmark
+	public Object intermediateCrossover() {
+		return intermediateCrossover.alter(population, 1);
+	}
+
+	@Benchmark
+	public Object lineCrossover() {
+		return lineCrossover.alter(population, 1);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + NumericAltererPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -40,7 +40,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.0
+ * @version 4.3
  * @since 3.0
  */
 @State(Scope.Benchmark)
@@ -59,6 +59,12 @@ public class ProbabilitySelectorIndexOfPerf {
 	private final double[] array1000 = random(new double[1000]);
 	private final double[] array10000 = random(new double[10000]);
 
+	private final Random rnd = new Random();
+
+	private final double[] prob500k = probabilities(new double[500_000]);
+	private final double[] incr500k = incremental(prob500k.clone());
+	private final double[] table500k = prob500k.clone();
+	private final int[] alias500k = ProbabilitySelector.alias(table500k);
 
 
 	private static double[] random(final double[] array) {
@@ -69,6 +75,14 @@ public class ProbabilitySelectorIndexOfPerf {
 		return incremental(normalize(array));
 	}
 
+	private static double[] probabilities(final double[] array) {
+		final Random random = new Random();
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = Math.abs(random.nextGaussian() + 1.1);
+		}
+		return normalize(array);
+	}
+
 	@Setup(Level.Iteration)
 	public void shuffle() {
 		random(array10);
@@ -186,6 +200,39 @@ public class ProbabilitySelectorIndexOfPerf {
 //		return ProbabilitySelector.indexOfSerial(array10000, 0.5);
 //	}
 
+	// Index search versus alias sampling.
+
+	@Benchmark
+	public int indexSearchDraw500k() {
+		return ProbabilitySelector.indexOf(incr500k, rnd.nextDouble());
+	}
+
+	@Benchmark
+	public int aliasDraw500k() {
+		return ProbabilitySelector.indexOf(table500k, alias500k, rnd.nextDouble());
+	}
+
+	@Benchmark
+	public int indexSearchSelect500k() {
+		final double[] incr = incremental(prob500k.clone());
+		int index = 0;
+		for (int i = 0; i < incr.length; ++i) {
+			index ^= ProbabilitySelector.indexOf(incr, rnd.nextDouble());
+		}
+		return index;
+	}
+
+	@Benchmark
+	public int aliasSelect500k() {
+		final double[] table = prob500k.clone();
+		final int[] alias = ProbabilitySelector.alias(table);
+		int index = 0;
+		for (int i = 0; i < table.length; ++i) {
+			index ^= ProbabilitySelector.indexOf(table, alias, rnd.nextDouble());
+		}
+		return index;
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + ProbabilitySelectorIndexOfPerf.class.getSimpleName() + ".*")
@@ -0,0 +1,107 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.Mutator;
+import io.jenetics.SinglePointCrossover;
+
+/**
+ * Measures the time and the allocation rate of one evolution step, with and
+ * without population buffering. The allocation rate is reported by the
+ * {@code -prof gc} profiler ({@code gc.alloc.rate.norm} is the number of
+ * allocated bytes per generation).
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PopulationBufferPerf {
+
+	@Param({"10000", "200000"})
+	public int populationSize;
+
+	@Param({"false", "true"})
+	public boolean buffering;
+
+	private Engine<BitGene, Integer> _engine;
+	private EvolutionStart<BitGene, Integer> _start;
+
+	@Setup
+	public void setup() {
+		_engine = Engine
+			.builder(gt -> gt.getChromosome().as(BitChromosome.class).bitCount(),
+				BitChromosome.of(8, 0.5))
+			.alterers(
+				new SinglePointCrossover<>(0.05),
+				new Mutator<>(0.01))
+			.executor(Runnable::run)
+			.populationSize(populationSize)
+			.populationBuffering(buffering)
+			.build();
+
+		_start = _engine.evolve(_engine.stream()
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult())
+			.next())
+			.next();
+	}
+
+	@Benchmark
+	public EvolutionResult<BitGene, Integer> evolve() {
+		final EvolutionResult<BitGene, Integer> result = _engine.evolve(_start);
+		_start = result.next();
+		return result;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + PopulationBufferPerf.class.getSimpleName() + ".*")
+			.addProfiler(GCProfiler.class)
+			.warmupIterations(5)
+			.measurementIterations(7)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.prngine.LCG64ShiftRandom;
+
+/**
+ * Compares the geometric index skipping with the per-index filtering for
+ * different index selection probabilities. The break-even point of the two
+ * methods determines the {@link random#SKIP_THRESHOLD}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexesPerf {
+
+	@Param({"0.001", "0.01", "0.05", "0.1", "0.5"})
+	public double p;
+
+	@Param({"1000", "1000000"})
+	public int size;
+
+	private final Random rnd = new LCG64ShiftRandom.ThreadLocal().get();
+
+	@Benchmark
+	public int[] skip() {
+		return StreamSupport
+			.intStream(new SkipIndexSpliterator(rnd, 0, size, p), false)
+			.toArray();
+	}
+
+	@Benchmark
+	public int[] filter() {
+		final int P = probability.toInt(p);
+		return IntStream.range(0, size)
+			.filter(i -> rnd.nextInt() < P)
+			.toArray();
+	}
+
+	@Benchmark
+	public int[] indexes() {
+		return random.indexes(rnd, 0, size, p).toArray();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + IndexesPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+
+/**
+ * Compares the {@link IO#binary} and the {@link IO#object} implementation.
+ * The serialized sizes of the populations are printed in the setup method.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IOPerf {
+
+	@Param({"DOUBLE", "INTEGER", "BIT", "PERMUTATION"})
+	public String chromosome;
+
+	@Param({"1000"})
+	public int populationSize;
+
+	private ISeq<?> population;
+	private byte[] binaryBytes;
+	private byte[] objectBytes;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public void setup() throws IOException {
+		final Genotype<?> gtf = genotypeFactory(chromosome);
+		final Function<Object, Integer> ff = Object::hashCode;
+
+		population = gtf.instances()
+			.limit(populationSize)
+			.map(gt -> Phenotype.of((Genotype)gt, 1, ff).evaluate())
+			.collect(ISeq.toISeq());
+
+		binaryBytes = IO.binary.toByteArray(population);
+		objectBytes = IO.object.toByteArray(population);
+
+		System.out.println(String.format(
+			"%n%s: binary=%d bytes, object=%d bytes, ratio=%.1f",
+			chromosome,
+			binaryBytes.length,
+			objectBytes.length,
+			objectBytes.length/(double)binaryBytes.length
+		));
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Genotype<?> genotypeFactory(final String chromosome) {
+		final Chromosome<?> ch;
+		switch (chromosome) {
+			case "DOUBLE": ch = DoubleChromosome.of(0, 1, 50); break;
+			case "INTEGER": ch = IntegerChromosome.of(0, 1000, 50); break;
+			case "BIT": ch = BitChromosome.of(400); break;
+			case "PERMUTATION": ch = PermutationChromosome.ofInteger(50); break;
+			default: throw new IllegalArgumentException(chromosome);
+		}
+		return Genotype.of((Chromosome)ch, 4);
+	}
+
+	@Benchmark
+	public byte[] writeBinary() throws IOException {
+		return IO.binary.toByteArray(population);
+	}
+
+	@Benchmark
+	public byte[] writeObject() throws IOException {
+		return IO.object.toByteArray(population);
+	}
+
+	@Benchmark
+	public Object readBinary() throws IOException {
+		return IO.binary.fromByteArray(binaryBytes);
+	}
+
+	@Benchmark
+	public Object readObject() throws IOException {
+		return IO.object.fromByteArray(objectBytes);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + IOPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -21,6 +21,8 @@ package io.jenetics;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
 
@@ -47,7 +49,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 @FunctionalInterface
 public interface Alterer<
@@ -78,6 +80,40 @@ public interface Alterer<
 		final long generation
 	);
 
+	/**
+	 * Alters (recombine) a given population, using the given {@code executor}
+	 * for the <em>parallel alteration mode</em>. In this mode, every
+	 * individual gets its own random engine, keyed by the {@code generation}
+	 * and the index of the individual. The altered population only depends on
+	 * the state of the {@link io.jenetics.util.RandomRegistry} and not on the
+	 * executor. Altering a population with a serial executor gives exactly
+	 * the same result as altering it with a thread pool.
+	 * <p>
+	 * The default implementation ignores the {@code executor} and delegates
+	 * to the {@link #alter(Seq, long)} method.
+	 *
+	 * @see io.jenetics.engine.Engine.Builder#parallelAlteration(boolean)
+	 *
+	 * @since 4.3
+	 *
+	 * @param population The Population to be altered. If the {@code population}
+	 *        is {@code null} or empty, nothing is altered.
+	 * @param generation the date of birth (generation) of the altered phenotypes.
+	 * @param executor the executor used for altering the population
+	 * @return the alter-result object, which contains the altered population
+	 *         and the alteration count
+	 * @throws NullPointerException if the given {@code population} or
+	 *        {@code executor} is {@code null}.
+	 */
+	public default AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return alter(population, generation);
+	}
+
 	/**
 	 * Returns a composed alterer that first applies the {@code before} alterer
 	 * to its input, and then applies {@code this} alterer to the result.
@@ -50,7 +50,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class BitChromosome extends Number
 	implements
@@ -128,6 +128,18 @@ public class BitChromosome extends Number
 		);
 	}
 
+	// The bit layout of the BitSet bytes is the same as the chromosome layout.
+	private static byte[] toByteArray(final BitSet bits, final int length) {
+		final byte[] bytes = bit.newArray(length);
+		final byte[] data = bits.toByteArray();
+		System.arraycopy(data, 0, bytes, 0, min(data.length, bytes.length));
+		if ((length & 7) != 0 && data.length >= bytes.length) {
+			bytes[bytes.length - 1] &= (1 << (length & 7)) - 1;
+		}
+
+		return bytes;
+	}
+
 	private static byte[] toByteArray(final CharSequence value) {
 		final byte[] bytes = bit.newArray(value.length());
 		for (int i = value.length(); --i >= 0;) {
@@ -492,12 +504,7 @@ public class BitChromosome extends Number
 	 *         {@code null}.
 	 */
 	public static BitChromosome of(final BitSet bits, final int length) {
-		final byte[] bytes = bit.newArray(length);
-		for (int i = 0; i < length; ++i) {
-			if (bits.get(i)) {
-				bit.set(bytes, i);
-			}
-		}
+		final byte[] bytes = toByteArray(bits, length);
 		final double p = (double)bit.count(bytes)/(double)length;
 
 		return new BitChromosome(bytes, length, p);
@@ -520,13 +527,7 @@ public class BitChromosome extends Number
 		final int length,
 		final double p
 	) {
-		final byte[] bytes = bit.newArray(length);
-		for (int i = 0; i < length; ++i) {
-			if (bits.get(i)) {
-				bit.set(bytes, i);
-			}
-		}
-
+		final byte[] bytes = toByteArray(bits, length);
 		return new BitChromosome(bytes, length, require.probability(p));
 	}
 
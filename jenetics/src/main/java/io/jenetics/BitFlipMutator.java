@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+import static io.jenetics.internal.math.random.indexes;
+
+import java.util.Random;
+
+import io.jenetics.internal.util.bit;
+import io.jenetics.util.MSeq;
+
+/**
+ * The {@code BitFlipMutator} inverts the bits of the mutated genes, whereas
+ * the {@link Mutator} replaces the mutated genes with new random genes, which
+ * leaves half of the genes unchanged. The bits of {@link BitChromosome}s are
+ * flipped directly in the chromosome's bit array, without creating
+ * {@link BitGene} sequences.
+ *
+ * <pre>{@code
+ * final Engine<BitGene, Integer> engine = Engine
+ *     .builder(BitChromosome::bitCount, BitChromosome.of(1_000_000, 0.5))
+ *     .alterers(
+ *         new BitFlipMutator<>(0.001),
+ *         new MultiPointCrossover<>(0.6, 2))
+ *     .build();
+ * }</pre>
+ *
+ * @see BitChromosome
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+public final class BitFlipMutator<C extends Comparable<? super C>>
+	extends Mutator<BitGene, C>
+{
+
+	/**
+	 * Construct a bit-flip mutator with the given mutation probability.
+	 *
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in
+	 *         the valid range of {@code [0, 1]}
+	 */
+	public BitFlipMutator(final double probability) {
+		super(probability);
+	}
+
+	/**
+	 * Create a bit-flip mutator with the default mutation probability of
+	 * {@link #DEFAULT_ALTER_PROBABILITY}.
+	 */
+	public BitFlipMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	@Override
+	protected MutatorResult<Chromosome<BitGene>> mutate(
+		final Chromosome<BitGene> chromosome,
+		final double p,
+		final Random random
+	) {
+		if (!(chromosome.toSeq() instanceof BitGeneISeq)) {
+			return super.mutate(chromosome, p, random);
+		}
+
+		final MSeq<BitGene> genes = chromosome.toSeq().copy();
+		final byte[] bits = ((BitGeneMSeq)genes).bits();
+		final int[] mutated = indexes(random, genes.length(), p)
+			.peek(i -> bit.flip(bits, i))
+			.toArray();
+
+		return MutatorResult.of(
+			chromosome.newInstance(genes.toISeq()),
+			mutated.length,
+			ChangeSet.of(0, mutated)
+		);
+	}
+
+	@Override
+	protected BitGene mutate(final BitGene gene, final Random random) {
+		return gene.booleanValue() ? BitGene.FALSE : BitGene.TRUE;
+	}
+
+	@Override
+	public String toString() {
+		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
+	}
+
+}
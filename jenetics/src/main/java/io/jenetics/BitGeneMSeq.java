@@ -46,6 +46,15 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 		assert array.store() instanceof BitGeneStore;
 	}
 
+	/**
+	 * Return the underlying bit array. Changes of the returned array are
+	 * reflected by this sequence.
+	 */
+	byte[] bits() {
+		array.copyIfSealed();
+		return ((BitGeneStore)array.store()).array;
+	}
+
 	@Override
 	public void swap(final int i, final int j) {
 		array.checkIndex(i);
@@ -111,6 +120,14 @@ final class BitGeneISeq extends ArrayISeq<BitGene> {
 		assert array.store() instanceof BitGeneStore;
 	}
 
+	/**
+	 * Return the underlying bit array. The returned array must not be
+	 * changed.
+	 */
+	byte[] bits() {
+		return ((BitGeneStore)array.store()).array;
+	}
+
 	void copyTo(final byte[] array) {
 		final BitGeneStore store = (BitGeneStore)this.array.store();
 		System.arraycopy(store.array, 0, array, 0, store.array.length);
@@ -57,7 +57,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class BoltzmannSelector<
 	G extends Gene<?, G>,
@@ -68,6 +68,22 @@ public final class BoltzmannSelector<
 
 	private final double _b;
 
+	/**
+	 * Create a new BoltzmannSelector with the given <i>b</i> value and
+	 * sampling strategy. <b>High absolute values of <i>b</i> can create
+	 * numerical overflows while calculating the selection probabilities.</b>
+	 *
+	 * @since 4.3
+	 *
+	 * @param b the <i>b</i> value of this BoltzmannSelector
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the {@code sampling} is {@code null}
+	 */
+	public BoltzmannSelector(final double b, final Sampling sampling) {
+		super(false, sampling);
+		_b = b;
+	}
+
 	/**
 	 * Create a new BoltzmannSelector with the given <i>b</i> value. <b>High
 	 * absolute values of <i>b</i> can create numerical overflows while
@@ -76,7 +92,7 @@ public final class BoltzmannSelector<
 	 * @param b the <i>b</i> value of this BoltzmannSelector
 	 */
 	public BoltzmannSelector(final double b) {
-		_b = b;
+		this(b, Sampling.INDEX_SEARCH);
 	}
 
 	/**
@@ -86,6 +102,11 @@ public final class BoltzmannSelector<
 		this(4.0);
 	}
 
+	@Override
+	protected boolean isChunked() {
+		return true;
+	}
+
 	@Override
 	protected double[] probabilities(
 		final Seq<Phenotype<G, N>> population,
@@ -96,13 +117,11 @@ public final class BoltzmannSelector<
 		assert count > 0 : "Population to select must be greater than zero. ";
 
 		// Copy the fitness values to probabilities arrays.
-		final double[] fitness = new double[population.size()];
+		final double[] fitness = fitness(population);
 
-		fitness[0] = population.get(0).getFitness().doubleValue();
 		double min = fitness[0];
 		double max = fitness[0];
 		for (int i = 1; i < fitness.length; ++i) {
-			fitness[i] = population.get(i).getFitness().doubleValue();
 			if (fitness[i] < min) min = fitness[i];
 			else if (fitness[i] > max) max = fitness[i];
 		}
@@ -128,14 +147,15 @@ public final class BoltzmannSelector<
 
 	@Override
 	public int hashCode() {
-		return hash(_b);
+		return hash(_b, hash(_sampling));
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
 		return obj == this ||
 			obj instanceof BoltzmannSelector &&
-			Double.compare(((BoltzmannSelector)obj)._b, _b) == 0;
+			Double.compare(((BoltzmannSelector)obj)._b, _b) == 0 &&
+			((BoltzmannSelector)obj)._sampling == _sampling;
 	}
 
 	@Override
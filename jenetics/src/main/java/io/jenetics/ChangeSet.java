@@ -0,0 +1,274 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The set of gene positions, given as (chromosome index, gene index) pairs,
+ * which has been changed by an alterer. The change set is used for
+ * calculating the fitness of an altered individual incrementally, from the
+ * fitness of its parent.
+ *
+ * <pre>{@code
+ * final ChangeSet changes = ChangeSet.of(0, 3, 7);
+ * for (int i = 0; i < changes.size(); ++i) {
+ *     final int chromosome = changes.getChromosomeIndex(i);
+ *     final int gene = changes.getGeneIndex(i);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @see IncrementalFitness
+ * @see Phenotype#newInstance(Genotype, long, ChangeSet)
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class ChangeSet implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ChangeSet EMPTY = new ChangeSet(new long[0]);
+
+	// The changed positions, sorted in ascending order. The chromosome index
+	// is stored in the upper and the gene index in the lower 32 bits.
+	private final long[] _changes;
+
+	private ChangeSet(final long[] changes) {
+		_changes = changes;
+	}
+
+	/**
+	 * Return the number of changed gene positions.
+	 *
+	 * @return the number of changed gene positions
+	 */
+	public int size() {
+		return _changes.length;
+	}
+
+	/**
+	 * Return {@code true} if no gene position has been changed.
+	 *
+	 * @return {@code true} if this change set is empty
+	 */
+	public boolean isEmpty() {
+		return _changes.length == 0;
+	}
+
+	/**
+	 * Return the chromosome index of the change with the given {@code index}.
+	 *
+	 * @param index the index of the change
+	 * @return the chromosome index of the changed gene
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int getChromosomeIndex(final int index) {
+		return (int)(_changes[index] >>> 32);
+	}
+
+	/**
+	 * Return the gene index of the change with the given {@code index}.
+	 *
+	 * @param index the index of the change
+	 * @return the index of the changed gene, within its chromosome
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public int getGeneIndex(final int index) {
+		return (int)_changes[index];
+	}
+
+	/**
+	 * Test whether the given gene position has been changed.
+	 *
+	 * @param chromosomeIndex the chromosome index
+	 * @param geneIndex the gene index
+	 * @return {@code true} if the given gene position has been changed
+	 */
+	public boolean contains(final int chromosomeIndex, final int geneIndex) {
+		return chromosomeIndex >= 0 && geneIndex >= 0 &&
+			Arrays.binarySearch(_changes, key(chromosomeIndex, geneIndex)) >= 0;
+	}
+
+	/**
+	 * Return the indexes of the changed genes of the given chromosome, in
+	 * ascending order.
+	 *
+	 * @param chromosomeIndex the chromosome index
+	 * @return the indexes of the changed genes of the given chromosome
+	 */
+	public IntStream geneIndexes(final int chromosomeIndex) {
+		return IntStream.range(0, size())
+			.filter(i -> getChromosomeIndex(i) == chromosomeIndex)
+			.map(this::getGeneIndex);
+	}
+
+	/**
+	 * Return a new change set, which contains the changes of {@code this} and
+	 * the {@code other} change set.
+	 *
+	 * @param other the other change set
+	 * @return the union of {@code this} and the {@code other} change set
+	 * @throws NullPointerException if the {@code other} change set is
+	 *         {@code null}
+	 */
+	public ChangeSet and(final ChangeSet other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+
+		final long[] changes = new long[size() + other.size()];
+		int i = 0, j = 0, k = 0;
+		while (i < _changes.length || j < other._changes.length) {
+			final long change;
+			if (j == other._changes.length ||
+				i < _changes.length && _changes[i] < other._changes[j])
+			{
+				change = _changes[i++];
+			} else if (i == _changes.length ||
+				other._changes[j] < _changes[i])
+			{
+				change = other._changes[j++];
+			} else {
+				change = _changes[i++];
+				++j;
+			}
+			changes[k++] = change;
+		}
+
+		return new ChangeSet(k == changes.length
+			? changes
+			: Arrays.copyOf(changes, k));
+	}
+
+	/**
+	 * Return a new change set, where all changes are moved to the chromosome
+	 * with the given index. This is used for creating the change set of a
+	 * genotype from the change sets of its chromosomes.
+	 *
+	 * @param chromosomeIndex the new chromosome index of the changes
+	 * @return a new change set with the given chromosome index
+	 * @throws IllegalArgumentException if the given chromosome index is
+	 *         negative
+	 */
+	public ChangeSet withChromosomeIndex(final int chromosomeIndex) {
+		check(chromosomeIndex);
+		return of(
+			chromosomeIndex,
+			IntStream.range(0, size()).map(this::getGeneIndex).toArray()
+		);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(_changes);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof ChangeSet &&
+			Arrays.equals(((ChangeSet)obj)._changes, _changes);
+	}
+
+	@Override
+	public String toString() {
+		return IntStream.range(0, size())
+			.mapToObj(i -> format(
+				"(%d, %d)", getChromosomeIndex(i), getGeneIndex(i)))
+			.collect(Collectors.joining(", ", "ChangeSet[", "]"));
+	}
+
+	private static long key(final int chromosomeIndex, final int geneIndex) {
+		return (long)chromosomeIndex << 32 | geneIndex;
+	}
+
+	private static void check(final int index) {
+		if (index < 0) {
+			throw new IllegalArgumentException(format(
+				"Index must not be negative: %d", index
+			));
+		}
+	}
+
+	/**
+	 * Return the empty change set.
+	 *
+	 * @return the empty change set
+	 */
+	public static ChangeSet empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new change set from the given changed genes of one chromosome.
+	 *
+	 * @param chromosomeIndex the index of the changed chromosome
+	 * @param geneIndexes the indexes of the changed genes. The indexes may
+	 *        be given in any order and may contain duplicates.
+	 * @return a new change set
+	 * @throws IllegalArgumentException if one of the indexes is negative
+	 * @throws NullPointerException if the given gene index array is
+	 *         {@code null}
+	 */
+	public static ChangeSet of(
+		final int chromosomeIndex,
+		final int... geneIndexes
+	) {
+		check(chromosomeIndex);
+		if (geneIndexes.length == 0) {
+			return EMPTY;
+		}
+
+		final long[] changes = new long[geneIndexes.length];
+		for (int i = 0; i < geneIndexes.length; ++i) {
+			check(geneIndexes[i]);
+			changes[i] = key(chromosomeIndex, geneIndexes[i]);
+		}
+		Arrays.sort(changes);
+
+		int size = 1;
+		for (int i = 1; i < changes.length; ++i) {
+			if (changes[i] != changes[size - 1]) {
+				changes[size++] = changes[i];
+			}
+		}
+
+		return new ChangeSet(size == changes.length
+			? changes
+			: Arrays.copyOf(changes, size));
+	}
+
+}
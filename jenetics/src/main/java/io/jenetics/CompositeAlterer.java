@@ -20,15 +20,20 @@
 package io.jenetics;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.util.ISeq.toISeq;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.jenetics.internal.collection.BufferMSeq;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
 
 /**
@@ -36,7 +41,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 final class CompositeAlterer<
 	G extends Gene<?, G>,
@@ -75,13 +80,46 @@ final class CompositeAlterer<
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
+		return alter(population, (a, p) -> a.alter(p, generation));
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return alter(population, (a, p) -> a.alter(p, generation, executor));
+	}
+
+	private AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final BiFunction<
+			? super Alterer<G, C>,
+			? super Seq<Phenotype<G, C>>,
+			? extends AltererResult<G, C>> alter
+	) {
+		// Engine owned population buffers are altered in place. The result of
+		// alterers, which don't alter in place, is written back to the buffer.
+		final MSeq<Phenotype<G, C>> buffer = population instanceof BufferMSeq
+			? (MSeq<Phenotype<G, C>>)population
+			: null;
+
 		AltererResult<G, C> result = AltererResult.of(population.asISeq());
 		for (Alterer<G, C> alterer : _alterers) {
-			final AltererResult<G, C> as = alterer.alter(
-				result.getPopulation(),
-				generation
+			final AltererResult<G, C> as = alter.apply(
+				alterer,
+				buffer != null ? buffer : result.getPopulation()
 			);
 
+			if (buffer != null) {
+				final ISeq<Phenotype<G, C>> pop = as.getPopulation();
+				for (int i = 0, n = pop.size(); i < n; ++i) {
+					buffer.set(i, pop.get(i));
+				}
+			}
+
 			result = AltererResult.of(
 				as.getPopulation(),
 				as.getAlterations() + result.getAlterations()
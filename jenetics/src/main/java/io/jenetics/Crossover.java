@@ -21,10 +21,15 @@ package io.jenetics;
 
 import static java.lang.Math.min;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Random;
 
+import io.jenetics.internal.util.bit;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
 
 /**
  * <p>
@@ -42,7 +47,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -81,8 +86,10 @@ public abstract class Crossover<
 
 		final MSeq<Chromosome<G>> c1 = gt1.toSeq().copy();
 		final MSeq<Chromosome<G>> c2 = gt2.toSeq().copy();
-		final MSeq<G> genes1 = c1.get(chIndex).toSeq().copy();
-		final MSeq<G> genes2 = c2.get(chIndex).toSeq().copy();
+		final ISeq<G> original1 = c1.get(chIndex).toSeq();
+		final ISeq<G> original2 = c2.get(chIndex).toSeq();
+		final MSeq<G> genes1 = original1.copy();
+		final MSeq<G> genes2 = original2.copy();
 
 		crossover(genes1, genes2);
 
@@ -92,16 +99,64 @@ public abstract class Crossover<
 		//Creating two new Phenotypes and exchanging it with the old.
 		population.set(
 			individuals[0],
-			pt1.newInstance(Genotype.of(c1), generation)
+			newInstance(pt1, Genotype.of(c1), generation, chIndex, original1, genes1)
 		);
 		population.set(
 			individuals[1],
-			pt2.newInstance(Genotype.of(c2), generation)
+			newInstance(pt2, Genotype.of(c2), generation, chIndex, original2, genes2)
 		);
 
 		return getOrder();
 	}
 
+	// The change set is only needed for incremental fitness functions.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> newInstance(
+		final Phenotype<G, C> phenotype,
+		final Genotype<G> genotype,
+		final long generation,
+		final int chromosomeIndex,
+		final Seq<G> original,
+		final Seq<G> genes
+	) {
+		return phenotype.isIncremental()
+			? phenotype.newInstance(
+				genotype,
+				generation,
+				changes(chromosomeIndex, original, genes))
+			: phenotype.newInstance(genotype, generation);
+	}
+
+	// Return the positions of the genes, changed by the crossover.
+	private static <G> ChangeSet changes(
+		final int chromosomeIndex,
+		final Seq<G> original,
+		final Seq<G> genes
+	) {
+		if (original instanceof BitGeneISeq &&
+			genes instanceof BitGeneMSeq &&
+			original.length() == genes.length())
+		{
+			return ChangeSet.of(
+				chromosomeIndex,
+				bit.diff(
+					((BitGeneISeq)original).bits(),
+					((BitGeneMSeq)genes).bits()
+				)
+			);
+		}
+
+		final int[] indexes = new int[genes.length()];
+		int count = 0;
+		for (int i = 0, n = genes.length(); i < n; ++i) {
+			if (!Objects.equals(original.get(i), genes.get(i))) {
+				indexes[count++] = i;
+			}
+		}
+
+		return ChangeSet.of(chromosomeIndex, Arrays.copyOf(indexes, count));
+	}
+
 	/**
 	 * Template method which performs the crossover. The arguments given are
 	 * mutable non null arrays of the same length.
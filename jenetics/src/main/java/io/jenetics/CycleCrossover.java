@@ -0,0 +1,101 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+/**
+ * The {@code CycleCrossover} (CX) creates offspring where every allele keeps
+ * the position it has in one of the parents. The positions of the parent
+ * chromosomes are partitioned into <em>cycles</em>: starting at an unvisited
+ * position {@code i}, the next position of the cycle is the position of the
+ * allele {@code C2[i]} in {@code C1}, until the cycle is closed. The alleles
+ * of every second cycle are swapped between the two chromosomes.
+ *
+ * <pre>{@code
+ *     C1 = 1 2 3 4 5 6 7 8
+ *     C2 = 8 5 2 1 3 6 4 7
+ * }</pre>
+ * The first cycle consists of the positions {@code 0, 7, 6, 3}, the second
+ * of the positions {@code 1, 4, 2} and the third of position {@code 5}. The
+ * offspring will look like this:
+ * <pre>{@code
+ *     C1 = 1 5 2 4 3 6 7 8
+ *     C2 = 8 2 3 1 5 6 4 7
+ * }</pre>
+ *
+ * The {@code CycleCrossover} doesn't use random crossover points; only the
+ * selection of the chromosomes which are crossed is random.
+ * <p>
+ * <em>The {@code CycleCrossover} class requires chromosomes which are
+ * permutations of the same alleles. An {@code IllegalArgumentException} is
+ * thrown at runtime if this requirement is not fulfilled.</em>
+ *
+ * @see PermutationChromosome
+ * @see PartiallyMatchedCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+public final class CycleCrossover<T, C extends Comparable<? super C>>
+	extends PermutationCrossover<T, C>
+{
+
+	public CycleCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final Random random
+	) {
+		checkPermutations(that, other, alleles);
+
+		final int[] positions = new int[alleles];
+		for (int i = 0; i < that.length; ++i) {
+			positions[that[i]] = i;
+		}
+
+		final boolean[] visited = new boolean[that.length];
+		boolean swap = false;
+		for (int start = 0; start < that.length; ++start) {
+			if (!visited[start]) {
+				int i = start;
+				do {
+					visited[i] = true;
+					final int next = positions[other[i]];
+					if (swap) {
+						final int temp = that[i];
+						that[i] = other[i];
+						other[i] = temp;
+					}
+					i = next;
+				} while (i != start);
+
+				swap = !swap;
+			}
+		}
+	}
+
+}
@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 
@@ -30,7 +32,6 @@ import io.jenetics.internal.util.reflect;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 64 bit floating point numbers.
@@ -38,7 +39,9 @@ import io.jenetics.util.MSeq;
  * @see DoubleGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. If all genes share the same
+ * bounds, the alleles are stored in a {@code double[]} array and the
+ * {@link DoubleGene} objects are created on demand.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
@@ -70,7 +73,21 @@ public class DoubleChromosome
 		final ISeq<DoubleGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(packed(genes), lengthRange);
+	}
+
+	// Stores the alleles in a double[] array, if all genes share the same
+	// bounds.
+	private static ISeq<DoubleGene> packed(final ISeq<DoubleGene> genes) {
+		final DoubleGeneISeq packed = DoubleGeneISeq.of(genes);
+		return packed != null ? packed : genes;
+	}
+
+	// Return the underlying allele array or null, if the genes are not packed.
+	private double[] values() {
+		return _genes instanceof DoubleGeneISeq
+			? ((DoubleGeneISeq)_genes).values()
+			: null;
 	}
 
 	/**
@@ -146,7 +163,46 @@ public class DoubleChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public DoubleStream doubleStream() {
-		return IntStream.range(0, length()).mapToDouble(this::doubleValue);
+		final double[] values = values();
+		return values != null
+			? Arrays.stream(values)
+			: IntStream.range(0, length()).mapToDouble(this::doubleValue);
+	}
+
+	/**
+	 * Return a read-only view of the alleles of this chromosome. The
+	 * alleles are not copied, which gives fitness functions a fast and
+	 * allocation free access to the alleles of big chromosomes.
+	 *
+	 * <pre>{@code
+	 * static double fitness(final Genotype<DoubleGene> gt) {
+	 *     final DoubleBuffer x = ((DoubleChromosome)gt.getChromosome())
+	 *         .asDoubleBuffer();
+	 *     double sum = 0;
+	 *     for (int i = 0; i < x.limit(); ++i) {
+	 *         sum += x.get(i)*x.get(i);
+	 *     }
+	 *     return sum;
+	 * }
+	 * }</pre>
+	 *
+	 * @since 4.3
+	 *
+	 * @return a read-only view of the alleles of this chromosome
+	 */
+	public DoubleBuffer asDoubleBuffer() {
+		final double[] values = values();
+		return DoubleBuffer
+			.wrap(values != null ? values : toArray())
+			.asReadOnlyBuffer();
+	}
+
+	@Override
+	public double doubleValue(final int index) {
+		final double[] values = values();
+		return values != null
+			? values[index]
+			: getGene(index).doubleValue();
 	}
 
 	/**
@@ -165,8 +221,13 @@ public class DoubleChromosome
 	 */
 	public double[] toArray(final double[] array) {
 		final double[] a = array.length >= length() ? array : new double[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = doubleValue(i);
+		final double[] values = values();
+		if (values != null) {
+			System.arraycopy(values, 0, a, 0, values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = doubleValue(i);
+			}
 		}
 
 		return a;
@@ -217,6 +278,36 @@ public class DoubleChromosome
 		return new DoubleChromosome(values, IntRange.of(values.length()));
 	}
 
+	/**
+	 * Create a new {@code DoubleChromosome} with the given alleles. The
+	 * alleles are stored directly in a {@code double[]} array, without
+	 * creating {@link DoubleGene} objects.
+	 *
+	 * @since 4.3
+	 *
+	 * @param values the alleles of the chromosome. The array is copied.
+	 * @param min the min value of the {@link DoubleGene}s (inclusively).
+	 * @param max the max value of the {@link DoubleGene}s (exclusively).
+	 * @param lengthRange the allowed length range of the chromosome.
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length of the {@code values}
+	 *         array doesn't match with the allowed length range, the minimum
+	 *         or maximum of the range is smaller or equal zero or the given
+	 *         range size is zero.
+	 */
+	public static DoubleChromosome of(
+		final double[] values,
+		final double min,
+		final double max,
+		final IntRange lengthRange
+	) {
+		return new DoubleChromosome(
+			DoubleGeneISeq.of(values.clone(), min, max),
+			lengthRange
+		);
+	}
+
 	/**
 	 * Create a new random chromosome.
 	 *
@@ -337,8 +428,8 @@ public class DoubleChromosome
 		out.writeDouble(_min);
 		out.writeDouble(_max);
 
-		for (DoubleGene gene : _genes) {
-			out.writeDouble(gene.getAllele());
+		for (int i = 0, n = length(); i < n; ++i) {
+			out.writeDouble(doubleValue(i));
 		}
 	}
 
@@ -347,16 +438,16 @@ public class DoubleChromosome
 	{
 		in.defaultReadObject();
 
-		final MSeq<DoubleGene> genes = MSeq.ofLength(in.readInt());
+		final double[] values = new double[in.readInt()];
 		reflect.setField(this, "_lengthRange", in.readObject());
 		reflect.setField(this, "_min", in.readDouble());
 		reflect.setField(this, "_max", in.readDouble());
 
-		for (int i = 0; i < genes.length(); ++i) {
-			genes.set(i, DoubleGene.of(in.readDouble(), _min, _max));
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readDouble();
 		}
 
-		reflect.setField(this, "_genes", genes.toISeq());
+		reflect.setField(this, "_genes", DoubleGeneISeq.of(values, _min, _max));
 	}
 
 }
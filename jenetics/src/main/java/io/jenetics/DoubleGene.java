@@ -30,7 +30,6 @@ import io.jenetics.internal.math.random;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.Mean;
 
 /**
@@ -250,9 +249,12 @@ public final class DoubleGene
 	) {
 		final Random r = getRandom();
 
-		return MSeq.<DoubleGene>ofLength(random.nextInt(lengthRange, r))
-			.fill(() -> of(nextDouble(min, max, r), min, max))
-			.toISeq();
+		final double[] values = new double[random.nextInt(lengthRange, r)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = nextDouble(min, max, r);
+		}
+
+		return DoubleGeneISeq.of(values, min, max);
 	}
 
 }
@@ -0,0 +1,339 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ArrayMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link DoubleGene} sequence, which stores the alleles in a
+ * {@code double[]} array. The gene objects are created on demand. Setting a
+ * gene with different bounds switches the sequence to object storage.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class DoubleGeneMSeq extends ArrayMSeq<DoubleGene> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private DoubleGeneMSeq(final Array<DoubleGene> array) {
+		super(array);
+		assert array.store() instanceof DoubleGeneStore;
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is a {@code DoubleGeneMSeq},
+	 * which still stores its alleles in a {@code double[]} array.
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof DoubleGeneMSeq &&
+			((DoubleGeneMSeq)seq).isPacked();
+	}
+
+	private boolean isPacked() {
+		return array.store() instanceof DoubleGeneStore;
+	}
+
+	/**
+	 * Return the underlying allele array. Changes of the returned array are
+	 * reflected by this sequence. The sequence must be packed.
+	 */
+	double[] values() {
+		array.copyIfSealed();
+		return ((DoubleGeneStore)array.store()).array;
+	}
+
+	double min() {
+		return ((DoubleGeneStore)array.store()).min;
+	}
+
+	double max() {
+		return ((DoubleGeneStore)array.store()).max;
+	}
+
+	@Override
+	public void swap(final int i, final int j) {
+		if (!isPacked()) {
+			super.swap(i, j);
+			return;
+		}
+
+		array.checkIndex(i);
+		array.checkIndex(j);
+		array.copyIfSealed();
+
+		final double[] values = ((DoubleGeneStore)array.store()).array;
+		final double temp = values[i];
+		values[i] = values[j];
+		values[j] = temp;
+	}
+
+	@Override
+	public void swap(
+		final int start, final int end,
+		final MSeq<DoubleGene> other, final int otherStart
+	) {
+		if (isPacked() && isPacked(other) &&
+			((DoubleGeneStore)array.store())
+				.isCompatible((DoubleGeneStore)((DoubleGeneMSeq)other).array.store()))
+		{
+			checkIndex(start, end, otherStart, other.length());
+			final DoubleGeneMSeq otherMSeq = (DoubleGeneMSeq)other;
+
+			array.copyIfSealed();
+			otherMSeq.array.copyIfSealed();
+
+			final double[] values = ((DoubleGeneStore)array.store()).array;
+			final double[] otherValues =
+				((DoubleGeneStore)otherMSeq.array.store()).array;
+			for (int i = end - start; --i >= 0;) {
+				final double temp = values[start + i];
+				values[start + i] = otherValues[otherStart + i];
+				otherValues[otherStart + i] = temp;
+			}
+		} else {
+			super.swap(start, end, other, otherStart);
+		}
+	}
+
+	@Override
+	public MSeq<DoubleGene> copy() {
+		return isPacked()
+			? new DoubleGeneMSeq(array.copy())
+			: new ArrayMSeq<>(array.copy());
+	}
+
+	@Override
+	public ISeq<DoubleGene> toISeq() {
+		return isPacked()
+			? new DoubleGeneISeq(array.seal())
+			: new ArrayISeq<>(array.seal());
+	}
+
+	static DoubleGeneMSeq of(final Array<DoubleGene> array) {
+		return new DoubleGeneMSeq(array);
+	}
+
+}
+
+/**
+ * Immutable {@link DoubleGene} sequence, which stores the alleles in a
+ * {@code double[]} array. The gene objects are created on demand.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class DoubleGeneISeq extends ArrayISeq<DoubleGene> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	DoubleGeneISeq(final Array<DoubleGene> array) {
+		super(array);
+		assert array.store() instanceof DoubleGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Return the underlying allele array. The returned array must not be
+	 * changed.
+	 */
+	double[] values() {
+		return ((DoubleGeneStore)array.store()).array;
+	}
+
+	double min() {
+		return ((DoubleGeneStore)array.store()).min;
+	}
+
+	double max() {
+		return ((DoubleGeneStore)array.store()).max;
+	}
+
+	@Override
+	public DoubleGeneMSeq copy() {
+		return DoubleGeneMSeq.of(array.copy());
+	}
+
+	/**
+	 * Create a new sequence with the given alleles. The given array is not
+	 * copied.
+	 */
+	static DoubleGeneISeq of(
+		final double[] values,
+		final double min,
+		final double max
+	) {
+		return new DoubleGeneISeq(
+			Array.of(DoubleGeneStore.of(values, min, max)).seal()
+		);
+	}
+
+	/**
+	 * Return a {@code double[]} backed sequence of the given genes, or
+	 * {@code null} if the genes don't share the same bounds.
+	 */
+	static DoubleGeneISeq of(final ISeq<? extends DoubleGene> genes) {
+		if (genes instanceof DoubleGeneISeq) {
+			return (DoubleGeneISeq)genes;
+		}
+		if (genes.isEmpty()) {
+			return null;
+		}
+
+		final double min = genes.get(0).getMin();
+		final double max = genes.get(0).getMax();
+		final double[] values = new double[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			final DoubleGene gene = genes.get(i);
+			if (!DoubleGeneStore.equals(gene, min, max)) {
+				return null;
+			}
+			values[i] = gene.doubleValue();
+		}
+
+		return of(values, min, max);
+	}
+
+}
+
+/**
+ * Gene store, which stores the alleles of {@link DoubleGene}s with the same
+ * bounds in a {@code double[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class DoubleGeneStore implements Array.Store<DoubleGene>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	final double[] array;
+	final double min;
+	final double max;
+
+	// Primary constructor.
+	private DoubleGeneStore(
+		final double[] array,
+		final double min,
+		final double max
+	) {
+		this.array = requireNonNull(array);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public DoubleGene get(final int index) {
+		return DoubleGene.of(array[index], min, max);
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super DoubleGene> comparator
+	) {
+		if (comparator == null) {
+			Arrays.sort(array, from, until);
+		} else {
+			final DoubleGene[] genes = new DoubleGene[until - from];
+			for (int i = 0; i < genes.length; ++i) {
+				genes[i] = get(from + i);
+			}
+			Arrays.sort(genes, comparator);
+			for (int i = 0; i < genes.length; ++i) {
+				array[from + i] = genes[i].doubleValue();
+			}
+		}
+	}
+
+	@Override
+	public boolean accepts(final DoubleGene value) {
+		return equals(value, min, max);
+	}
+
+	@Override
+	public void set(final int index, final DoubleGene value) {
+		if (!accepts(value)) {
+			throw new IllegalArgumentException(format(
+				"Gene bounds [%s, %s] don't match the sequence bounds [%s, %s].",
+				value.getMin(), value.getMax(), min, max
+			));
+		}
+		array[index] = value.doubleValue();
+	}
+
+	boolean isCompatible(final DoubleGeneStore other) {
+		return Double.compare(min, other.min) == 0 &&
+			Double.compare(max, other.max) == 0;
+	}
+
+	@Override
+	public DoubleGeneStore copy(final int from, final int until) {
+		return new DoubleGeneStore(
+			Arrays.copyOfRange(array, from, until),
+			min,
+			max
+		);
+	}
+
+	@Override
+	public DoubleGeneStore newInstance(final int length) {
+		return new DoubleGeneStore(new double[length], min, max);
+	}
+
+	@Override
+	public int length() {
+		return array.length;
+	}
+
+	static boolean equals(
+		final DoubleGene gene,
+		final double min,
+		final double max
+	) {
+		return Double.compare(gene.getMin(), min) == 0 &&
+			Double.compare(gene.getMax(), max) == 0;
+	}
+
+	static DoubleGeneStore of(
+		final double[] array,
+		final double min,
+		final double max
+	) {
+		return new DoubleGeneStore(array, min, max);
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+/**
+ * The {@code EdgeRecombinationCrossover} (ERX) creates offspring which
+ * preserve the <em>adjacency</em> of the alleles, which makes it especially
+ * suitable for the TSP and other problems where the neighbourhood of the
+ * alleles is the important information. The chromosomes are treated as
+ * rings, and an adjacency table, containing the neighbours of every allele
+ * in both parents, is built. The offspring starts with the first allele of
+ * one parent. The next allele is the neighbour of the current allele with
+ * the fewest remaining neighbours itself, where ties are broken randomly. If
+ * the current allele has no unvisited neighbours left, a randomly chosen
+ * unvisited allele is taken.
+ * <p>
+ * The first offspring starts with the first allele of the first parent, the
+ * second offspring with the first allele of the second parent.
+ * <p>
+ * <em>The {@code EdgeRecombinationCrossover} class requires chromosomes which
+ * are permutations of the same alleles. An {@code IllegalArgumentException} is
+ * thrown at runtime if this requirement is not fulfilled.</em>
+ *
+ * @see PermutationChromosome
+ * @see PartiallyMatchedCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+public final class EdgeRecombinationCrossover<T, C extends Comparable<? super C>>
+	extends PermutationCrossover<T, C>
+{
+
+	// Every allele has at most four different neighbours: two from each
+	// parent ring.
+	private static final int MAX_NEIGHBOURS = 4;
+
+	public EdgeRecombinationCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final Random random
+	) {
+		checkPermutations(that, other, alleles);
+
+		final int[] child1 = recombine(that, other, that[0], alleles, random);
+		final int[] child2 = recombine(that, other, other[0], alleles, random);
+
+		System.arraycopy(child1, 0, that, 0, that.length);
+		System.arraycopy(child2, 0, other, 0, other.length);
+	}
+
+	private static int[] recombine(
+		final int[] a,
+		final int[] b,
+		final int start,
+		final int alleles,
+		final Random random
+	) {
+		final int n = a.length;
+		final int[] neighbours = new int[alleles*MAX_NEIGHBOURS];
+		final int[] counts = new int[alleles];
+		addEdges(a, neighbours, counts);
+		addEdges(b, neighbours, counts);
+
+		// Unvisited alleles, for choosing a random one in O(1).
+		final int[] unvisited = a.clone();
+		final int[] positions = new int[alleles];
+		for (int i = 0; i < n; ++i) {
+			positions[unvisited[i]] = i;
+		}
+		int remaining = n;
+
+		final int[] child = new int[n];
+		int current = start;
+		for (int i = 0; i < n; ++i) {
+			child[i] = current;
+
+			// Remove the current allele from the unvisited alleles.
+			final int pos = positions[current];
+			final int last = unvisited[--remaining];
+			unvisited[pos] = last;
+			positions[last] = pos;
+
+			// Remove the current allele from the adjacency table.
+			for (int k = 0; k < counts[current]; ++k) {
+				remove(neighbours[current*MAX_NEIGHBOURS + k], current,
+					neighbours, counts);
+			}
+
+			if (remaining > 0) {
+				int next = -1;
+				int min = Integer.MAX_VALUE;
+				int ties = 0;
+				for (int k = 0; k < counts[current]; ++k) {
+					final int neighbour = neighbours[current*MAX_NEIGHBOURS + k];
+					final int count = counts[neighbour];
+					if (count < min) {
+						min = count;
+						next = neighbour;
+						ties = 1;
+					} else if (count == min && random.nextInt(++ties) == 0) {
+						next = neighbour;
+					}
+				}
+
+				current = next != -1
+					? next
+					: unvisited[random.nextInt(remaining)];
+			}
+		}
+
+		return child;
+	}
+
+	private static void addEdges(
+		final int[] ring,
+		final int[] neighbours,
+		final int[] counts
+	) {
+		final int n = ring.length;
+		for (int i = 0; i < n; ++i) {
+			add(ring[i], ring[(i + 1)%n], neighbours, counts);
+			add(ring[(i + 1)%n], ring[i], neighbours, counts);
+		}
+	}
+
+	private static void add(
+		final int allele,
+		final int neighbour,
+		final int[] neighbours,
+		final int[] counts
+	) {
+		final int offset = allele*MAX_NEIGHBOURS;
+		for (int k = 0; k < counts[allele]; ++k) {
+			if (neighbours[offset + k] == neighbour) {
+				return;
+			}
+		}
+		neighbours[offset + counts[allele]++] = neighbour;
+	}
+
+	private static void remove(
+		final int allele,
+		final int neighbour,
+		final int[] neighbours,
+		final int[] counts
+	) {
+		final int offset = allele*MAX_NEIGHBOURS;
+		for (int k = 0; k < counts[allele]; ++k) {
+			if (neighbours[offset + k] == neighbour) {
+				neighbours[offset + k] = neighbours[offset + --counts[allele]];
+				return;
+			}
+		}
+	}
+
+}
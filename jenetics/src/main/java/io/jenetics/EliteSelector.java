@@ -25,6 +25,10 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Hashes.hash;
 
+import java.util.concurrent.Executor;
+
+import io.jenetics.internal.collection.PopulationSnapshot;
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.internal.util.require;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
@@ -49,7 +53,7 @@ import io.jenetics.util.Seq;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 4.3
  * @since 4.0
  */
 public class EliteSelector<
@@ -127,6 +131,23 @@ public class EliteSelector<
 		final int count,
 		final Optimize opt
 	) {
+		return select(population, count, opt, Concurrency.SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Selects the elites and forwards the given {@code executor} to the
+	 * selector of the non-elite individuals.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
 		if (count < 0) {
 			throw new IllegalArgumentException(format(
 				"Selection count must be greater or equal then zero, but was %s.",
@@ -138,10 +159,11 @@ public class EliteSelector<
 		if (population.isEmpty() || count <= 0) {
 			result = ISeq.empty();
 		} else {
+			final PopulationSnapshot<G, C> pop = PopulationSnapshot.of(population);
 			final int ec = min(count, _eliteCount);
-			result = ELITE_SELECTOR.select(population, ec, opt);
+			result = ELITE_SELECTOR.select(pop, ec, opt);
 			result = result.append(
-				_nonEliteSelector.select(population, max(0, count - ec), opt)
+				_nonEliteSelector.select(pop, max(0, count - ec), opt, executor)
 			);
 		}
 
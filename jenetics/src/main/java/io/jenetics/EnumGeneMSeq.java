@@ -0,0 +1,278 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ArrayMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link EnumGene} sequence, which stores the allele indexes in an
+ * {@code int[]} array. All genes share the same valid alleles and the gene
+ * objects are created on demand. Setting a gene with different valid alleles
+ * switches the sequence to object storage.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class EnumGeneMSeq<A> extends ArrayMSeq<EnumGene<A>> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private EnumGeneMSeq(final Array<EnumGene<A>> array) {
+		super(array);
+		assert array.store() instanceof EnumGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is an {@code EnumGeneMSeq},
+	 * which still stores its allele indexes in an {@code int[]} array.
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof EnumGeneMSeq &&
+			((EnumGeneMSeq<?>)seq).isPacked();
+	}
+
+	private boolean isPacked() {
+		return array.store() instanceof EnumGeneStore;
+	}
+
+	/**
+	 * Return the underlying, modifiable allele index array. The sequence must
+	 * be packed.
+	 */
+	int[] indexes() {
+		array.copyIfSealed();
+		return store().array;
+	}
+
+	ISeq<A> alleles() {
+		return store().alleles;
+	}
+
+	@SuppressWarnings("unchecked")
+	private EnumGeneStore<A> store() {
+		return (EnumGeneStore<A>)array.store();
+	}
+
+	@Override
+	public void swap(final int i, final int j) {
+		if (!isPacked()) {
+			super.swap(i, j);
+			return;
+		}
+
+		array.checkIndex(i);
+		array.checkIndex(j);
+
+		final int[] indexes = indexes();
+		final int temp = indexes[i];
+		indexes[i] = indexes[j];
+		indexes[j] = temp;
+	}
+
+	@Override
+	public MSeq<EnumGene<A>> copy() {
+		return isPacked()
+			? new EnumGeneMSeq<>(array.copy())
+			: new ArrayMSeq<>(array.copy());
+	}
+
+	@Override
+	public ISeq<EnumGene<A>> toISeq() {
+		return isPacked()
+			? new EnumGeneISeq<>(array.seal())
+			: new ArrayISeq<>(array.seal());
+	}
+
+	static <A> EnumGeneMSeq<A> of(final Array<EnumGene<A>> array) {
+		return new EnumGeneMSeq<>(array);
+	}
+
+}
+
+/**
+ * Immutable {@link EnumGene} sequence, which stores the allele indexes in an
+ * {@code int[]} array. All genes share the same valid alleles and the gene
+ * objects are created on demand.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class EnumGeneISeq<A> extends ArrayISeq<EnumGene<A>> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	EnumGeneISeq(final Array<EnumGene<A>> array) {
+		super(array);
+		assert array.store() instanceof EnumGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Return the underlying allele index array. The returned array must not
+	 * be changed.
+	 */
+	@SuppressWarnings("unchecked")
+	int[] indexes() {
+		return ((EnumGeneStore<A>)array.store()).array;
+	}
+
+	@Override
+	public EnumGeneMSeq<A> copy() {
+		return EnumGeneMSeq.of(array.copy());
+	}
+
+	/**
+	 * Create a new sequence with the given allele indexes. The given array is
+	 * not copied and the indexes are not checked.
+	 */
+	static <A> EnumGeneISeq<A> of(
+		final int[] indexes,
+		final ISeq<? extends A> alleles
+	) {
+		return new EnumGeneISeq<>(
+			Array.of(EnumGeneStore.<A>of(indexes, alleles)).seal()
+		);
+	}
+
+	/**
+	 * Return an {@code int[]} backed sequence of the given genes, or
+	 * {@code null} if the genes don't share the same valid alleles.
+	 */
+	@SuppressWarnings("unchecked")
+	static <A> EnumGeneISeq<A> of(final ISeq<? extends EnumGene<A>> genes) {
+		if (genes instanceof EnumGeneISeq) {
+			return (EnumGeneISeq<A>)genes;
+		}
+		if (genes.isEmpty()) {
+			return null;
+		}
+
+		final ISeq<A> alleles = genes.get(0).getValidAlleles();
+		final int[] indexes = new int[genes.length()];
+		for (int i = 0; i < indexes.length; ++i) {
+			final EnumGene<A> gene = genes.get(i);
+			if (gene.getValidAlleles() != alleles) {
+				return null;
+			}
+			indexes[i] = gene.getAlleleIndex();
+		}
+
+		return of(indexes, alleles);
+	}
+
+}
+
+/**
+ * Gene store, which stores the allele indexes of {@link EnumGene}s with the
+ * same valid alleles in an {@code int[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class EnumGeneStore<A> implements Array.Store<EnumGene<A>>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	final int[] array;
+	final ISeq<A> alleles;
+
+	// Primary constructor.
+	@SuppressWarnings("unchecked")
+	private EnumGeneStore(final int[] array, final ISeq<? extends A> alleles) {
+		this.array = requireNonNull(array);
+		this.alleles = (ISeq<A>)requireNonNull(alleles);
+	}
+
+	@Override
+	public EnumGene<A> get(final int index) {
+		return new EnumGene<>(array[index], alleles);
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super EnumGene<A>> comparator
+	) {
+		@SuppressWarnings("unchecked")
+		final EnumGene<A>[] genes = (EnumGene<A>[])new EnumGene<?>[until - from];
+		for (int i = 0; i < genes.length; ++i) {
+			genes[i] = get(from + i);
+		}
+		Arrays.sort(genes, comparator);
+		for (int i = 0; i < genes.length; ++i) {
+			array[from + i] = genes[i].getAlleleIndex();
+		}
+	}
+
+	@Override
+	public boolean accepts(final EnumGene<A> value) {
+		return value.getValidAlleles() == alleles ||
+			value.getValidAlleles().equals(alleles);
+	}
+
+	@Override
+	public void set(final int index, final EnumGene<A> value) {
+		if (!accepts(value)) {
+			throw new IllegalArgumentException(
+				"Gene alleles don't match the valid alleles of the sequence."
+			);
+		}
+		array[index] = value.getAlleleIndex();
+	}
+
+	@Override
+	public EnumGeneStore<A> copy(final int from, final int until) {
+		return new EnumGeneStore<>(Arrays.copyOfRange(array, from, until), alleles);
+	}
+
+	@Override
+	public EnumGeneStore<A> newInstance(final int length) {
+		return new EnumGeneStore<>(new int[length], alleles);
+	}
+
+	@Override
+	public int length() {
+		return array.length;
+	}
+
+	static <A> EnumGeneStore<A> of(
+		final int[] array,
+		final ISeq<? extends A> alleles
+	) {
+		return new EnumGeneStore<>(array, alleles);
+	}
+
+}
@@ -53,7 +53,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class ExponentialRankSelector<
 	G extends Gene<?, G>,
@@ -65,14 +65,18 @@ public final class ExponentialRankSelector<
 	private final double _c;
 
 	/**
-	 * Create a new exponential rank selector.
+	 * Create a new exponential rank selector with the given sampling strategy.
+	 *
+	 * @since 4.3
 	 *
 	 * @param c the <i>c</i> value.
+	 * @param sampling the strategy used for drawing the individuals
 	 * @throws IllegalArgumentException if {@code c} is not within the range
 	 *         {@code [0..1)}.
+	 * @throws NullPointerException if the {@code sampling} is {@code null}
 	 */
-	public ExponentialRankSelector(final double c) {
-		super(true);
+	public ExponentialRankSelector(final double c, final Sampling sampling) {
+		super(true, sampling);
 
 		if (c < 0.0 || c >= 1.0) {
 			throw new IllegalArgumentException(format(
@@ -82,6 +86,17 @@ public final class ExponentialRankSelector<
 		_c = c;
 	}
 
+	/**
+	 * Create a new exponential rank selector.
+	 *
+	 * @param c the <i>c</i> value.
+	 * @throws IllegalArgumentException if {@code c} is not within the range
+	 *         {@code [0..1)}.
+	 */
+	public ExponentialRankSelector(final double c) {
+		this(c, Sampling.INDEX_SEARCH);
+	}
+
 	/**
 	 * Create a new selector with default value of 0.975.
 	 */
@@ -93,6 +108,11 @@ public final class ExponentialRankSelector<
 	 * This method sorts the population in descending order while calculating the
 	 * selection probabilities.
 	 */
+	@Override
+	protected boolean isChunked() {
+		return true;
+	}
+
 	@Override
 	protected double[] probabilities(
 		final Seq<Phenotype<G, C>> population,
@@ -115,14 +135,15 @@ public final class ExponentialRankSelector<
 
 	@Override
 	public int hashCode() {
-		return hash(_c);
+		return hash(_c, hash(_sampling));
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
 		return obj == this ||
 			obj instanceof ExponentialRankSelector &&
-			Objects.equals(((ExponentialRankSelector) obj)._c, _c);
+			Objects.equals(((ExponentialRankSelector) obj)._c, _c) &&
+			((ExponentialRankSelector)obj)._sampling == _sampling;
 	}
 
 	@Override
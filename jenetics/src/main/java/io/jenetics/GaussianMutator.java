@@ -21,8 +21,13 @@ package io.jenetics;
 
 import static java.lang.String.format;
 import static io.jenetics.internal.math.base.clamp;
+import static io.jenetics.internal.math.random.indexes;
 
 import java.util.Random;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 
 /**
  * The GaussianMutator class performs the mutation of a {@link NumericGene}.
@@ -36,11 +41,15 @@ import java.util.Random;
  * >
  * </p>
  * The new value will be cropped to the gene's boundaries.
- *
+ * <p>
+ * The genes of {@link DoubleChromosome}s, {@link IntegerChromosome}s and
+ * {@link LongChromosome}s, which store their alleles in primitive arrays, are
+ * mutated in one pass over the allele array, without creating intermediate
+ * gene objects.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class GaussianMutator<
 	G extends NumericGene<?, G>,
@@ -57,6 +66,95 @@ public final class GaussianMutator<
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
+	@Override
+	protected MutatorResult<Chromosome<G>> mutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final Random random
+	) {
+		final ISeq<G> seq = chromosome.toSeq();
+		return seq instanceof DoubleGeneISeq ||
+			seq instanceof IntegerGeneISeq ||
+			seq instanceof LongGeneISeq
+				? bulkMutate(chromosome, p, random)
+				: super.mutate(chromosome, p, random);
+	}
+
+	private MutatorResult<Chromosome<G>> bulkMutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final Random random
+	) {
+		final MSeq<G> genes = chromosome.toSeq().copy();
+		final IntStream indexes = indexes(random, genes.length(), p);
+
+		final int[] mutated;
+		if (genes instanceof DoubleGeneMSeq) {
+			final DoubleGeneMSeq values = (DoubleGeneMSeq)genes;
+			mutated = mutate(
+				values.values(), values.min(), values.max(), indexes, random
+			);
+		} else if (genes instanceof IntegerGeneMSeq) {
+			final IntegerGeneMSeq values = (IntegerGeneMSeq)genes;
+			mutated = mutate(
+				values.values(), values.min(), values.max(), indexes, random
+			);
+		} else {
+			final LongGeneMSeq values = (LongGeneMSeq)genes;
+			mutated = mutate(
+				values.values(), values.min(), values.max(), indexes, random
+			);
+		}
+
+		return MutatorResult.of(
+			chromosome.newInstance(genes.toISeq()),
+			mutated.length,
+			ChangeSet.of(0, mutated)
+		);
+	}
+
+	private static int[] mutate(
+		final double[] values,
+		final double min,
+		final double max,
+		final IntStream indexes,
+		final Random random
+	) {
+		final double std = (max - min)*0.25;
+		return indexes
+			.peek(i -> values[i] =
+				clamp(random.nextGaussian()*std + values[i], min, max))
+			.toArray();
+	}
+
+	private static int[] mutate(
+		final int[] values,
+		final int min,
+		final int max,
+		final IntStream indexes,
+		final Random random
+	) {
+		final double std = ((double)max - (double)min)*0.25;
+		return indexes
+			.peek(i -> values[i] =
+				(int)clamp(random.nextGaussian()*std + values[i], min, max))
+			.toArray();
+	}
+
+	private static int[] mutate(
+		final long[] values,
+		final long min,
+		final long max,
+		final IntStream indexes,
+		final Random random
+	) {
+		final double std = ((double)max - (double)min)*0.25;
+		return indexes
+			.peek(i -> values[i] =
+				(long)clamp(random.nextGaussian()*std + values[i], min, max))
+			.toArray();
+	}
+
 	@Override
 	protected G mutate(final G gene, final Random random) {
 		final double min = gene.getMin().doubleValue();
@@ -0,0 +1,176 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+/**
+ * Fitness function, which is able to calculate the fitness of an altered
+ * individual incrementally, from the fitness of its parent and the changed
+ * gene positions. For problems like the TSP or the knapsack problem, this
+ * reduces the evaluation costs from {@code O(n)} to {@code O(k)}, where
+ * {@code k} is the number of changed genes.
+ * <p>
+ * The incremental path is taken, if the altered individual has been created
+ * with a known {@link ChangeSet} and its parent has already been evaluated.
+ * This is the case for the {@link Mutator}, the {@link SwapMutator} and all
+ * {@link Crossover} implementations. In all other cases, the fitness is
+ * calculated with the {@link #apply(Object)} method.
+ * <p>
+ * Engines created with the {@code Engine.builder(Function, Codec)} or the
+ * {@code Engine.builder(Problem)} method compose the fitness function with
+ * the decoder of the codec and will therefore always use the full fitness
+ * calculation. Use the
+ * {@code Engine.builder(fitness, codec.encoding())} method instead and decode
+ * the genotype within the incremental fitness function.
+ *
+ * <pre>{@code
+ * final IncrementalFitness<DoubleGene, Double> fitness = IncrementalFitness.of(
+ *     gt -> gt.getChromosome().stream()
+ *         .mapToDouble(DoubleGene::doubleValue)
+ *         .sum(),
+ *     (gt, parent, value, changes) -> {
+ *         double sum = value;
+ *         for (int i = 0; i < changes.size(); ++i) {
+ *             final int index = changes.getGeneIndex(i);
+ *             sum += gt.getChromosome().getGene(index).doubleValue() -
+ *                 parent.getGenotype().getChromosome().getGene(index).doubleValue();
+ *         }
+ *         return sum;
+ *     }
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(fitness, DoubleChromosome.of(0, 1, 1000))
+ *     .build();
+ * }</pre>
+ *
+ * @implSpec
+ * The incremental and the full fitness calculation must return the same
+ * fitness value for the same genotype.
+ *
+ * @see ChangeSet
+ * @see Phenotype#newInstance(Genotype, long, ChangeSet)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public interface IncrementalFitness<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Function<Genotype<G>, C>
+{
+
+	/**
+	 * Calculates the fitness of the given {@code genotype} incrementally.
+	 *
+	 * @param genotype the genotype to evaluate
+	 * @param parent the evaluated parent individual
+	 * @param fitness the raw fitness of the parent individual
+	 * @param changes the changed gene positions, relative to the parent
+	 *        genotype
+	 * @return the raw fitness of the given {@code genotype}
+	 */
+	public C apply(
+		final Genotype<G> genotype,
+		final Phenotype<G, C> parent,
+		final C fitness,
+		final ChangeSet changes
+	);
+
+	/**
+	 * Create a new incremental fitness function from the given full and
+	 * incremental fitness calculation.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @param fitness the full fitness calculation
+	 * @param delta the incremental fitness calculation
+	 * @return a new incremental fitness function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IncrementalFitness<G, C> of(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final Delta<G, C> delta
+	) {
+		requireNonNull(fitness);
+		requireNonNull(delta);
+
+		return new IncrementalFitness<G, C>() {
+			@Override
+			public C apply(final Genotype<G> genotype) {
+				return fitness.apply(genotype);
+			}
+
+			@Override
+			public C apply(
+				final Genotype<G> genotype,
+				final Phenotype<G, C> parent,
+				final C parentFitness,
+				final ChangeSet changes
+			) {
+				return delta.apply(genotype, parent, parentFitness, changes);
+			}
+		};
+	}
+
+	/**
+	 * The incremental part of an {@link IncrementalFitness} function.
+	 *
+	 * @see IncrementalFitness#of(Function, Delta)
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 */
+	@FunctionalInterface
+	public static interface Delta<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		/**
+		 * Calculates the fitness of the given {@code genotype} incrementally.
+		 *
+		 * @see IncrementalFitness#apply(Genotype, Phenotype, Comparable, ChangeSet)
+		 *
+		 * @param genotype the genotype to evaluate
+		 * @param parent the evaluated parent individual
+		 * @param fitness the raw fitness of the parent individual
+		 * @param changes the changed gene positions
+		 * @return the raw fitness of the given {@code genotype}
+		 */
+		public C apply(
+			final Genotype<G> genotype,
+			final Phenotype<G, C> parent,
+			final C fitness,
+			final ChangeSet changes
+		);
+
+	}
+
+}
@@ -23,12 +23,12 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.util.reflect;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 32 bit integer numbers.
@@ -36,7 +36,9 @@ import io.jenetics.util.MSeq;
  * @see IntegerGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. If all genes share the same
+ * bounds, the alleles are stored in a {@code int[]} array and the
+ * {@link IntegerGene} objects are created on demand.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
@@ -68,7 +70,21 @@ public class IntegerChromosome
 		final ISeq<IntegerGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(packed(genes), lengthRange);
+	}
+
+	// Stores the alleles in a int[] array, if all genes share the same
+	// bounds.
+	private static ISeq<IntegerGene> packed(final ISeq<IntegerGene> genes) {
+		final IntegerGeneISeq packed = IntegerGeneISeq.of(genes);
+		return packed != null ? packed : genes;
+	}
+
+	// Return the underlying allele array or null, if the genes are not packed.
+	private int[] values() {
+		return _genes instanceof IntegerGeneISeq
+			? ((IntegerGeneISeq)_genes).values()
+			: null;
 	}
 
 	/**
@@ -148,7 +164,18 @@ public class IntegerChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public IntStream intStream() {
-		return IntStream.range(0, length()).map(this::intValue);
+		final int[] values = values();
+		return values != null
+			? Arrays.stream(values)
+			: IntStream.range(0, length()).map(this::intValue);
+	}
+
+	@Override
+	public int intValue(final int index) {
+		final int[] values = values();
+		return values != null
+			? values[index]
+			: getGene(index).intValue();
 	}
 
 	/**
@@ -167,8 +194,13 @@ public class IntegerChromosome
 	 */
 	public int[] toArray(final int[] array) {
 		final int[] a = array.length >= length() ? array : new int[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = intValue(i);
+		final int[] values = values();
+		if (values != null) {
+			System.arraycopy(values, 0, a, 0, values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = intValue(i);
+			}
 		}
 
 		return a;
@@ -337,8 +369,8 @@ public class IntegerChromosome
 		out.writeInt(_min);
 		out.writeInt(_max);
 
-		for (IntegerGene gene : _genes) {
-			out.writeInt(gene.getAllele());
+		for (int i = 0, n = length(); i < n; ++i) {
+			out.writeInt(intValue(i));
 		}
 	}
 
@@ -347,16 +379,16 @@ public class IntegerChromosome
 	{
 		in.defaultReadObject();
 
-		final MSeq<IntegerGene> genes = MSeq.ofLength(in.readInt());
+		final int[] values = new int[in.readInt()];
 		reflect.setField(this, "_lengthRange", in.readObject());
 		reflect.setField(this, "_min", in.readInt());
 		reflect.setField(this, "_max", in.readInt());
 
-		for (int i = 0; i < genes.length(); ++i) {
-			genes.set(i, IntegerGene.of(in.readInt(), _min, _max));
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readInt();
 		}
 
-		reflect.setField(this, "_genes", genes.toISeq());
+		reflect.setField(this, "_genes", IntegerGeneISeq.of(values, _min, _max));
 	}
 
 }
@@ -29,7 +29,6 @@ import java.util.Random;
 import io.jenetics.internal.math.random;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.Mean;
 
 /**
@@ -243,9 +242,12 @@ public final class IntegerGene
 	) {
 		final Random r = getRandom();
 
-		return MSeq.<IntegerGene>ofLength(random.nextInt(lengthRange, r))
-			.fill(() -> new IntegerGene(nextInt(r, min, max), min, max))
-			.toISeq();
+		final int[] values = new int[random.nextInt(lengthRange, r)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = nextInt(r, min, max);
+		}
+
+		return IntegerGeneISeq.of(values, min, max);
 	}
 
 	/**
@@ -0,0 +1,339 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ArrayMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link IntegerGene} sequence, which stores the alleles in a
+ * {@code int[]} array. The gene objects are created on demand. Setting a
+ * gene with different bounds switches the sequence to object storage.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class IntegerGeneMSeq extends ArrayMSeq<IntegerGene> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private IntegerGeneMSeq(final Array<IntegerGene> array) {
+		super(array);
+		assert array.store() instanceof IntegerGeneStore;
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is an {@code IntegerGeneMSeq},
+	 * which still stores its alleles in an {@code int[]} array.
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof IntegerGeneMSeq &&
+			((IntegerGeneMSeq)seq).isPacked();
+	}
+
+	private boolean isPacked() {
+		return array.store() instanceof IntegerGeneStore;
+	}
+
+	/**
+	 * Return the underlying allele array. Changes of the returned array are
+	 * reflected by this sequence. The sequence must be packed.
+	 */
+	int[] values() {
+		array.copyIfSealed();
+		return ((IntegerGeneStore)array.store()).array;
+	}
+
+	int min() {
+		return ((IntegerGeneStore)array.store()).min;
+	}
+
+	int max() {
+		return ((IntegerGeneStore)array.store()).max;
+	}
+
+	@Override
+	public void swap(final int i, final int j) {
+		if (!isPacked()) {
+			super.swap(i, j);
+			return;
+		}
+
+		array.checkIndex(i);
+		array.checkIndex(j);
+		array.copyIfSealed();
+
+		final int[] values = ((IntegerGeneStore)array.store()).array;
+		final int temp = values[i];
+		values[i] = values[j];
+		values[j] = temp;
+	}
+
+	@Override
+	public void swap(
+		final int start, final int end,
+		final MSeq<IntegerGene> other, final int otherStart
+	) {
+		if (isPacked() && isPacked(other) &&
+			((IntegerGeneStore)array.store())
+				.isCompatible((IntegerGeneStore)((IntegerGeneMSeq)other).array.store()))
+		{
+			checkIndex(start, end, otherStart, other.length());
+			final IntegerGeneMSeq otherMSeq = (IntegerGeneMSeq)other;
+
+			array.copyIfSealed();
+			otherMSeq.array.copyIfSealed();
+
+			final int[] values = ((IntegerGeneStore)array.store()).array;
+			final int[] otherValues =
+				((IntegerGeneStore)otherMSeq.array.store()).array;
+			for (int i = end - start; --i >= 0;) {
+				final int temp = values[start + i];
+				values[start + i] = otherValues[otherStart + i];
+				otherValues[otherStart + i] = temp;
+			}
+		} else {
+			super.swap(start, end, other, otherStart);
+		}
+	}
+
+	@Override
+	public MSeq<IntegerGene> copy() {
+		return isPacked()
+			? new IntegerGeneMSeq(array.copy())
+			: new ArrayMSeq<>(array.copy());
+	}
+
+	@Override
+	public ISeq<IntegerGene> toISeq() {
+		return isPacked()
+			? new IntegerGeneISeq(array.seal())
+			: new ArrayISeq<>(array.seal());
+	}
+
+	static IntegerGeneMSeq of(final Array<IntegerGene> array) {
+		return new IntegerGeneMSeq(array);
+	}
+
+}
+
+/**
+ * Immutable {@link IntegerGene} sequence, which stores the alleles in a
+ * {@code int[]} array. The gene objects are created on demand.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class IntegerGeneISeq extends ArrayISeq<IntegerGene> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	IntegerGeneISeq(final Array<IntegerGene> array) {
+		super(array);
+		assert array.store() instanceof IntegerGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Return the underlying allele array. The returned array must not be
+	 * changed.
+	 */
+	int[] values() {
+		return ((IntegerGeneStore)array.store()).array;
+	}
+
+	int min() {
+		return ((IntegerGeneStore)array.store()).min;
+	}
+
+	int max() {
+		return ((IntegerGeneStore)array.store()).max;
+	}
+
+	@Override
+	public IntegerGeneMSeq copy() {
+		return IntegerGeneMSeq.of(array.copy());
+	}
+
+	/**
+	 * Create a new sequence with the given alleles. The given array is not
+	 * copied.
+	 */
+	static IntegerGeneISeq of(
+		final int[] values,
+		final int min,
+		final int max
+	) {
+		return new IntegerGeneISeq(
+			Array.of(IntegerGeneStore.of(values, min, max)).seal()
+		);
+	}
+
+	/**
+	 * Return a {@code int[]} backed sequence of the given genes, or
+	 * {@code null} if the genes don't share the same bounds.
+	 */
+	static IntegerGeneISeq of(final ISeq<? extends IntegerGene> genes) {
+		if (genes instanceof IntegerGeneISeq) {
+			return (IntegerGeneISeq)genes;
+		}
+		if (genes.isEmpty()) {
+			return null;
+		}
+
+		final int min = genes.get(0).getMin();
+		final int max = genes.get(0).getMax();
+		final int[] values = new int[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			final IntegerGene gene = genes.get(i);
+			if (!IntegerGeneStore.equals(gene, min, max)) {
+				return null;
+			}
+			values[i] = gene.intValue();
+		}
+
+		return of(values, min, max);
+	}
+
+}
+
+/**
+ * Gene store, which stores the alleles of {@link IntegerGene}s with the same
+ * bounds in an {@code int[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class IntegerGeneStore implements Array.Store<IntegerGene>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	final int[] array;
+	final int min;
+	final int max;
+
+	// Primary constructor.
+	private IntegerGeneStore(
+		final int[] array,
+		final int min,
+		final int max
+	) {
+		this.array = requireNonNull(array);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public IntegerGene get(final int index) {
+		return IntegerGene.of(array[index], min, max);
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super IntegerGene> comparator
+	) {
+		if (comparator == null) {
+			Arrays.sort(array, from, until);
+		} else {
+			final IntegerGene[] genes = new IntegerGene[until - from];
+			for (int i = 0; i < genes.length; ++i) {
+				genes[i] = get(from + i);
+			}
+			Arrays.sort(genes, comparator);
+			for (int i = 0; i < genes.length; ++i) {
+				array[from + i] = genes[i].intValue();
+			}
+		}
+	}
+
+	@Override
+	public boolean accepts(final IntegerGene value) {
+		return equals(value, min, max);
+	}
+
+	@Override
+	public void set(final int index, final IntegerGene value) {
+		if (!accepts(value)) {
+			throw new IllegalArgumentException(format(
+				"Gene bounds [%s, %s] don't match the sequence bounds [%s, %s].",
+				value.getMin(), value.getMax(), min, max
+			));
+		}
+		array[index] = value.intValue();
+	}
+
+	boolean isCompatible(final IntegerGeneStore other) {
+		return min == other.min &&
+			max == other.max;
+	}
+
+	@Override
+	public IntegerGeneStore copy(final int from, final int until) {
+		return new IntegerGeneStore(
+			Arrays.copyOfRange(array, from, until),
+			min,
+			max
+		);
+	}
+
+	@Override
+	public IntegerGeneStore newInstance(final int length) {
+		return new IntegerGeneStore(new int[length], min, max);
+	}
+
+	@Override
+	public int length() {
+		return array.length;
+	}
+
+	static boolean equals(
+		final IntegerGene gene,
+		final int min,
+		final int max
+	) {
+		return gene.getMin() == min &&
+			gene.getMax() == max;
+	}
+
+	static IntegerGeneStore of(
+		final int[] array,
+		final int min,
+		final int max
+	) {
+		return new IntegerGeneStore(array, min, max);
+	}
+
+}
@@ -48,7 +48,7 @@ import io.jenetics.util.RandomRegistry;
  * @see LineCrossover
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 4.3
  * @since 3.8
  */
 public class IntermediateCrossover<
@@ -107,10 +107,35 @@ public class IntermediateCrossover<
 		this(DEFAULT_ALTER_PROBABILITY, 0);
 	}
 
+	// Subclasses must opt in for the parallel recombination themselves.
+	@Override
+	protected boolean isThreadSafe() {
+		return getClass() == IntermediateCrossover.class;
+	}
+
 	@Override
 	protected int crossover(final MSeq<G> v, final MSeq<G> w) {
 		final Random random = RandomRegistry.getRandom();
 
+		if (DoubleGeneMSeq.isPacked(v) && DoubleGeneMSeq.isPacked(w)) {
+			final DoubleGeneMSeq a = (DoubleGeneMSeq)v;
+			final DoubleGeneMSeq b = (DoubleGeneMSeq)w;
+			crossover(a.values(), b.values(), a.min(), a.max(), random);
+			return 2;
+		}
+		if (IntegerGeneMSeq.isPacked(v) && IntegerGeneMSeq.isPacked(w)) {
+			final IntegerGeneMSeq a = (IntegerGeneMSeq)v;
+			final IntegerGeneMSeq b = (IntegerGeneMSeq)w;
+			crossover(a.values(), b.values(), a.min(), a.max(), random);
+			return 2;
+		}
+		if (LongGeneMSeq.isPacked(v) && LongGeneMSeq.isPacked(w)) {
+			final LongGeneMSeq a = (LongGeneMSeq)v;
+			final LongGeneMSeq b = (LongGeneMSeq)w;
+			crossover(a.values(), b.values(), a.min(), a.max(), random);
+			return 2;
+		}
+
 		final double min = v.get(0).getMin().doubleValue();
 		final double max = v.get(0).getMax().doubleValue();
 
@@ -134,6 +159,85 @@ public class IntermediateCrossover<
 		return 2;
 	}
 
+	// The bulk crossover methods must give the same results as the generic
+	// implementation. The recombined values are converted to the allele type
+	// the same way as 'NumericGene.newInstance(Number)' does.
+
+	private void crossover(
+		final double[] v,
+		final double[] w,
+		final double min,
+		final double max,
+		final Random random
+	) {
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			double t, s;
+			do {
+				final double a = nextDouble(-_p, 1 + _p, random);
+				final double b = nextDouble(-_p, 1 + _p, random);
+
+				t = a*vi + (1 - a)*wi;
+				s = b*wi + (1 - b)*vi;
+			} while (t < min || s < min || t >= max || s >= max);
+
+			v[i] = t;
+			w[i] = s;
+		}
+	}
+
+	private void crossover(
+		final int[] v,
+		final int[] w,
+		final double min,
+		final double max,
+		final Random random
+	) {
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			double t, s;
+			do {
+				final double a = nextDouble(-_p, 1 + _p, random);
+				final double b = nextDouble(-_p, 1 + _p, random);
+
+				t = a*vi + (1 - a)*wi;
+				s = b*wi + (1 - b)*vi;
+			} while (t < min || s < min || t >= max || s >= max);
+
+			v[i] = (int)t;
+			w[i] = (int)s;
+		}
+	}
+
+	private void crossover(
+		final long[] v,
+		final long[] w,
+		final double min,
+		final double max,
+		final Random random
+	) {
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			double t, s;
+			do {
+				final double a = nextDouble(-_p, 1 + _p, random);
+				final double b = nextDouble(-_p, 1 + _p, random);
+
+				t = a*vi + (1 - a)*wi;
+				s = b*wi + (1 - b)*vi;
+			} while (t < min || s < min || t >= max || s >= max);
+
+			v[i] = (long)t;
+			w[i] = (long)s;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
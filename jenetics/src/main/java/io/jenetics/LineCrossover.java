@@ -47,7 +47,7 @@ import io.jenetics.util.RandomRegistry;
  * @see IntermediateCrossover
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 4.3
  * @since 3.8
  */
 public class LineCrossover<
@@ -101,6 +101,12 @@ public class LineCrossover<
 		this(DEFAULT_ALTER_PROBABILITY, 0);
 	}
 
+	// Subclasses must opt in for the parallel recombination themselves.
+	@Override
+	protected boolean isThreadSafe() {
+		return getClass() == LineCrossover.class;
+	}
+
 	@Override
 	protected int crossover(final MSeq<G> v, final MSeq<G> w) {
 		final Random random = RandomRegistry.getRandom();
@@ -111,6 +117,25 @@ public class LineCrossover<
 		final double a = nextDouble(-_p, 1 + _p, random);
 		final double b = nextDouble(-_p, 1 + _p, random);
 
+		if (DoubleGeneMSeq.isPacked(v) && DoubleGeneMSeq.isPacked(w)) {
+			return crossover(
+				((DoubleGeneMSeq)v).values(), ((DoubleGeneMSeq)w).values(),
+				min, max, a, b
+			);
+		}
+		if (IntegerGeneMSeq.isPacked(v) && IntegerGeneMSeq.isPacked(w)) {
+			return crossover(
+				((IntegerGeneMSeq)v).values(), ((IntegerGeneMSeq)w).values(),
+				min, max, a, b
+			);
+		}
+		if (LongGeneMSeq.isPacked(v) && LongGeneMSeq.isPacked(w)) {
+			return crossover(
+				((LongGeneMSeq)v).values(), ((LongGeneMSeq)w).values(),
+				min, max, a, b
+			);
+		}
+
 		boolean changed = false;
 		for (int i = 0, n = min(v.length(), w.length()); i < n; ++i) {
 			final double vi = v.get(i).doubleValue();
@@ -129,6 +154,88 @@ public class LineCrossover<
 		return changed ? 2 : 0;
 	}
 
+	// The bulk crossover methods must give the same results as the generic
+	// implementation. The recombined values are converted to the allele type
+	// the same way as 'NumericGene.newInstance(Number)' does.
+
+	private static int crossover(
+		final double[] v,
+		final double[] w,
+		final double min,
+		final double max,
+		final double a,
+		final double b
+	) {
+		boolean changed = false;
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			final double t = a*vi + (1 - a)*wi;
+			final double s = b*wi + (1 - b)*vi;
+
+			if (t >= min && s >= min && t < max && s < max) {
+				v[i] = t;
+				w[i] = s;
+				changed = true;
+			}
+		}
+
+		return changed ? 2 : 0;
+	}
+
+	private static int crossover(
+		final int[] v,
+		final int[] w,
+		final double min,
+		final double max,
+		final double a,
+		final double b
+	) {
+		boolean changed = false;
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			final double t = a*vi + (1 - a)*wi;
+			final double s = b*wi + (1 - b)*vi;
+
+			if (t >= min && s >= min && t < max && s < max) {
+				v[i] = (int)t;
+				w[i] = (int)s;
+				changed = true;
+			}
+		}
+
+		return changed ? 2 : 0;
+	}
+
+	private static int crossover(
+		final long[] v,
+		final long[] w,
+		final double min,
+		final double max,
+		final double a,
+		final double b
+	) {
+		boolean changed = false;
+		for (int i = 0, n = min(v.length, w.length); i < n; ++i) {
+			final double vi = v[i];
+			final double wi = w[i];
+
+			final double t = a*vi + (1 - a)*wi;
+			final double s = b*wi + (1 - b)*vi;
+
+			if (t >= min && s >= min && t < max && s < max) {
+				v[i] = (long)t;
+				w[i] = (long)s;
+				changed = true;
+			}
+		}
+
+		return changed ? 2 : 0;
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
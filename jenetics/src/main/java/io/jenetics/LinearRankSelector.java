@@ -56,7 +56,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 4.3
  */
 public final class LinearRankSelector<
 	G extends Gene<?, G>,
@@ -68,14 +68,19 @@ public final class LinearRankSelector<
 	private final double _nplus;
 
 	/**
-	 * Create a new LinearRankSelector with the given values for {@code nminus}.
+	 * Create a new LinearRankSelector with the given values for {@code nminus}
+	 * and the given sampling strategy.
+	 *
+	 * @since 4.3
 	 *
 	 * @param nminus {@code nminus/N} is the probability of the worst phenotype
 	 *         to be selected.
+	 * @param sampling the strategy used for drawing the individuals
 	 * @throws IllegalArgumentException if {@code nminus < 0}.
+	 * @throws NullPointerException if the {@code sampling} is {@code null}
 	 */
-	public LinearRankSelector(final double nminus) {
-		super(true);
+	public LinearRankSelector(final double nminus, final Sampling sampling) {
+		super(true, sampling);
 
 		if (nminus < 0) {
 			throw new IllegalArgumentException(format(
@@ -87,6 +92,17 @@ public final class LinearRankSelector<
 		_nplus = 2 - _nminus;
 	}
 
+	/**
+	 * Create a new LinearRankSelector with the given values for {@code nminus}.
+	 *
+	 * @param nminus {@code nminus/N} is the probability of the worst phenotype
+	 *         to be selected.
+	 * @throws IllegalArgumentException if {@code nminus < 0}.
+	 */
+	public LinearRankSelector(final double nminus) {
+		this(nminus, Sampling.INDEX_SEARCH);
+	}
+
 	/**
 	 * Create a new LinearRankSelector with {@code nminus := 0.5}.
 	 */
@@ -98,6 +114,11 @@ public final class LinearRankSelector<
 	 * This method sorts the population in descending order while calculating the
 	 * selection probabilities.
 	 */
+	@Override
+	protected boolean isChunked() {
+		return true;
+	}
+
 	@Override
 	protected double[] probabilities(
 		final Seq<Phenotype<G, C>> population,
@@ -124,7 +145,7 @@ public final class LinearRankSelector<
 
 	@Override
 	public int hashCode() {
-		return hash(_nminus, hash(_nplus));
+		return hash(_nminus, hash(_nplus, hash(_sampling)));
 	}
 
 	@Override
@@ -132,7 +153,8 @@ public final class LinearRankSelector<
 		return obj == this ||
 			obj instanceof LinearRankSelector &&
 			Double.compare(((LinearRankSelector) obj)._nminus, _nminus) == 0 &&
-			Double.compare(((LinearRankSelector)obj)._nplus, _nplus) == 0;
+			Double.compare(((LinearRankSelector)obj)._nplus, _nplus) == 0 &&
+			((LinearRankSelector)obj)._sampling == _sampling;
 	}
 
 	@Override
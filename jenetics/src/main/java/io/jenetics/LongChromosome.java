@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
@@ -30,7 +31,6 @@ import io.jenetics.internal.util.reflect;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
-import io.jenetics.util.MSeq;
 
 /**
  * Numeric chromosome implementation which holds 64 bit integer numbers.
@@ -38,7 +38,9 @@ import io.jenetics.util.MSeq;
  * @see LongGene
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. If all genes share the same
+ * bounds, the alleles are stored in a {@code long[]} array and the
+ * {@link LongGene} objects are created on demand.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
@@ -70,7 +72,21 @@ public class LongChromosome
 		final ISeq<LongGene> genes,
 		final IntRange lengthRange
 	) {
-		super(genes, lengthRange);
+		super(packed(genes), lengthRange);
+	}
+
+	// Stores the alleles in a long[] array, if all genes share the same
+	// bounds.
+	private static ISeq<LongGene> packed(final ISeq<LongGene> genes) {
+		final LongGeneISeq packed = LongGeneISeq.of(genes);
+		return packed != null ? packed : genes;
+	}
+
+	// Return the underlying allele array or null, if the genes are not packed.
+	private long[] values() {
+		return _genes instanceof LongGeneISeq
+			? ((LongGeneISeq)_genes).values()
+			: null;
 	}
 
 	/**
@@ -146,7 +162,18 @@ public class LongChromosome
 	 * @return a sequential stream of alleles
 	 */
 	public LongStream longStream() {
-		return IntStream.range(0, length()).mapToLong(this::longValue);
+		final long[] values = values();
+		return values != null
+			? Arrays.stream(values)
+			: IntStream.range(0, length()).mapToLong(this::longValue);
+	}
+
+	@Override
+	public long longValue(final int index) {
+		final long[] values = values();
+		return values != null
+			? values[index]
+			: getGene(index).longValue();
 	}
 
 	/**
@@ -165,8 +192,13 @@ public class LongChromosome
 	 */
 	public long[] toArray(final long[] array) {
 		final long[] a = array.length >= length() ? array : new long[length()];
-		for (int i = length(); --i >= 0;) {
-			a[i] = longValue(i);
+		final long[] values = values();
+		if (values != null) {
+			System.arraycopy(values, 0, a, 0, values.length);
+		} else {
+			for (int i = length(); --i >= 0;) {
+				a[i] = longValue(i);
+			}
 		}
 
 		return a;
@@ -338,8 +370,8 @@ public class LongChromosome
 		out.writeLong(_min);
 		out.writeLong(_max);
 
-		for (LongGene gene : _genes) {
-			out.writeLong(gene.getAllele());
+		for (int i = 0, n = length(); i < n; ++i) {
+			out.writeLong(longValue(i));
 		}
 	}
 
@@ -348,16 +380,16 @@ public class LongChromosome
 	{
 		in.defaultReadObject();
 
-		final MSeq<LongGene> genes = MSeq.ofLength(in.readInt());
+		final long[] values = new long[in.readInt()];
 		reflect.setField(this, "_lengthRange", in.readObject());
 		reflect.setField(this, "_min", in.readLong());
 		reflect.setField(this, "_max", in.readLong());
 
-		for (int i = 0; i < genes.length(); ++i) {
-			genes.set(i, LongGene.of(in.readLong(), _min, _max));
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = in.readLong();
 		}
 
-		reflect.setField(this, "_genes", genes.toISeq());
+		reflect.setField(this, "_genes", LongGeneISeq.of(values, _min, _max));
 	}
 
 }
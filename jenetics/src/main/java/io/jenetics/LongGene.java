@@ -30,7 +30,6 @@ import io.jenetics.internal.math.random;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
-import io.jenetics.util.MSeq;
 import io.jenetics.util.Mean;
 
 /**
@@ -244,9 +243,12 @@ public final class LongGene
 	) {
 		final Random r = getRandom();
 
-		return MSeq.<LongGene>ofLength(random.nextInt(lengthRange, r))
-			.fill(() -> LongGene.of(nextLong(r, min, max), min, max))
-			.toISeq();
+		final long[] values = new long[random.nextInt(lengthRange, r)];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = nextLong(r, min, max);
+		}
+
+		return LongGeneISeq.of(values, min, max);
 	}
 
 	/**
@@ -0,0 +1,339 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ArrayMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Mutable {@link LongGene} sequence, which stores the alleles in a
+ * {@code long[]} array. The gene objects are created on demand. Setting a
+ * gene with different bounds switches the sequence to object storage.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class LongGeneMSeq extends ArrayMSeq<LongGene> {
+
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	private LongGeneMSeq(final Array<LongGene> array) {
+		super(array);
+		assert array.store() instanceof LongGeneStore;
+	}
+
+	/**
+	 * Return {@code true} if the given sequence is a {@code LongGeneMSeq},
+	 * which still stores its alleles in a {@code long[]} array.
+	 */
+	static boolean isPacked(final Seq<?> seq) {
+		return seq instanceof LongGeneMSeq &&
+			((LongGeneMSeq)seq).isPacked();
+	}
+
+	private boolean isPacked() {
+		return array.store() instanceof LongGeneStore;
+	}
+
+	/**
+	 * Return the underlying allele array. Changes of the returned array are
+	 * reflected by this sequence. The sequence must be packed.
+	 */
+	long[] values() {
+		array.copyIfSealed();
+		return ((LongGeneStore)array.store()).array;
+	}
+
+	long min() {
+		return ((LongGeneStore)array.store()).min;
+	}
+
+	long max() {
+		return ((LongGeneStore)array.store()).max;
+	}
+
+	@Override
+	public void swap(final int i, final int j) {
+		if (!isPacked()) {
+			super.swap(i, j);
+			return;
+		}
+
+		array.checkIndex(i);
+		array.checkIndex(j);
+		array.copyIfSealed();
+
+		final long[] values = ((LongGeneStore)array.store()).array;
+		final long temp = values[i];
+		values[i] = values[j];
+		values[j] = temp;
+	}
+
+	@Override
+	public void swap(
+		final int start, final int end,
+		final MSeq<LongGene> other, final int otherStart
+	) {
+		if (isPacked() && isPacked(other) &&
+			((LongGeneStore)array.store())
+				.isCompatible((LongGeneStore)((LongGeneMSeq)other).array.store()))
+		{
+			checkIndex(start, end, otherStart, other.length());
+			final LongGeneMSeq otherMSeq = (LongGeneMSeq)other;
+
+			array.copyIfSealed();
+			otherMSeq.array.copyIfSealed();
+
+			final long[] values = ((LongGeneStore)array.store()).array;
+			final long[] otherValues =
+				((LongGeneStore)otherMSeq.array.store()).array;
+			for (int i = end - start; --i >= 0;) {
+				final long temp = values[start + i];
+				values[start + i] = otherValues[otherStart + i];
+				otherValues[otherStart + i] = temp;
+			}
+		} else {
+			super.swap(start, end, other, otherStart);
+		}
+	}
+
+	@Override
+	public MSeq<LongGene> copy() {
+		return isPacked()
+			? new LongGeneMSeq(array.copy())
+			: new ArrayMSeq<>(array.copy());
+	}
+
+	@Override
+	public ISeq<LongGene> toISeq() {
+		return isPacked()
+			? new LongGeneISeq(array.seal())
+			: new ArrayISeq<>(array.seal());
+	}
+
+	static LongGeneMSeq of(final Array<LongGene> array) {
+		return new LongGeneMSeq(array);
+	}
+
+}
+
+/**
+ * Immutable {@link LongGene} sequence, which stores the alleles in a
+ * {@code long[]} array. The gene objects are created on demand.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class LongGeneISeq extends ArrayISeq<LongGene> {
+	private static final long serialVersionUID = 1L;
+
+	// Primary constructor.
+	LongGeneISeq(final Array<LongGene> array) {
+		super(array);
+		assert array.store() instanceof LongGeneStore;
+		assert array.length() == array.store().length();
+	}
+
+	/**
+	 * Return the underlying allele array. The returned array must not be
+	 * changed.
+	 */
+	long[] values() {
+		return ((LongGeneStore)array.store()).array;
+	}
+
+	long min() {
+		return ((LongGeneStore)array.store()).min;
+	}
+
+	long max() {
+		return ((LongGeneStore)array.store()).max;
+	}
+
+	@Override
+	public LongGeneMSeq copy() {
+		return LongGeneMSeq.of(array.copy());
+	}
+
+	/**
+	 * Create a new sequence with the given alleles. The given array is not
+	 * copied.
+	 */
+	static LongGeneISeq of(
+		final long[] values,
+		final long min,
+		final long max
+	) {
+		return new LongGeneISeq(
+			Array.of(LongGeneStore.of(values, min, max)).seal()
+		);
+	}
+
+	/**
+	 * Return a {@code long[]} backed sequence of the given genes, or
+	 * {@code null} if the genes don't share the same bounds.
+	 */
+	static LongGeneISeq of(final ISeq<? extends LongGene> genes) {
+		if (genes instanceof LongGeneISeq) {
+			return (LongGeneISeq)genes;
+		}
+		if (genes.isEmpty()) {
+			return null;
+		}
+
+		final long min = genes.get(0).getMin();
+		final long max = genes.get(0).getMax();
+		final long[] values = new long[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			final LongGene gene = genes.get(i);
+			if (!LongGeneStore.equals(gene, min, max)) {
+				return null;
+			}
+			values[i] = gene.longValue();
+		}
+
+		return of(values, min, max);
+	}
+
+}
+
+/**
+ * Gene store, which stores the alleles of {@link LongGene}s with the same
+ * bounds in a {@code long[]} array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+final class LongGeneStore implements Array.Store<LongGene>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	final long[] array;
+	final long min;
+	final long max;
+
+	// Primary constructor.
+	private LongGeneStore(
+		final long[] array,
+		final long min,
+		final long max
+	) {
+		this.array = requireNonNull(array);
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public LongGene get(final int index) {
+		return LongGene.of(array[index], min, max);
+	}
+
+	@Override
+	public void sort(
+		final int from,
+		final int until,
+		final Comparator<? super LongGene> comparator
+	) {
+		if (comparator == null) {
+			Arrays.sort(array, from, until);
+		} else {
+			final LongGene[] genes = new LongGene[until - from];
+			for (int i = 0; i < genes.length; ++i) {
+				genes[i] = get(from + i);
+			}
+			Arrays.sort(genes, comparator);
+			for (int i = 0; i < genes.length; ++i) {
+				array[from + i] = genes[i].longValue();
+			}
+		}
+	}
+
+	@Override
+	public boolean accepts(final LongGene value) {
+		return equals(value, min, max);
+	}
+
+	@Override
+	public void set(final int index, final LongGene value) {
+		if (!accepts(value)) {
+			throw new IllegalArgumentException(format(
+				"Gene bounds [%s, %s] don't match the sequence bounds [%s, %s].",
+				value.getMin(), value.getMax(), min, max
+			));
+		}
+		array[index] = value.longValue();
+	}
+
+	boolean isCompatible(final LongGeneStore other) {
+		return min == other.min &&
+			max == other.max;
+	}
+
+	@Override
+	public LongGeneStore copy(final int from, final int until) {
+		return new LongGeneStore(
+			Arrays.copyOfRange(array, from, until),
+			min,
+			max
+		);
+	}
+
+	@Override
+	public LongGeneStore newInstance(final int length) {
+		return new LongGeneStore(new long[length], min, max);
+	}
+
+	@Override
+	public int length() {
+		return array.length;
+	}
+
+	static boolean equals(
+		final LongGene gene,
+		final long min,
+		final long max
+	) {
+		return gene.getMin() == min &&
+			gene.getMax() == max;
+	}
+
+	static LongGeneStore of(
+		final long[] array,
+		final long min,
+		final long max
+	) {
+		return new LongGeneStore(array, min, max);
+	}
+
+}
@@ -37,7 +37,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class MeanAlterer<
 	G extends Gene<?, G> & Mean<G>,
@@ -64,6 +64,11 @@ public final class MeanAlterer<
 		this(0.05);
 	}
 
+	@Override
+	protected boolean isThreadSafe() {
+		return true;
+	}
+
 	@Override
 	protected int recombine(
 		final MSeq<Phenotype<G, C>> population,
@@ -101,12 +106,48 @@ public final class MeanAlterer<
 
 	private static <G extends Gene<?, G> & Mean<G>>
 	MSeq<G> mean(final MSeq<G> a, final Seq<G> b) {
+		if (b.length() >= a.length()) {
+			if (DoubleGeneMSeq.isPacked(a) && b instanceof DoubleGeneISeq) {
+				mean(((DoubleGeneMSeq)a).values(), ((DoubleGeneISeq)b).values());
+				return a;
+			}
+			if (IntegerGeneMSeq.isPacked(a) && b instanceof IntegerGeneISeq) {
+				mean(((IntegerGeneMSeq)a).values(), ((IntegerGeneISeq)b).values());
+				return a;
+			}
+			if (LongGeneMSeq.isPacked(a) && b instanceof LongGeneISeq) {
+				mean(((LongGeneMSeq)a).values(), ((LongGeneISeq)b).values());
+				return a;
+			}
+		}
+
 		for (int i = a.length(); --i >= 0;) {
 			a.set(i, a.get(i).mean(b.get(i)));
 		}
 		return a;
 	}
 
+	// The bulk mean calculations must give the same results as the 'mean'
+	// methods of the corresponding genes.
+
+	private static void mean(final double[] a, final double[] b) {
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = a[i] + (b[i] - a[i])/2.0;
+		}
+	}
+
+	private static void mean(final int[] a, final int[] b) {
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = a[i] + (b[i] - a[i])/2;
+		}
+	}
+
+	private static void mean(final long[] a, final long[] b) {
+		for (int i = 0; i < a.length; ++i) {
+			a[i] = a[i] + (b[i] - a[i])/2;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
@@ -51,7 +51,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.2
- * @version 4.0
+ * @version 4.3
  */
 public class MultiPointCrossover<
 	G extends Gene<?, G>,
@@ -119,6 +119,12 @@ public class MultiPointCrossover<
 		return _n;
 	}
 
+	// Subclasses must opt in for the parallel recombination themselves.
+	@Override
+	protected boolean isThreadSafe() {
+		return getClass() == MultiPointCrossover.class;
+	}
+
 	@Override
 	protected int crossover(final MSeq<G> that, final MSeq<G> other) {
 		assert that.length() == other.length();
@@ -21,11 +21,16 @@ package io.jenetics;
 
 import static java.lang.Math.pow;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.math.random.indexes;
 
+import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.concurrent.Executor;
 
-import io.jenetics.internal.math.probability;
-import io.jenetics.util.ISeq;
+import io.jenetics.internal.collection.BufferMSeq;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +70,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -115,17 +120,76 @@ public class Mutator<
 
 		final Random random = RandomRegistry.getRandom();
 		final double p = pow(_probability, 1.0/3.0);
-		final int P = probability.toInt(p);
 
-		final Seq<MutatorResult<Phenotype<G, C>>> result = population
-			.map(pt -> random.nextInt() < P
-				? mutate(pt, generation, p, random)
-				: MutatorResult.of(pt));
+		// Engine owned population buffers are mutated in place.
+		final MSeq<Phenotype<G, C>> pop = population instanceof BufferMSeq
+			? (MSeq<Phenotype<G, C>>)population
+			: MSeq.of(population);
 
-		return AltererResult.of(
-			result.map(MutatorResult::getResult).asISeq(),
-			result.stream().mapToInt(MutatorResult::getMutations).sum()
-		);
+		int mutations = 0;
+		final PrimitiveIterator.OfInt it = indexes(random, pop.size(), p).iterator();
+		while (it.hasNext()) {
+			final int i = it.nextInt();
+			final MutatorResult<Phenotype<G, C>> result =
+				mutate(pop.get(i), generation, p, random);
+
+			pop.set(i, result.getResult());
+			mutations += result.getMutations();
+		}
+
+		return AltererResult.of(pop.toISeq(), mutations);
+	}
+
+	/**
+	 * Parallel implementation of the alter method. The individuals are
+	 * selected for mutation once, with a random engine keyed by the
+	 * {@code generation}. The selected individuals are then mutated with their
+	 * own random engine, keyed by the {@code generation} and their index. The
+	 * random engine of an individual is also the {@link RandomRegistry} engine
+	 * of the executing thread while the individual is mutated.
+	 * <p>
+	 * Subclasses which override the {@link #alter(Seq, long)} method must also
+	 * override this method.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		assert population != null : "Not null is guaranteed from base class.";
+		requireNonNull(executor, "Executor");
+
+		final double p = pow(_probability, 1.0/3.0);
+		final long seed = ParallelAlteration.seed(generation);
+
+		// Engine owned population buffers are mutated in place.
+		final MSeq<Phenotype<G, C>> pop = population instanceof BufferMSeq
+			? (MSeq<Phenotype<G, C>>)population
+			: MSeq.of(population);
+
+		final int[] selected =
+			indexes(ParallelAlteration.selection(seed), pop.size(), p).toArray();
+
+		final int[] mutations = new int[selected.length];
+		Concurrency.execute(executor, selected.length, s -> {
+			final int i = selected[s];
+			final MutatorResult<Phenotype<G, C>> result =
+				RandomRegistry.with(ParallelAlteration.random(seed, i), r ->
+					mutate(pop.get(i), generation, p, r));
+
+			pop.set(i, result.getResult());
+			mutations[s] = result.getMutations();
+		});
+
+		int count = 0;
+		for (int mutation : mutations) {
+			count += mutation;
+		}
+
+		return AltererResult.of(pop.toISeq(), count);
 	}
 
 	/**
@@ -147,8 +211,12 @@ public class Mutator<
 		final double p,
 		final Random random
 	) {
-		return mutate(phenotype.getGenotype(), p, random)
-			.map(gt -> phenotype.newInstance(gt, generation));
+		final MutatorResult<Genotype<G>> result =
+			mutate(phenotype.getGenotype(), p, random);
+
+		return result.map(gt -> result.getChanges()
+			.map(changes -> phenotype.newInstance(gt, generation, changes))
+			.orElseGet(() -> phenotype.newInstance(gt, generation)));
 	}
 
 	/**
@@ -167,16 +235,32 @@ public class Mutator<
 		final double p,
 		final Random random
 	) {
-		final int P = probability.toInt(p);
-		final ISeq<MutatorResult<Chromosome<G>>> result = genotype.toSeq()
-			.map(gt -> random.nextInt() < P
-				? mutate(gt, p, random)
-				: MutatorResult.of(gt));
+		final MSeq<Chromosome<G>> chromosomes = genotype.toSeq().copy();
 
-		return MutatorResult.of(
-			Genotype.of(result.map(MutatorResult::getResult)),
-			result.stream().mapToInt(MutatorResult::getMutations).sum()
-		);
+		int mutations = 0;
+		ChangeSet changes = ChangeSet.empty();
+		final PrimitiveIterator.OfInt it =
+			indexes(random, chromosomes.length(), p).iterator();
+		while (it.hasNext()) {
+			final int i = it.nextInt();
+			final MutatorResult<Chromosome<G>> result =
+				mutate(chromosomes.get(i), p, random);
+
+			chromosomes.set(i, result.getResult());
+			mutations += result.getMutations();
+
+			changes = changes != null
+				? result.getChanges()
+					.map(c -> c.withChromosomeIndex(i))
+					.map(changes::and)
+					.orElse(null)
+				: null;
+		}
+
+		final Genotype<G> mutated = Genotype.of(chromosomes.toISeq());
+		return changes != null
+			? MutatorResult.of(mutated, mutations, changes)
+			: MutatorResult.of(mutated, mutations);
 	}
 
 	/**
@@ -194,16 +278,15 @@ public class Mutator<
 		final double p,
 		final Random random
 	) {
-		final int P = probability.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? MutatorResult.of(mutate(gene, random), 1)
-				: MutatorResult.of(gene))
-			.collect(ISeq.toISeq());
+		final MSeq<G> genes = chromosome.toSeq().copy();
+		final int[] mutated = indexes(random, genes.length(), p)
+			.peek(i -> genes.set(i, mutate(genes.get(i), random)))
+			.toArray();
 
 		return MutatorResult.of(
-			chromosome.newInstance(result.map(MutatorResult::getResult)),
-			result.stream().mapToInt(MutatorResult::getMutations).sum()
+			chromosome.newInstance(genes.toISeq()),
+			mutated.length,
+			ChangeSet.of(0, mutated)
 		);
 	}
 
@@ -25,6 +25,7 @@ import static io.jenetics.internal.util.Hashes.hash;
 
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Function;
 
@@ -40,7 +41,7 @@ import java.util.function.Function;
  * This class is immutable and thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 4.3
  * @since 4.0
  */
 public final class MutatorResult<T> implements Serializable {
@@ -49,8 +50,13 @@ public final class MutatorResult<T> implements Serializable {
 
 	private final T _result;
 	private final int _mutations;
+	private final ChangeSet _changes;
 
-	private MutatorResult(final T result, final int mutations) {
+	private MutatorResult(
+		final T result,
+		final int mutations,
+		final ChangeSet changes
+	) {
 		if (mutations < 0) {
 			throw new IllegalArgumentException(
 				"Mutations must not be negative: " + mutations
@@ -59,6 +65,7 @@ public final class MutatorResult<T> implements Serializable {
 
 		_result = requireNonNull(result);
 		_mutations = mutations;
+		_changes = mutations == 0 ? ChangeSet.empty() : changes;
 	}
 
 	/**
@@ -71,7 +78,7 @@ public final class MutatorResult<T> implements Serializable {
 	 */
 	<B> MutatorResult<B> map(final Function<? super T, ? extends B> mapper) {
 		requireNonNull(mapper);
-		return of(mapper.apply(_result), _mutations);
+		return new MutatorResult<>(mapper.apply(_result), _mutations, _changes);
 	}
 
 	/**
@@ -92,6 +99,22 @@ public final class MutatorResult<T> implements Serializable {
 		return _mutations;
 	}
 
+	/**
+	 * Return the changed gene positions of this mutation result, if known.
+	 * The change set of a mutated chromosome uses the chromosome index
+	 * {@code 0}.
+	 *
+	 * @since 4.3
+	 *
+	 * @see IncrementalFitness
+	 *
+	 * @return the changed gene positions, or {@link Optional#empty()} if
+	 *         they are not known
+	 */
+	public Optional<ChangeSet> getChanges() {
+		return Optional.ofNullable(_changes);
+	}
+
 	/**
 	 * Create a new mutation result with the given values.
 	 *
@@ -104,7 +127,29 @@ public final class MutatorResult<T> implements Serializable {
 	 * @throws NullPointerException if the given mutation result is {@code null}
 	 */
 	public static <T> MutatorResult<T> of(final T result, final int mutations) {
-		return new MutatorResult<>(result, mutations);
+		return new MutatorResult<>(result, mutations, null);
+	}
+
+	/**
+	 * Create a new mutation result with the given values.
+	 *
+	 * @since 4.3
+	 *
+	 * @param result the mutation result
+	 * @param mutations the number of mutations
+	 * @param changes the changed gene positions
+	 * @param <T> the mutation result type
+	 * @return a new mutation result
+	 * @throws IllegalArgumentException if the given {@code mutations} is
+	 *         negative
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> MutatorResult<T> of(
+		final T result,
+		final int mutations,
+		final ChangeSet changes
+	) {
+		return new MutatorResult<>(result, mutations, requireNonNull(changes));
 	}
 
 	/**
@@ -117,12 +162,12 @@ public final class MutatorResult<T> implements Serializable {
 	 * @throws NullPointerException if the given mutation result is {@code null}
 	 */
 	public static <T> MutatorResult<T> of(final T result) {
-		return new MutatorResult<>(result, 0);
+		return new MutatorResult<>(result, 0, ChangeSet.empty());
 	}
 
 	@Override
 	public int hashCode() {
-		return hash(_result, hash(_mutations));
+		return hash(_result, hash(_mutations, hash(_changes)));
 	}
 
 	@Override
@@ -130,7 +175,8 @@ public final class MutatorResult<T> implements Serializable {
 		return obj == this ||
 			obj instanceof MutatorResult &&
 			Objects.equals(((MutatorResult)obj)._result, _result) &&
-			((MutatorResult)obj)._mutations == _mutations;
+			((MutatorResult)obj)._mutations == _mutations &&
+			Objects.equals(((MutatorResult)obj)._changes, _changes);
 	}
 
 	@Override
@@ -0,0 +1,107 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import io.jenetics.internal.math.comb;
+
+/**
+ * The {@code OrderCrossover} (OX1) creates offspring which preserve the
+ * relative order of the alleles of the parent chromosomes. Two crossover
+ * points are chosen randomly. Each offspring keeps the alleles between the
+ * two points of one parent. The remaining positions are filled with the
+ * missing alleles, in the order they appear in the other parent, starting
+ * after the second crossover point and wrapping around.
+ *
+ * <pre>{@code
+ *     C1 = 012|345|6789
+ *     C2 = 987|654|3210
+ * }</pre>
+ * The crossover points are located between the third and fourth and between
+ * the sixth and seventh gene. The offspring will look like this:
+ * <pre>{@code
+ *     C1 = 876|345|2109
+ *     C2 = 123|654|7890
+ * }</pre>
+ *
+ * <em>The {@code OrderCrossover} class requires chromosomes which are
+ * permutations of the same alleles. An {@code IllegalArgumentException} is
+ * thrown at runtime if this requirement is not fulfilled.</em>
+ *
+ * @see PermutationChromosome
+ * @see PartiallyMatchedCrossover
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+public final class OrderCrossover<T, C extends Comparable<? super C>>
+	extends PermutationCrossover<T, C>
+{
+
+	public OrderCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final Random random
+	) {
+		checkPermutations(that, other, alleles);
+
+		final int[] points = comb.subset(that.length, 2, random);
+		final int[] parent = that.clone();
+		final boolean[] used = new boolean[alleles];
+
+		fill(that, other, points[0], points[1], used);
+		fill(other, parent, points[0], points[1], used);
+	}
+
+	private static void fill(
+		final int[] child,
+		final int[] donor,
+		final int begin,
+		final int end,
+		final boolean[] used
+	) {
+		final int n = child.length;
+		for (int i = begin; i < end; ++i) {
+			used[child[i]] = true;
+		}
+
+		int pos = end%n;
+		for (int k = 0; k < n; ++k) {
+			final int allele = donor[(end + k)%n];
+			if (!used[allele]) {
+				child[pos] = allele;
+				pos = (pos + 1)%n;
+			}
+		}
+
+		for (int i = begin; i < end; ++i) {
+			used[child[i]] = false;
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import io.jenetics.internal.math.random;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Helper methods for the parallel, deterministic alteration of a population.
+ * Every individual (index) of an altered population gets its own random
+ * engine, which only depends on the alteration seed, the generation and the
+ * index of the individual. The altered population doesn't depend on the
+ * number of threads.
+ *
+ * @see Alterer#alter(io.jenetics.util.Seq, long, java.util.concurrent.Executor)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class ParallelAlteration {
+	private ParallelAlteration() {}
+
+	/**
+	 * Return the alteration seed for the given {@code generation}. The base
+	 * seed is drawn once from the {@link RandomRegistry}.
+	 *
+	 * @param generation the generation of the altered population
+	 * @return the alteration seed of the given generation
+	 */
+	static long seed(final long generation) {
+		return random
+			.stream(RandomRegistry.getRandom().nextLong(), generation)
+			.nextLong();
+	}
+
+	/**
+	 * Return the random engine, which selects the altered individuals. It is
+	 * independent of the random engines of the individuals.
+	 *
+	 * @param seed the alteration seed, created with {@link #seed(long)}
+	 * @return a new, not thread-safe random engine
+	 */
+	static Random selection(final long seed) {
+		return random.stream(seed, -1);
+	}
+
+	/**
+	 * Return the random engine of the individual with the given {@code index}.
+	 *
+	 * @param seed the alteration seed, created with {@link #seed(long)}
+	 * @param index the index of the altered individual
+	 * @return a new, not thread-safe random engine
+	 */
+	static Random random(final long seed, final int index) {
+		return random.stream(seed, index);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import io.jenetics.internal.math.random;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Helper methods for the chunked, parallel selection of big populations. The
+ * chunk boundaries only depend on the selection count and every chunk uses
+ * its own random engine, derived from a single seed. The selected population
+ * doesn't depend on the number of threads.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class ParallelSelection {
+	private ParallelSelection() {}
+
+	/**
+	 * The number of selection draws performed by one chunk.
+	 */
+	static final int CHUNK_SIZE = 4096;
+
+	/**
+	 * Selections with at least this number of individuals are chunked.
+	 * Smaller selections are performed serially, with the random engine of the
+	 * {@link RandomRegistry}.
+	 */
+	static final int THRESHOLD = 4*CHUNK_SIZE;
+
+	/**
+	 * Return {@code true} if a selection of the given size is chunked.
+	 *
+	 * @param count the selection count
+	 * @return {@code true} if the selection is chunked
+	 */
+	static boolean isChunked(final int count) {
+		return count >= THRESHOLD;
+	}
+
+	/**
+	 * Fills the given {@code selection} sequence chunk-wise, with the given
+	 * {@code executor}.
+	 *
+	 * @param selection the sequence to fill
+	 * @param executor the executor used for the chunks
+	 * @param draw the function which draws one element with the given random
+	 *        engine of the chunk
+	 * @param <T> the element type
+	 * @return the filled {@code selection}
+	 */
+	static <T> MSeq<T> fill(
+		final MSeq<T> selection,
+		final Executor executor,
+		final Function<? super Random, ? extends T> draw
+	) {
+		final long seed = RandomRegistry.getRandom().nextLong();
+		final int size = selection.size();
+		final int chunks = (size + CHUNK_SIZE - 1)/CHUNK_SIZE;
+
+		Concurrency.execute(executor, chunks, chunk -> {
+			final Random rnd = random.stream(seed, chunk);
+			final int end = min(size, (chunk + 1)*CHUNK_SIZE);
+			for (int i = chunk*CHUNK_SIZE; i < end; ++i) {
+				selection.set(i, draw.apply(rnd));
+			}
+		});
+
+		return selection;
+	}
+
+}
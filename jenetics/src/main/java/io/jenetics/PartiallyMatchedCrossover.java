@@ -19,13 +19,9 @@
  */
 package io.jenetics;
 
-import static java.lang.String.format;
-
 import java.util.Random;
 
 import io.jenetics.internal.math.comb;
-import io.jenetics.util.MSeq;
-import io.jenetics.util.RandomRegistry;
 
 /**
  * The {@code PartiallyMatchedCrossover} (PMX) guarantees that all {@link Gene}s
@@ -36,9 +32,9 @@ import io.jenetics.util.RandomRegistry;
  * is the case in many combinatorial optimization problems. Other crossover
  * operators for combinatorial optimization are:
  * <ul>
- *     <li>order crossover</li>
- *     <li>cycle crossover</li>
- *     <li>edge recombination crossover</li>
+ *     <li>order crossover ({@link OrderCrossover})</li>
+ *     <li>cycle crossover ({@link CycleCrossover})</li>
+ *     <li>edge recombination crossover ({@link EdgeRecombinationCrossover})</li>
  *     <li>edge assembly crossover</li>
  * </ul>
  * <p>
@@ -67,15 +63,20 @@ import io.jenetics.util.RandomRegistry;
  * <em>The {@code PartiallyMatchedCrossover} class requires chromosomes with the
  * same length. An {@code IllegalArgumentException} is thrown at runtime if this
  * requirement is not fulfilled.</em>
+ * <p>
+ * The crossover is performed on the allele indexes of the
+ * {@link PermutationChromosome}s. Lookup tables for the positions of the
+ * alleles within the crossing region make the repair step linear in the
+ * chromosome length.
  *
  * @see PermutationChromosome
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
-	extends Crossover<EnumGene<T>, C>
+	extends PermutationCrossover<T, C>
 {
 
 	public PartiallyMatchedCrossover(final double probability) {
@@ -83,52 +84,61 @@ public final class PartiallyMatchedCrossover<T, C extends Comparable<? super C>>
 	}
 
 	@Override
-	protected int crossover(
-		final MSeq<EnumGene<T>> that,
-		final MSeq<EnumGene<T>> other
+	void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final Random random
 	) {
-		if (that.length() != other.length()) {
-			throw new IllegalArgumentException(format(
-				"Required chromosomes with same length: %s != %s",
-				that.length(), other.length()
-			));
-		}
+		final int[] points = comb.subset(that.length, 2, random);
+		final int begin = points[0];
+		final int end = points[1];
 
-		if (that.length() >= 2) {
-			final Random random = RandomRegistry.getRandom();
-			final int[] points = comb.subset(that.length(), 2, random);
-
-			that.swap(points[0], points[1], other, points[0]);
-			repair(that, other, points[0], points[1]);
-			repair(other, that, points[0], points[1]);
+		for (int i = begin; i < end; ++i) {
+			final int temp = that[i];
+			that[i] = other[i];
+			other[i] = temp;
 		}
 
-		return 1;
+		final int[] positions = new int[alleles];
+		repair(that, other, begin, end, positions);
+		repair(other, that, begin, end, positions);
 	}
 
-	private static <T> void repair(
-		final MSeq<T> that, final MSeq<T> other,
-		final int begin, final int end
+	// The positions array is used as lookup table for the positions of the
+	// alleles within the crossing region, where the position is stored as
+	// 'index + 1'.
+	private static void repair(
+		final int[] that, final int[] other,
+		final int begin, final int end,
+		final int[] positions
 	) {
+		for (int i = end; --i >= begin;) {
+			positions[that[i]] = i + 1;
+		}
+
 		for (int i = 0; i < begin; ++i) {
-			int index = that.indexOf(that.get(i), begin, end);
-			while (index != -1) {
-				that.set(i, other.get(index));
-				index = that.indexOf(that.get(i), begin, end);
-			}
+			repair(that, other, i, positions);
 		}
-		for (int i = end, n = that.length(); i < n; ++i) {
-			int index = that.indexOf(that.get(i), begin, end);
-			while (index != -1) {
-				that.set(i, other.get(index));
-				index = that.indexOf(that.get(i), begin, end);
-			}
+		for (int i = end; i < that.length; ++i) {
+			repair(that, other, i, positions);
+		}
+
+		for (int i = begin; i < end; ++i) {
+			positions[that[i]] = 0;
 		}
 	}
 
-	@Override
-	public String toString() {
-		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
+	private static void repair(
+		final int[] that, final int[] other,
+		final int i,
+		final int[] positions
+	) {
+		int index = positions[that[i]];
+		while (index != 0) {
+			that[i] = other[index - 1];
+			index = positions[that[i]];
+		}
 	}
 
 }
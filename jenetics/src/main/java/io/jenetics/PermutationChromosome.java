@@ -23,11 +23,11 @@ import static java.lang.String.format;
 import static io.jenetics.internal.util.bit.getAndSet;
 
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import io.jenetics.internal.math.comb;
 import io.jenetics.internal.util.array;
@@ -36,7 +36,6 @@ import io.jenetics.internal.util.reflect;
 import io.jenetics.internal.util.require;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
-import io.jenetics.util.MSeq;
 
 /**
  * This chromosome can be used to model permutations of a given (sub) set of
@@ -93,14 +92,19 @@ import io.jenetics.util.MSeq;
  *
  * @see EnumGene
  * @see PartiallyMatchedCrossover
+ * @see OrderCrossover
+ * @see CycleCrossover
+ * @see EdgeRecombinationCrossover
  * @see SwapMutator
  *
  * @implNote
- * This class is immutable and thread-safe.
+ * This class is immutable and thread-safe. The allele indexes of the genes
+ * are stored in an {@code int[]} array and the {@link EnumGene}s are created
+ * on demand.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class PermutationChromosome<T>
 	extends AbstractChromosome<EnumGene<T>>
@@ -115,13 +119,20 @@ public final class PermutationChromosome<T>
 		final ISeq<EnumGene<T>> genes,
 		final Boolean valid
 	) {
-		super(genes);
+		super(packed(genes));
 
 		assert !genes.isEmpty();
 		_validAlleles = genes.get(0).getValidAlleles();
 		_valid = valid;
 	}
 
+	// Stores the allele indexes in an int[] array, if all genes share the
+	// same valid alleles.
+	private static <T> ISeq<EnumGene<T>> packed(final ISeq<EnumGene<T>> genes) {
+		final EnumGeneISeq<T> packed = EnumGeneISeq.of(genes);
+		return packed != null ? packed : genes;
+	}
+
 	/**
 	 * Create a new {@code PermutationChromosome} from the given {@code genes}.
 	 * If the given {@code genes} sequence contains duplicate entries, the
@@ -154,7 +165,15 @@ public final class PermutationChromosome<T>
 	public boolean isValid() {
 		if (_valid == null) {
 			final byte[] check = bit.newArray(_validAlleles.length());
-			_valid = _genes.forAll(g -> !getAndSet(check, g.getAlleleIndex()));
+			if (_genes instanceof EnumGeneISeq) {
+				boolean valid = true;
+				for (int index : ((EnumGeneISeq<T>)_genes).indexes()) {
+					valid = valid && !getAndSet(check, index);
+				}
+				_valid = valid;
+			} else {
+				_valid = _genes.forAll(g -> !getAndSet(check, g.getAlleleIndex()));
+			}
 		}
 
 		return _valid;
@@ -219,11 +238,7 @@ public final class PermutationChromosome<T>
 		}
 
 		final int[] subset = array.shuffle(comb.subset(alleles.size(), length));
-		final ISeq<EnumGene<T>> genes = IntStream.of(subset)
-			.mapToObj(i -> EnumGene.<T>of(i, alleles))
-			.collect(ISeq.toISeq());
-
-		return new PermutationChromosome<>(genes, true);
+		return new PermutationChromosome<>(EnumGeneISeq.of(subset, alleles), true);
 	}
 
 	/**
@@ -339,12 +354,17 @@ public final class PermutationChromosome<T>
 
 		_validAlleles = (ISeq<T>)in.readObject();
 
-		final MSeq<EnumGene<T>> genes = MSeq.ofLength(_validAlleles.length());
-		for (int i = 0; i < _validAlleles.length(); ++i) {
-			genes.set(i, new EnumGene<>(in.readInt(), _validAlleles));
+		final int[] indexes = new int[_validAlleles.length()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = in.readInt();
+			if (indexes[i] < 0 || indexes[i] >= _validAlleles.length()) {
+				throw new InvalidObjectException(format(
+					"Invalid allele index: %d", indexes[i]
+				));
+			}
 		}
 
-		reflect.setField(this, "_genes", genes.toISeq());
+		reflect.setField(this, "_genes", EnumGeneISeq.of(indexes, _validAlleles));
 	}
 
 }
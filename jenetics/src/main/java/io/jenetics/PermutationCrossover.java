@@ -0,0 +1,170 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+
+import java.util.Random;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Base class for the crossover operators of {@link PermutationChromosome}s.
+ * The crossover is performed on the {@code int[]} allele index arrays of the
+ * two chromosomes. If the gene sequences are not backed by an index array,
+ * the indexes are copied.
+ *
+ * @param <T> the allele type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 4.3
+ * @version 4.3
+ */
+abstract class PermutationCrossover<T, C extends Comparable<? super C>>
+	extends Crossover<EnumGene<T>, C>
+{
+
+	PermutationCrossover(final double probability) {
+		super(probability);
+	}
+
+	@Override
+	protected final boolean isThreadSafe() {
+		return true;
+	}
+
+	@Override
+	protected final int crossover(
+		final MSeq<EnumGene<T>> that,
+		final MSeq<EnumGene<T>> other
+	) {
+		if (that.length() != other.length()) {
+			throw new IllegalArgumentException(format(
+				"Required chromosomes with same length: %s != %s",
+				that.length(), other.length()
+			));
+		}
+
+		if (that.length() >= 2) {
+			final ISeq<T> alleles = that.get(0).getValidAlleles();
+			if (!alleles.equals(other.get(0).getValidAlleles())) {
+				throw new IllegalArgumentException(
+					"Required chromosomes with the same valid alleles."
+				);
+			}
+
+			final int[] thatIndexes = indexes(that);
+			final int[] otherIndexes = indexes(other);
+
+			crossover(
+				thatIndexes,
+				otherIndexes,
+				alleles.length(),
+				RandomRegistry.getRandom()
+			);
+
+			update(that, thatIndexes, alleles);
+			update(other, otherIndexes, alleles);
+		}
+
+		return 1;
+	}
+
+	/**
+	 * Performs the crossover of the two given allele index arrays. The arrays
+	 * have the same length of at least two and contain values within the
+	 * range {@code [0, alleles)}.
+	 *
+	 * @param that the first allele index array
+	 * @param other the second allele index array
+	 * @param alleles the number of valid alleles
+	 * @param random the random engine used for the crossover
+	 */
+	abstract void crossover(
+		final int[] that,
+		final int[] other,
+		final int alleles,
+		final Random random
+	);
+
+	@Override
+	public String toString() {
+		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
+	}
+
+	// Return the (modifiable) allele index array of the given genes.
+	private static <T> int[] indexes(final MSeq<EnumGene<T>> genes) {
+		if (EnumGeneMSeq.isPacked(genes)) {
+			return ((EnumGeneMSeq<T>)genes).indexes();
+		}
+
+		final int[] indexes = new int[genes.length()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = genes.get(i).getAlleleIndex();
+		}
+		return indexes;
+	}
+
+	// Writes the changed indexes back, if the genes are not backed by the
+	// given index array.
+	private static <T> void update(
+		final MSeq<EnumGene<T>> genes,
+		final int[] indexes,
+		final ISeq<T> alleles
+	) {
+		if (!EnumGeneMSeq.isPacked(genes)) {
+			for (int i = 0; i < indexes.length; ++i) {
+				if (genes.get(i).getAlleleIndex() != indexes[i]) {
+					genes.set(i, new EnumGene<>(indexes[i], alleles));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the given arrays are permutations of the same alleles.
+	 *
+	 * @throws IllegalArgumentException if the given arrays are not
+	 *         permutations of the same alleles
+	 */
+	static void checkPermutations(
+		final int[] that,
+		final int[] other,
+		final int alleles
+	) {
+		final int[] counts = new int[alleles];
+		for (int i = 0; i < that.length; ++i) {
+			++counts[that[i]];
+			--counts[other[i]];
+		}
+		for (int count : counts) {
+			if (count != 0) {
+				throw new IllegalArgumentException(
+					"Required chromosomes which are permutations of the " +
+					"same alleles."
+				);
+			}
+		}
+	}
+
+}
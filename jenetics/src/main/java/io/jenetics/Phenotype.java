@@ -29,6 +29,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.jenetics.internal.util.Lazy;
 import io.jenetics.internal.util.reflect;
@@ -58,7 +59,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.2
+ * @version 4.3
  */
 public final class Phenotype<
 	G extends Gene<?, G>,
@@ -89,6 +90,8 @@ public final class Phenotype<
 	 * @param function the fitness function of this phenotype.
 	 * @param scaler the fitness scaler.
 	 * @param rawFitness the known raw-fitness of the phenotype, maybe {@code null}
+	 * @param parent the evaluated parent and the changed gene positions, for
+	 *        the incremental fitness calculation, maybe {@code null}
 	 * @throws NullPointerException if one of the arguments is {@code null}.
 	 * @throws IllegalArgumentException if the given {@code generation} is
 	 *         {@code < 0}.
@@ -98,7 +101,8 @@ public final class Phenotype<
 		final long generation,
 		final Function<? super Genotype<G>, ? extends C> function,
 		final Function<? super C, ? extends C> scaler,
-		final C rawFitness
+		final C rawFitness,
+		final Parent<G, C> parent
 	) {
 		_genotype = requireNonNull(genotype, "Genotype");
 		_function = requireNonNull(function, "Fitness function");
@@ -114,11 +118,23 @@ public final class Phenotype<
 			_rawFitness = Lazy.ofValue(rawFitness);
 			_fitness = Lazy.ofValue(scaler.apply(rawFitness));
 		} else {
-			_rawFitness = Lazy.of(() -> _function.apply(_genotype));
+			_rawFitness = Lazy.of(
+				parent != null
+					? parent
+					: () -> _function.apply(_genotype)
+			);
 			_fitness = Lazy.of(() -> _scaler.apply(_rawFitness.get()));
 		}
 	}
 
+	/**
+	 * Return {@code true} if the fitness function of this phenotype is an
+	 * {@link IncrementalFitness} function.
+	 */
+	boolean isIncremental() {
+		return _function instanceof IncrementalFitness;
+	}
+
 	/**
 	 * This method returns a copy of the {@code Genotype}, to guarantee a
 	 * immutable class.
@@ -325,6 +341,67 @@ public final class Phenotype<
 		return of(genotype, generation, _function, _scaler);
 	}
 
+	/**
+	 * Factory method for creating a new {@link Phenotype} with the same
+	 * fitness {@link Function} as this {@link Phenotype}, which differs from
+	 * {@code this} phenotype only at the given gene positions. If the fitness
+	 * function is an {@link IncrementalFitness} function, the fitness of the
+	 * new phenotype is calculated incrementally from the fitness of
+	 * {@code this} phenotype. If {@code this} phenotype hasn't been evaluated
+	 * yet, but has been created by this method itself, the change sets are
+	 * merged and the fitness is calculated from the evaluated ancestor.
+	 * <p>
+	 * The new phenotype references the evaluated ancestor until its own
+	 * fitness has been calculated. The reference is released afterwards.
+	 *
+	 * @since 4.3
+	 *
+	 * @see IncrementalFitness
+	 *
+	 * @param genotype the new genotype of the new phenotype.
+	 * @param generation date of birth (generation) of the new phenotype.
+	 * @param changes the gene positions of the new genotype, which differ
+	 *        from the genotype of {@code this} phenotype
+	 * @return New {@link Phenotype} with the same fitness {@link Function}.
+	 * @throws NullPointerException if one of the arguments is {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public Phenotype<G, C> newInstance(
+		final Genotype<G> genotype,
+		final long generation,
+		final ChangeSet changes
+	) {
+		requireNonNull(changes);
+
+		Parent<G, C> parent = null;
+		if (_function instanceof IncrementalFitness) {
+			if (isEvaluated()) {
+				parent = new Parent<>(genotype, this, changes);
+			} else {
+				// The supplier is null, if this phenotype has been evaluated
+				// in the meantime.
+				final Supplier<C> supplier = _rawFitness.supplier();
+				if (supplier instanceof Parent) {
+					final Parent<G, C> ancestor = (Parent<G, C>)supplier;
+					parent = new Parent<>(
+						genotype,
+						ancestor.phenotype,
+						ancestor.changes.and(changes)
+					);
+				}
+			}
+		}
+
+		return new Phenotype<>(
+			requireNonNull(genotype, "Genotype"),
+			generation,
+			_function,
+			_scaler,
+			null,
+			parent
+		);
+	}
+
 	/**
 	 * Return a new phenotype with the the genotype of this and with new
 	 * fitness function, fitness scaler and generation.
@@ -425,6 +502,7 @@ public final class Phenotype<
 			generation,
 			function,
 			scaler,
+			null,
 			null
 		);
 	}
@@ -460,11 +538,50 @@ public final class Phenotype<
 			generation,
 			function,
 			scaler,
-			requireNonNull(rawFitness)
+			requireNonNull(rawFitness),
+			null
 		);
 	}
 
 
+	/**
+	 * The evaluated parent and the changed gene positions of a phenotype.
+	 * Calculates the raw fitness of the phenotype incrementally.
+	 */
+	private static final class Parent<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Supplier<C>
+	{
+		private final Genotype<G> genotype;
+		private final Phenotype<G, C> phenotype;
+		private final ChangeSet changes;
+
+		private Parent(
+			final Genotype<G> genotype,
+			final Phenotype<G, C> phenotype,
+			final ChangeSet changes
+		) {
+			this.genotype = genotype;
+			this.phenotype = phenotype;
+			this.changes = changes;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public C get() {
+			final Object function = phenotype._function;
+			return ((IncrementalFitness<G, C>)function).apply(
+				genotype,
+				phenotype,
+				phenotype.getRawFitness(),
+				changes
+			);
+		}
+	}
+
+
 	/* *************************************************************************
 	 *  Java object serialization
 	 * ************************************************************************/
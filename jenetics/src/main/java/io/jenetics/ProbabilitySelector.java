@@ -28,9 +28,12 @@ import static io.jenetics.internal.util.IndexSorter.sort;
 
 import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import io.jenetics.internal.collection.PopulationSnapshot;
 import io.jenetics.internal.math.DoubleAdder;
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.internal.util.array;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
@@ -48,11 +51,13 @@ import io.jenetics.util.Seq;
  * runtime complexity of the implemented probability selectors is
  * <i>O(n+</i>log<i>(n))</i> instead of <i>O(n<sup>2</sup>)</i> as for the naive
  * approach: <i>A binary (index) search is performed on the summed probability
- * array.</i>
+ * array.</i> With the {@link Sampling#ALIAS} sampling strategy, an alias table
+ * is created once per selection, in <i>O(n)</i>, and every single draw is done
+ * in constant time.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -67,23 +72,71 @@ public abstract class ProbabilitySelector<
 	protected final Comparator<Phenotype<G, C>> POPULATION_COMPARATOR = (a, b) ->
 		Optimize.MAXIMUM.<C>descending().compare(a.getFitness(), b.getFitness());
 
+	/**
+	 * The strategy used for drawing the individuals from the selection
+	 * probabilities.
+	 *
+	 * @since 4.3
+	 */
+	public enum Sampling {
+
+		/**
+		 * Searches the drawn random value in the summed probability array.
+		 * Every draw has a runtime complexity of <i>O(</i>log<i>(n))</i>.
+		 */
+		INDEX_SEARCH,
+
+		/**
+		 * Uses an alias table, created with Vose's method, for drawing the
+		 * individuals. Every draw has a constant runtime complexity.
+		 *
+		 * @see <a href="https://en.wikipedia.org/wiki/Alias_method">
+		 *      Wikipedia: Alias method</a>
+		 */
+		ALIAS
+
+	}
+
 	protected final boolean _sorted;
 	protected final Function<double[], double[]> _reverter;
+	protected final Sampling _sampling;
 
 
 	/**
 	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
-	 * flag. <em>This flag must set to {@code true} if the selector
-	 * implementation is sorting the population in the
-	 * {@link #probabilities(Seq, int)} method.</em>
+	 * flag and {@code sampling} strategy. <em>This flag must set to
+	 * {@code true} if the selector implementation is sorting the population
+	 * in the {@link #probabilities(Seq, int)} method.</em>
+	 *
+	 * @since 4.3
 	 *
 	 * @param sorted {@code true} if the implementation is sorting the
 	 *        population when calculating the selection probabilities,
 	 *        {@code false} otherwise.
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the {@code sampling} is {@code null}
 	 */
-	protected ProbabilitySelector(final boolean sorted) {
+	protected ProbabilitySelector(
+		final boolean sorted,
+		final Sampling sampling
+	) {
 		_sorted = sorted;
 		_reverter = sorted ? array::revert : ProbabilitySelector::sortAndRevert;
+		_sampling = requireNonNull(sampling);
+	}
+
+	/**
+	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
+	 * flag and {@link Sampling#INDEX_SEARCH} sampling. <em>This flag must set
+	 * to {@code true} if the selector implementation is sorting the population
+	 * in the {@link #probabilities(Seq, int)} method.</em>
+	 *
+	 * @param sorted {@code true} if the implementation is sorting the
+	 *        population when calculating the selection probabilities,
+	 *        {@code false} otherwise.
+	 */
+	protected ProbabilitySelector(final boolean sorted) {
+		this(sorted, Sampling.INDEX_SEARCH);
 	}
 
 	/**
@@ -98,6 +151,53 @@ public abstract class ProbabilitySelector<
 		final Seq<Phenotype<G, C>> population,
 		final int count,
 		final Optimize opt
+	) {
+		return chunkedSelect(population, count, opt, Concurrency.SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Selects the phenotypes from the selection probabilities. If the selector
+	 * {@link #isChunked()}, big selections are split into chunks, which are
+	 * executed by the given {@code executor}. Otherwise, the {@code executor}
+	 * is ignored and the {@link #select(Seq, int, Optimize)} method is called.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return isChunked()
+			? chunkedSelect(population, count, opt, executor)
+			: select(population, count, opt);
+	}
+
+	/**
+	 * Return {@code true} if the {@link #select(Seq, int, Optimize, Executor)}
+	 * method splits big selections into chunks, instead of calling the
+	 * {@link #select(Seq, int, Optimize)} method. The default implementation
+	 * returns {@code false}. Subclasses which don't override the
+	 * {@code select(Seq, int, Optimize)} method can override this method, for
+	 * enabling the parallel selection.
+	 *
+	 * @since 4.3
+	 *
+	 * @return {@code true} if big selections are split into chunks,
+	 *         {@code false} otherwise
+	 */
+	protected boolean isChunked() {
+		return false;
+	}
+
+	private ISeq<Phenotype<G, C>> chunkedSelect(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -112,10 +212,11 @@ public abstract class ProbabilitySelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
+			final PopulationSnapshot<G, C> snapshot =
+				PopulationSnapshot.of(population);
 			final Seq<Phenotype<G, C>> pop = _sorted
-				? population.asISeq().copy().sort(POPULATION_COMPARATOR)
-				: population;
-
+				? snapshot.sorted(Optimize.MAXIMUM)
+				: snapshot;
 
 			final double[] prob = probabilities(pop, count, opt);
 			assert pop.size() == prob.length
@@ -124,10 +225,21 @@ public abstract class ProbabilitySelector<
 			checkAndCorrect(prob);
 			assert sum2one(prob) : "Probabilities doesn't sum to one.";
 
-			incremental(prob);
+			final Function<Random, Phenotype<G, C>> draw;
+			if (_sampling == Sampling.ALIAS) {
+				final int[] alias = alias(prob);
+				draw = r -> pop.get(indexOf(prob, alias, r.nextDouble()));
+			} else {
+				incremental(prob);
+				draw = r -> pop.get(indexOf(prob, r.nextDouble()));
+			}
 
-			final Random random = RandomRegistry.getRandom();
-			selection.fill(() -> pop.get(indexOf(prob, random.nextDouble())));
+			if (ParallelSelection.isChunked(count)) {
+				ParallelSelection.fill(selection, executor, draw);
+			} else {
+				final Random random = RandomRegistry.getRandom();
+				selection.fill(() -> draw.apply(random));
+			}
 		}
 
 		return selection.toISeq();
@@ -227,6 +339,29 @@ public abstract class ProbabilitySelector<
 		return abs(ulpDistance(sum, 1.0)) < MAX_ULP_DISTANCE;
 	}
 
+	/**
+	 * Return a new array with the {@code double} values of the population
+	 * fitness. The values of a {@link PopulationSnapshot} are copied directly.
+	 */
+	static <G extends Gene<?, G>, N extends Number & Comparable<? super N>>
+	double[] fitness(final Seq<Phenotype<G, N>> population) {
+		final double[] values = population instanceof PopulationSnapshot
+			? ((PopulationSnapshot<G, N>)population).values()
+			: null;
+
+		final double[] fitness;
+		if (values != null) {
+			fitness = values.clone();
+		} else {
+			fitness = new double[population.size()];
+			for (int i = population.size(); --i >= 0;) {
+				fitness[i] = population.get(i).getFitness().doubleValue();
+			}
+		}
+
+		return fitness;
+	}
+
 	static boolean eq(final double a, final double b) {
 		return abs(ulpDistance(a, b)) < MAX_ULP_DISTANCE;
 	}
@@ -274,6 +409,74 @@ public abstract class ProbabilitySelector<
 		return index;
 	}
 
+	/**
+	 * Creates the alias table for the given probabilities, with Vose's method.
+	 * The given probability array is replaced, in-place, with the probabilities
+	 * of not taking the alias of the corresponding index.
+	 *
+	 * @param prob the probabilities, which are replaced by the probability
+	 *        table of the alias method
+	 * @return the alias table
+	 */
+	static int[] alias(final double[] prob) {
+		final int n = prob.length;
+		final int[] alias = new int[n];
+
+		// Work list with the small indexes at the front and the large indexes
+		// at the end.
+		final int[] work = new int[n];
+		int small = 0;
+		int large = n;
+		for (int i = 0; i < n; ++i) {
+			prob[i] *= n;
+			alias[i] = i;
+			if (prob[i] < 1.0) {
+				work[small++] = i;
+			} else {
+				work[--large] = i;
+			}
+		}
+
+		while (small > 0 && large < n) {
+			final int s = work[--small];
+			final int l = work[large++];
+
+			alias[s] = l;
+			prob[l] = (prob[l] + prob[s]) - 1.0;
+			if (prob[l] < 1.0) {
+				work[small++] = l;
+			} else {
+				work[--large] = l;
+			}
+		}
+
+		// The remaining probabilities are one, except for rounding errors.
+		while (large < n) {
+			prob[work[large++]] = 1.0;
+		}
+		while (small > 0) {
+			prob[work[--small]] = 1.0;
+		}
+
+		return alias;
+	}
+
+	/**
+	 * Return the index drawn with the given alias table. The single random
+	 * value, {@code v}, selects the table column and is also used for deciding
+	 * whether the alias is taken.
+	 *
+	 * @param prob the probability table of the alias method
+	 * @param alias the alias table
+	 * @param v the random value, within the range {@code [0, 1)}
+	 * @return the drawn index
+	 */
+	static int indexOf(final double[] prob, final int[] alias, final double v) {
+		final double u = v*prob.length;
+		final int index = Math.min((int)u, prob.length - 1);
+		return u - index < prob[index] ? index : alias[index];
+	}
+
 	/**
 	 * In-place summation of the probability array.
 	 */
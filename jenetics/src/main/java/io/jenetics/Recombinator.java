@@ -20,12 +20,16 @@
 package io.jenetics;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.math.comb.subset;
 import static io.jenetics.internal.math.random.indexes;
 
 import java.util.Random;
+import java.util.concurrent.Executor;
 import java.util.function.IntFunction;
 
+import io.jenetics.internal.collection.BufferMSeq;
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
@@ -52,7 +56,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public abstract class Recombinator<
 	G extends Gene<?, G>,
@@ -110,7 +114,10 @@ public abstract class Recombinator<
 				return ind;
 			};
 
-			final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+			// Engine owned population buffers are recombined in place.
+			final MSeq<Phenotype<G, C>> pop = population instanceof BufferMSeq
+				? (MSeq<Phenotype<G, C>>)population
+				: MSeq.of(population);
 			final int count = indexes(random, population.size(), _probability)
 				.mapToObj(individuals)
 				.mapToInt(i -> recombine(pop, i, generation))
@@ -124,9 +131,160 @@ public abstract class Recombinator<
 		return result;
 	}
 
+	/**
+	 * Return {@code true} if the {@link #recombine(MSeq, int[], long)} method
+	 * of this recombinator can be called concurrently, for recombinations
+	 * which don't share any individual. The default implementation returns
+	 * {@code false}. Subclasses with a thread-safe {@code recombine} method
+	 * can override this method, for enabling the parallel recombination in
+	 * the {@link #alter(Seq, long, Executor)} method.
+	 *
+	 * @since 4.3
+	 *
+	 * @return {@code true} if the {@code recombine} method can be called
+	 *         concurrently, {@code false} otherwise
+	 */
+	protected boolean isThreadSafe() {
+		return false;
+	}
+
+	/**
+	 * Deterministic implementation of the alter method. The <i>primary</i>
+	 * individuals are selected once, with a random engine keyed by the
+	 * {@code generation}. The recombination partners of a primary individual
+	 * are chosen with its own random engine, keyed by the {@code generation}
+	 * and its index. This random engine is also the {@link RandomRegistry}
+	 * engine of the executing thread while the {@link #recombine} method is
+	 * called. Recombinations which share individuals are performed one after
+	 * another, in the order of their primary individuals. The altered
+	 * population is therefore the same for every {@code executor}.
+	 * <p>
+	 * The recombinations are only performed in parallel if this recombinator
+	 * is {@link #isThreadSafe()}. Otherwise, the {@code recombine} method is
+	 * called by the calling thread only.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public final AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+
+		final AltererResult<G, C> result;
+		if (population.size() >= 2) {
+			final int size = population.size();
+			final int order = Math.min(_order, size);
+			final long seed = ParallelAlteration.seed(generation);
+
+			// Selection of the individuals for recombination.
+			final int[] primaries = indexes(
+				ParallelAlteration.selection(seed), size, _probability
+			).toArray();
+
+			final int recombinations = primaries.length;
+			final int[][] individuals = new int[recombinations][];
+			final Random[] randoms = new Random[recombinations];
+			for (int r = 0; r < recombinations; ++r) {
+				final Random random = ParallelAlteration.random(seed, primaries[r]);
+				final int[] ind = subset(size, order, random);
+				ind[0] = primaries[r];
+
+				individuals[r] = ind;
+				randoms[r] = random;
+			}
+
+			// Engine owned population buffers are recombined in place.
+			final MSeq<Phenotype<G, C>> pop = population instanceof BufferMSeq
+				? (MSeq<Phenotype<G, C>>)population
+				: MSeq.of(population);
+
+			final int[] alterations = new int[recombinations];
+			if (isThreadSafe()) {
+				final int[][] waves = waves(individuals, recombinations, size);
+				for (int[] wave : waves) {
+					Concurrency.execute(executor, wave.length, w -> {
+						final int r = wave[w];
+						alterations[r] = RandomRegistry.with(randoms[r], rnd ->
+							recombine(pop, individuals[r], generation));
+					});
+				}
+			} else {
+				for (int r = 0; r < recombinations; ++r) {
+					final int[] ind = individuals[r];
+					alterations[r] = RandomRegistry.with(randoms[r], rnd ->
+						recombine(pop, ind, generation));
+				}
+			}
+
+			int count = 0;
+			for (int alteration : alterations) {
+				count += alteration;
+			}
+
+			result = AltererResult.of(pop.toISeq(), count);
+		} else {
+			result = AltererResult.of(population.asISeq());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Groups the given recombinations into <i>waves</i>. The recombinations
+	 * of one wave don't share any individual and can be performed
+	 * concurrently. A recombination is always part of a later wave than the
+	 * preceding recombinations it shares an individual with.
+	 *
+	 * @param individuals the individuals of the recombinations
+	 * @param recombinations the number of recombinations
+	 * @param size the population size
+	 * @return the recombination indexes of the waves
+	 */
+	private static int[][] waves(
+		final int[][] individuals,
+		final int recombinations,
+		final int size
+	) {
+		final int[] last = new int[size];
+		final int[] wave = new int[recombinations];
+		int waves = 0;
+		for (int r = 0; r < recombinations; ++r) {
+			int w = 0;
+			for (int i : individuals[r]) {
+				w = Math.max(w, last[i]);
+			}
+			for (int i : individuals[r]) {
+				last[i] = w + 1;
+			}
+			wave[r] = w;
+			waves = Math.max(waves, w + 1);
+		}
+
+		final int[] lengths = new int[waves];
+		for (int w : wave) {
+			++lengths[w];
+		}
+		final int[][] result = new int[waves][];
+		for (int w = 0; w < waves; ++w) {
+			result[w] = new int[lengths[w]];
+			lengths[w] = 0;
+		}
+		for (int r = 0; r < recombinations; ++r) {
+			result[wave[r]][lengths[wave[r]]++] = r;
+		}
+
+		return result;
+	}
+
 	/**
 	 * Recombination template method. This method is called 0 to n times. It is
-	 * guaranteed that this method is only called by one thread.
+	 * guaranteed that this method is only called by one thread, unless the
+	 * recombinator is {@link #isThreadSafe()}. The parallel alteration calls
+	 * the {@code recombine} method of thread-safe recombinators concurrently,
+	 * but only for recombinations which don't share any individual.
 	 *
 	 * @param population the population to recombine
 	 * @param individuals the array with the indexes of the individuals which
@@ -39,7 +39,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class RouletteWheelSelector<
 	G extends Gene<?, G>,
@@ -52,10 +52,28 @@ public class RouletteWheelSelector<
 		this(false);
 	}
 
+	/**
+	 * Create a new roulette-wheel selector with the given sampling strategy.
+	 *
+	 * @since 4.3
+	 *
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the {@code sampling} is {@code null}
+	 */
+	public RouletteWheelSelector(final Sampling sampling) {
+		super(false, sampling);
+	}
+
 	protected RouletteWheelSelector(final boolean sorted) {
 		super(sorted);
 	}
 
+	// Subclasses must opt in for the parallel selection themselves.
+	@Override
+	protected boolean isChunked() {
+		return getClass() == RouletteWheelSelector.class;
+	}
+
 	@Override
 	protected double[] probabilities(
 		final Seq<Phenotype<G, N>> population,
@@ -66,10 +84,7 @@ public class RouletteWheelSelector<
 		assert count > 0 : "Population to select must be greater than zero. ";
 
 		// Copy the fitness values to probabilities arrays.
-		final double[] fitness = new double[population.size()];
-		for (int i = population.size(); --i >= 0;) {
-			fitness[i] = population.get(i).getFitness().doubleValue();
-		}
+		final double[] fitness = fitness(population);
 
 		final double worst = Math.min(min(fitness), 0.0);
 		final double sum = DoubleAdder.sum(fitness) - worst*population.size();
@@ -87,12 +102,15 @@ public class RouletteWheelSelector<
 
 	@Override
 	public int hashCode() {
-		return hash(getClass());
+		return hash(getClass(), hash(_sampling));
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
-		return obj == this || obj != null && getClass() == obj.getClass();
+		return obj == this ||
+			obj != null &&
+			getClass() == obj.getClass() &&
+			((RouletteWheelSelector)obj)._sampling == _sampling;
 	}
 
 	@Override
@@ -19,7 +19,12 @@
  */
 package io.jenetics;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+
 import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
 /**
@@ -40,7 +45,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 @FunctionalInterface
 public interface Selector<
@@ -67,4 +72,35 @@ public interface Selector<
 		final Optimize opt
 	);
 
+	/**
+	 * Select phenotypes from the Population. Selectors which support parallel
+	 * selection split the work into chunks, which are executed by the given
+	 * {@code executor}. Every chunk uses its own random engine, which is
+	 * derived from one seed drawn from the {@link RandomRegistry}. The
+	 * selected population is therefore independent of the used executor and
+	 * the number of threads. The default implementation ignores the
+	 * {@code executor} and calls {@link #select(Seq, int, Optimize)}.
+	 *
+	 * @since 4.3
+	 *
+	 * @param population The population to select from.
+	 * @param count The number of phenotypes to select.
+	 * @param opt Determines whether the individuals with higher fitness values
+	 *        or lower fitness values must be selected. This parameter determines
+	 *        whether the GA maximizes or minimizes the fitness function.
+	 * @param executor the executor used for parallelizing the selection
+	 * @return The selected phenotypes (a new Population).
+	 * @throws NullPointerException if the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the select count is smaller than zero.
+	 */
+	public default ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return select(population, count, opt);
+	}
+
 }
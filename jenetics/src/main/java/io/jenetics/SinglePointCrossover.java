@@ -49,7 +49,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class SinglePointCrossover<
 	G extends Gene<?, G>,
@@ -77,6 +77,12 @@ public class SinglePointCrossover<
 		this(0.05);
 	}
 
+	// Subclasses must opt in for the parallel recombination themselves.
+	@Override
+	protected boolean isThreadSafe() {
+		return getClass() == SinglePointCrossover.class;
+	}
+
 	@Override
 	protected int crossover(final MSeq<G> that, final MSeq<G> other) {
 		final Random random = RandomRegistry.getRandom();
@@ -21,6 +21,9 @@ package io.jenetics;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+
+import io.jenetics.internal.collection.PopulationSnapshot;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
@@ -46,7 +49,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class StochasticUniversalSelector<
 	G extends Gene<?, G>,
@@ -83,9 +86,10 @@ public class StochasticUniversalSelector<
 
 		final MSeq<Phenotype<G, N>> selection = MSeq.ofLength(count);
 
+		final PopulationSnapshot<G, N> snapshot = PopulationSnapshot.of(population);
 		final Seq<Phenotype<G, N>> pop = _sorted
-			? population.asISeq().copy().sort(POPULATION_COMPARATOR)
-			: population;
+			? snapshot.sorted(Optimize.MAXIMUM)
+			: snapshot;
 
 		final double[] probabilities = probabilities(pop, count, opt);
 		assert  pop.size() == probabilities.length;
@@ -112,6 +116,23 @@ public class StochasticUniversalSelector<
 		return selection.toISeq();
 	}
 
+	/**
+	 * The stochastic universal selection uses a single random value and is
+	 * always performed serially.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public ISeq<Phenotype<G, N>> select(
+		final Seq<Phenotype<G, N>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return select(population, count, opt);
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
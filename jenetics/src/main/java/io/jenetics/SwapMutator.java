@@ -23,6 +23,7 @@ import static java.lang.String.format;
 import static io.jenetics.internal.math.random.indexes;
 
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import io.jenetics.util.MSeq;
 
@@ -35,7 +36,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class SwapMutator<
 	G extends Gene<?, G>,
@@ -76,12 +77,18 @@ public class SwapMutator<
 		final MutatorResult<Chromosome<G>> result;
 		if (chromosome.length() > 1) {
 			final MSeq<G> genes = chromosome.toSeq().copy();
-			final int mutations = (int)indexes(random, genes.length(), p)
-				.peek(i -> genes.swap(i, random.nextInt(genes.length())))
-				.count();
+			final int[] swapped = indexes(random, genes.length(), p)
+				.flatMap(i -> {
+					final int j = random.nextInt(genes.length());
+					genes.swap(i, j);
+					return IntStream.of(i, j);
+				})
+				.toArray();
+
 			result = MutatorResult.of(
 				chromosome.newInstance(genes.toISeq()),
-				mutations
+				swapped.length/2,
+				ChangeSet.of(0, swapped)
 			);
 		} else {
 			result = MutatorResult.of(chromosome);
@@ -24,8 +24,10 @@ import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Hashes.hash;
 
 import java.util.Random;
-import java.util.stream.Stream;
+import java.util.concurrent.Executor;
 
+import io.jenetics.internal.collection.PopulationSnapshot;
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
@@ -45,7 +47,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -84,6 +86,54 @@ public class TournamentSelector<
 		final Seq<Phenotype<G, C>> population,
 		final int count,
 		final Optimize opt
+	) {
+		return chunkedSelect(population, count, opt, Concurrency.SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Selects the phenotypes with tournaments. If the selector
+	 * {@link #isChunked()}, big selections are split into chunks, which are
+	 * executed by the given {@code executor}. Otherwise, the {@code executor}
+	 * is ignored and the {@link #select(Seq, int, Optimize)} method is called.
+	 *
+	 * @since 4.3
+	 */
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return isChunked()
+			? chunkedSelect(population, count, opt, executor)
+			: select(population, count, opt);
+	}
+
+	/**
+	 * Return {@code true} if the {@link #select(Seq, int, Optimize, Executor)}
+	 * method splits big selections into chunks, instead of calling the
+	 * {@link #select(Seq, int, Optimize)} method. The default implementation
+	 * only returns {@code true} for the {@code TournamentSelector} class
+	 * itself. Subclasses which don't override the
+	 * {@code select(Seq, int, Optimize)} method can override this method, for
+	 * enabling the parallel selection.
+	 *
+	 * @since 4.3
+	 *
+	 * @return {@code true} if big selections are split into chunks,
+	 *         {@code false} otherwise
+	 */
+	protected boolean isChunked() {
+		return getClass() == TournamentSelector.class;
+	}
+
+	private ISeq<Phenotype<G, C>> chunkedSelect(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -94,25 +144,40 @@ public class TournamentSelector<
 			));
 		}
 
-		final Random random = RandomRegistry.getRandom();
-		return population.isEmpty()
-			? ISeq.empty()
-			: MSeq.<Phenotype<G, C>>ofLength(count)
-				.fill(() -> select(population, opt, _sampleSize, random))
-				.toISeq();
+		if (population.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final PopulationSnapshot<G, C> pop = PopulationSnapshot.of(population);
+		final MSeq<Phenotype<G, C>> selection = MSeq.ofLength(count);
+		if (ParallelSelection.isChunked(count)) {
+			ParallelSelection.fill(selection, executor, random ->
+				pop.get(select(pop, opt, _sampleSize, random)));
+		} else {
+			final Random random = RandomRegistry.getRandom();
+			selection.fill(() -> pop.get(select(pop, opt, _sampleSize, random)));
+		}
+
+		return selection.toISeq();
 	}
 
-	private Phenotype<G, C> select(
-		final Seq<Phenotype<G, C>> population,
+	private static int select(
+		final PopulationSnapshot<?, ?> population,
 		final Optimize opt,
 		final int sampleSize,
 		final Random random
 	) {
 		final int N = population.size();
-		return Stream.generate(() -> population.get(random.nextInt(N)))
-			.limit(sampleSize)
-			.max(opt.ascending())
-			.orElseThrow(IllegalStateException::new);
+
+		int best = random.nextInt(N);
+		for (int i = 1; i < sampleSize; ++i) {
+			final int index = random.nextInt(N);
+			if (population.compare(best, index, opt) < 0) {
+				best = index;
+			}
+		}
+
+		return best;
 	}
 
 	@Override
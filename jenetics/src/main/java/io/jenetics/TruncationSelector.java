@@ -24,6 +24,7 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Hashes.hash;
 
+import io.jenetics.internal.collection.PopulationSnapshot;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
@@ -40,7 +41,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -84,7 +85,8 @@ public final class TruncationSelector<
 	 * This method sorts the population in descending order while calculating
 	 * the selection probabilities. If the selection size is greater the the
 	 * population size, the whole population is duplicated until the desired
-	 * sample size is reached.
+	 * sample size is reached. If only a small part of the population is
+	 * selected, only the best individuals are determined and sorted.
 	 *
 	 * @throws NullPointerException if the {@code population} or {@code opt} is
 	 *         {@code null}.
@@ -108,15 +110,14 @@ public final class TruncationSelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.getFitness(), b.getFitness()));
+			final PopulationSnapshot<G, C> pop = PopulationSnapshot.of(population);
+			final int[] sorted = pop.sortedIndexes(opt, min(count, _n));
 
 			int size = count;
 			do {
-				final int length = min(min(copy.size(), size), _n);
+				final int length = min(min(sorted.length, size), _n);
 				for (int i = 0; i < length; ++i) {
-					selection.set((count - size) + i, copy.get(i));
+					selection.set((count - size) + i, pop.get(sorted[i]));
 				}
 
 				size -= length;
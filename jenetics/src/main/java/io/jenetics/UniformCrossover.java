@@ -22,6 +22,7 @@ package io.jenetics;
 import static java.lang.Math.min;
 import static io.jenetics.internal.math.random.indexes;
 
+import io.jenetics.internal.util.bit;
 import io.jenetics.internal.util.require;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
@@ -42,12 +43,15 @@ import io.jenetics.util.RandomRegistry;
  * <i>swap-probability</i> ({@link #getSwapProbability()}), whereas the
  * probability that a given individual is selected for crossover is defined by
  * the <i>crossover-probability</i> ({@link #getProbability()}).
+ * <p>
+ * The genes of {@link BitChromosome}s are swapped with a bit mask, which
+ * exchanges whole bytes of the chromosomes' bit arrays at once.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Crossover_(genetic_algorithm)#Uniform_crossover_and_half_uniform_crossover">
  *     Wikipedia: Uniform crossover</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.7
+ * @version 4.3
  * @since 3.7
  */
 public class UniformCrossover<
@@ -109,9 +113,35 @@ public class UniformCrossover<
 		return _swapProbability;
 	}
 
+	// Subclasses must opt in for the parallel recombination themselves.
+	@Override
+	protected boolean isThreadSafe() {
+		return getClass() == UniformCrossover.class;
+	}
+
 	@Override
 	protected int crossover(final MSeq<G> that, final MSeq<G> other) {
 		final int length = min(that.length(), other.length());
+
+		if (that instanceof BitGeneMSeq && other instanceof BitGeneMSeq) {
+			final int[] indexes = indexes(
+				RandomRegistry.getRandom(), length, _swapProbability
+			).toArray();
+
+			final byte[] mask = bit.newArray(length);
+			for (int index : indexes) {
+				bit.set(mask, index);
+			}
+
+			bit.swap(
+				((BitGeneMSeq)that).bits(),
+				((BitGeneMSeq)other).bits(),
+				mask
+			);
+
+			return indexes.length;
+		}
+
 		return (int)indexes(RandomRegistry.getRandom(), length, _swapProbability)
 			.peek(i -> that.swap(i, other))
 			.count();
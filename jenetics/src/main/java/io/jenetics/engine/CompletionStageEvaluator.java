@@ -0,0 +1,112 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Phenotype evaluator which forwards the not yet evaluated individuals to an
+ * asynchronous genotype evaluator. The returned completion stage is used
+ * directly by the {@link Engine}, without blocking a thread.
+ *
+ * @see Engine.Evaluator#ofAsync(Engine.AsyncEvaluator)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@SuppressWarnings("deprecation")
+final class CompletionStageEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Engine.Evaluator<G, C>
+{
+
+	private final Engine.AsyncEvaluator<G, C> _evaluator;
+
+	CompletionStageEvaluator(final Engine.AsyncEvaluator<G, C> evaluator) {
+		_evaluator = requireNonNull(evaluator);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> evaluate(final Seq<Phenotype<G, C>> population) {
+		return evaluateAsync(population).toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<ISeq<Phenotype<G, C>>>
+	evaluateAsync(final Seq<Phenotype<G, C>> population) {
+		final ISeq<Genotype<G>> genotypes = population.stream()
+			.filter(pt -> !pt.isEvaluated())
+			.map(Phenotype::getGenotype)
+			.collect(ISeq.toISeq());
+
+		if (genotypes.nonEmpty()) {
+			final CompletionStage<ISeq<C>> results = requireNonNull(
+				_evaluator.evaluate(
+					genotypes,
+					population.get(0).getFitnessFunction()
+				),
+				"Evaluation result stage is null."
+			);
+
+			return results.thenApply(r -> merge(population, genotypes.size(), r));
+		} else {
+			return CompletableFuture.completedFuture(population.asISeq());
+		}
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> merge(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final ISeq<C> results
+	) {
+		if (count != results.size()) {
+			throw new IllegalStateException(format(
+				"Expected %d results, but got %d. " +
+				"Check your evaluator function.",
+				count, results.size()
+			));
+		}
+
+		final MSeq<Phenotype<G, C>> evaluated = population.asMSeq().copy();
+		for (int i = 0, j = 0; i < evaluated.length(); ++i) {
+			if (!evaluated.get(i).isEvaluated()) {
+				evaluated.set(i, evaluated.get(i).withFitness(results.get(j++)));
+			}
+		}
+
+		return evaluated.toISeq();
+	}
+
+}
@@ -22,8 +22,10 @@ package io.jenetics.engine;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.Executor;
+import java.util.function.ToDoubleFunction;
 
 import io.jenetics.Gene;
+import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
@@ -31,10 +33,12 @@ import io.jenetics.util.Seq;
 
 /**
  * Default phenotype evaluation strategy. It uses the configured {@link Executor}
- * for the fitness evaluation.
+ * for the fitness evaluation. If an evaluation cost function is given, the
+ * most expensive individuals are evaluated first and the work is distributed
+ * according to the estimated costs.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 4.3
  * @since 4.2
  */
 final class ConcurrentEvaluator<
@@ -45,9 +49,42 @@ final class ConcurrentEvaluator<
 {
 
 	private final Executor _executor;
+	private final ToDoubleFunction<? super Genotype<G>> _cost;
+	private final EvaluationCostModel<G> _model;
+	private final Instrumentation<G, C> _instrumentation;
 
-	ConcurrentEvaluator(final Executor executor) {
+	private ConcurrentEvaluator(
+		final Executor executor,
+		final ToDoubleFunction<? super Genotype<G>> cost,
+		final EvaluationCostModel<G> model,
+		final Instrumentation<G, C> instrumentation
+	) {
 		_executor = requireNonNull(executor);
+		_cost = cost;
+		_model = model;
+		_instrumentation = instrumentation;
+	}
+
+	ConcurrentEvaluator(
+		final Executor executor,
+		final ToDoubleFunction<? super Genotype<G>> cost
+	) {
+		this(executor, requireNonNull(cost), null, null);
+	}
+
+	ConcurrentEvaluator(final Executor executor) {
+		this(executor, null, null, null);
+	}
+
+	/**
+	 * Return a new evaluator, which reports the single fitness evaluations
+	 * to the given {@code instrumentation}.
+	 *
+	 * @param instrumentation the instrumentation, may be {@code null}
+	 * @return a new evaluator with the given instrumentation
+	 */
+	ConcurrentEvaluator<G, C> with(final Instrumentation<G, C> instrumentation) {
+		return new ConcurrentEvaluator<>(_executor, _cost, _model, instrumentation);
 	}
 
 	@Override
@@ -58,10 +95,78 @@ final class ConcurrentEvaluator<
 
 		if (phenotypes.nonEmpty()) {
 			try (Concurrency c = Concurrency.with(_executor)) {
-				c.execute(phenotypes);
+				if (_cost != null) {
+					c.execute(runnables(phenotypes), costs(phenotypes));
+				} else {
+					c.execute(runnables(phenotypes));
+				}
 			}
 		}
 
 		return population.asISeq();
 	}
+
+	private double[] costs(final Seq<Phenotype<G, C>> phenotypes) {
+		final double[] costs = new double[phenotypes.size()];
+		for (int i = 0; i < costs.length; ++i) {
+			costs[i] = _cost.applyAsDouble(phenotypes.get(i).getGenotype());
+		}
+		return costs;
+	}
+
+	// The evaluations are only measured if the evaluation times are needed.
+	private Seq<? extends Runnable> runnables(final ISeq<Phenotype<G, C>> phenotypes) {
+		if (_model != null || _instrumentation != null) {
+			final long submitted = System.nanoTime();
+			return phenotypes.<Runnable>map(pt -> () -> evaluate(pt, submitted));
+		} else {
+			return phenotypes;
+		}
+	}
+
+	private void evaluate(final Phenotype<G, C> phenotype, final long submitted) {
+		final long start = System.nanoTime();
+		if (_instrumentation != null) {
+			_instrumentation.evaluationStarted(
+				phenotype.getGenotype(),
+				start - submitted
+			);
+		}
+
+		try {
+			phenotype.evaluate();
+		} catch (RuntimeException|Error e) {
+			if (_instrumentation != null) {
+				_instrumentation.evaluationFailed(
+					phenotype.getGenotype(),
+					System.nanoTime() - start,
+					e
+				);
+			}
+			throw e;
+		}
+
+		final long nanos = System.nanoTime() - start;
+		if (_model != null) {
+			_model.update(phenotype.getGenotype(), nanos);
+		}
+		if (_instrumentation != null) {
+			_instrumentation.evaluationCompleted(phenotype.getGenotype(), nanos);
+		}
+	}
+
+	/**
+	 * Create a new evaluator, which learns the evaluation costs of the
+	 * individuals from the observed evaluation times.
+	 *
+	 * @param executor the executor used for evaluating the individuals
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new cost aware evaluator
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ConcurrentEvaluator<G, C> ofCostModel(final Executor executor) {
+		final EvaluationCostModel<G> model = new EvaluationCostModel<>();
+		return new ConcurrentEvaluator<>(executor, model, model, null);
+	}
 }
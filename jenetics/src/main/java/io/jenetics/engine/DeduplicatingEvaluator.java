@@ -0,0 +1,164 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Phenotype evaluator which collapses individuals with equal genotypes. Only
+ * one representative of every distinct, not yet evaluated genotype is
+ * forwarded to the underlying evaluator. The fitness of the representative is
+ * then assigned to all its copies.
+ *
+ * @see Engine.Builder#deduplicateEvaluation(boolean)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class DeduplicatingEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Engine.Evaluator<G, C>
+{
+
+	private final Engine.Evaluator<G, C> _evaluator;
+
+	DeduplicatingEvaluator(final Engine.Evaluator<G, C> evaluator) {
+		_evaluator = requireNonNull(evaluator);
+	}
+
+	/**
+	 * Return the underlying evaluator.
+	 */
+	Engine.Evaluator<G, C> delegate() {
+		return _evaluator;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> evaluate(final Seq<Phenotype<G, C>> population) {
+		final Groups<G, C> groups = new Groups<>(population);
+
+		return groups.isDistinct()
+			? _evaluator.evaluate(population)
+			: groups.merge(_evaluator.evaluate(groups.representatives()));
+	}
+
+	@Override
+	public CompletionStage<ISeq<Phenotype<G, C>>>
+	evaluateAsync(final Seq<Phenotype<G, C>> population) {
+		final Groups<G, C> groups = new Groups<>(population);
+
+		return groups.isDistinct()
+			? _evaluator.evaluateAsync(population)
+			: _evaluator.evaluateAsync(groups.representatives())
+				.thenApply(groups::merge);
+	}
+
+	/**
+	 * Groups the not yet evaluated individuals of a population by its
+	 * genotype.
+	 */
+	private static final class Groups<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Seq<Phenotype<G, C>> _population;
+		private final Map<Genotype<G>, Integer> _distinct = new HashMap<>();
+		private final MSeq<Phenotype<G, C>> _representatives;
+		private final int[] _mapping;
+		private final int _unevaluated;
+
+		Groups(final Seq<Phenotype<G, C>> population) {
+			_population = population;
+			_representatives = MSeq.ofLength(population.size());
+			_mapping = new int[population.size()];
+
+			int unevaluated = 0;
+			for (int i = 0, n = population.size(); i < n; ++i) {
+				final Phenotype<G, C> pt = population.get(i);
+				if (!pt.isEvaluated()) {
+					++unevaluated;
+
+					final Integer index = _distinct.putIfAbsent(
+						pt.getGenotype(),
+						_distinct.size()
+					);
+					if (index == null) {
+						_mapping[i] = _distinct.size() - 1;
+						_representatives.set(_mapping[i], pt);
+					} else {
+						_mapping[i] = index;
+					}
+				} else {
+					_mapping[i] = -1;
+				}
+			}
+			_unevaluated = unevaluated;
+		}
+
+		boolean isDistinct() {
+			return _distinct.size() == _unevaluated;
+		}
+
+		Seq<Phenotype<G, C>> representatives() {
+			return _representatives.subSeq(0, _distinct.size());
+		}
+
+		ISeq<Phenotype<G, C>> merge(final ISeq<Phenotype<G, C>> evaluated) {
+			if (evaluated.size() != _distinct.size()) {
+				throw new IllegalStateException(format(
+					"Expected %d individuals, but got %d. " +
+					"Check your evaluator function.",
+					_distinct.size(), evaluated.size()
+				));
+			}
+
+			final MSeq<Phenotype<G, C>> result = MSeq.of(_population);
+			for (int i = 0, n = result.size(); i < n; ++i) {
+				if (_mapping[i] != -1) {
+					final Phenotype<G, C> pt = evaluated.get(_mapping[i]);
+					result.set(
+						i,
+						pt.getGeneration() == result.get(i).getGeneration()
+							? pt
+							: result.get(i).withFitness(pt.getRawFitness())
+					);
+				}
+			}
+
+			return result.toISeq();
+		}
+	}
+
+}
@@ -25,14 +25,17 @@ import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.require.probability;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -47,6 +50,8 @@ import io.jenetics.Phenotype;
 import io.jenetics.Selector;
 import io.jenetics.SinglePointCrossover;
 import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Instrumentation.Phase;
+import io.jenetics.internal.collection.PopulationSnapshot;
 import io.jenetics.internal.util.require;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
@@ -113,7 +118,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 4.1
+ * @version 4.3
  */
 @SuppressWarnings("deprecation")
 public final class Engine<
@@ -144,6 +149,12 @@ public final class Engine<
 	// Execution context for concurrent execution of evolving steps.
 	private final TimedExecutor _executor;
 	private final Evaluator<G, C> _evaluator;
+	private final SurrogateEvaluator<G, C> _surrogate;
+	private final FitnessCache<G, C> _fitnessCache;
+	private final EvaluationTimeout<G, C> _evaluationTimeout;
+	private final Instrumentation<G, C> _instrumentation;
+	private final boolean _populationBuffering;
+	private final boolean _parallelAlteration;
 	private final Clock _clock;
 
 	// Additional parameters.
@@ -168,6 +179,14 @@ public final class Engine<
 	 * @param maximalPhenotypeAge the maximal age of an individual
 	 * @param executor the executor used for executing the single evolve steps
 	 * @param evaluator the population fitness evaluator
+	 * @param fitnessCache the fitness cache, may be {@code null}
+	 * @param evaluationTimeout the evaluation timeout, may be {@code null}
+	 * @param instrumentation the instrumentation notified about the evolution
+	 *        phases
+	 * @param populationBuffering whether the population storage is reused
+	 *        across the generations
+	 * @param parallelAlteration whether the offspring is altered in parallel,
+	 *        with the given {@code executor}
 	 * @param clock the clock used for calculating the timing results
 	 * @param individualCreationRetries the maximal number of attempts for
 	 *        creating a valid individual.
@@ -189,6 +208,11 @@ public final class Engine<
 		final long maximalPhenotypeAge,
 		final Executor executor,
 		final Evaluator<G, C> evaluator,
+		final FitnessCache<G, C> fitnessCache,
+		final EvaluationTimeout<G, C> evaluationTimeout,
+		final Instrumentation<G, C> instrumentation,
+		final boolean populationBuffering,
+		final boolean parallelAlteration,
 		final Clock clock,
 		final int individualCreationRetries,
 		final UnaryOperator<EvolutionResult<G, C>> mapper
@@ -208,6 +232,12 @@ public final class Engine<
 
 		_executor = new TimedExecutor(requireNonNull(executor));
 		_evaluator = requireNonNull(evaluator);
+		_surrogate = surrogate(evaluator);
+		_fitnessCache = fitnessCache;
+		_evaluationTimeout = evaluationTimeout;
+		_instrumentation = requireNonNull(instrumentation);
+		_populationBuffering = populationBuffering;
+		_parallelAlteration = parallelAlteration;
 		_clock = requireNonNull(clock);
 
 		if (individualCreationRetries < 0) {
@@ -261,12 +291,19 @@ public final class Engine<
 	 *         {@code start} is {@code null}
 	 */
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final long generation = start.getGeneration();
 		final Timer timer = Timer.of(_clock).start();
+		_instrumentation.phaseStarted(generation, Phase.EVOLVE);
+		final long evolveStart = System.nanoTime();
 
 		// Initial evaluation of the population.
 		final Timer evaluateTimer = Timer.of(_clock).start();
-		final ISeq<Phenotype<G, C>> evalPop =
-			_evaluator.evaluate(start.getPopulation());
+		final EvaluationResult<G, C> evalResult = phase(
+			generation,
+			Phase.EVALUATION,
+			() -> evaluate(start.getPopulation()).join()
+		);
+		final ISeq<Phenotype<G, C>> evalPop = evalResult.population;
 
 		if (start.getPopulation().size() != evalPop.size()) {
 			throw new IllegalStateException(format(
@@ -278,53 +315,90 @@ public final class Engine<
 
 		evaluateTimer.stop();
 
+		// The buffer slab which stores the next generation, if enabled.
+		final PopulationBuffer.Slab<G, C> slab = _populationBuffering
+			? PopulationBuffer.next(
+				start.getSlab(),
+				_survivorsCount,
+				_offspringCount)
+			: null;
+
+		// The fitness snapshot is shared by the survivors and offspring selector.
+		final PopulationSnapshot<G, C> selectPop = PopulationSnapshot.of(evalPop);
+
 		// Select the offspring population.
 		final CompletableFuture<TimedResult<ISeq<Phenotype<G, C>>>> offspring =
 			_executor.async(() ->
-				selectOffspring(evalPop),
+				phase(generation, Phase.OFFSPRING_SELECTION, () ->
+					selectOffspring(selectPop)),
 				_clock
 			);
 
 		// Select the survivor population.
 		final CompletableFuture<TimedResult<ISeq<Phenotype<G, C>>>> survivors =
 			_executor.async(() ->
-				selectSurvivors(evalPop),
+				phase(generation, Phase.SURVIVORS_SELECTION, () ->
+					selectSurvivors(selectPop)),
 				_clock
 			);
 
 		// Altering the offspring population.
 		final CompletableFuture<TimedResult<AltererResult<G, C>>> alteredOffspring =
 			_executor.thenApply(offspring, p ->
-				_alterer.alter(p.result, start.getGeneration()),
+				phase(generation, Phase.OFFSPRING_ALTER, () ->
+					alter(
+						slab != null ? slab.offspring(p.result) : p.result,
+						generation
+					)),
 				_clock
 			);
 
 		// Filter and replace invalid and old survivor individuals.
 		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredSurvivors =
 			_executor.thenApply(survivors, pop ->
-				filter(pop.result, start.getGeneration()),
+				filter(
+					pop.result,
+					slab != null ? slab.survivors() : null,
+					generation,
+					Phase.SURVIVORS_FILTER
+				),
 				_clock
 			);
 
 		// Filter and replace invalid and old offspring individuals.
 		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredOffspring =
 			_executor.thenApply(alteredOffspring, pop ->
-				filter(pop.result.getPopulation(), start.getGeneration()),
+				filter(
+					pop.result.getPopulation(),
+					slab != null ? slab.offspring() : null,
+					generation,
+					Phase.OFFSPRING_FILTER
+				),
 				_clock
 			);
 
 		// Combining survivors and offspring to the new population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> population =
 			filteredSurvivors.thenCombineAsync(filteredOffspring, (s, o) ->
-					ISeq.of(s.result.population.append(o.result.population)),
+					slab != null
+						? slab.population()
+						: ISeq.of(s.result.population.append(o.result.population)),
 				_executor.get()
 			);
 
-		// Evaluate the fitness-function and wait for result.
+		// Evaluate the fitness-function and wait for result. The evaluation is
+		// started from the calling thread, which prevents blocking evaluators
+		// from occupying a thread of the executor.
 		final ISeq<Phenotype<G, C>> pop = population.join();
-		final TimedResult<ISeq<Phenotype<G, C>>> result = TimedResult
-			.of(() -> _evaluator.evaluate(pop), _clock)
-			.get();
+		final TimedResult<EvaluationResult<G, C>> result = phase(
+			generation,
+			Phase.EVALUATION,
+			() -> TimedResult
+				.ofAsync(this::evaluate, _clock)
+				.apply(pop)
+				.toCompletableFuture()
+				.join()
+		);
 
 
 		final EvolutionDurations durations = EvolutionDurations.of(
@@ -345,15 +419,38 @@ public final class Engine<
 			filteredOffspring.join().result.invalidCount +
 			filteredSurvivors.join().result.invalidCount;
 
+		// The population view of the buffer slab is overwritten two
+		// generations later and must not be handed out with the result.
+		final ISeq<Phenotype<G, C>> resultPop =
+			slab != null && result.result.population == pop
+				? pop.copy().toISeq()
+				: result.result.population;
+
+		final int timeoutCount = _evaluationTimeout != null
+			? _evaluationTimeout.count(start.getPopulation(), evalPop) +
+				_evaluationTimeout.count(pop, result.result.population)
+			: 0;
+
+		_instrumentation.phaseCompleted(
+			generation,
+			Phase.EVOLVE,
+			System.nanoTime() - evolveStart
+		);
+
 		return _mapper.apply(
 			EvolutionResult.of(
 				_optimize,
-				result.result,
+				resultPop,
 				start.getGeneration(),
 				durations,
 				killCount,
 				invalidCount,
-				alteredOffspring.join().result.getAlterations()
+				timeoutCount,
+				alteredOffspring.join().result.getAlterations(),
+				evalResult.cacheHitCount + result.result.cacheHitCount,
+				evalResult.cacheMissCount + result.result.cacheMissCount,
+				evalResult.cacheEvictionCount + result.result.cacheEvictionCount,
+				slab
 			)
 		);
 	}
@@ -369,11 +466,44 @@ public final class Engine<
 		return evolve(start);
 	}
 
+	// Executes the given evolution phase and notifies the instrumentation.
+	private <T> T phase(
+		final long generation,
+		final Phase phase,
+		final Supplier<T> task
+	) {
+		_instrumentation.phaseStarted(generation, phase);
+		final long start = System.nanoTime();
+		final T result = task.get();
+		_instrumentation.phaseCompleted(
+			generation,
+			phase,
+			System.nanoTime() - start
+		);
+		return result;
+	}
+
+	// Evaluates the given population, using the fitness cache if available.
+	private CompletableFuture<EvaluationResult<G, C>>
+	evaluate(final Seq<Phenotype<G, C>> population) {
+		final CompletionStage<EvaluationResult<G, C>> result =
+			_fitnessCache != null
+				? _fitnessCache.evaluateAsync(
+					population,
+					_evaluator,
+					this::isCacheable)
+				: _evaluator.evaluateAsync(population)
+					.thenApply(EvaluationResult::new);
+
+		return result.toCompletableFuture();
+	}
+
 	// Selects the survivors population. A new population object is returned.
 	private ISeq<Phenotype<G, C>>
 	selectSurvivors(final ISeq<Phenotype<G, C>> population) {
 		return _survivorsCount > 0
-			?_survivorsSelector.select(population, _survivorsCount, _optimize)
+			? _survivorsSelector.select(
+				population, _survivorsCount, _optimize, _executor.get())
 			: ISeq.empty();
 	}
 
@@ -381,34 +511,97 @@ public final class Engine<
 	private ISeq<Phenotype<G, C>>
 	selectOffspring(final ISeq<Phenotype<G, C>> population) {
 		return _offspringCount > 0
-			? _offspringSelector.select(population, _offspringCount, _optimize)
+			? _offspringSelector.select(
+				population, _offspringCount, _optimize, _executor.get())
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
+	// Alters the offspring population, in parallel if enabled.
+	private AltererResult<G, C>
+	alter(final Seq<Phenotype<G, C>> population, final long generation) {
+		return _parallelAlteration
+			? _alterer.alter(population, generation, _executor.get())
+			: _alterer.alter(population, generation);
+	}
+
+	// Filters out invalid and old individuals and notifies the instrumentation.
 	private FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
+		final MSeq<Phenotype<G, C>> target,
+		final long generation,
+		final Phase phase
+	) {
+		final FilterResult<G, C> result = phase(generation, phase, () ->
+			filter(population, target, generation));
+
+		_instrumentation.filtered(
+			generation,
+			phase,
+			result.killCount,
+			result.invalidCount
+		);
+		return result;
+	}
+
+	// Filters out invalid and old individuals. The filtered population is
+	// written into the given target buffer, if available.
+	private FilterResult<G, C> filter(
+		final Seq<Phenotype<G, C>> population,
+		final MSeq<Phenotype<G, C>> target,
 		final long generation
 	) {
 		int killCount = 0;
 		int invalidCount = 0;
 
-		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		final MSeq<Phenotype<G, C>> pop = target != null
+			? target
+			: MSeq.of(population);
 		for (int i = 0, n = pop.size(); i < n; ++i) {
-			final Phenotype<G, C> individual = pop.get(i);
+			final Phenotype<G, C> individual = population.get(i);
 
-			if (!_validator.test(individual)) {
+			if (!_validator.test(individual) || isTimedOut(individual)) {
 				pop.set(i, newPhenotype(generation));
 				++invalidCount;
 			} else if (individual.getAge(generation) > _maximalPhenotypeAge) {
 				pop.set(i, newPhenotype(generation));
 				++killCount;
+			} else if (target != null) {
+				pop.set(i, individual);
 			}
 		}
 
 		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
 	}
 
+	// The fitness of individuals, whose evaluation timed out or whose fitness
+	// has been predicted by a surrogate model, is not real and must not be
+	// cached.
+	private boolean isCacheable(final Phenotype<G, C> individual) {
+		return
+			(_evaluationTimeout == null ||
+				!_evaluationTimeout.isTimedOut(individual)) &&
+			(_surrogate == null ||
+				!_surrogate.isPredicted(individual));
+	}
+
+	// Return the surrogate evaluator, the given evaluator delegates to.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SurrogateEvaluator<G, C> surrogate(final Evaluator<G, C> evaluator) {
+		if (evaluator instanceof DeduplicatingEvaluator) {
+			return surrogate(((DeduplicatingEvaluator<G, C>)evaluator).delegate());
+		}
+
+		return evaluator instanceof SurrogateEvaluator
+			? (SurrogateEvaluator<G, C>)evaluator
+			: null;
+	}
+
+	// Individuals whose evaluation timed out, without a penalty fitness.
+	private boolean isTimedOut(final Phenotype<G, C> individual) {
+		return _evaluationTimeout != null &&
+			_evaluationTimeout.isInvalid(individual);
+	}
+
 	// Create a new and valid phenotype
 	private Phenotype<G, C> newPhenotype(final long generation) {
 		int count = 0;
@@ -600,6 +793,17 @@ public final class Engine<
 		return _maximalPhenotypeAge;
 	}
 
+	/**
+	 * Return the phenotype validator used by the engine.
+	 *
+	 * @since 4.3
+	 *
+	 * @return the phenotype validator used by the engine
+	 */
+	public Predicate<? super Phenotype<G, C>> getPhenotypeValidator() {
+		return _validator;
+	}
+
 	/**
 	 * Return the optimization strategy.
 	 *
@@ -630,6 +834,18 @@ public final class Engine<
 	}
 
 
+	/**
+	 * Return the fitness cache used by the engine.
+	 *
+	 * @since 4.3
+	 *
+	 * @return the fitness cache used by the engine, or {@code null} if the
+	 *         engine doesn't use a fitness cache
+	 */
+	public FitnessCache<G, C> getFitnessCache() {
+		return _fitnessCache;
+	}
+
 	/**
 	 * Return the maximal number of attempt before the {@code Engine} gives
 	 * up creating a valid individual ({@code Phenotype}).
@@ -669,6 +885,14 @@ public final class Engine<
 			.alterers(_alterer)
 			.clock(_clock)
 			.evaluator(_evaluator)
+			.fitnessCache(_fitnessCache)
+			.evaluationTimeout(_evaluationTimeout)
+			.instrumentation(
+				_instrumentation instanceof NoopInstrumentation
+					? null
+					: _instrumentation)
+			.populationBuffering(_populationBuffering)
+			.parallelAlteration(_parallelAlteration)
 			.executor(_executor.get())
 			.fitnessScaler(_fitnessScaler)
 			.maximalPhenotypeAge(_maximalPhenotypeAge)
@@ -802,13 +1026,14 @@ public final class Engine<
 	 * of the population.
 	 *
 	 * @see GenotypeEvaluator
+	 * @see AsyncEvaluator
 	 * @see Engine.Builder#evaluator(Engine.Evaluator)
 	 *
 	 * @param <G> the gene type
 	 * @param <C> the fitness result type
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
-	 * @version 4.2
+	 * @version 4.3
 	 * @since 4.2
 	 */
 	@FunctionalInterface
@@ -829,6 +1054,27 @@ public final class Engine<
 		 */
 		public ISeq<Phenotype<G, C>> evaluate(final Seq<Phenotype<G, C>> population);
 
+		/**
+		 * Evaluates the fitness values of the given {@code population}
+		 * asynchronously. The {@code Engine} composes the returned completion
+		 * stage with its internal evolution pipeline, without blocking a
+		 * thread while the evaluation is in progress.
+		 *
+		 * @implSpec
+		 * The default implementation evaluates the population synchronously,
+		 * by calling the {@link #evaluate(Seq)} method, and returns an already
+		 * completed stage.
+		 *
+		 * @since 4.3
+		 *
+		 * @param population the population to evaluate
+		 * @return the completion stage of the evaluated population
+		 */
+		public default CompletionStage<ISeq<Phenotype<G, C>>>
+		evaluateAsync(final Seq<Phenotype<G, C>> population) {
+			return CompletableFuture.completedFuture(evaluate(population));
+		}
+
 		/**
 		 * Create a new phenotype evaluator from a given genotype {@code evaluator}.
 		 *
@@ -887,6 +1133,51 @@ public final class Engine<
 			};
 		}
 
+		/**
+		 * Create a new phenotype evaluator from a given asynchronous
+		 * {@code evaluator}. The {@link #evaluateAsync(Seq)} method of the
+		 * returned evaluator, which is used by the {@code Engine}, directly
+		 * composes the completion stage of the given {@code evaluator}.
+		 *
+		 * @implNote
+		 * The returned {@link Evaluator} will only forward <em>un</em>-evaluated
+		 * individuals to the given asynchronous {@code evaluator}.
+		 *
+		 * @since 4.3
+		 *
+		 * @param evaluator the asynchronous genotype evaluator
+		 * @param <G> the gene type
+		 * @param <C> the fitness result type
+		 * @return a <em>normal</em> phenotype evaluator from the given
+		 *         asynchronous evaluator
+		 * @throws NullPointerException if the given {@code evaluator} is
+		 *         {@code null}
+		 */
+		public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Evaluator<G, C> ofAsync(final AsyncEvaluator<G, C> evaluator) {
+			return new CompletionStageEvaluator<>(evaluator);
+		}
+
+		/**
+		 * Return the evaluator the {@code Engine} uses by default. The fitness
+		 * function of the individuals is executed concurrently by the given
+		 * {@code executor}. This evaluator is useful as delegate for evaluator
+		 * decorators, like the {@link SurrogateEvaluator}.
+		 *
+		 * @since 4.3
+		 *
+		 * @param executor the executor used for evaluating the individuals
+		 * @param <G> the gene type
+		 * @param <C> the fitness result type
+		 * @return a new concurrent evaluator
+		 * @throws NullPointerException if the given {@code executor} is
+		 *         {@code null}
+		 */
+		public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Evaluator<G, C> concurrent(final Executor executor) {
+			return new ConcurrentEvaluator<>(executor);
+		}
+
 	}
 
 	/**
@@ -941,6 +1232,60 @@ public final class Engine<
 
 	}
 
+	/**
+	 * Asynchronous evaluator of the fitness values of a sequence of
+	 * genotypes. This interface should be used, if the fitness values are
+	 * calculated by a non-blocking service. Compared to a blocking
+	 * {@link GenotypeEvaluator}, no thread is occupied while the fitness
+	 * evaluations are in flight.
+	 *
+	 * <pre>{@code
+	 * final SimulationClient client = ...;
+	 * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+	 *     .asyncEvaluator((gts, ff) -> client.simulate(gts.asList())
+	 *         .thenApply(ISeq::of))
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @implSpec
+	 * The size of the result sequence, of the returned completion stage, must
+	 * be exactly the size of the input genotype sequence.
+	 *
+	 * @apiNote
+	 * This interface is an <em>advanced</em> {@code Engine} configuration
+	 * feature, which should be only used when there is a performance gain from
+	 * implementing a different evaluation strategy.
+	 *
+	 * @see Evaluator#ofAsync(Engine.AsyncEvaluator)
+	 * @see Engine.Builder#asyncEvaluator(Engine.AsyncEvaluator)
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 4.3
+	 * @since 4.3
+	 */
+	@FunctionalInterface
+	public static interface AsyncEvaluator<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		/**
+		 * Calculate the fitness values for the given sequence of genotypes
+		 * asynchronously.
+		 *
+		 * @param genotypes the genotypes to evaluate the fitness value for
+		 * @param function the fitness function
+		 * @return the completion stage of the fitness values for the given
+		 *         {@code genotypes}. The length of the fitness result sequence
+		 *         must match with the size of the given {@code genotypes}.
+		 */
+		public CompletionStage<ISeq<C>> evaluate(
+			final Seq<Genotype<G>> genotypes,
+			final Function<? super Genotype<G>, ? extends C> function
+		);
+
+	}
+
 
 	/**
 	 * Builder class for building GA {@code Engine} instances.
@@ -949,7 +1294,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 4.0
+	 * @version 4.3
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -966,10 +1311,11 @@ public final class Engine<
 		private Function<? super C, ? extends C> _fitnessScaler = a -> a;
 		private Selector<G, C> _survivorsSelector = new TournamentSelector<>(3);
 		private Selector<G, C> _offspringSelector = new TournamentSelector<>(3);
-		private Alterer<G, C> _alterer = Alterer.of(
+		private ISeq<Alterer<G, C>> _alterers = ISeq.of(
 			new SinglePointCrossover<G, C>(0.2),
 			new Mutator<>(0.15)
 		);
+		private Alterer<G, C> _alterer = compose(_alterers);
 		private Predicate<? super Phenotype<G, C>> _validator = Phenotype::isValid;
 		private Optimize _optimize = Optimize.MAXIMUM;
 		private double _offspringFraction = 0.6;
@@ -980,6 +1326,14 @@ public final class Engine<
 		private Executor _executor = ForkJoinPool.commonPool();
 		private Clock _clock = NanoClock.systemUTC();
 		private Evaluator<G, C> _evaluator;
+		private FitnessCache<G, C> _fitnessCache;
+		private boolean _deduplicateEvaluation = false;
+		private ToDoubleFunction<? super Genotype<G>> _evaluationCost;
+		private boolean _costAwareEvaluation = false;
+		private EvaluationTimeout<G, C> _evaluationTimeout;
+		private Instrumentation<G, C> _instrumentation;
+		private boolean _populationBuffering = false;
+		private boolean _parallelAlteration = false;
 
 		private int _individualCreationRetries = 10;
 		private UnaryOperator<EvolutionResult<G, C>> _mapper = r -> r;
@@ -993,7 +1347,11 @@ public final class Engine<
 		}
 
 		/**
-		 * Set the fitness function of the evolution {@code Engine}.
+		 * Set the fitness function of the evolution {@code Engine}. If the
+		 * given fitness {@code function} differs from the current one, an
+		 * already set {@link #fitnessCache(FitnessCache) fitness cache} is
+		 * replaced by a new, empty cache with the same maximal size. The
+		 * cached fitness values belong to the previous fitness function.
 		 *
 		 * @param function the fitness function to use in the GA {@code Engine}
 		 * @return {@code this} builder, for command chaining
@@ -1001,7 +1359,12 @@ public final class Engine<
 		public Builder<G, C> fitnessFunction(
 			final Function<? super Genotype<G>, ? extends C> function
 		) {
-			_fitnessFunction = requireNonNull(function);
+			requireNonNull(function);
+			if (function != _fitnessFunction && _fitnessCache != null) {
+				_fitnessCache = FitnessCache.of(_fitnessCache.getMaxSize());
+			}
+
+			_fitnessFunction = function;
 			return this;
 		}
 
@@ -1099,13 +1462,34 @@ public final class Engine<
 			requireNonNull(first);
 			Stream.of(rest).forEach(Objects::requireNonNull);
 
-			_alterer = rest.length == 0
-				? first
-				: Alterer.of(rest).compose(first);
+			return alterers(
+				Stream.concat(Stream.of(first), Stream.of(rest))
+					.flatMap(Builder::flatten)
+					.collect(ISeq.toISeq())
+			);
+		}
 
+		private Builder<G, C> alterers(final ISeq<Alterer<G, C>> alterers) {
+			_alterers = alterers;
+			_alterer = compose(alterers);
 			return this;
 		}
 
+		// Removes the instrumentation of already instrumented alterers.
+		private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Stream<Alterer<G, C>> flatten(final Alterer<G, C> alterer) {
+			return alterer instanceof InstrumentedAlterer<?, ?>
+				? ((InstrumentedAlterer<G, C>)alterer).getAlterers().stream()
+				: Stream.of(alterer);
+		}
+
+		private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Alterer<G, C> compose(final ISeq<Alterer<G, C>> alterers) {
+			return alterers.stream()
+				.reduce(Alterer::andThen)
+				.orElseThrow(AssertionError::new);
+		}
+
 		/**
 		 * The phenotype validator used for detecting invalid individuals.
 		 * Alternatively it is also possible to set the genotype validator with
@@ -1370,6 +1754,328 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * Setting the <em>asynchronous</em> genotype evaluator used for
+		 * evaluating the fitness function of the population. The completion
+		 * stage returned by the given {@code evaluator} is composed with the
+		 * evolution pipeline of the {@code Engine}, without blocking a
+		 * thread per evaluated individual.
+		 *
+		 * @apiNote
+		 * This is an <em>advanced</em> {@code Engine} configuration feature,
+		 * which should be only used when there is a performance gain from
+		 * implementing a different evaluation strategy.
+		 *
+		 * @since 4.3
+		 *
+		 * @param evaluator the asynchronous genotype evaluator
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> asyncEvaluator(final AsyncEvaluator<G, C> evaluator) {
+			_evaluator = Evaluator.ofAsync(evaluator);
+			return this;
+		}
+
+		/**
+		 * Enables or disables the collapsing of duplicate individuals during
+		 * the evaluation step. If enabled, only one individual of every
+		 * distinct, not yet evaluated, genotype is forwarded to the
+		 * {@link #evaluator(Evaluator) evaluator}. Its fitness value is then
+		 * assigned to all individuals with an equal genotype. This works for
+		 * the default evaluator as well as for user defined
+		 * {@link Evaluator}s and {@link GenotypeEvaluator}s. <i>Default
+		 * value is set to {@code false}.</i>
+		 *
+		 * @apiNote
+		 * Collapsing duplicate individuals pays off for expensive fitness
+		 * functions and converged populations, which contain many equal
+		 * genotypes.
+		 *
+		 * @since 4.3
+		 *
+		 * @param deduplicate {@code true} if individuals with equal genotypes
+		 *        should be evaluated only once per evaluation step
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> deduplicateEvaluation(final boolean deduplicate) {
+			_deduplicateEvaluation = deduplicate;
+			return this;
+		}
+
+		/**
+		 * Enables or disables the cost aware scheduling of the fitness
+		 * evaluations. If enabled, the evaluation costs of the individuals
+		 * are learned from the observed evaluation times. The individuals
+		 * with the highest estimated costs are evaluated first and the
+		 * evaluation work is distributed evenly between the worker threads.
+		 * The evaluation costs are modeled as linear function of the number of
+		 * genes of the genotype. <i>Default value is set to {@code false}.</i>
+		 *
+		 * @apiNote
+		 * Cost aware scheduling pays off for expensive fitness functions
+		 * with strongly varying evaluation times, e.g. for variable sized
+		 * genotypes. Since the number of genes is the only learned feature,
+		 * all individuals of fixed length genotypes get the same estimated
+		 * costs and are evaluated with the default scheduling. Use an
+		 * {@link #evaluationCost(ToDoubleFunction) evaluation cost} function
+		 * for such genotypes instead. This setting is only used by the
+		 * default evaluator and has no effect if an
+		 * {@link #evaluator(Evaluator) evaluator} is set.
+		 *
+		 * @since 4.3
+		 *
+		 * @see #evaluationCost(ToDoubleFunction)
+		 *
+		 * @param costAware {@code true} if the evaluation should be scheduled
+		 *        according to the learned evaluation costs
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> costAwareEvaluation(final boolean costAware) {
+			_costAwareEvaluation = costAware;
+			return this;
+		}
+
+		/**
+		 * Set the function which estimates the evaluation costs of a
+		 * genotype. The individuals with the highest estimated costs are
+		 * evaluated first and the evaluation work is distributed evenly between
+		 * the worker threads. Only the relative cost values are relevant.
+		 * Negative and non-finite values are treated as zero. If set, the
+		 * given estimator takes precedence over the
+		 * {@link #costAwareEvaluation(boolean) learned} evaluation costs.
+		 * <i>By default, no cost estimator is set.</i>
+		 *
+		 * <pre>{@code
+		 * final Engine<ProgramGene<Double>, Double> engine = Engine
+		 *     .builder(Main::error, codec)
+		 *     .evaluationCost(gt -> gt.getChromosome().length())
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @apiNote
+		 * This setting is only used by the default evaluator and has no effect
+		 * if an {@link #evaluator(Evaluator) evaluator} is set.
+		 *
+		 * @since 4.3
+		 *
+		 * @param cost the evaluation cost estimator, or {@code null} if no
+		 *        cost estimator should be used
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> evaluationCost(
+			final ToDoubleFunction<? super Genotype<G>> cost
+		) {
+			_evaluationCost = cost;
+			return this;
+		}
+
+		/**
+		 * Set the maximal evaluation time of an individual. Evaluations which
+		 * take longer than the given {@code timeout} are cancelled, by
+		 * interrupting the evaluating thread. The timed out individuals get
+		 * the worst fitness value of the current population assigned and are
+		 * treated as invalid. This means, they are replaced by newly created
+		 * individuals in the filter step of the next generation. The timeout
+		 * of an individual starts with the start of its evaluation. <i>By
+		 * default, no evaluation timeout is set.</i>
+		 *
+		 * @apiNote
+		 * This setting is only used by the default evaluator and has no effect
+		 * if an {@link #evaluator(Evaluator) evaluator} is set. The cost aware
+		 * evaluation scheduling is not used, if an evaluation timeout is set.
+		 * If no fitness value is available, because all evaluations of the
+		 * initial population timed out, the evolution step fails with an
+		 * {@link IllegalStateException}.
+		 *
+		 * @since 4.3
+		 *
+		 * @see EvolutionResult#getTimeoutCount()
+		 * @see #evaluationTimeout(Duration, Comparable)
+		 *
+		 * @param timeout the maximal evaluation time of an individual
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code timeout} is
+		 *         {@code null}
+		 * @throws IllegalArgumentException if the given {@code timeout} is
+		 *         not positive
+		 */
+		public Builder<G, C> evaluationTimeout(final Duration timeout) {
+			_evaluationTimeout = new EvaluationTimeout<>(timeout, null);
+			return this;
+		}
+
+		/**
+		 * Set the maximal evaluation time of an individual. Evaluations which
+		 * take longer than the given {@code timeout} are cancelled, by
+		 * interrupting the evaluating thread, and the given {@code penalty}
+		 * fitness is assigned to the timed out individuals. The timeout of an
+		 * individual starts with the start of its evaluation. <i>By default,
+		 * no evaluation timeout is set.</i>
+		 *
+		 * <pre>{@code
+		 * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+		 *     .evaluationTimeout(Duration.ofSeconds(10), Double.MAX_VALUE)
+		 *     .minimizing()
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @apiNote
+		 * This setting is only used by the default evaluator and has no effect
+		 * if an {@link #evaluator(Evaluator) evaluator} is set. The cost aware
+		 * evaluation scheduling is not used, if an evaluation timeout is set.
+		 *
+		 * @since 4.3
+		 *
+		 * @see EvolutionResult#getTimeoutCount()
+		 * @see #evaluationTimeout(Duration)
+		 *
+		 * @param timeout the maximal evaluation time of an individual
+		 * @param penalty the (raw) fitness value assigned to individuals
+		 *        whose evaluation timed out
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 * @throws IllegalArgumentException if the given {@code timeout} is
+		 *         not positive
+		 */
+		public Builder<G, C> evaluationTimeout(
+			final Duration timeout,
+			final C penalty
+		) {
+			_evaluationTimeout = new EvaluationTimeout<>(
+				timeout,
+				requireNonNull(penalty)
+			);
+			return this;
+		}
+
+		Builder<G, C> evaluationTimeout(final EvaluationTimeout<G, C> timeout) {
+			_evaluationTimeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Set the instrumentation, which is notified about the single
+		 * evolution phases, the applied alterers and the fitness evaluations.
+		 * The single fitness evaluations are only reported, if no
+		 * {@link #evaluator(Evaluator) evaluator} is set. <i>By default, no
+		 * instrumentation is used.</i>
+		 *
+		 * @since 4.3
+		 *
+		 * @see HistogramInstrumentation
+		 *
+		 * @param instrumentation the instrumentation used by the engine, or
+		 *        {@code null} if no instrumentation should be used
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> instrumentation(
+			final Instrumentation<G, C> instrumentation
+		) {
+			_instrumentation = instrumentation;
+			return this;
+		}
+
+		/**
+		 * Enables the reuse of the population storage across the generations
+		 * of an evolution stream. The engine then uses two preallocated
+		 * population buffers in turn: the filter steps, the in place
+		 * alteration of the offspring (by {@link io.jenetics.Recombinator}s
+		 * and {@link io.jenetics.Mutator}s) and the merging of survivors and
+		 * offspring write directly into the buffer of the next generation.
+		 * This considerably reduces the allocation rate for large populations.
+		 * The population of an {@link EvolutionResult} stays valid, after the
+		 * buffer has been reused. It is the population returned by the
+		 * evaluator, or a copy of the buffer, if the evaluator returns the
+		 * buffered population itself. The buffers are passed on with
+		 * {@link EvolutionResult#next()}. Evolving an evolution result more
+		 * than once (e.g. from two different streams) falls back to freshly
+		 * allocated buffers.
+		 * <i>By default, population buffering is disabled.</i>
+		 *
+		 * @since 4.3
+		 *
+		 * @param buffering {@code true} if the population buffers should be
+		 *        reused, {@code false} otherwise
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> populationBuffering(final boolean buffering) {
+			_populationBuffering = buffering;
+			return this;
+		}
+
+		/**
+		 * Enables the parallel alteration of the offspring population. The
+		 * {@link io.jenetics.Recombinator}s and {@link io.jenetics.Mutator}s
+		 * then split the population across the engine
+		 * {@link #executor(Executor) executor}. Every individual gets its own
+		 * random engine, keyed by the generation and its index, which is
+		 * derived from the {@link io.jenetics.util.RandomRegistry}. The
+		 * altered offspring doesn't depend on the number of threads, and is
+		 * bit-identical to the one of a serial executor. <i>By default, the
+		 * offspring is altered serially.</i>
+		 *
+		 * @apiNote
+		 * The parallel alteration draws different random numbers than the
+		 * serial one. Evolution results, reproduced with a fixed seed, change
+		 * when this option is switched.
+		 *
+		 * @see io.jenetics.Alterer#alter(Seq, long, Executor)
+		 *
+		 * @since 4.3
+		 *
+		 * @param parallel {@code true} if the offspring should be altered in
+		 *        parallel, {@code false} otherwise
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> parallelAlteration(final boolean parallel) {
+			_parallelAlteration = parallel;
+			return this;
+		}
+
+		/**
+		 * Set the fitness cache used by the engine. The cached fitness values
+		 * are looked up by the genotype of the individuals, before the
+		 * remaining individuals are handed to the
+		 * {@link #evaluator(Evaluator) evaluator}. <i>By default, no fitness
+		 * cache is used.</i>
+		 *
+		 * @apiNote
+		 * The fitness cache should only be used for deterministic and
+		 * expensive fitness functions. The fitness values of individuals,
+		 * whose {@link #evaluationTimeout(Duration) evaluation timed out},
+		 * are not cached.
+		 *
+		 * @since 4.3
+		 *
+		 * @see EvolutionResult#getCacheHitCount()
+		 * @see EvolutionResult#getCacheMissCount()
+		 * @see EvolutionResult#getCacheEvictionCount()
+		 *
+		 * @param cache the fitness cache used by the engine, or {@code null}
+		 *        if no fitness cache should be used
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> fitnessCache(final FitnessCache<G, C> cache) {
+			_fitnessCache = cache;
+			return this;
+		}
+
+		/**
+		 * Set a new fitness cache with the given maximal size.
+		 *
+		 * @since 4.3
+		 *
+		 * @see #fitnessCache(FitnessCache)
+		 *
+		 * @param maxSize the maximal number of cached fitness values
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the given {@code maxSize} is
+		 *         smaller than one
+		 */
+		public Builder<G, C> fitnessCache(final int maxSize) {
+			return fitnessCache(FitnessCache.of(maxSize));
+		}
+
 		/**
 		 * The maximal number of attempt before the {@code Engine} gives up
 		 * creating a valid individual ({@code Phenotype}). <i>Default values is
@@ -1427,22 +2133,59 @@ public final class Engine<
 				_fitnessScaler,
 				_survivorsSelector,
 				_offspringSelector,
-				_alterer,
+				_instrumentation != null
+					? new InstrumentedAlterer<>(_alterers, _instrumentation)
+					: _alterer,
 				_validator,
 				_optimize,
 				getOffspringCount(),
 				getSurvivorsCount(),
 				_maximalPhenotypeAge,
 				_executor,
-				_evaluator != null
-					? _evaluator
-					: new ConcurrentEvaluator<>(_executor),
+				evaluator(),
+				_fitnessCache,
+				_evaluationTimeout,
+				_instrumentation != null
+					? _instrumentation
+					: Instrumentation.noop(),
+				_populationBuffering,
+				_parallelAlteration,
 				_clock,
 				_individualCreationRetries,
 				_mapper
 			);
 		}
 
+		private Evaluator<G, C> evaluator() {
+			final Evaluator<G, C> evaluator;
+			if (_evaluator != null) {
+				evaluator = _evaluator;
+			} else if (_evaluationTimeout != null) {
+				evaluator = new TimeoutEvaluator<>(
+					_executor,
+					_evaluationTimeout,
+					_optimize,
+					_instrumentation != null
+						? _instrumentation
+						: Instrumentation.noop()
+				);
+			} else if (_evaluationCost != null) {
+				evaluator = new ConcurrentEvaluator<G, C>(_executor, _evaluationCost)
+					.with(_instrumentation);
+			} else if (_costAwareEvaluation) {
+				evaluator = ConcurrentEvaluator.<G, C>ofCostModel(_executor)
+					.with(_instrumentation);
+			} else {
+				evaluator = new ConcurrentEvaluator<G, C>(_executor)
+					.with(_instrumentation);
+			}
+
+			return _deduplicateEvaluation &&
+				!(evaluator instanceof DeduplicatingEvaluator)
+					? new DeduplicatingEvaluator<>(evaluator)
+					: evaluator;
+		}
+
 		private int getSurvivorsCount() {
 			return _populationSize - getOffspringCount();
 		}
@@ -1586,6 +2329,122 @@ public final class Engine<
 			return _populationSize;
 		}
 
+		/**
+		 * Return {@code true} if individuals with equal genotypes are
+		 * evaluated only once per evaluation step.
+		 *
+		 * @since 4.3
+		 *
+		 * @return {@code true} if duplicate individuals are collapsed during
+		 *         evaluation, {@code false} otherwise
+		 */
+		public boolean isDeduplicateEvaluation() {
+			return _deduplicateEvaluation;
+		}
+
+		/**
+		 * Return {@code true} if the evaluation is scheduled according to the
+		 * learned evaluation costs.
+		 *
+		 * @since 4.3
+		 *
+		 * @return {@code true} if the cost aware evaluation is enabled,
+		 *         {@code false} otherwise
+		 */
+		public boolean isCostAwareEvaluation() {
+			return _costAwareEvaluation;
+		}
+
+		/**
+		 * Return the evaluation cost estimator.
+		 *
+		 * @since 4.3
+		 *
+		 * @return the evaluation cost estimator, or {@code null} if no cost
+		 *         estimator is set
+		 */
+		public ToDoubleFunction<? super Genotype<G>> getEvaluationCost() {
+			return _evaluationCost;
+		}
+
+		/**
+		 * Return the maximal evaluation time of an individual.
+		 *
+		 * @since 4.3
+		 *
+		 * @return the evaluation timeout, or {@code null} if no evaluation
+		 *         timeout is set
+		 */
+		public Duration getEvaluationTimeout() {
+			return _evaluationTimeout != null
+				? _evaluationTimeout.getTimeout()
+				: null;
+		}
+
+		/**
+		 * Return the penalty fitness value, assigned to individuals whose
+		 * evaluation timed out.
+		 *
+		 * @since 4.3
+		 *
+		 * @return the penalty fitness value, or {@code null} if no penalty
+		 *         fitness is set
+		 */
+		public C getEvaluationTimeoutPenalty() {
+			return _evaluationTimeout != null
+				? _evaluationTimeout.getPenalty()
+				: null;
+		}
+
+		/**
+		 * Return whether the population storage is reused across the
+		 * generations.
+		 *
+		 * @since 4.3
+		 *
+		 * @return {@code true} if the population buffers are reused,
+		 *         {@code false} otherwise
+		 */
+		public boolean isPopulationBuffering() {
+			return _populationBuffering;
+		}
+
+		/**
+		 * Return whether the offspring population is altered in parallel.
+		 *
+		 * @since 4.3
+		 *
+		 * @return {@code true} if the offspring is altered in parallel,
+		 *         {@code false} otherwise
+		 */
+		public boolean isParallelAlteration() {
+			return _parallelAlteration;
+		}
+
+		/**
+		 * Return the instrumentation used by the engine.
+		 *
+		 * @since 4.3
+		 *
+		 * @return the instrumentation used by the engine, or {@code null} if
+		 *         no instrumentation is used
+		 */
+		public Instrumentation<G, C> getInstrumentation() {
+			return _instrumentation;
+		}
+
+		/**
+		 * Return the fitness cache used by the engine.
+		 *
+		 * @since 4.3
+		 *
+		 * @return the fitness cache used by the engine, or {@code null} if no
+		 *         fitness cache is used
+		 */
+		public FitnessCache<G, C> getFitnessCache() {
+			return _fitnessCache;
+		}
+
 		/**
 		 * Return the maximal number of attempt before the {@code Engine} gives
 		 * up creating a valid individual ({@code Phenotype}).
@@ -1619,10 +2478,18 @@ public final class Engine<
 		@Override
 		public Builder<G, C> copy() {
 			return new Builder<G, C>(_genotypeFactory, _fitnessFunction)
-				.alterers(_alterer)
+				.alterers(_alterers)
 				.clock(_clock)
 				.executor(_executor)
 				.evaluator(_evaluator)
+				.fitnessCache(_fitnessCache)
+				.deduplicateEvaluation(_deduplicateEvaluation)
+				.costAwareEvaluation(_costAwareEvaluation)
+				.evaluationCost(_evaluationCost)
+				.evaluationTimeout(_evaluationTimeout)
+				.instrumentation(_instrumentation)
+				.populationBuffering(_populationBuffering)
+				.parallelAlteration(_parallelAlteration)
 				.fitnessScaler(_fitnessScaler)
 				.maximalPhenotypeAge(_maximalPhenotypeAge)
 				.offspringFraction(_offspringFraction)
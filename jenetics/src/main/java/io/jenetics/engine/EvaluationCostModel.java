@@ -0,0 +1,109 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Learns the evaluation costs of the individuals from the observed
+ * evaluation times. The model is a simple linear regression of the evaluation
+ * time, in nanoseconds, on the number of genes of the genotype. This captures
+ * the typical case of variable sized genotypes, like program trees, where
+ * bigger genotypes are more expensive to evaluate. As long as not enough
+ * timings have been observed, the number of genes is used as cost estimate.
+ * <p>
+ * The number of genes is the only feature the model learns from. For
+ * genotypes with a fixed length, every estimate is the mean evaluation time
+ * and the individuals are indistinguishable. In this case the evaluation falls
+ * back to the default scheduling, since equal costs carry no scheduling
+ * information. An explicit cost function, set via
+ * {@link Engine.Builder#evaluationCost(ToDoubleFunction)}, must be used for
+ * estimating the costs of fixed length genotypes.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class EvaluationCostModel<G extends Gene<?, G>>
+	implements ToDoubleFunction<Genotype<G>>
+{
+
+	private static final double MIN_COST = 1.0;
+
+	private long _count = 0;
+	private double _sumX = 0;
+	private double _sumY = 0;
+	private double _sumXX = 0;
+	private double _sumXY = 0;
+
+	/**
+	 * Record the observed evaluation time of the given genotype.
+	 *
+	 * @param genotype the evaluated genotype
+	 * @param nanos the evaluation time in nanoseconds
+	 */
+	synchronized void update(final Genotype<G> genotype, final long nanos) {
+		final double x = genotype.geneCount();
+		final double y = nanos;
+
+		++_count;
+		_sumX += x;
+		_sumY += y;
+		_sumXX += x*x;
+		_sumXY += x*y;
+	}
+
+	/**
+	 * Return the number of observed evaluation times.
+	 *
+	 * @return the number of observed evaluation times
+	 */
+	synchronized long count() {
+		return _count;
+	}
+
+	@Override
+	public synchronized double applyAsDouble(final Genotype<G> genotype) {
+		final double x = genotype.geneCount();
+		if (_count < 2) {
+			return max(x, MIN_COST);
+		}
+
+		final double meanX = _sumX/_count;
+		final double meanY = _sumY/_count;
+		final double varX = _sumXX/_count - meanX*meanX;
+
+		final double estimate;
+		if (varX > 0) {
+			final double slope = (_sumXY/_count - meanX*meanY)/varX;
+			estimate = meanY + slope*(x - meanX);
+		} else {
+			estimate = meanY;
+		}
+
+		return max(estimate, MIN_COST);
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Contains the evaluation timeout configuration of the {@link Engine} and
+ * keeps track of the individuals whose evaluation has timed out. If no
+ * penalty fitness is given, the timed out individuals are treated as
+ * invalid and are replaced in the next filter step of the engine.
+ *
+ * @see Engine.Builder#evaluationTimeout(Duration)
+ * @see Engine.Builder#evaluationTimeout(Duration, Comparable)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class EvaluationTimeout<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Duration _timeout;
+	private final C _penalty;
+
+	// Weak keys, since the individuals are only needed as long as they are
+	// part of a population.
+	private final Map<Phenotype<G, C>, Boolean> _timedOut =
+		Collections.synchronizedMap(new WeakHashMap<>());
+
+	EvaluationTimeout(final Duration timeout, final C penalty) {
+		_timeout = requireNonNull(timeout);
+		_penalty = penalty;
+
+		if (timeout.isNegative() || timeout.isZero()) {
+			throw new IllegalArgumentException(format(
+				"Evaluation timeout must be positive: %s", timeout
+			));
+		}
+	}
+
+	Duration getTimeout() {
+		return _timeout;
+	}
+
+	/**
+	 * Return the penalty fitness, or {@code null} if timed out individuals
+	 * are treated as invalid.
+	 */
+	C getPenalty() {
+		return _penalty;
+	}
+
+	/**
+	 * Register the given, evaluated, individual as timed out.
+	 */
+	void timedOut(final Phenotype<G, C> phenotype) {
+		_timedOut.put(phenotype, Boolean.TRUE);
+	}
+
+	/**
+	 * Test whether the evaluation of the given individual has timed out.
+	 */
+	boolean isTimedOut(final Phenotype<G, C> phenotype) {
+		return phenotype.isEvaluated() && _timedOut.containsKey(phenotype);
+	}
+
+	/**
+	 * Test whether the given individual is invalid, because its evaluation
+	 * has timed out and no penalty fitness is given.
+	 */
+	boolean isInvalid(final Phenotype<G, C> phenotype) {
+		return _penalty == null && isTimedOut(phenotype);
+	}
+
+	/**
+	 * Return the number of individuals, which have been evaluated during the
+	 * evaluation step and whose evaluation has timed out.
+	 *
+	 * @param population the population before the evaluation
+	 * @param evaluated the population after the evaluation
+	 * @return the number of timed out evaluations
+	 */
+	int count(
+		final Seq<Phenotype<G, C>> population,
+		final Seq<Phenotype<G, C>> evaluated
+	) {
+		int count = 0;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			if (!population.get(i).isEvaluated() &&
+				isTimedOut(evaluated.get(i)))
+			{
+				++count;
+			}
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,604 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.NanoClock;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Evolution stream stage, which periodically writes checkpoints of the
+ * evolution state to a rotating set of files. A checkpoint contains the
+ * population, the generation and, if available, the state of the random
+ * engine of the {@link RandomRegistry}. The evolution can be resumed from the
+ * latest valid checkpoint after a crash.
+ *
+ * <pre>{@code
+ * final Path dir = Paths.get("checkpoints");
+ * final EvolutionCheckpoint<BitGene, Double> checkpoint =
+ *     EvolutionCheckpoint.of(dir, 100, Duration.ofMinutes(10), 3);
+ *
+ * final EvolutionStream<BitGene, Double> stream = EvolutionCheckpoint
+ *     .<BitGene, Double>restore(dir)
+ *     .map(start -> engine.stream(start))
+ *     .orElseGet(engine::stream);
+ *
+ * final Phenotype<BitGene, Double> best = stream
+ *     .limit(Limits.bySteadyFitness(1000))
+ *     .peek(checkpoint)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ *
+ * checkpoint.close();
+ * }</pre>
+ *
+ * A checkpoint is written, if either the given number of generations or the
+ * given time interval has been elapsed since the last checkpoint. The
+ * evolution thread only captures the (immutable) population and a copy of the
+ * random engine. The checkpoint is serialized and written by a background
+ * thread. If the background thread is still busy, when the next checkpoint is
+ * due, only the latest checkpoint is written.
+ * <p>
+ * Every checkpoint file is written to a temporary file first, which is then
+ * atomically moved to its final location. The content is protected by a
+ * checksum, which allows to skip truncated or corrupted checkpoint files when
+ * restoring the evolution state.
+ *
+ * @apiNote
+ * The phenotypes are written with the Java serialization. Restored phenotypes
+ * are re-evaluated by the {@link Engine}, when the evolution is resumed. The
+ * captured random engine state only allows a reproducible resumption of the
+ * evolution, if the evolution is performed by a single thread.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class EvolutionCheckpoint<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Consumer<EvolutionResult<G, C>>, Closeable
+{
+
+	private static final int MAGIC = 0x4A434B50; // "JCKP"
+	private static final int VERSION = 1;
+
+	private static final String PREFIX = "checkpoint-";
+	private static final String SUFFIX = ".jcp";
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final Path _directory;
+	private final long _generations;
+	private final Duration _interval;
+	private final int _files;
+	private final Clock _clock;
+
+	private final ExecutorService _writer;
+	private final AtomicReference<State<G, C>> _pending = new AtomicReference<>();
+	private volatile Future<?> _write;
+	private volatile IOException _error;
+
+	private long _lastGeneration;
+	private Instant _lastTime;
+
+	private EvolutionCheckpoint(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int files,
+		final Clock clock
+	) {
+		_directory = requireNonNull(directory);
+		_interval = requireNonNull(interval);
+		_clock = requireNonNull(clock);
+
+		if (generations < 1) {
+			throw new IllegalArgumentException(format(
+				"Generations must be greater than zero, but was %d.",
+				generations
+			));
+		}
+		if (interval.isNegative()) {
+			throw new IllegalArgumentException(format(
+				"Interval must not be negative, but was %s.", interval
+			));
+		}
+		if (files < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of files must be greater than zero, but was %d.",
+				files
+			));
+		}
+
+		_generations = generations;
+		_files = files;
+		_writer = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "EvolutionCheckpoint");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Return the directory the checkpoint files are written to.
+	 *
+	 * @return the checkpoint directory
+	 */
+	public Path getDirectory() {
+		return _directory;
+	}
+
+	/**
+	 * Checks whether a new checkpoint is due and schedules the writing of the
+	 * evolution state of the given {@code result}, if so.
+	 *
+	 * @param result the current evolution result
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 */
+	@Override
+	public void accept(final EvolutionResult<G, C> result) {
+		final Instant now = _clock.instant();
+
+		if (_lastTime == null) {
+			_lastGeneration = result.getGeneration() - 1;
+			_lastTime = now;
+		}
+
+		final boolean due =
+			result.getGeneration() - _lastGeneration >= _generations ||
+			Duration.between(_lastTime, now).compareTo(_interval) >= 0;
+
+		if (due) {
+			_lastGeneration = result.getGeneration();
+			_lastTime = now;
+			schedule(new State<>(
+				result.getPopulation(),
+				result.getGeneration() + 1,
+				copy(RandomRegistry.getRandom())
+			));
+		}
+	}
+
+	private void schedule(final State<G, C> state) {
+		if (_pending.getAndSet(state) == null) {
+			_write = _writer.submit(() -> {
+				final State<G, C> next = _pending.getAndSet(null);
+				if (next != null) {
+					try {
+						write(next);
+					} catch (IOException e) {
+						_error = e;
+					}
+				}
+			});
+		}
+	}
+
+	// Creates a copy of the given random engine, by serializing it.
+	private static Random copy(final Random random) {
+		if (random instanceof ThreadLocalRandom) {
+			return null;
+		}
+
+		try {
+			return (Random)IO.object.fromByteArray(IO.object.toByteArray(random));
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private void write(final State<G, C> state) throws IOException {
+		Files.createDirectories(_directory);
+
+		final Path file = _directory.resolve(format(
+			"%s%020d%s", PREFIX, state.getGeneration(), SUFFIX
+		));
+		final Path temp = _directory.resolve(file.getFileName() + TEMP_SUFFIX);
+
+		try (OutputStream out = Files.newOutputStream(temp)) {
+			write(state, out);
+		}
+
+		try {
+			Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, file, REPLACE_EXISTING);
+		}
+
+		final List<Path> files = files(_directory);
+		for (int i = _files; i < files.size(); ++i) {
+			Files.deleteIfExists(files.get(i));
+		}
+	}
+
+	/**
+	 * Waits until the scheduled checkpoints has been written.
+	 *
+	 * @throws IOException if writing a checkpoint has failed
+	 */
+	public void flush() throws IOException {
+		final Future<?> write = _write;
+		if (write != null) {
+			try {
+				write.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (ExecutionException e) {
+				throw new IOException(e.getCause());
+			}
+		}
+
+		final IOException error = _error;
+		if (error != null) {
+			_error = null;
+			throw error;
+		}
+	}
+
+	/**
+	 * Writes the pending checkpoint and stops the background writer thread.
+	 *
+	 * @throws IOException if writing a checkpoint has failed
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			_writer.shutdown();
+			try {
+				_writer.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Checkpoint file format.
+	 * ************************************************************************/
+
+	private static void write(final State<?, ?> state, final OutputStream out)
+		throws IOException
+	{
+		final CheckedOutputStream checked = new CheckedOutputStream(
+			new BufferedOutputStream(out),
+			new CRC32()
+		);
+		final DataOutputStream data = new DataOutputStream(checked);
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeLong(state.getGeneration());
+
+		final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		IO.object.write(state, payload);
+		data.writeInt(payload.size());
+		payload.writeTo(data);
+
+		data.writeLong(checked.getChecksum().getValue());
+		data.flush();
+	}
+
+	private static State<?, ?> read(final InputStream in) throws IOException {
+		final CheckedInputStream checked = new CheckedInputStream(
+			new BufferedInputStream(in),
+			new CRC32()
+		);
+		final DataInputStream data = new DataInputStream(checked);
+		if (data.readInt() != MAGIC) {
+			throw new IOException("Invalid checkpoint file.");
+		}
+		final int version = data.readInt();
+		if (version != VERSION) {
+			throw new IOException(format(
+				"Unsupported checkpoint version: %d", version
+			));
+		}
+		final long generation = data.readLong();
+
+		final byte[] payload = new byte[data.readInt()];
+		data.readFully(payload);
+
+		final long checksum = checked.getChecksum().getValue();
+		if (data.readLong() != checksum) {
+			throw new IOException("Checkpoint checksum mismatch.");
+		}
+
+		final State<?, ?> state = IO.object
+			.read(State.class, new ByteArrayInputStream(payload));
+		if (state.getGeneration() != generation) {
+			throw new IOException("Inconsistent checkpoint generation.");
+		}
+
+		return state;
+	}
+
+	// Return the checkpoint files of the given directory, newest first.
+	private static List<Path> files(final Path directory) throws IOException {
+		final List<Path> files = new ArrayList<>();
+		if (Files.isDirectory(directory)) {
+			try (DirectoryStream<Path> stream =
+					Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX))
+			{
+				stream.forEach(files::add);
+			}
+		}
+
+		files.sort(Comparator.comparing((Path p) -> p.getFileName().toString())
+			.reversed());
+		return files;
+	}
+
+
+	/* *************************************************************************
+	 * Static factory and restore methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new evolution checkpoint stage.
+	 *
+	 * @param directory the directory the checkpoint files are written to
+	 * @param generations the number of generations between two checkpoints
+	 * @param interval the maximal time interval between two checkpoints
+	 * @param files the number of checkpoint files which are kept
+	 * @param clock the clock used for measuring the checkpoint interval
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new evolution checkpoint stage
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the number of {@code generations}
+	 *         or {@code files} is smaller than one, or the {@code interval}
+	 *         is negative
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionCheckpoint<G, C> of(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int files,
+		final Clock clock
+	) {
+		return new EvolutionCheckpoint<>(
+			directory,
+			generations,
+			interval,
+			files,
+			clock
+		);
+	}
+
+	/**
+	 * Create a new evolution checkpoint stage.
+	 *
+	 * @param directory the directory the checkpoint files are written to
+	 * @param generations the number of generations between two checkpoints
+	 * @param interval the maximal time interval between two checkpoints
+	 * @param files the number of checkpoint files which are kept
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new evolution checkpoint stage
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the number of {@code generations}
+	 *         or {@code files} is smaller than one, or the {@code interval}
+	 *         is negative
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionCheckpoint<G, C> of(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int files
+	) {
+		return of(directory, generations, interval, files, NanoClock.systemUTC());
+	}
+
+	/**
+	 * Create a new evolution checkpoint stage, which writes a checkpoint every
+	 * given number of {@code generations} and keeps the last three checkpoint
+	 * files.
+	 *
+	 * @param directory the directory the checkpoint files are written to
+	 * @param generations the number of generations between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new evolution checkpoint stage
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IllegalArgumentException if the number of {@code generations}
+	 *         is smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionCheckpoint<G, C> of(final Path directory, final long generations) {
+		return of(
+			directory,
+			generations,
+			Duration.ofSeconds(Long.MAX_VALUE),
+			3,
+			NanoClock.systemUTC()
+		);
+	}
+
+	/**
+	 * Return the evolution state of the latest valid checkpoint file of the
+	 * given {@code directory}. Invalid checkpoint files are skipped.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the latest valid evolution state, or {@link Optional#empty()}
+	 *         if the directory contains no valid checkpoint
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws UncheckedIOException if the checkpoint directory can't be read
+	 */
+	@SuppressWarnings("unchecked")
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<State<G, C>> latest(final Path directory) {
+		try {
+			for (Path file : files(requireNonNull(directory))) {
+				try (InputStream in = Files.newInputStream(file)) {
+					return Optional.of((State<G, C>)read(in));
+				} catch (IOException ignore) {
+					// Try the next older checkpoint.
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Return the evolution start object of the latest valid checkpoint file
+	 * of the given {@code directory}. The captured random engine is
+	 * <em>not</em> restored. Use the {@link #latest(Path)} method if you need
+	 * access to the random engine state.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the latest valid evolution start, or {@link Optional#empty()}
+	 *         if the directory contains no valid checkpoint
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws UncheckedIOException if the checkpoint directory can't be read
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<EvolutionStart<G, C>> restore(final Path directory) {
+		return EvolutionCheckpoint.<G, C>latest(directory)
+			.map(State::toEvolutionStart);
+	}
+
+
+	/**
+	 * The evolution state, stored in a checkpoint file.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 */
+	public static final class State<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final ISeq<Phenotype<G, C>> _population;
+		private final long _generation;
+		private final Random _random;
+
+		private State(
+			final ISeq<Phenotype<G, C>> population,
+			final long generation,
+			final Random random
+		) {
+			_population = requireNonNull(population);
+			_generation = generation;
+			_random = random;
+		}
+
+		/**
+		 * Return the population of the checkpoint.
+		 *
+		 * @return the population of the checkpoint
+		 */
+		public ISeq<Phenotype<G, C>> getPopulation() {
+			return _population;
+		}
+
+		/**
+		 * Return the generation the evolution is resumed with.
+		 *
+		 * @return the start generation of the resumed evolution
+		 */
+		public long getGeneration() {
+			return _generation;
+		}
+
+		/**
+		 * Return the captured random engine of the {@link RandomRegistry}.
+		 * The random engine is not available, if it isn't serializable or if
+		 * the default {@link ThreadLocalRandom} is used.
+		 *
+		 * @return the captured random engine, if available
+		 */
+		public Optional<Random> getRandom() {
+			return Optional.ofNullable(_random);
+		}
+
+		/**
+		 * Return the checkpoint state as evolution start object.
+		 *
+		 * @return the evolution start object of the checkpoint
+		 */
+		public EvolutionStart<G, C> toEvolutionStart() {
+			return EvolutionStart.of(_population, _generation);
+		}
+	}
+
+}
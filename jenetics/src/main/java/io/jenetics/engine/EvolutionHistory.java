@@ -0,0 +1,734 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+
+/**
+ * Evolution stream stage, which appends the population of every generation to
+ * an append-only history log. The history can be read with the
+ * {@link #open(Path)} method, which gives random access to every logged
+ * generation, or streams them, without loading the whole log into memory.
+ *
+ * <pre>{@code
+ * final Path dir = Paths.get("history");
+ * try (EvolutionHistory<DoubleGene, Double> history = EvolutionHistory.of(dir)) {
+ *     engine.stream()
+ *         .limit(1000)
+ *         .peek(history)
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }
+ *
+ * try (EvolutionHistory.Reader<DoubleGene, Double> reader =
+ *         EvolutionHistory.open(dir))
+ * {
+ *     final Optional<EvolutionHistory.Generation<DoubleGene, Double>> gen =
+ *         reader.get(500);
+ *     reader.stream().forEach(g -> System.out.println(g.getGeneration()));
+ * }
+ * }</pre>
+ *
+ * The history log consists of memory-mapped segment files with a fixed size
+ * and an index file, which maps the generations to the position of its
+ * record. The populations are encoded with the {@link IO#binary} format. The
+ * evolution thread only enqueues the (immutable) population. The encoding
+ * and writing is done in batches by a background thread. If the background
+ * thread falls behind by more than the given number of pending generations,
+ * the evolution thread is blocked until the backlog has been written.
+ * <p>
+ * An existing history log is continued by appending new segments. If a
+ * generation is logged more than once, e.g. after resuming the evolution
+ * from an {@link EvolutionCheckpoint}, the latest record of this generation
+ * is returned by the reader.
+ *
+ * @apiNote
+ * Like with the {@link IO#object} serialization, the fitness function of
+ * the read phenotypes is the <em>identity</em> function. Memory-mapped
+ * segments are released, when they are garbage collected.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class EvolutionHistory<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Consumer<EvolutionResult<G, C>>, Closeable
+{
+
+	private static final int MAGIC = 0x4A485354; // "JHST"
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 8;
+	private static final int RECORD_HEADER_SIZE = 8;
+	private static final int INDEX_ENTRY_SIZE = 20;
+
+	private static final String INDEX_FILE = "history.idx";
+	private static final String SEGMENT_PREFIX = "history-";
+	private static final String SEGMENT_SUFFIX = ".seg";
+
+	/**
+	 * The default segment size of 64 MiB.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64*1024*1024;
+
+	/**
+	 * The default number of generations, which may be pending for being
+	 * written.
+	 */
+	public static final int DEFAULT_MAX_PENDING = 16;
+
+	private final Path _directory;
+	private final int _segmentSize;
+
+	private final ExecutorService _writer;
+	private final Queue<Generation<G, C>> _pending = new ConcurrentLinkedQueue<>();
+	private final Semaphore _capacity;
+	private volatile IOException _error;
+
+	// Only accessed by the writer thread.
+	private FileChannel _index;
+	private MappedByteBuffer _segment;
+	private int _segmentNumber = -1;
+
+	private EvolutionHistory(
+		final Path directory,
+		final int segmentSize,
+		final int maxPending
+	) {
+		_directory = requireNonNull(directory);
+
+		if (segmentSize <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+			throw new IllegalArgumentException(format(
+				"Segment size must be greater than %d, but was %d.",
+				HEADER_SIZE + RECORD_HEADER_SIZE, segmentSize
+			));
+		}
+		if (maxPending < 1) {
+			throw new IllegalArgumentException(format(
+				"Max pending generations must be greater than zero, but was %d.",
+				maxPending
+			));
+		}
+
+		_segmentSize = segmentSize;
+		_capacity = new Semaphore(maxPending);
+		_writer = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "EvolutionHistory");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Return the directory the history log is written to.
+	 *
+	 * @return the history directory
+	 */
+	public Path getDirectory() {
+		return _directory;
+	}
+
+	/**
+	 * Enqueues the population of the given {@code result} for being appended
+	 * to the history log. This method blocks, if the maximal number of
+	 * pending generations has been reached.
+	 *
+	 * @param result the current evolution result
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 */
+	@Override
+	public void accept(final EvolutionResult<G, C> result) {
+		final Generation<G, C> generation = new Generation<>(
+			result.getGeneration(),
+			result.getPopulation()
+		);
+
+		_capacity.acquireUninterruptibly();
+		_pending.add(generation);
+		_writer.submit(this::drain);
+	}
+
+	// Writes all pending generations as one batch.
+	private void drain() {
+		final List<Generation<G, C>> batch = new ArrayList<>();
+		for (Generation<G, C> g = _pending.poll(); g != null; g = _pending.poll()) {
+			batch.add(g);
+		}
+
+		if (!batch.isEmpty()) {
+			try {
+				write(batch);
+			} catch (IOException e) {
+				_error = e;
+			} finally {
+				_capacity.release(batch.size());
+			}
+		}
+	}
+
+	private void write(final List<Generation<G, C>> batch) throws IOException {
+		if (_index == null) {
+			open();
+		}
+
+		final ByteBuffer entries = ByteBuffer
+			.allocate(batch.size()*INDEX_ENTRY_SIZE);
+
+		for (Generation<G, C> generation : batch) {
+			final byte[] data = IO.binary.toByteArray(generation.getPopulation());
+			final long size = (long)RECORD_HEADER_SIZE + data.length;
+			if (size > Integer.MAX_VALUE - HEADER_SIZE) {
+				throw new IOException(format(
+					"Population of generation %d is too big: %d bytes.",
+					generation.getGeneration(), data.length
+				));
+			}
+			if (_segment == null || _segment.remaining() < size) {
+				nextSegment((int)size);
+			}
+
+			final CRC32 crc = new CRC32();
+			crc.update(data);
+
+			final int offset = _segment.position();
+			_segment.putInt(data.length);
+			_segment.putInt((int)crc.getValue());
+			_segment.put(data);
+
+			entries.putLong(generation.getGeneration());
+			entries.putInt(_segmentNumber);
+			entries.putInt(offset);
+			entries.putInt(data.length);
+		}
+
+		// The index entries are written after the records.
+		entries.flip();
+		while (entries.hasRemaining()) {
+			_index.write(entries);
+		}
+	}
+
+	// Opens the index file and continues an existing history log.
+	private void open() throws IOException {
+		Files.createDirectories(_directory);
+		_index = FileChannel.open(_directory.resolve(INDEX_FILE), CREATE, READ, WRITE);
+
+		if (_index.size() < HEADER_SIZE) {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).putInt(VERSION).flip();
+			_index.truncate(0);
+			_index.write(header, 0);
+		} else {
+			header(_index.map(MapMode.READ_ONLY, 0, HEADER_SIZE), "index");
+		}
+
+		// Removing a partially written index entry.
+		final long entries = (_index.size() - HEADER_SIZE)/INDEX_ENTRY_SIZE;
+		_index.truncate(HEADER_SIZE + entries*INDEX_ENTRY_SIZE);
+		_index.position(_index.size());
+
+		_segmentNumber = segments(_directory);
+	}
+
+	private void nextSegment(final int size) throws IOException {
+		if (_segment != null) {
+			_segment.force();
+		}
+
+		++_segmentNumber;
+		try (FileChannel channel = FileChannel.open(
+				segment(_directory, _segmentNumber), CREATE, READ, WRITE))
+		{
+			_segment = channel.map(
+				MapMode.READ_WRITE,
+				0,
+				Math.max(_segmentSize, HEADER_SIZE + size)
+			);
+		}
+		_segment.putInt(MAGIC).putInt(VERSION);
+	}
+
+	private void sync() {
+		try {
+			if (_segment != null) {
+				_segment.force();
+			}
+			if (_index != null) {
+				_index.force(false);
+			}
+		} catch (IOException e) {
+			_error = e;
+		}
+	}
+
+	/**
+	 * Waits until all pending generations has been written and forces the
+	 * written data to the storage device.
+	 *
+	 * @throws IOException if writing the history log has failed
+	 */
+	public void flush() throws IOException {
+		await(_writer.submit(this::sync));
+
+		final IOException error = _error;
+		if (error != null) {
+			_error = null;
+			throw error;
+		}
+	}
+
+	private static void await(final Future<?> future) throws IOException {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Writes the pending generations and stops the background writer thread.
+	 *
+	 * @throws IOException if writing the history log has failed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!_writer.isShutdown()) {
+			try {
+				flush();
+			} finally {
+				_writer.submit(() -> {
+					try {
+						if (_index != null) {
+							_index.close();
+						}
+					} catch (IOException e) {
+						_error = e;
+					}
+					_segment = null;
+				});
+				_writer.shutdown();
+				try {
+					_writer.awaitTermination(1, TimeUnit.MINUTES);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			final IOException error = _error;
+			if (error != null) {
+				throw error;
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * History file helper methods.
+	 * ************************************************************************/
+
+	private static Path segment(final Path directory, final int number) {
+		return directory.resolve(format(
+			"%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX
+		));
+	}
+
+	// Return the highest segment number of the given directory or -1.
+	private static int segments(final Path directory) throws IOException {
+		int number = -1;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+				directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX))
+		{
+			for (Path path : stream) {
+				final String name = path.getFileName().toString();
+				try {
+					number = Math.max(number, Integer.parseInt(name.substring(
+						SEGMENT_PREFIX.length(),
+						name.length() - SEGMENT_SUFFIX.length()
+					)));
+				} catch (NumberFormatException ignore) {
+					// Not a segment file.
+				}
+			}
+		}
+		return number;
+	}
+
+	private static void header(final ByteBuffer buffer, final String type)
+		throws IOException
+	{
+		if (buffer.getInt() != MAGIC) {
+			throw new IOException(format("Invalid history %s file.", type));
+		}
+		final int version = buffer.getInt();
+		if (version != VERSION) {
+			throw new IOException(format(
+				"Unsupported history %s version: %d", type, version
+			));
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new evolution history stage.
+	 *
+	 * @param directory the directory the history log is written to
+	 * @param segmentSize the size of the memory-mapped segment files. Bigger
+	 *        populations are written to a segment with the needed size.
+	 * @param maxPending the maximal number of generations, which are waiting
+	 *        for being written
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new evolution history stage
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code segmentSize} is too
+	 *         small or {@code maxPending} is smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionHistory<G, C> of(
+		final Path directory,
+		final int segmentSize,
+		final int maxPending
+	) {
+		return new EvolutionHistory<>(directory, segmentSize, maxPending);
+	}
+
+	/**
+	 * Create a new evolution history stage with a segment size of
+	 * {@link #DEFAULT_SEGMENT_SIZE} and {@link #DEFAULT_MAX_PENDING} pending
+	 * generations.
+	 *
+	 * @param directory the directory the history log is written to
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new evolution history stage
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionHistory<G, C> of(final Path directory) {
+		return of(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_PENDING);
+	}
+
+	/**
+	 * Opens the history log of the given {@code directory} for reading. The
+	 * reader sees the generations, which has been written, when the reader
+	 * was opened.
+	 *
+	 * @param directory the history directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new history reader
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IOException if the history index can't be read or is invalid
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Reader<G, C> open(final Path directory) throws IOException {
+		return new Reader<>(directory);
+	}
+
+
+	/* *************************************************************************
+	 * Reading the history log.
+	 * ************************************************************************/
+
+	/**
+	 * One logged generation of the history.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 */
+	public static final class Generation<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final long _generation;
+		private final ISeq<Phenotype<G, C>> _population;
+
+		private Generation(
+			final long generation,
+			final ISeq<Phenotype<G, C>> population
+		) {
+			_generation = generation;
+			_population = requireNonNull(population);
+		}
+
+		/**
+		 * Return the generation number.
+		 *
+		 * @return the generation number
+		 */
+		public long getGeneration() {
+			return _generation;
+		}
+
+		/**
+		 * Return the population of this generation.
+		 *
+		 * @return the population of this generation
+		 */
+		public ISeq<Phenotype<G, C>> getPopulation() {
+			return _population;
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Generation[generation=%d, size=%d]",
+				_generation, _population.size()
+			);
+		}
+	}
+
+	/**
+	 * Random access reader of a history log.
+	 *
+	 * @see EvolutionHistory#open(Path)
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 */
+	public static final class Reader<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Closeable
+	{
+		private final Path _directory;
+
+		// The index entries, sorted by generation.
+		private final long[] _generations;
+		private final int[] _segments;
+		private final int[] _offsets;
+		private final int[] _lengths;
+
+		private final Map<Integer, ByteBuffer> _mapped = new HashMap<>();
+		private volatile boolean _closed = false;
+
+		private Reader(final Path directory) throws IOException {
+			_directory = requireNonNull(directory);
+
+			final ByteBuffer index;
+			try (FileChannel channel = FileChannel
+					.open(directory.resolve(INDEX_FILE), READ))
+			{
+				index = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			}
+			if (index.remaining() < HEADER_SIZE) {
+				throw new IOException("Invalid history index file.");
+			}
+			header(index, "index");
+
+			// The latest entry of a generation wins.
+			final TreeMap<Long, Integer> positions = new TreeMap<>();
+			while (index.remaining() >= INDEX_ENTRY_SIZE) {
+				positions.put(index.getLong(index.position()), index.position());
+				index.position(index.position() + INDEX_ENTRY_SIZE);
+			}
+
+			_generations = new long[positions.size()];
+			_segments = new int[positions.size()];
+			_offsets = new int[positions.size()];
+			_lengths = new int[positions.size()];
+
+			int i = 0;
+			for (Map.Entry<Long, Integer> entry : positions.entrySet()) {
+				final int position = entry.getValue();
+				_generations[i] = entry.getKey();
+				_segments[i] = index.getInt(position + 8);
+				_offsets[i] = index.getInt(position + 12);
+				_lengths[i] = index.getInt(position + 16);
+				++i;
+			}
+		}
+
+		/**
+		 * Return the number of logged generations.
+		 *
+		 * @return the number of logged generations
+		 */
+		public int size() {
+			return _generations.length;
+		}
+
+		/**
+		 * Return the logged generation numbers in ascending order.
+		 *
+		 * @return the logged generation numbers
+		 */
+		public LongStream generations() {
+			return LongStream.of(_generations);
+		}
+
+		/**
+		 * Reads the given {@code generation} from the history log.
+		 *
+		 * @param generation the generation to read
+		 * @return the logged generation, or {@link Optional#empty()} if the
+		 *         given {@code generation} has not been logged
+		 * @throws IOException if the generation record can't be read or is
+		 *         corrupted
+		 * @throws IllegalStateException if the reader has been closed
+		 */
+		public Optional<Generation<G, C>> get(final long generation)
+			throws IOException
+		{
+			final int i = Arrays.binarySearch(_generations, generation);
+			return i >= 0 ? Optional.of(read(i)) : Optional.empty();
+		}
+
+		/**
+		 * Return a lazy stream of all logged generations in ascending order.
+		 * The generations are read when the stream is consumed. An
+		 * {@link IOException} is re-thrown as {@link UncheckedIOException}.
+		 *
+		 * @return a stream of the logged generations
+		 */
+		public Stream<Generation<G, C>> stream() {
+			return IntStream.range(0, _generations.length)
+				.mapToObj(i -> {
+					try {
+						return read(i);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+		}
+
+		private Generation<G, C> read(final int i) throws IOException {
+			final ByteBuffer buffer = segment(_segments[i]).duplicate();
+			if (_offsets[i] < HEADER_SIZE ||
+				_offsets[i] + (long)RECORD_HEADER_SIZE + _lengths[i] >
+					buffer.capacity())
+			{
+				throw new IOException(format(
+					"Invalid index entry for generation %d.", _generations[i]
+				));
+			}
+
+			buffer.position(_offsets[i]);
+			final int length = buffer.getInt();
+			final int checksum = buffer.getInt();
+			final byte[] data = new byte[_lengths[i]];
+			buffer.get(data);
+
+			final CRC32 crc = new CRC32();
+			crc.update(data);
+			if (length != data.length || checksum != (int)crc.getValue()) {
+				throw new IOException(format(
+					"Corrupted record of generation %d.", _generations[i]
+				));
+			}
+
+			@SuppressWarnings("unchecked")
+			final ISeq<Phenotype<G, C>> population = IO.binary
+				.read(ISeq.class, new ByteArrayInputStream(data));
+
+			return new Generation<>(_generations[i], population);
+		}
+
+		private ByteBuffer segment(final int number) throws IOException {
+			synchronized (_mapped) {
+				if (_closed) {
+					throw new IllegalStateException("Reader has been closed.");
+				}
+
+				ByteBuffer segment = _mapped.get(number);
+				if (segment == null) {
+					try (FileChannel channel = FileChannel
+							.open(EvolutionHistory.segment(_directory, number), READ))
+					{
+						segment = channel
+							.map(MapMode.READ_ONLY, 0, channel.size());
+					}
+					header(segment.duplicate(), "segment");
+					_mapped.put(number, segment);
+				}
+				return segment;
+			}
+		}
+
+		/**
+		 * Releases the mapped segments of this reader.
+		 */
+		@Override
+		public void close() {
+			synchronized (_mapped) {
+				_closed = true;
+				_mapped.clear();
+			}
+		}
+	}
+
+}
@@ -65,7 +65,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 4.0
+ * @version 4.3
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -83,11 +83,18 @@ public final class EvolutionResult<
 	private final EvolutionDurations _durations;
 	private final int _killCount;
 	private final int _invalidCount;
+	private final int _timeoutCount;
 	private final int _alterCount;
+	private final int _cacheHitCount;
+	private final int _cacheMissCount;
+	private final int _cacheEvictionCount;
 
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
 
+	// The buffer slab the population has been evolved into, if any.
+	private final transient PopulationBuffer.Slab<G, C> _slab;
+
 	private EvolutionResult(
 		final Optimize optimize,
 		final ISeq<Phenotype<G, C>> population,
@@ -96,7 +103,12 @@ public final class EvolutionResult<
 		final EvolutionDurations durations,
 		final int killCount,
 		final int invalidCount,
-		final int alterCount
+		final int timeoutCount,
+		final int alterCount,
+		final int cacheHitCount,
+		final int cacheMissCount,
+		final int cacheEvictionCount,
+		final PopulationBuffer.Slab<G, C> slab
 	) {
 		_optimize = requireNonNull(optimize);
 		_population = requireNonNull(population);
@@ -105,7 +117,12 @@ public final class EvolutionResult<
 		_durations = requireNonNull(durations);
 		_killCount = killCount;
 		_invalidCount = invalidCount;
+		_timeoutCount = timeoutCount;
 		_alterCount = alterCount;
+		_cacheHitCount = cacheHitCount;
+		_cacheMissCount = cacheMissCount;
+		_cacheEvictionCount = cacheEvictionCount;
+		_slab = slab;
 
 		_best = Lazy.of(() -> _population.stream()
 			.max(_optimize.ascending())
@@ -194,6 +211,21 @@ public final class EvolutionResult<
 		return _invalidCount;
 	}
 
+	/**
+	 * Return the number of individuals whose fitness evaluation has been
+	 * aborted, because it exceeded the configured evaluation timeout.
+	 *
+	 * @since 4.3
+	 * @see Engine.Builder#evaluationTimeout(java.time.Duration)
+	 * @see Engine.Builder#evaluationTimeout(java.time.Duration, Comparable)
+	 *
+	 * @return the number of timed out evaluations of the evolution step, or
+	 *         zero if no evaluation timeout is set
+	 */
+	public int getTimeoutCount() {
+		return _timeoutCount;
+	}
+
 	/**
 	 * The number of altered individuals.
 	 *
@@ -203,6 +235,49 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the number of individuals whose fitness value has been taken from
+	 * the {@link FitnessCache}, instead of evaluating the fitness function.
+	 *
+	 * @since 4.3
+	 * @see Engine.Builder#fitnessCache(FitnessCache)
+	 *
+	 * @return the number of fitness cache hits of the evolution step, or zero
+	 *         if no fitness cache is used
+	 */
+	public int getCacheHitCount() {
+		return _cacheHitCount;
+	}
+
+	/**
+	 * Return the number of individuals whose fitness value couldn't be found
+	 * in the {@link FitnessCache} and which have been evaluated by the fitness
+	 * function.
+	 *
+	 * @since 4.3
+	 * @see Engine.Builder#fitnessCache(FitnessCache)
+	 *
+	 * @return the number of fitness cache misses of the evolution step, or
+	 *         zero if no fitness cache is used
+	 */
+	public int getCacheMissCount() {
+		return _cacheMissCount;
+	}
+
+	/**
+	 * Return the number of entries which have been evicted from the
+	 * {@link FitnessCache} during the evolution step.
+	 *
+	 * @since 4.3
+	 * @see Engine.Builder#fitnessCache(FitnessCache)
+	 *
+	 * @return the number of fitness cache evictions of the evolution step, or
+	 *         zero if no fitness cache is used
+	 */
+	public int getCacheEvictionCount() {
+		return _cacheEvictionCount;
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -248,7 +323,7 @@ public final class EvolutionResult<
 	 * @return the next evolution start object
 	 */
 	public EvolutionStart<G, C> next() {
-		return EvolutionStart.of(_population, _totalGenerations + 1);
+		return EvolutionStart.of(_population, _totalGenerations + 1, _slab);
 	}
 
 	/**
@@ -260,7 +335,7 @@ public final class EvolutionResult<
 	 * @return the current result as evolution start
 	 */
 	public EvolutionStart<G, C> toEvolutionStart() {
-		return EvolutionStart.of(_population, _totalGenerations);
+		return EvolutionStart.of(_population, _totalGenerations, _slab);
 	}
 
 	/**
@@ -277,7 +352,7 @@ public final class EvolutionResult<
 	}
 
 	private EvolutionResult<G, C> withTotalGenerations(final long total) {
-		return of(
+		return new EvolutionResult<>(
 			_optimize,
 			_population,
 			_generation,
@@ -285,7 +360,12 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_timeoutCount,
+			_alterCount,
+			_cacheHitCount,
+			_cacheMissCount,
+			_cacheEvictionCount,
+			_slab
 		);
 	}
 
@@ -299,9 +379,13 @@ public final class EvolutionResult<
 			hash(_durations,
 			hash(_killCount,
 			hash(_invalidCount,
+			hash(_timeoutCount,
 			hash(_alterCount,
+			hash(_cacheHitCount,
+			hash(_cacheMissCount,
+			hash(_cacheEvictionCount,
 			hash(getBestFitness(),
-			hash(EvolutionResult.class))))))))));
+			hash(EvolutionResult.class))))))))))))));
 	}
 
 	@Override
@@ -322,8 +406,16 @@ public final class EvolutionResult<
 				((EvolutionResult)obj)._killCount) &&
 			Objects.equals(_invalidCount,
 				((EvolutionResult)obj)._invalidCount) &&
+			Objects.equals(_timeoutCount,
+				((EvolutionResult)obj)._timeoutCount) &&
 			Objects.equals(_alterCount,
 				((EvolutionResult)obj)._alterCount) &&
+			Objects.equals(_cacheHitCount,
+				((EvolutionResult)obj)._cacheHitCount) &&
+			Objects.equals(_cacheMissCount,
+				((EvolutionResult)obj)._cacheMissCount) &&
+			Objects.equals(_cacheEvictionCount,
+				((EvolutionResult)obj)._cacheEvictionCount) &&
 			Objects.equals(getBestFitness(),
 				((EvolutionResult)obj).getBestFitness());
 	}
@@ -569,15 +661,20 @@ public final class EvolutionResult<
 	}
 
 	EvolutionResult<G, C> with(final ISeq<Phenotype<G, C>> population) {
-		return EvolutionResult.of(
-			getOptimize(),
+		return new EvolutionResult<>(
+			_optimize,
 			population,
-			getGeneration(),
-			getTotalGenerations(),
-			getDurations(),
-			getKillCount(),
-			getInvalidCount(),
-			getAlterCount()
+			_generation,
+			_totalGenerations,
+			_durations,
+			_killCount,
+			_invalidCount,
+			_timeoutCount,
+			_alterCount,
+			_cacheHitCount,
+			_cacheMissCount,
+			_cacheEvictionCount,
+			_slab
 		);
 	}
 
@@ -729,7 +826,12 @@ public final class EvolutionResult<
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			0,
+			alterCount,
+			0,
+			0,
+			0,
+			null
 		);
 	}
 
@@ -768,7 +870,44 @@ public final class EvolutionResult<
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			0,
+			alterCount,
+			0,
+			0,
+			0,
+			null
+		);
+	}
+
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final ISeq<Phenotype<G, C>> population,
+		final long generation,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int timeoutCount,
+		final int alterCount,
+		final int cacheHitCount,
+		final int cacheMissCount,
+		final int cacheEvictionCount,
+		final PopulationBuffer.Slab<G, C> slab
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			generation,
+			durations,
+			killCount,
+			invalidCount,
+			timeoutCount,
+			alterCount,
+			cacheHitCount,
+			cacheMissCount,
+			cacheEvictionCount,
+			slab
 		);
 	}
 
@@ -46,7 +46,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.1
- * @version 4.0
+ * @version 4.3
  */
 public final class EvolutionStart<
 	G extends Gene<?, G>,
@@ -57,12 +57,17 @@ public final class EvolutionStart<
 	private final ISeq<Phenotype<G, C>> _population;
 	private final long _generation;
 
+	// The buffer slab the population has been evolved into, if any.
+	private final PopulationBuffer.Slab<G, C> _slab;
+
 	private EvolutionStart(
 		final ISeq<Phenotype<G, C>> population,
-		final long generation
+		final long generation,
+		final PopulationBuffer.Slab<G, C> slab
 	) {
 		_population = requireNonNull(population);
 		_generation = require.positive(generation);
+		_slab = slab;
 	}
 
 	/**
@@ -83,6 +88,10 @@ public final class EvolutionStart<
 		return _generation;
 	}
 
+	PopulationBuffer.Slab<G, C> getSlab() {
+		return _slab;
+	}
+
 	@Override
 	public int hashCode() {
 		return hash(_generation, hash(_population, hash(getClass())));
@@ -123,7 +132,16 @@ public final class EvolutionStart<
 		final ISeq<Phenotype<G, C>> population,
 		final long generation
 	) {
-		return new EvolutionStart<>(population, generation);
+		return new EvolutionStart<>(population, generation, null);
+	}
+
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStart<G, C> of(
+		final ISeq<Phenotype<G, C>> population,
+		final long generation,
+		final PopulationBuffer.Slab<G, C> slab
+	) {
+		return new EvolutionStart<>(population, generation, slab);
 	}
 
 }
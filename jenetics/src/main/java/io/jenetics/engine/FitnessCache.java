@@ -0,0 +1,261 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Bounded fitness cache, which stores the <em>raw</em> fitness values of
+ * already evaluated genotypes. If an individual with an equal genotype is
+ * created later in the evolution process, the fitness is taken from the cache
+ * instead of evaluating the fitness function again. This is useful for
+ * expensive fitness functions, where late in the evolution process many
+ * offspring are copies of already evaluated individuals.
+ * <p>
+ * The cache is bounded by its maximal size. If the cache is full, the
+ * <em>least recently used</em> entry is evicted.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .fitnessCache(10_000)
+ *     .build();
+ * }</pre>
+ *
+ * @apiNote
+ * The cache assumes that the fitness function is deterministic, which means
+ * that equal genotypes always leads to the same fitness value.
+ *
+ * @implNote
+ * This class is thread-safe. One cache instance can be shared between several
+ * evolution streams of the same {@link Engine}.
+ *
+ * @see Engine.Builder#fitnessCache(FitnessCache)
+ * @see EvolutionResult#getCacheHitCount()
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class FitnessCache<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final int _maxSize;
+	private final Map<Genotype<G>, C> _cache;
+
+	private long _hitCount;
+	private long _missCount;
+	private long _evictionCount;
+
+	private FitnessCache(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Cache size must be greater than zero, but was %d.", maxSize
+			));
+		}
+
+		_maxSize = maxSize;
+		_cache = new LinkedHashMap<>(16, 0.75F, true);
+	}
+
+	/**
+	 * Return the cached <em>raw</em> fitness value of the given
+	 * {@code genotype}, or {@code null} if the cache doesn't contain a value
+	 * for the {@code genotype}.
+	 *
+	 * @param genotype the genotype of the looked up fitness value
+	 * @return the cached fitness value, or {@code null}
+	 */
+	public synchronized C get(final Genotype<G> genotype) {
+		final C fitness = _cache.get(genotype);
+		if (fitness != null) {
+			++_hitCount;
+		} else {
+			++_missCount;
+		}
+		return fitness;
+	}
+
+	/**
+	 * Put the given <em>raw</em> {@code fitness} value for the given
+	 * {@code genotype} into the cache. If the cache is full, the least recently
+	 * used entry is removed.
+	 *
+	 * @param genotype the genotype
+	 * @param fitness the (raw) fitness value of the {@code genotype}
+	 * @return the number of evicted cache entries
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public synchronized int put(final Genotype<G> genotype, final C fitness) {
+		requireNonNull(genotype);
+		requireNonNull(fitness);
+
+		_cache.put(genotype, fitness);
+
+		int evicted = 0;
+		while (_cache.size() > _maxSize) {
+			_cache.remove(_cache.keySet().iterator().next());
+			++evicted;
+		}
+		_evictionCount += evicted;
+
+		return evicted;
+	}
+
+	/**
+	 * Return the maximal number of entries of this cache.
+	 *
+	 * @return the maximal cache size
+	 */
+	public int getMaxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Return the current number of cache entries.
+	 *
+	 * @return the current number of cache entries
+	 */
+	public synchronized int size() {
+		return _cache.size();
+	}
+
+	/**
+	 * Return the overall number of cache hits.
+	 *
+	 * @return the overall number of cache hits
+	 */
+	public synchronized long getHitCount() {
+		return _hitCount;
+	}
+
+	/**
+	 * Return the overall number of cache misses.
+	 *
+	 * @return the overall number of cache misses
+	 */
+	public synchronized long getMissCount() {
+		return _missCount;
+	}
+
+	/**
+	 * Return the overall number of evicted cache entries.
+	 *
+	 * @return the overall number of evicted cache entries
+	 */
+	public synchronized long getEvictionCount() {
+		return _evictionCount;
+	}
+
+	/**
+	 * Removes all cached fitness values. The hit, miss and eviction counts
+	 * are not reset.
+	 */
+	public synchronized void clear() {
+		_cache.clear();
+	}
+
+	/**
+	 * Evaluates the given {@code population}. The fitness of the not yet
+	 * evaluated individuals is taken from the cache, if available. The
+	 * remaining individuals are evaluated asynchronously by the given
+	 * {@code evaluator} and their fitness values are put into the cache. Only
+	 * the fitness values of the evaluated individuals, which are accepted by
+	 * the {@code cacheable} predicate, are cached.
+	 */
+	CompletionStage<EvaluationResult<G, C>> evaluateAsync(
+		final Seq<Phenotype<G, C>> population,
+		final Engine.Evaluator<G, C> evaluator,
+		final Predicate<? super Phenotype<G, C>> cacheable
+	) {
+		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		final int[] misses = new int[pop.size()];
+
+		int hitCount = 0;
+		int missCount = 0;
+		for (int i = 0, n = pop.size(); i < n; ++i) {
+			final Phenotype<G, C> pt = pop.get(i);
+			if (!pt.isEvaluated()) {
+				final C fitness = get(pt.getGenotype());
+				if (fitness != null) {
+					pop.set(i, pt.withFitness(fitness));
+					++hitCount;
+				} else {
+					misses[missCount++] = i;
+				}
+			}
+		}
+
+		// The evaluator is also called without cache misses, since it might
+		// re-evaluate already evaluated individuals, like the
+		// SurrogateEvaluator does for individuals with predicted fitness.
+		final CompletionStage<ISeq<Phenotype<G, C>>> evaluated =
+			evaluator.evaluateAsync(pop);
+
+		final int hits = hitCount;
+		final int count = missCount;
+		return evaluated.thenApply(result -> {
+			int evictionCount = 0;
+			if (result.size() == pop.size()) {
+				for (int i = 0; i < count; ++i) {
+					final Phenotype<G, C> pt = result.get(misses[i]);
+					if (pt.isEvaluated() && cacheable.test(pt)) {
+						evictionCount += put(pt.getGenotype(), pt.getRawFitness());
+					}
+				}
+			}
+
+			return new EvaluationResult<>(result, hits, count, evictionCount);
+		});
+	}
+
+	/**
+	 * Create a new fitness cache with the given maximal size.
+	 *
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new fitness cache
+	 * @throws IllegalArgumentException if the given {@code maxSize} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	FitnessCache<G, C> of(final int maxSize) {
+		return new FitnessCache<>(maxSize);
+	}
+
+}
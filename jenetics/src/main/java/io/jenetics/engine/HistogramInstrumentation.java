@@ -0,0 +1,460 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.Alterer;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Instrumentation implementation which aggregates the execution times of the
+ * evolution phases and the fitness evaluations into histograms. The recorded
+ * values are kept in logarithmic buckets with a relative error of at most
+ * 12.5%. Recording a value is lock free and doesn't allocate memory.
+ *
+ * <pre>{@code
+ * final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+ *     HistogramInstrumentation.of();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .instrumentation(instrumentation)
+ *     .build();
+ *
+ * engine.stream().limit(100).collect(toBestPhenotype());
+ *
+ * final HistogramInstrumentation.Histogram evaluation =
+ *     instrumentation.getEvaluationHistogram();
+ * System.out.println(evaluation.getQuantile(0.99));
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @see Engine.Builder#instrumentation(Instrumentation)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class HistogramInstrumentation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Instrumentation<G, C>
+{
+
+	private final Map<Phase, Recorder> _phases = new EnumMap<>(Phase.class);
+	private final Recorder _evaluations = new Recorder();
+	private final Recorder _queueWaits = new Recorder();
+	private final LongAdder _evaluationFailures = new LongAdder();
+	private final Map<Alterer<G, C>, LongAdder> _alterations =
+		new ConcurrentHashMap<>();
+	private final LongAdder _killCount = new LongAdder();
+	private final LongAdder _invalidCount = new LongAdder();
+
+	private HistogramInstrumentation() {
+		for (Phase phase : Phase.values()) {
+			_phases.put(phase, new Recorder());
+		}
+	}
+
+	@Override
+	public void phaseCompleted(
+		final long generation,
+		final Phase phase,
+		final long nanos
+	) {
+		_phases.get(phase).record(nanos);
+	}
+
+	@Override
+	public void altered(
+		final long generation,
+		final Alterer<G, C> alterer,
+		final int alterations,
+		final long nanos
+	) {
+		_alterations
+			.computeIfAbsent(alterer, a -> new LongAdder())
+			.add(alterations);
+	}
+
+	@Override
+	public void filtered(
+		final long generation,
+		final Phase phase,
+		final int killCount,
+		final int invalidCount
+	) {
+		_killCount.add(killCount);
+		_invalidCount.add(invalidCount);
+	}
+
+	@Override
+	public void evaluationStarted(
+		final Genotype<G> genotype,
+		final long queueNanos
+	) {
+		_queueWaits.record(queueNanos);
+	}
+
+	@Override
+	public void evaluationCompleted(
+		final Genotype<G> genotype,
+		final long nanos
+	) {
+		_evaluations.record(nanos);
+	}
+
+	@Override
+	public void evaluationFailed(
+		final Genotype<G> genotype,
+		final long nanos,
+		final Throwable error
+	) {
+		_evaluationFailures.increment();
+	}
+
+	/**
+	 * Return the histogram of the execution times of the given evolution
+	 * {@code phase}.
+	 *
+	 * @param phase the evolution phase
+	 * @return the execution time histogram of the given {@code phase}
+	 * @throws NullPointerException if the given {@code phase} is {@code null}
+	 */
+	public Histogram getPhaseHistogram(final Phase phase) {
+		return _phases.get(phase).histogram();
+	}
+
+	/**
+	 * Return the histogram of the (successful) fitness evaluation times.
+	 *
+	 * @return the histogram of the fitness evaluation times
+	 */
+	public Histogram getEvaluationHistogram() {
+		return _evaluations.histogram();
+	}
+
+	/**
+	 * Return the histogram of the times, the fitness evaluations have been
+	 * waiting for execution.
+	 *
+	 * @return the histogram of the evaluation queue wait times
+	 */
+	public Histogram getQueueWaitHistogram() {
+		return _queueWaits.histogram();
+	}
+
+	/**
+	 * Return the number of failed, or timed out, fitness evaluations.
+	 *
+	 * @return the number of failed fitness evaluations
+	 */
+	public long getEvaluationFailureCount() {
+		return _evaluationFailures.sum();
+	}
+
+	/**
+	 * Return the number of altered individuals for every alterer.
+	 *
+	 * @return the number of altered individuals per alterer
+	 */
+	public Map<Alterer<G, C>, Long> getAlterationCounts() {
+		final Map<Alterer<G, C>, Long> counts = new LinkedHashMap<>();
+		_alterations.forEach((a, c) -> counts.put(a, c.sum()));
+		return Collections.unmodifiableMap(counts);
+	}
+
+	/**
+	 * Return the number of individuals which have been replaced by the
+	 * filter steps, because they were too old.
+	 *
+	 * @return the number of killed individuals
+	 */
+	public long getKillCount() {
+		return _killCount.sum();
+	}
+
+	/**
+	 * Return the number of individuals which have been replaced by the
+	 * filter steps, because they were invalid.
+	 *
+	 * @return the number of invalid individuals
+	 */
+	public long getInvalidCount() {
+		return _invalidCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder out = new StringBuilder();
+		out.append(format("%-20s %s%n", "Phase", Histogram.HEADER));
+		for (Phase phase : Phase.values()) {
+			out.append(format("%-20s %s%n", phase, getPhaseHistogram(phase)));
+		}
+		out.append(format(
+			"%-20s %s%n", "EVALUATION_TIME", getEvaluationHistogram()));
+		out.append(format(
+			"%-20s %s%n", "QUEUE_WAIT_TIME", getQueueWaitHistogram()));
+		out.append(format(
+			"Evaluation failures: %d%n", getEvaluationFailureCount()));
+		out.append(format(
+			"Killed: %d, invalid: %d%n", getKillCount(), getInvalidCount()));
+		getAlterationCounts().forEach((a, c) ->
+			out.append(format("Alterations of %s: %d%n", a, c)));
+
+		return out.toString();
+	}
+
+	/**
+	 * Return a new histogram instrumentation object.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new histogram instrumentation object
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	HistogramInstrumentation<G, C> of() {
+		return new HistogramInstrumentation<>();
+	}
+
+
+	/* *************************************************************************
+	 * Histogram classes.
+	 * ************************************************************************/
+
+	/**
+	 * Histogram snapshot of recorded time values, in nanoseconds.
+	 *
+	 * @implNote
+	 * This class is immutable and thread-safe.
+	 */
+	public static final class Histogram {
+
+		private static final String HEADER = format(
+			"%10s %12s %12s %12s %12s %12s",
+			"count", "mean[ms]", "p50[ms]", "p90[ms]", "p99[ms]", "max[ms]"
+		);
+
+		private final long[] _buckets;
+		private final long _count;
+		private final long _sum;
+		private final long _min;
+		private final long _max;
+
+		private Histogram(
+			final long[] buckets,
+			final long count,
+			final long sum,
+			final long min,
+			final long max
+		) {
+			_buckets = buckets;
+			_count = count;
+			_sum = sum;
+			_min = min;
+			_max = max;
+		}
+
+		/**
+		 * Return the number of recorded values.
+		 *
+		 * @return the number of recorded values
+		 */
+		public long getCount() {
+			return _count;
+		}
+
+		/**
+		 * Return the sum of the recorded values.
+		 *
+		 * @return the sum of the recorded values
+		 */
+		public long getSum() {
+			return _sum;
+		}
+
+		/**
+		 * Return the minimal recorded value, or zero if no value has been
+		 * recorded.
+		 *
+		 * @return the minimal recorded value
+		 */
+		public long getMin() {
+			return _count > 0 ? _min : 0;
+		}
+
+		/**
+		 * Return the maximal recorded value, or zero if no value has been
+		 * recorded.
+		 *
+		 * @return the maximal recorded value
+		 */
+		public long getMax() {
+			return _count > 0 ? _max : 0;
+		}
+
+		/**
+		 * Return the mean of the recorded values, or {@code NaN} if no value
+		 * has been recorded.
+		 *
+		 * @return the mean of the recorded values
+		 */
+		public double getMean() {
+			return _count > 0 ? (double)_sum/_count : Double.NaN;
+		}
+
+		/**
+		 * Return the (approximated) quantile of the recorded values. The
+		 * returned value is the upper bound of the histogram bucket which
+		 * contains the quantile, limited by the maximal recorded value.
+		 *
+		 * @param p the probability of the quantile, in the range of
+		 *        {@code [0, 1]}
+		 * @return the quantile of the recorded values, or zero if no value
+		 *         has been recorded
+		 * @throws IllegalArgumentException if the given probability is not
+		 *         within the range {@code [0, 1]}
+		 */
+		public long getQuantile(final double p) {
+			if (!(p >= 0 && p <= 1)) {
+				throw new IllegalArgumentException(format(
+					"Probability must be in the range [0, 1]: %f", p
+				));
+			}
+
+			if (_count == 0) {
+				return 0;
+			}
+
+			final long rank = Math.max((long)Math.ceil(p*_count), 1);
+			if (rank == 1) {
+				return _min;
+			}
+
+			long count = 0;
+			for (int i = 0; i < _buckets.length; ++i) {
+				count += _buckets[i];
+				if (count >= rank) {
+					return Math.max(
+						Math.min(Recorder.upperBound(i), _max),
+						_min
+					);
+				}
+			}
+
+			return _max;
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"%10d %12.3f %12.3f %12.3f %12.3f %12.3f",
+				_count,
+				getMean()/1_000_000.0,
+				getQuantile(0.5)/1_000_000.0,
+				getQuantile(0.9)/1_000_000.0,
+				getQuantile(0.99)/1_000_000.0,
+				getMax()/1_000_000.0
+			);
+		}
+	}
+
+	/**
+	 * Lock free recorder of positive long values. The values are counted in
+	 * buckets, where every power of two is divided into eight sub buckets.
+	 */
+	private static final class Recorder {
+		private static final int SUB_BUCKETS = 8;
+		private static final int SUB_BITS = 3;
+		private static final int BUCKETS = (64 - SUB_BITS + 1)*SUB_BUCKETS;
+
+		private final AtomicLongArray _buckets = new AtomicLongArray(BUCKETS);
+		private final LongAdder _count = new LongAdder();
+		private final LongAdder _sum = new LongAdder();
+		private final LongAccumulator _min =
+			new LongAccumulator(Math::min, Long.MAX_VALUE);
+		private final LongAccumulator _max =
+			new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+		void record(final long value) {
+			final long v = Math.max(value, 0);
+			_buckets.incrementAndGet(index(v));
+			_count.increment();
+			_sum.add(v);
+			_min.accumulate(v);
+			_max.accumulate(v);
+		}
+
+		Histogram histogram() {
+			final long[] buckets = new long[BUCKETS];
+			long count = 0;
+			for (int i = 0; i < BUCKETS; ++i) {
+				buckets[i] = _buckets.get(i);
+				count += buckets[i];
+			}
+
+			return new Histogram(
+				buckets,
+				count,
+				_sum.sum(),
+				_min.get(),
+				_max.get()
+			);
+		}
+
+		static int index(final long value) {
+			if (value < SUB_BUCKETS) {
+				return (int)value;
+			}
+
+			final int exp = 63 - Long.numberOfLeadingZeros(value);
+			final int sub = (int)(value >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+			return (exp - SUB_BITS + 1)*SUB_BUCKETS + sub;
+		}
+
+		static long upperBound(final int index) {
+			if (index < SUB_BUCKETS) {
+				return index;
+			}
+
+			final int exp = index/SUB_BUCKETS + SUB_BITS - 1;
+			final int sub = index%SUB_BUCKETS;
+			final long lower = (long)(SUB_BUCKETS + sub) << (exp - SUB_BITS);
+			final long width = 1L << (exp - SUB_BITS);
+			return lower + width - 1;
+		}
+	}
+
+}
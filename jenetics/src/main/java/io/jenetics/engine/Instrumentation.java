@@ -0,0 +1,230 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import io.jenetics.Alterer;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Instrumentation interface of the evolution {@link Engine}. The engine
+ * notifies the instrumentation at the boundaries of the single evolution
+ * phases and for every fitness evaluation. This allows to collect detailed
+ * runtime information, e.g. the distribution of the evaluation times, without
+ * attaching a profiler. All methods have an empty default implementation,
+ * which allows to implement only the needed callbacks.
+ *
+ * <pre>{@code
+ * final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+ *     HistogramInstrumentation.of();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .instrumentation(instrumentation)
+ *     .build();
+ *
+ * engine.stream().limit(100).collect(toBestPhenotype());
+ * System.out.println(instrumentation);
+ * }</pre>
+ *
+ * @implSpec
+ * The callbacks are called concurrently from different threads and must be
+ * thread-safe. They are called synchronously and must return quickly, since
+ * their execution time directly adds to the evolution time. The evaluation
+ * callbacks are called from the thread which evaluates the individual.
+ * Only the default evaluator, and not user defined
+ * {@link Engine.Evaluator}s, reports the single fitness evaluations.
+ *
+ * @see Engine.Builder#instrumentation(Instrumentation)
+ * @see HistogramInstrumentation
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public interface Instrumentation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * The phases of one evolution step, performed by the {@link Engine}.
+	 *
+	 * @see EvolutionDurations
+	 */
+	public static enum Phase {
+
+		/**
+		 * The selection of the offspring population.
+		 */
+		OFFSPRING_SELECTION,
+
+		/**
+		 * The selection of the survivors population.
+		 */
+		SURVIVORS_SELECTION,
+
+		/**
+		 * The alteration of the offspring population.
+		 */
+		OFFSPRING_ALTER,
+
+		/**
+		 * The filtering of the offspring population. Invalid and too old
+		 * individuals are replaced by newly created ones.
+		 */
+		OFFSPRING_FILTER,
+
+		/**
+		 * The filtering of the survivors population. Invalid and too old
+		 * individuals are replaced by newly created ones.
+		 */
+		SURVIVORS_FILTER,
+
+		/**
+		 * The fitness evaluation of a population. This phase is performed
+		 * twice per evolution step: for the start population and for the
+		 * newly created population.
+		 */
+		EVALUATION,
+
+		/**
+		 * The whole evolution step.
+		 */
+		EVOLVE
+
+	}
+
+	/**
+	 * Called at the start of the given evolution {@code phase}.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param phase the started evolution phase
+	 */
+	public default void phaseStarted(final long generation, final Phase phase) {
+	}
+
+	/**
+	 * Called at the end of the given evolution {@code phase}.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param phase the completed evolution phase
+	 * @param nanos the execution time of the phase in nanoseconds
+	 */
+	public default void phaseCompleted(
+		final long generation,
+		final Phase phase,
+		final long nanos
+	) {
+	}
+
+	/**
+	 * Called after an alterer has been applied to the offspring population.
+	 * The alterers configured with {@link Engine.Builder#alterers(Alterer, Alterer[])}
+	 * are reported individually.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param alterer the applied alterer
+	 * @param alterations the number of altered individuals
+	 * @param nanos the execution time of the alterer in nanoseconds
+	 */
+	public default void altered(
+		final long generation,
+		final Alterer<G, C> alterer,
+		final int alterations,
+		final long nanos
+	) {
+	}
+
+	/**
+	 * Called after the filtering of a population. The filtered individuals
+	 * are replaced by newly created ones.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param phase the filter phase, either {@link Phase#OFFSPRING_FILTER} or
+	 *        {@link Phase#SURVIVORS_FILTER}
+	 * @param killCount the number of individuals which were too old
+	 * @param invalidCount the number of invalid individuals
+	 */
+	public default void filtered(
+		final long generation,
+		final Phase phase,
+		final int killCount,
+		final int invalidCount
+	) {
+	}
+
+	/**
+	 * Called before the fitness of the given {@code genotype} is evaluated.
+	 *
+	 * @param genotype the genotype to evaluate
+	 * @param queueNanos the time in nanoseconds the evaluation has been
+	 *        waiting for execution
+	 */
+	public default void evaluationStarted(
+		final Genotype<G> genotype,
+		final long queueNanos
+	) {
+	}
+
+	/**
+	 * Called after the fitness of the given {@code genotype} has been
+	 * evaluated successfully.
+	 *
+	 * @param genotype the evaluated genotype
+	 * @param nanos the evaluation time in nanoseconds
+	 */
+	public default void evaluationCompleted(
+		final Genotype<G> genotype,
+		final long nanos
+	) {
+	}
+
+	/**
+	 * Called if the fitness evaluation of the given {@code genotype} failed,
+	 * or has been aborted because of an
+	 * {@link Engine.Builder#evaluationTimeout(java.time.Duration) evaluation timeout}.
+	 *
+	 * @param genotype the genotype whose evaluation failed
+	 * @param nanos the time in nanoseconds until the evaluation failed
+	 * @param error the cause of the failure
+	 */
+	public default void evaluationFailed(
+		final Genotype<G> genotype,
+		final long nanos,
+		final Throwable error
+	) {
+	}
+
+	/**
+	 * Return an instrumentation object which ignores all notifications.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return an instrumentation object which does nothing
+	 */
+	@SuppressWarnings("unchecked")
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Instrumentation<G, C> noop() {
+		return (Instrumentation<G, C>)NoopInstrumentation.INSTANCE;
+	}
+
+}
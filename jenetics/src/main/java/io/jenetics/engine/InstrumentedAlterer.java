@@ -0,0 +1,128 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Applies the given alterers one after another, like the composite alterer
+ * created by {@link Alterer#of(Alterer[])}, and reports every single
+ * alteration to the {@link Instrumentation}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class InstrumentedAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+{
+
+	private final ISeq<Alterer<G, C>> _alterers;
+	private final Instrumentation<G, C> _instrumentation;
+
+	InstrumentedAlterer(
+		final ISeq<Alterer<G, C>> alterers,
+		final Instrumentation<G, C> instrumentation
+	) {
+		_alterers = requireNonNull(alterers);
+		_instrumentation = requireNonNull(instrumentation);
+	}
+
+	ISeq<Alterer<G, C>> getAlterers() {
+		return _alterers;
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		return alter(population, generation, (a, p) -> a.alter(p, generation));
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor, "Executor");
+		return alter(
+			population,
+			generation,
+			(a, p) -> a.alter(p, generation, executor)
+		);
+	}
+
+	private AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final BiFunction<
+			? super Alterer<G, C>,
+			? super Seq<Phenotype<G, C>>,
+			? extends AltererResult<G, C>> alter
+	) {
+		AltererResult<G, C> result = AltererResult.of(population.asISeq());
+		for (Alterer<G, C> alterer : _alterers) {
+			final long start = System.nanoTime();
+			final AltererResult<G, C> as =
+				alter.apply(alterer, result.getPopulation());
+			_instrumentation.altered(
+				generation,
+				alterer,
+				as.getAlterations(),
+				System.nanoTime() - start
+			);
+
+			result = AltererResult.of(
+				as.getPopulation(),
+				as.getAlterations() + result.getAlterations()
+			);
+		}
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s:\n%s", getClass().getSimpleName(),
+			_alterers.stream()
+				.map(a -> "   - " + a)
+				.collect(Collectors.joining("\n"))
+		);
+	}
+
+}
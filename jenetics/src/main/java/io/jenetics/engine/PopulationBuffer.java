@@ -0,0 +1,180 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.collection.BufferMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Double buffered population storage, which is reused across the generations
+ * of one evolution stream. The population of the next generation is written
+ * into the buffer slab, which doesn't hold the current population. This
+ * avoids the allocation of new survivors and offspring arrays in every
+ * generation.
+ * <p>
+ * The survivors are stored in the slots {@code [0, survivorsCount)} and the
+ * offspring in the slots {@code [survivorsCount, survivorsCount +
+ * offspringCount)} of the slab. Merging the survivors and the offspring
+ * population doesn't require any copying. The slab is only written through
+ * the {@code MSeq} views of the survivors and offspring slots. The population
+ * of the slab is a read-only view, which is valid until the slab is reused two
+ * generations later. It must therefore be copied, if it is handed out with the
+ * evolution result. This is only necessary, if the evaluator returns the given
+ * population view itself, instead of a new population.
+ * <p>
+ * The slab of a generation is passed to the next generation with the
+ * {@link EvolutionResult} and {@link EvolutionStart} objects, since the
+ * evaluated population isn't the population view in general.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class PopulationBuffer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Object[][] _slabs;
+	private final int _survivorsCount;
+
+	private PopulationBuffer(final int survivorsCount, final int offspringCount) {
+		final int size = survivorsCount + offspringCount;
+		_slabs = new Object[][]{new Object[size], new Object[size]};
+		_survivorsCount = survivorsCount;
+	}
+
+	private boolean fits(final int survivorsCount, final int offspringCount) {
+		return _survivorsCount == survivorsCount &&
+			_slabs[0].length == survivorsCount + offspringCount;
+	}
+
+	/**
+	 * Return the buffer slab the next generation of the population, stored in
+	 * the given {@code slab}, is written to. This is the other slab of the
+	 * same buffer. A new buffer is created, if the given slab is {@code null},
+	 * or if the next generation of the slab has already been created.
+	 *
+	 * @param slab the slab of the current generation, may be {@code null}
+	 * @param survivorsCount the number of survivors of the next generation
+	 * @param offspringCount the number of offspring of the next generation
+	 * @return the slab of the next generation
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Slab<G, C> next(
+		final Slab<G, C> slab,
+		final int survivorsCount,
+		final int offspringCount
+	) {
+		if (slab != null &&
+			slab._buffer.fits(survivorsCount, offspringCount) &&
+			slab._evolved.compareAndSet(false, true))
+		{
+			return slab.other();
+		}
+
+		return new PopulationBuffer<G, C>(survivorsCount, offspringCount)
+			.slab(0);
+	}
+
+	private Slab<G, C> slab(final int index) {
+		return new Slab<>(this, index);
+	}
+
+	/**
+	 * One of the two buffer slabs.
+	 */
+	static final class Slab<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final PopulationBuffer<G, C> _buffer;
+		private final int _index;
+		private final Object[] _array;
+		private final AtomicBoolean _evolved = new AtomicBoolean();
+
+		private Slab(final PopulationBuffer<G, C> buffer, final int index) {
+			_buffer = buffer;
+			_index = index;
+			_array = buffer._slabs[index];
+		}
+
+		private Slab<G, C> other() {
+			return _buffer.slab(1 - _index);
+		}
+
+		/**
+		 * Return the mutable view of the survivors slots.
+		 *
+		 * @return the mutable view of the survivors slots
+		 */
+		MSeq<Phenotype<G, C>> survivors() {
+			return new BufferMSeq<>(_array, 0, _buffer._survivorsCount);
+		}
+
+		/**
+		 * Copies the given {@code offspring} into the offspring slots and
+		 * returns the mutable view of the offspring slots.
+		 *
+		 * @param offspring the offspring population to store
+		 * @return the mutable view of the offspring slots
+		 */
+		MSeq<Phenotype<G, C>> offspring(final Seq<Phenotype<G, C>> offspring) {
+			final int offset = _buffer._survivorsCount;
+			for (int i = 0, n = offspring.size(); i < n; ++i) {
+				_array[offset + i] = offspring.get(i);
+			}
+
+			return offspring();
+		}
+
+		/**
+		 * Return the mutable view of the offspring slots.
+		 *
+		 * @return the mutable view of the offspring slots
+		 */
+		MSeq<Phenotype<G, C>> offspring() {
+			return new BufferMSeq<>(
+				_array,
+				_buffer._survivorsCount,
+				_array.length
+			);
+		}
+
+		/**
+		 * Return the read-only view of the whole population, consisting of
+		 * the survivors followed by the offspring. The population is not
+		 * copied and is overwritten, when this slab is reused.
+		 *
+		 * @return the view of the population stored in this slab
+		 */
+		ISeq<Phenotype<G, C>> population() {
+			return new BufferMSeq<Phenotype<G, C>>(_array, 0, _array.length)
+				.toISeq();
+		}
+	}
+
+}
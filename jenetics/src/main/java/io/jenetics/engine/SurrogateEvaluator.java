@@ -0,0 +1,661 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.ceil;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.BitGene;
+import io.jenetics.Chromosome;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Phenotype evaluator which pre-screens the not yet evaluated individuals with
+ * a cheap <em>surrogate</em> model, before they are forwarded to the
+ * (expensive) underlying evaluator. The surrogate is a <em>k</em>-nearest
+ * neighbour model, which is trained online with the exactly evaluated
+ * individuals. The predicted fitness of an individual is the median of the
+ * fitness values of its <em>k</em> nearest neighbours. Only the best
+ * {@code fraction} of the unevaluated individuals, according to the predicted
+ * fitness, are evaluated exactly. The remaining individuals get the predicted
+ * fitness assigned.
+ *
+ * <pre>{@code
+ * final SurrogateEvaluator<DoubleGene, Double> evaluator = SurrogateEvaluator.of(
+ *     Engine.Evaluator.<DoubleGene, Double>concurrent(ForkJoinPool.commonPool()),
+ *     SurrogateEvaluator.euclidean(),
+ *     Optimize.MINIMUM,
+ *     0.3
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .minimizing()
+ *     .evaluator(evaluator)
+ *     .build();
+ * }</pre>
+ *
+ * As long as the archive of exactly evaluated individuals contains less than
+ * <em>k</em> entries, all individuals are evaluated exactly. The number of
+ * saved exact evaluations is available via the
+ * {@link #getSavedEvaluations(long)} method for every generation.
+ * <p>
+ * Individuals with a predicted fitness are marked, see
+ * {@link #isPredicted(Phenotype)}. If they are part of a later evaluated
+ * population, e.g. as survivors, they are evaluated exactly. Predicted
+ * individuals, which are not worse than the best exactly evaluated individual
+ * of the population, are evaluated exactly as well. This guarantees that the
+ * best individual of an evaluated population has an exact fitness value. The
+ * {@code Engine} doesn't put predicted fitness values into its
+ * {@link FitnessCache}.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class SurrogateEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Engine.Evaluator<G, C>
+{
+
+	/**
+	 * Distance measure between two genotypes, used for finding the nearest
+	 * neighbours of a not yet evaluated genotype.
+	 *
+	 * @param <G> the gene type
+	 */
+	@FunctionalInterface
+	public static interface Distance<G extends Gene<?, G>> {
+
+		/**
+		 * Return the (non-negative) distance of the given genotypes.
+		 *
+		 * @param a the first genotype
+		 * @param b the second genotype
+		 * @return the distance of the given genotypes
+		 */
+		public double apply(final Genotype<G> a, final Genotype<G> b);
+	}
+
+	private static final int DEFAULT_NEIGHBOURS = 5;
+	private static final int DEFAULT_ARCHIVE_SIZE = 1000;
+
+	private final Engine.Evaluator<G, C> _evaluator;
+	private final Distance<G> _distance;
+	private final Optimize _optimize;
+	private final double _fraction;
+	private final int _neighbours;
+
+	private final Archive<G, C> _archive;
+	private final LongAdder _evaluated = new LongAdder();
+	private final LongAdder _saved = new LongAdder();
+	private final Map<Long, LongAdder> _savedPerGeneration =
+		new ConcurrentHashMap<>();
+
+	// Weak keys, since the individuals are only needed as long as they are
+	// part of a population.
+	private final Map<Phenotype<G, C>, Boolean> _predictions =
+		Collections.synchronizedMap(new WeakHashMap<>());
+
+	private SurrogateEvaluator(
+		final Engine.Evaluator<G, C> evaluator,
+		final Distance<G> distance,
+		final Optimize optimize,
+		final double fraction,
+		final int neighbours,
+		final int archiveSize
+	) {
+		_evaluator = requireNonNull(evaluator);
+		_distance = requireNonNull(distance);
+		_optimize = requireNonNull(optimize);
+
+		if (!(fraction > 0 && fraction <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Fraction must be in the range (0, 1], but was %f.", fraction
+			));
+		}
+		if (neighbours < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of neighbours must be greater than zero: %d",
+				neighbours
+			));
+		}
+		if (archiveSize < neighbours) {
+			throw new IllegalArgumentException(format(
+				"Archive size must not be smaller than the number of " +
+				"neighbours: %d < %d",
+				archiveSize, neighbours
+			));
+		}
+
+		_fraction = fraction;
+		_neighbours = neighbours;
+		_archive = new Archive<>(archiveSize);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> evaluate(final Seq<Phenotype<G, C>> population) {
+		final Screening screening = new Screening(population);
+		screening.merge(_evaluator.evaluate(screening.exact()));
+		if (screening.promote()) {
+			screening.merge(_evaluator.evaluate(screening.exact()));
+		}
+
+		return screening.result();
+	}
+
+	@Override
+	public CompletionStage<ISeq<Phenotype<G, C>>>
+	evaluateAsync(final Seq<Phenotype<G, C>> population) {
+		final Screening screening = new Screening(population);
+		return _evaluator.evaluateAsync(screening.exact())
+			.thenCompose(evaluated -> {
+				screening.merge(evaluated);
+				return screening.promote()
+					? _evaluator.evaluateAsync(screening.exact())
+					: CompletableFuture.completedFuture(ISeq.empty());
+			})
+			.thenApply(evaluated -> {
+				screening.merge(evaluated);
+				return screening.result();
+			});
+	}
+
+	/**
+	 * Test whether the fitness of the given individual has been predicted by
+	 * the surrogate model, instead of being evaluated exactly.
+	 *
+	 * @param phenotype the individual to test
+	 * @return {@code true} if the fitness of the given individual has been
+	 *         predicted, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code phenotype} is
+	 *         {@code null}
+	 */
+	public boolean isPredicted(final Phenotype<G, C> phenotype) {
+		return phenotype.isEvaluated() && _predictions.containsKey(phenotype);
+	}
+
+	/**
+	 * Return the total number of individuals, which has been evaluated exactly
+	 * by the underlying evaluator.
+	 *
+	 * @return the total number of exact evaluations
+	 */
+	public long getExactEvaluations() {
+		return _evaluated.sum();
+	}
+
+	/**
+	 * Return the total number of individuals, which got the surrogate fitness
+	 * assigned instead of an exact evaluation.
+	 *
+	 * @return the total number of saved exact evaluations
+	 */
+	public long getSavedEvaluations() {
+		return _saved.sum();
+	}
+
+	/**
+	 * Return the number of saved exact evaluations for the individuals
+	 * created in the given {@code generation}.
+	 *
+	 * @param generation the generation of the pre-screened individuals
+	 * @return the number of saved exact evaluations of the given generation
+	 */
+	public long getSavedEvaluations(final long generation) {
+		final LongAdder saved = _savedPerGeneration.get(generation);
+		return saved != null ? saved.sum() : 0;
+	}
+
+	/**
+	 * Return the number of exactly evaluated individuals, the surrogate model
+	 * currently consists of.
+	 *
+	 * @return the current size of the surrogate model
+	 */
+	public int getArchiveSize() {
+		return _archive.size();
+	}
+
+	/**
+	 * Splits the not yet evaluated individuals of a population into the ones
+	 * which are evaluated exactly and the ones which get the surrogate fitness
+	 * assigned. Individuals with an already predicted fitness are always
+	 * evaluated exactly.
+	 */
+	private final class Screening {
+		private final MSeq<Phenotype<G, C>> _population;
+		private final boolean[] _predicted;
+
+		// The individuals of the current, exact evaluation batch and their
+		// population indexes.
+		private MSeq<Phenotype<G, C>> _exact;
+		private int[] _mapping;
+		private int _count;
+
+		Screening(final Seq<Phenotype<G, C>> population) {
+			final int size = population.size();
+			_population = MSeq.of(population);
+			_predicted = new boolean[size];
+
+			final int[] exact = new int[size];
+			final int[] unevaluated = new int[size];
+			int count = 0;
+			int n = 0;
+			for (int i = 0; i < size; ++i) {
+				final Phenotype<G, C> pt = population.get(i);
+				if (!pt.isEvaluated()) {
+					unevaluated[n++] = i;
+				} else if (isPredicted(pt)) {
+					exact[count++] = i;
+					reevaluated(pt);
+				}
+			}
+
+			final Archive.Snapshot<G, C> snapshot = _archive.snapshot();
+			if (snapshot.size() < _neighbours || n == 0) {
+				System.arraycopy(unevaluated, 0, exact, count, n);
+				count += n;
+			} else {
+				final MSeq<Prediction<C>> predictions = MSeq.ofLength(n);
+				for (int i = 0; i < n; ++i) {
+					final int index = unevaluated[i];
+					predictions.set(i, new Prediction<>(
+						index,
+						predict(_population.get(index).getGenotype(), snapshot)
+					));
+				}
+				predictions.sort((a, b) ->
+					_optimize.<C>descending().compare(a.fitness, b.fitness));
+
+				final int screened = (int)ceil(_fraction*n);
+				for (int i = 0; i < n; ++i) {
+					final Prediction<C> prediction = predictions.get(i);
+					if (i < screened) {
+						exact[count++] = prediction.index;
+					} else {
+						_population.set(
+							prediction.index,
+							_population.get(prediction.index)
+								.withFitness(prediction.fitness)
+						);
+						_predicted[prediction.index] = true;
+					}
+				}
+			}
+
+			batch(exact, count);
+		}
+
+		// Set the individuals with the given indexes as next exact
+		// evaluation batch.
+		private void batch(final int[] indexes, final int count) {
+			_mapping = indexes;
+			_count = count;
+			_exact = MSeq.ofLength(count);
+			for (int i = 0; i < count; ++i) {
+				final Phenotype<G, C> pt = _population.get(indexes[i]);
+				_exact.set(
+					i,
+					pt.isEvaluated()
+						? pt.newInstance(pt.getGenotype(), pt.getGeneration())
+						: pt
+				);
+			}
+		}
+
+		Seq<Phenotype<G, C>> exact() {
+			return _exact;
+		}
+
+		void merge(final ISeq<Phenotype<G, C>> evaluated) {
+			if (evaluated.size() != _count) {
+				throw new IllegalStateException(format(
+					"Expected %d individuals, but got %d. " +
+					"Check your evaluator function.",
+					_count, evaluated.size()
+				));
+			}
+
+			for (int i = 0; i < _count; ++i) {
+				final Phenotype<G, C> pt = evaluated.get(i);
+				_population.set(_mapping[i], pt);
+				_archive.add(pt.getGenotype(), pt.getRawFitness());
+			}
+			_evaluated.add(_count);
+		}
+
+		// Selects the predicted individuals, which are not worse than the best
+		// exactly evaluated individual, as next exact evaluation batch.
+		boolean promote() {
+			final int size = _population.size();
+
+			C best = null;
+			for (int i = 0; i < size; ++i) {
+				if (!_predicted[i]) {
+					final C fitness = _population.get(i).getFitness();
+					best = best != null ? _optimize.best(best, fitness) : fitness;
+				}
+			}
+
+			final int[] indexes = new int[size];
+			int count = 0;
+			for (int i = 0; i < size && best != null; ++i) {
+				if (_predicted[i] &&
+					_optimize.compare(_population.get(i).getFitness(), best) >= 0)
+				{
+					indexes[count++] = i;
+					_predicted[i] = false;
+				}
+			}
+
+			batch(indexes, count);
+			return count > 0;
+		}
+
+		ISeq<Phenotype<G, C>> result() {
+			for (int i = 0, n = _population.size(); i < n; ++i) {
+				if (_predicted[i]) {
+					predicted(_population.get(i));
+				}
+			}
+
+			return _population.toISeq();
+		}
+	}
+
+	private void predicted(final Phenotype<G, C> phenotype) {
+		_predictions.put(phenotype, Boolean.TRUE);
+		saved(phenotype.getGeneration(), 1);
+	}
+
+	// The predicted individual is evaluated exactly, after all.
+	private void reevaluated(final Phenotype<G, C> phenotype) {
+		_predictions.remove(phenotype);
+		saved(phenotype.getGeneration(), -1);
+	}
+
+	private void saved(final long generation, final int count) {
+		_saved.add(count);
+		_savedPerGeneration
+			.computeIfAbsent(generation, g -> new LongAdder())
+			.add(count);
+	}
+
+	private C predict(
+		final Genotype<G> genotype,
+		final Archive.Snapshot<G, C> snapshot
+	) {
+		final int k = _neighbours;
+		final double[] distances = new double[k];
+		final int[] indexes = new int[k];
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+		// Insertion of the archive entries into the sorted k-nearest array.
+		for (int i = 0, n = snapshot.size(); i < n; ++i) {
+			final double distance = _distance.apply(genotype, snapshot.genotype(i));
+			if (distance < distances[k - 1]) {
+				int j = k - 1;
+				while (j > 0 && distances[j - 1] > distance) {
+					distances[j] = distances[j - 1];
+					indexes[j] = indexes[j - 1];
+					--j;
+				}
+				distances[j] = distance;
+				indexes[j] = i;
+			}
+		}
+
+		final MSeq<C> fitness = MSeq.ofLength(k);
+		for (int i = 0; i < k; ++i) {
+			fitness.set(i, snapshot.fitness(indexes[i]));
+		}
+		fitness.sort(_optimize.<C>ascending());
+
+		return fitness.get(k/2);
+	}
+
+	private static final class Prediction<C> {
+		final int index;
+		final C fitness;
+
+		Prediction(final int index, final C fitness) {
+			this.index = index;
+			this.fitness = fitness;
+		}
+	}
+
+	/**
+	 * Ring buffer of the most recently, exactly evaluated individuals.
+	 */
+	private static final class Archive<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Object[] _genotypes;
+		private final Object[] _fitness;
+		private int _next = 0;
+		private int _size = 0;
+
+		Archive(final int capacity) {
+			_genotypes = new Object[capacity];
+			_fitness = new Object[capacity];
+		}
+
+		synchronized void add(final Genotype<G> genotype, final C fitness) {
+			_genotypes[_next] = genotype;
+			_fitness[_next] = fitness;
+			_next = (_next + 1)%_genotypes.length;
+			_size = Math.min(_size + 1, _genotypes.length);
+		}
+
+		synchronized int size() {
+			return _size;
+		}
+
+		synchronized Snapshot<G, C> snapshot() {
+			return new Snapshot<>(
+				Arrays.copyOf(_genotypes, _size),
+				Arrays.copyOf(_fitness, _size)
+			);
+		}
+
+		static final class Snapshot<
+			G extends Gene<?, G>,
+			C extends Comparable<? super C>
+		> {
+			private final Object[] _genotypes;
+			private final Object[] _fitness;
+
+			private Snapshot(final Object[] genotypes, final Object[] fitness) {
+				_genotypes = genotypes;
+				_fitness = fitness;
+			}
+
+			int size() {
+				return _genotypes.length;
+			}
+
+			@SuppressWarnings("unchecked")
+			Genotype<G> genotype(final int index) {
+				return (Genotype<G>)_genotypes[index];
+			}
+
+			@SuppressWarnings("unchecked")
+			C fitness(final int index) {
+				return (C)_fitness[index];
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new surrogate evaluator.
+	 *
+	 * @param evaluator the underlying evaluator, which performs the exact
+	 *        fitness evaluation
+	 * @param distance the distance measure of the nearest neighbour model
+	 * @param optimize the optimization strategy, used for ranking the
+	 *        predicted fitness values
+	 * @param fraction the fraction of the unevaluated individuals, which are
+	 *        evaluated exactly. Must be in the range {@code (0, 1]}.
+	 * @param neighbours the number of nearest neighbours, <em>k</em>, used for
+	 *        predicting the fitness value
+	 * @param archiveSize the maximal number of exactly evaluated individuals
+	 *        the surrogate model consists of
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new surrogate evaluator
+	 * @throws NullPointerException if one of the object arguments is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code fraction} is not in the
+	 *         range {@code (0, 1]}, the number of {@code neighbours} is smaller
+	 *         than one or the {@code archiveSize} is smaller than the number
+	 *         of {@code neighbours}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SurrogateEvaluator<G, C> of(
+		final Engine.Evaluator<G, C> evaluator,
+		final Distance<G> distance,
+		final Optimize optimize,
+		final double fraction,
+		final int neighbours,
+		final int archiveSize
+	) {
+		return new SurrogateEvaluator<>(
+			evaluator,
+			distance,
+			optimize,
+			fraction,
+			neighbours,
+			archiveSize
+		);
+	}
+
+	/**
+	 * Create a new surrogate evaluator, which uses the five nearest neighbours
+	 * out of the 1000 most recently, exactly evaluated individuals for
+	 * predicting the fitness values.
+	 *
+	 * @param evaluator the underlying evaluator, which performs the exact
+	 *        fitness evaluation
+	 * @param distance the distance measure of the nearest neighbour model
+	 * @param optimize the optimization strategy, used for ranking the
+	 *        predicted fitness values
+	 * @param fraction the fraction of the unevaluated individuals, which are
+	 *        evaluated exactly. Must be in the range {@code (0, 1]}.
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new surrogate evaluator
+	 * @throws NullPointerException if one of the object arguments is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code fraction} is not in the
+	 *         range {@code (0, 1]}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SurrogateEvaluator<G, C> of(
+		final Engine.Evaluator<G, C> evaluator,
+		final Distance<G> distance,
+		final Optimize optimize,
+		final double fraction
+	) {
+		return of(
+			evaluator,
+			distance,
+			optimize,
+			fraction,
+			DEFAULT_NEIGHBOURS,
+			DEFAULT_ARCHIVE_SIZE
+		);
+	}
+
+	/**
+	 * Return the Euclidean distance of two genotypes with numeric genes, e.g.
+	 * consisting of {@link io.jenetics.DoubleChromosome}s. The genotypes
+	 * must have the same shape.
+	 *
+	 * @param <G> the numeric gene type
+	 * @return the Euclidean distance measure
+	 */
+	public static <G extends NumericGene<?, G>> Distance<G> euclidean() {
+		return (a, b) -> {
+			double sum = 0;
+			for (int i = 0, n = a.length(); i < n; ++i) {
+				final Chromosome<G> ca = a.get(i);
+				final Chromosome<G> cb = b.get(i);
+				for (int j = 0, m = ca.length(); j < m; ++j) {
+					final double d = ca.getGene(j).doubleValue() -
+						cb.getGene(j).doubleValue();
+					sum += d*d;
+				}
+			}
+			return Math.sqrt(sum);
+		};
+	}
+
+	/**
+	 * Return the Hamming distance of two genotypes with bit genes, e.g.
+	 * consisting of {@link io.jenetics.BitChromosome}s. The genotypes must
+	 * have the same shape.
+	 *
+	 * @return the Hamming distance measure
+	 */
+	public static Distance<BitGene> hamming() {
+		return (a, b) -> {
+			int count = 0;
+			for (int i = 0, n = a.length(); i < n; ++i) {
+				final Chromosome<BitGene> ca = a.get(i);
+				final Chromosome<BitGene> cb = b.get(i);
+				for (int j = 0, m = ca.length(); j < m; ++j) {
+					if (ca.getGene(j).getBit() != cb.getGene(j).getBit()) {
+						++count;
+					}
+				}
+			}
+			return count;
+		};
+	}
+
+}
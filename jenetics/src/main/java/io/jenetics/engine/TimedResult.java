@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -31,7 +32,7 @@ import java.util.function.Supplier;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 4.3
  */
 final class TimedResult<T> {
 
@@ -83,4 +84,29 @@ final class TimedResult<T> {
 		};
 	}
 
+	/**
+	 * Wraps the given asynchronous function in a function which returns a
+	 * {@code TimedResult}. The measured time is the duration between the
+	 * call of the function and the completion of the returned stage.
+	 *
+	 * @since 4.3
+	 *
+	 * @param function the asynchronous function to wrap
+	 * @param clock the clock used for measure the execution time
+	 * @param <T> the functions parameter type
+	 * @param <R> the functions result type
+	 * @return the wrapped function which returns a {@code TimedResult}
+	 */
+	public static <T, R> Function<T, CompletionStage<TimedResult<R>>> ofAsync(
+		final Function<? super T, ? extends CompletionStage<? extends R>> function,
+		final Clock clock
+	) {
+		return value -> {
+			final Timer timer = Timer.of(clock).start();
+			return function.apply(value).thenApply(result ->
+				new TimedResult<>(timer.stop().getTime(), result)
+			);
+		};
+	}
+
 }
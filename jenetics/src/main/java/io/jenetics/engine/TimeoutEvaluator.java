@@ -0,0 +1,235 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Phenotype evaluator which aborts every fitness evaluation exceeding the
+ * configured {@link EvaluationTimeout}. The deadline of an individual starts
+ * when its evaluation starts, and not when it is submitted to the
+ * {@link Executor}. Timed out evaluations are cancelled, which interrupts the
+ * evaluating thread, and get the penalty fitness assigned. If no penalty
+ * fitness is given, the worst fitness of the population is assigned and the
+ * individual is marked as invalid.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+@SuppressWarnings("deprecation")
+final class TimeoutEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Engine.Evaluator<G, C>
+{
+
+	private final Executor _executor;
+	private final EvaluationTimeout<G, C> _timeout;
+	private final Optimize _optimize;
+	private final Instrumentation<G, C> _instrumentation;
+
+	TimeoutEvaluator(
+		final Executor executor,
+		final EvaluationTimeout<G, C> timeout,
+		final Optimize optimize,
+		final Instrumentation<G, C> instrumentation
+	) {
+		_executor = requireNonNull(executor);
+		_timeout = requireNonNull(timeout);
+		_optimize = requireNonNull(optimize);
+		_instrumentation = requireNonNull(instrumentation);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> evaluate(final Seq<Phenotype<G, C>> population) {
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+
+		final int[] indexes = new int[result.size()];
+		final MSeq<Evaluation> evaluations = MSeq.ofLength(result.size());
+		int count = 0;
+		for (int i = 0, n = result.size(); i < n; ++i) {
+			if (!result.get(i).isEvaluated()) {
+				final Evaluation evaluation = new Evaluation(result.get(i));
+				indexes[count] = i;
+				evaluations.set(count++, evaluation);
+				_executor.execute(evaluation::run);
+			}
+		}
+
+		C worst = null;
+		for (int i = 0; i < count; ++i) {
+			final C fitness = evaluations.get(i).result.join();
+			if (fitness != null) {
+				result.set(indexes[i], result.get(indexes[i]).withFitness(fitness));
+				worst = worst != null ? _optimize.worst(worst, fitness) : fitness;
+			}
+		}
+
+		for (int i = 0; i < count; ++i) {
+			if (evaluations.get(i).result.join() == null) {
+				if (worst == null) {
+					worst = worst(population);
+				}
+
+				final Phenotype<G, C> pt = result.get(indexes[i]).withFitness(
+					_timeout.getPenalty() != null ? _timeout.getPenalty() : worst
+				);
+				_timeout.timedOut(pt);
+				result.set(indexes[i], pt);
+			}
+		}
+
+		return result.toISeq();
+	}
+
+	// Return the worst fitness of the already evaluated individuals.
+	private C worst(final Seq<Phenotype<G, C>> population) {
+		if (_timeout.getPenalty() != null) {
+			return _timeout.getPenalty();
+		}
+
+		return population.stream()
+			.filter(Phenotype::isEvaluated)
+			.map(Phenotype::getRawFitness)
+			.reduce(_optimize::worst)
+			.orElseThrow(() -> new IllegalStateException(
+				"All fitness evaluations have timed out, and no fallback " +
+				"fitness is available. Consider using a penalty fitness."
+			));
+	}
+
+	/**
+	 * The evaluation of one individual. The result future is completed with
+	 * the fitness value, or with {@code null} if the evaluation timed out.
+	 */
+	private final class Evaluation {
+		final Phenotype<G, C> phenotype;
+		final CompletableFuture<C> result = new CompletableFuture<>();
+		final FutureTask<C> task = new FutureTask<>(this::call);
+		final long submitted = System.nanoTime();
+		long started;
+
+		Evaluation(final Phenotype<G, C> phenotype) {
+			this.phenotype = phenotype;
+		}
+
+		void run() {
+			task.run();
+
+			// Clear the interrupt of a cancelled evaluation, which would
+			// otherwise leak to the next task of the executor thread.
+			if (task.isCancelled()) {
+				Thread.interrupted();
+			}
+		}
+
+		private C call() {
+			started = System.nanoTime();
+			_instrumentation.evaluationStarted(
+				phenotype.getGenotype(),
+				started - submitted
+			);
+
+			final ScheduledFuture<?> deadline = Scheduler.INSTANCE.schedule(
+				this::timeout,
+				_timeout.getTimeout().toNanos(),
+				TimeUnit.NANOSECONDS
+			);
+
+			try {
+				final C fitness = phenotype.getFitnessFunction()
+					.apply(phenotype.getGenotype());
+				if (result.complete(fitness)) {
+					_instrumentation.evaluationCompleted(
+						phenotype.getGenotype(),
+						System.nanoTime() - started
+					);
+				}
+				return fitness;
+			} catch (RuntimeException|Error e) {
+				if (result.completeExceptionally(e)) {
+					_instrumentation.evaluationFailed(
+						phenotype.getGenotype(),
+						System.nanoTime() - started,
+						e
+					);
+				}
+				throw e;
+			} finally {
+				deadline.cancel(false);
+			}
+		}
+
+		private void timeout() {
+			if (result.complete(null)) {
+				task.cancel(true);
+				_instrumentation.evaluationFailed(
+					phenotype.getGenotype(),
+					System.nanoTime() - started,
+					new TimeoutException(format(
+						"Evaluation exceeded the timeout of %s.",
+						_timeout.getTimeout()
+					))
+				);
+			}
+		}
+	}
+
+	/**
+	 * Lazily created scheduler for the evaluation deadlines.
+	 */
+	private static final class Scheduler {
+		static final ScheduledExecutorService INSTANCE = scheduler();
+
+		private static ScheduledExecutorService scheduler() {
+			final ScheduledThreadPoolExecutor scheduler =
+				new ScheduledThreadPoolExecutor(1, runnable -> {
+					final Thread thread = new Thread(
+						runnable,
+						"io.jenetics.engine.evaluation-timeout"
+					);
+					thread.setDaemon(true);
+					return thread;
+				});
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+	}
+
+}
@@ -39,7 +39,7 @@ import io.jenetics.internal.util.reflect;
  *
  * @param <T> the array element type
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.4
+ * @version 4.3
  * @since 3.4
  */
 public final class Array<T> implements Serializable {
@@ -386,7 +386,7 @@ public final class Array<T> implements Serializable {
 	 *
 	 * @param <T> the array element type
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
-	 * @version 3.4
+	 * @version 4.3
 	 * @since 3.4
 	 */
 	public interface Store<T> {
@@ -400,6 +400,21 @@ public final class Array<T> implements Serializable {
 		 */
 		public void set(final int index, final T value);
 
+		/**
+		 * Return {@code true} if the given {@code value} can be written to
+		 * this store. Specialized stores, which can only hold a subset of the
+		 * possible values, are replaced by an {@link ObjectStore} before an
+		 * incompatible value is written.
+		 *
+		 * @since 4.3
+		 *
+		 * @param value the value to check
+		 * @return {@code true} if the given value can be stored
+		 */
+		public default boolean accepts(final T value) {
+			return true;
+		}
+
 		/**
 		 * Return the value at the given array {@code index}.
 		 *
@@ -474,7 +489,7 @@ public final class Array<T> implements Serializable {
 		 *
 		 * @param <T> the array element type
 		 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
-		 * @version 3.4
+		 * @version 4.3
 		 * @since 3.4
 		 */
 		public static final class Ref<T> implements Store<T> {
@@ -504,9 +519,20 @@ public final class Array<T> implements Serializable {
 			@Override
 			public void set(final int index, final T value) {
 				copyIfSealed();
+				if (!_value.accepts(value)) {
+					_value = toObjectStore(_value);
+				}
 				_value.set(index, value);
 			}
 
+			private static <T> Store<T> toObjectStore(final Store<T> store) {
+				final Object[] values = new Object[store.length()];
+				for (int i = 0; i < values.length; ++i) {
+					values[i] = store.get(i);
+				}
+				return ObjectStore.of(values);
+			}
+
 			public void sort(
 				final int from,
 				final int until,
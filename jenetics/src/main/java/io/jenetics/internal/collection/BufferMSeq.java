@@ -0,0 +1,62 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * {@code MSeq} view onto a region of a reusable, engine owned object array.
+ * Since the owner of the array guarantees that it is not shared, the
+ * alterers may change the elements of this sequence in place, instead of
+ * copying the sequence first.
+ * <p>
+ * Unlike the {@code ISeq} returned by the {@link ArrayMSeq#toISeq()} method,
+ * the {@code ISeq} returned by this sequence doesn't seal the underlying array.
+ * It is a read-only view of the array region, which is only valid until the
+ * owner reuses the array.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public class BufferMSeq<T> extends ArrayMSeq<T> {
+	private static final long serialVersionUID = 1L;
+
+	private final transient Object[] _buffer;
+	private final int _from;
+	private final int _until;
+
+	public BufferMSeq(final Object[] buffer, final int from, final int until) {
+		super(Array.<T>of(ObjectStore.of(buffer)).slice(from, until));
+		_buffer = requireNonNull(buffer);
+		_from = from;
+		_until = until;
+	}
+
+	@Override
+	public ISeq<T> toISeq() {
+		return new ArrayISeq<>(
+			Array.<T>of(ObjectStore.of(_buffer)).slice(_from, _until).seal()
+		);
+	}
+
+}
@@ -0,0 +1,370 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.IndexSorter;
+import io.jenetics.internal.util.Lazy;
+import io.jenetics.util.Seq;
+
+/**
+ * Immutable population snapshot, which stores the fitness of its phenotypes in
+ * primitive arrays. Selectors compare the individuals by their primitive
+ * fitness values, instead of calling {@link Phenotype#getFitness()} and
+ * comparing the boxed fitness values again and again. Arbitrary
+ * {@code Comparable} fitness types, which may only be partially ordered (e.g.
+ * the {@code Vec} type used for multi-objective optimization), are compared
+ * directly with their {@code compareTo} method. For {@code Number} fitness
+ * types, the {@code double} value of the fitness is additionally available.
+ * <p>
+ * The engine creates one snapshot per generation, which is shared by the
+ * survivors and the offspring selector.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class PopulationSnapshot<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends ArrayISeq<Phenotype<G, C>>
+{
+	private static final long serialVersionUID = 1L;
+
+	// Populations of this size and bigger are sorted with Arrays.parallelSort.
+	private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+	// The top-k selection is used if less than this fraction of the
+	// population is needed.
+	private static final int TOP_K_FRACTION = 4;
+
+	private final transient Object[] _fitness;
+	private final transient double[] _values;
+	private final transient long[] _longs;
+	private final transient boolean _exact;
+	private final transient Lazy<int[]> _ranks;
+
+	private PopulationSnapshot(
+		final Object[] population,
+		final Object[] fitness,
+		final double[] values,
+		final long[] longs,
+		final boolean exact
+	) {
+		super(Array.<Phenotype<G, C>>of(ObjectStore.of(population)).seal());
+		_fitness = fitness;
+		_values = values;
+		_longs = longs;
+		_exact = exact;
+		_ranks = Lazy.of(this::ranks);
+	}
+
+	/**
+	 * Return the {@code double} values of the fitness of the phenotypes, or
+	 * {@code null} if the fitness type is not a {@code Number}. The returned
+	 * array must not be changed.
+	 *
+	 * @return the fitness values, or {@code null} for non numeric fitness types
+	 */
+	public double[] values() {
+		return _values;
+	}
+
+	/**
+	 * Compares the fitness of the phenotypes with the given indexes, like
+	 * {@link Optimize#compare(Comparable, Comparable)}.
+	 *
+	 * @param i the index of the first phenotype
+	 * @param j the index of the second phenotype
+	 * @param opt the optimization strategy
+	 * @return a positive value if the phenotype {@code i} is better than
+	 *         phenotype {@code j}, a negative value if it is worse and zero
+	 *         if both are equally fit
+	 */
+	public int compare(final int i, final int j, final Optimize opt) {
+		return opt == Optimize.MAXIMUM ? compare(i, j) : compare(j, i);
+	}
+
+	// Compares the fitness of the given phenotypes in natural order.
+	@SuppressWarnings("unchecked")
+	private int compare(final int i, final int j) {
+		final int cmp;
+		if (_exact) {
+			cmp = Double.compare(_values[i], _values[j]);
+		} else if (_longs != null) {
+			cmp = Long.compare(_longs[i], _longs[j]);
+		} else {
+			cmp = ((Comparable<Object>)_fitness[i]).compareTo(_fitness[j]);
+		}
+
+		return cmp;
+	}
+
+	// Primitive fitness values are sorted with the help of their ranks.
+	private boolean isPrimitive() {
+		return _exact || _longs != null;
+	}
+
+	/**
+	 * Return the phenotype indexes, sorted from the best to the worst
+	 * phenotype. Phenotypes with the same fitness keep their order, which is
+	 * the same order a stable sort of the population would produce.
+	 *
+	 * @param opt the optimization strategy
+	 * @return the sorted phenotype indexes
+	 */
+	public int[] sortedIndexes(final Optimize opt) {
+		return sortedIndexes(opt, length());
+	}
+
+	/**
+	 * Return the indexes of the {@code k} best phenotypes, sorted from the
+	 * best to the worst phenotype. The result is the same as the first
+	 * {@code k} elements of {@link #sortedIndexes(Optimize)}. If only a small
+	 * part of the population is requested, the indexes are determined with
+	 * a top-k selection, which has a (expected) runtime of
+	 * <i>O(n + k</i>log<i>(k))</i>.
+	 *
+	 * @param opt the optimization strategy
+	 * @param k the number of requested indexes
+	 * @return the sorted indexes of the {@code k} best phenotypes
+	 * @throws IllegalArgumentException if {@code k} is negative
+	 */
+	public int[] sortedIndexes(final Optimize opt, final int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+
+		final int n = min(k, length());
+		return n*TOP_K_FRACTION < length()
+			? IndexSorter.top(length(), n, (i, j) -> {
+				final int cmp = compare(i, j, opt);
+				return cmp != 0 ? cmp : Integer.compare(j, i);
+			})
+			: Arrays.copyOf(
+				isPrimitive()
+					? sorted(opt == Optimize.MAXIMUM)
+					: stableSorted(opt),
+				n
+			);
+	}
+
+	// Stable sort of the population indexes, for arbitrary fitness types.
+	private int[] stableSorted(final Optimize opt) {
+		final Integer[] indexes = new Integer[length()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = i;
+		}
+		final Comparator<Integer> comparator = (i, j) -> compare(j, i, opt);
+		Arrays.sort(indexes, comparator);
+
+		final int[] result = new int[indexes.length];
+		for (int i = 0; i < indexes.length; ++i) {
+			result[i] = indexes[i];
+		}
+		return result;
+	}
+
+	// Full sort of the population indexes, with the help of the ranks.
+	private int[] sorted(final boolean descending) {
+		final int[] ranks = _ranks.get();
+		final long[] keys = new long[ranks.length];
+		for (int i = 0; i < ranks.length; ++i) {
+			final long rank = descending
+				? Integer.MAX_VALUE - ranks[i]
+				: ranks[i];
+			keys[i] = rank << 32 | i;
+		}
+		sort(keys);
+
+		final int[] indexes = new int[keys.length];
+		for (int i = 0; i < keys.length; ++i) {
+			indexes[i] = (int)keys[i];
+		}
+		return indexes;
+	}
+
+	/**
+	 * Return a new snapshot, with the phenotypes sorted from the best to the
+	 * worst phenotype.
+	 *
+	 * @see #sortedIndexes(Optimize)
+	 *
+	 * @param opt the optimization strategy
+	 * @return a new, sorted snapshot
+	 */
+	public PopulationSnapshot<G, C> sorted(final Optimize opt) {
+		final int[] indexes = sortedIndexes(opt);
+
+		final int n = indexes.length;
+		final Object[] population = new Object[n];
+		final Object[] fitness = new Object[n];
+		final double[] values = _values != null ? new double[n] : null;
+		final long[] longs = _longs != null ? new long[n] : null;
+		for (int i = 0; i < n; ++i) {
+			population[i] = get(indexes[i]);
+			fitness[i] = _fitness[indexes[i]];
+			if (values != null) {
+				values[i] = _values[indexes[i]];
+			}
+			if (longs != null) {
+				longs[i] = _longs[indexes[i]];
+			}
+		}
+
+		return new PopulationSnapshot<>(population, fitness, values, longs, _exact);
+	}
+
+	private Object writeReplace() {
+		return new ArrayISeq<>(array);
+	}
+
+	/**
+	 * Create a new population snapshot from the given {@code population}. If
+	 * the given population is already a snapshot, it is returned unchanged.
+	 *
+	 * @param population the population of the snapshot
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the population snapshot
+	 * @throws NullPointerException if the {@code population} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSnapshot<G, C> of(final Seq<Phenotype<G, C>> population) {
+		requireNonNull(population);
+		if (population instanceof PopulationSnapshot) {
+			return (PopulationSnapshot<G, C>)population;
+		}
+
+		final Object[] phenotypes = new Object[population.size()];
+		final Object[] fitness = new Object[population.size()];
+		for (int i = 0; i < phenotypes.length; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			phenotypes[i] = pt;
+			fitness[i] = pt.getFitness();
+		}
+
+		// Fitness values of the same boxed primitive type are compared with
+		// their primitive values.
+		final Class<?> type = fitness.length > 0 ? fitness[0].getClass() : null;
+		boolean uniform = true;
+		boolean numeric = true;
+		for (int i = 0; i < fitness.length; ++i) {
+			uniform &= fitness[i].getClass() == type;
+			numeric &= fitness[i] instanceof Number;
+		}
+
+		double[] values = null;
+		if (numeric) {
+			values = new double[fitness.length];
+			for (int i = 0; i < values.length; ++i) {
+				values[i] = ((Number)fitness[i]).doubleValue();
+			}
+		}
+
+		long[] longs = null;
+		if (uniform &&
+			(type == Long.class ||
+				type == Integer.class ||
+				type == Short.class ||
+				type == Byte.class))
+		{
+			longs = new long[fitness.length];
+			for (int i = 0; i < longs.length; ++i) {
+				longs[i] = ((Number)fitness[i]).longValue();
+			}
+		}
+
+		final boolean exact = uniform &&
+			(type == Double.class || type == Float.class);
+
+		return new PopulationSnapshot<>(phenotypes, fitness, values, longs, exact);
+	}
+
+	/**
+	 * Calculates the dense ranks of the primitive fitness values.
+	 */
+	private int[] ranks() {
+		assert isPrimitive() : "Ranks are only available for primitive fitness.";
+		return _exact ? ranks(_values) : ranks(_longs);
+	}
+
+	private static int[] ranks(final double[] values) {
+		final double[] sorted = values.clone();
+		sort(sorted);
+
+		int length = 0;
+		for (int i = 0; i < sorted.length; ++i) {
+			if (length == 0 || Double.compare(sorted[length - 1], sorted[i]) != 0) {
+				sorted[length++] = sorted[i];
+			}
+		}
+
+		final int[] ranks = new int[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			ranks[i] = Arrays.binarySearch(sorted, 0, length, values[i]);
+		}
+		return ranks;
+	}
+
+	private static int[] ranks(final long[] values) {
+		final long[] sorted = values.clone();
+		sort(sorted);
+
+		int length = 0;
+		for (int i = 0; i < sorted.length; ++i) {
+			if (length == 0 || sorted[length - 1] != sorted[i]) {
+				sorted[length++] = sorted[i];
+			}
+		}
+
+		final int[] ranks = new int[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			ranks[i] = Arrays.binarySearch(sorted, 0, length, values[i]);
+		}
+		return ranks;
+	}
+
+	private static void sort(final double[] array) {
+		if (array.length >= PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(array);
+		} else {
+			Arrays.sort(array);
+		}
+	}
+
+	private static void sort(final long[] array) {
+		if (array.length >= PARALLEL_SORT_THRESHOLD) {
+			Arrays.parallelSort(array);
+		} else {
+			Arrays.sort(array);
+		}
+	}
+
+}
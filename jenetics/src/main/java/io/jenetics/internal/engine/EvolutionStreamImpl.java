@@ -35,7 +35,7 @@ import io.jenetics.internal.util.StreamProxy;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 4.1
+ * @version 4.3
  */
 public final class EvolutionStreamImpl<
 	G extends Gene<?, G>,
@@ -65,10 +65,14 @@ public final class EvolutionStreamImpl<
 	@Override
 	public EvolutionStream<G, C>
 	limit(final Predicate<? super EvolutionResult<G, C>> proceed) {
-		return new EvolutionStreamImpl<>(
+		final EvolutionStreamImpl<G, C> stream = new EvolutionStreamImpl<>(
 			LimitSpliterator.of(_spliterator, proceed),
 			isParallel()
 		);
+
+		// Closing the limited stream also closes this stream.
+		stream.onClose(this::close);
+		return stream;
 	}
 
 }
@@ -0,0 +1,104 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.math;
+
+import static java.lang.Math.log1p;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator which selects every index of the range {@code [start, end)}
+ * independently with the probability {@code p}. Instead of drawing one random
+ * number for every index, the gaps between two selected indexes are drawn
+ * from the geometric distribution. The number of random numbers drawn is
+ * proportional to the number of selected indexes.
+ *
+ * <pre>
+ *     gap = floor(log(1 - u)/log(1 - p)),  u &isin; [0, 1)
+ * </pre>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Geometric_distribution">
+ *      Geometric distribution</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class SkipIndexSpliterator extends Spliterators.AbstractIntSpliterator {
+
+	private final Random _random;
+	private final int _end;
+	private final double _logq;
+
+	private long _index;
+
+	/**
+	 * Create a new index spliterator.
+	 *
+	 * @param random the random engine used for calculating the index gaps
+	 * @param start the start index (inclusively)
+	 * @param end the end index (exclusively)
+	 * @param p the index selection probability, within the range
+	 *        {@code (0, 1)}
+	 */
+	SkipIndexSpliterator(
+		final Random random,
+		final int start,
+		final int end,
+		final double p
+	) {
+		super(
+			Math.max(end - start, 0),
+			Spliterator.ORDERED |
+			Spliterator.DISTINCT |
+			Spliterator.NONNULL |
+			Spliterator.IMMUTABLE
+		);
+
+		_random = requireNonNull(random);
+		_end = end;
+		_logq = log1p(-p);
+		_index = (long)start - 1;
+	}
+
+	@Override
+	public boolean tryAdvance(final IntConsumer action) {
+		requireNonNull(action);
+
+		if (_index < _end) {
+			final double gap = log1p(-_random.nextDouble())/_logq;
+			_index = gap < _end - _index - 1
+				? _index + 1 + (long)gap
+				: _end;
+
+			if (_index < _end) {
+				action.accept((int)_index);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
@@ -26,6 +26,7 @@ import static io.jenetics.internal.util.require.probability;
 
 import java.util.Random;
 import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import io.jenetics.util.IntRange;
 
@@ -34,11 +35,17 @@ import io.jenetics.util.IntRange;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 4.3
  */
 public final class random {
 	private random() {}
 
+	/**
+	 * Index selection probabilities below this value are using the geometric
+	 * index skipping, instead of drawing one random number per index.
+	 */
+	static final double SKIP_THRESHOLD = 0.05;
+
 	public static byte nextByte(final Random random) {
 		return (byte) nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE + 1, random);
 	}
@@ -239,7 +246,10 @@ public final class random {
 
 	/**
 	 * Create an {@code IntStream} which creates random indexes within the
-	 * given range and the index probability.
+	 * given range and the index probability. For small probabilities, the
+	 * gaps between the selected indexes are drawn from the geometric
+	 * distribution, which makes the costs proportional to the number of
+	 * selected indexes instead of the size of the index range.
 	 *
 	 * @since 3.0
 	 *
@@ -265,8 +275,12 @@ public final class random {
 			? IntStream.empty()
 			: equals(p, 1, 1E-20)
 				? IntStream.range(start, end)
-				: IntStream.range(start, end)
-					.filter(i -> random.nextInt() < P);
+				: p < SKIP_THRESHOLD
+					? StreamSupport.intStream(
+						new SkipIndexSpliterator(random, start, end, p),
+						false)
+					: IntStream.range(start, end)
+						.filter(i -> random.nextInt() < P);
 	}
 
 	private static boolean
@@ -387,6 +401,74 @@ public final class random {
 		return mix(base, objectHashSeed());
 	}
 
+	/**
+	 * Return a new random engine for the given {@code seed} and stream
+	 * {@code index}. The returned random engines only depend on the given
+	 * arguments. Engines with different stream indexes start at statistically
+	 * independent positions of the underlying <em>SplitMix64</em> sequence.
+	 * This allows to split random work into chunks, which can be executed in
+	 * any order and by any number of threads, without changing the result.
+	 *
+	 * @since 4.3
+	 *
+	 * @param seed the base seed, e.g. drawn once from the
+	 *        {@link io.jenetics.util.RandomRegistry}
+	 * @param index the stream index, e.g. the chunk index
+	 * @return a new, not thread-safe random engine
+	 */
+	public static Random stream(final long seed, final long index) {
+		return new SplitMix64Random(
+			mix64(mix64(seed) ^ mix64(index + SplitMix64Random.GAMMA))
+		);
+	}
+
+	private static long mix64(final long value) {
+		long z = value;
+		z = (z^(z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z^(z >>> 27))*0x94D049BB133111EBL;
+		return z^(z >>> 31);
+	}
+
+	/**
+	 * Simple and fast, non thread-safe, <em>SplitMix64</em> random engine.
+	 */
+	private static final class SplitMix64Random extends Random {
+		private static final long serialVersionUID = 1L;
+
+		private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+		private long _state;
+
+		SplitMix64Random(final long state) {
+			_state = state;
+		}
+
+		@Override
+		protected int next(final int bits) {
+			return (int)(nextLong() >>> (Long.SIZE - bits));
+		}
+
+		@Override
+		public int nextInt() {
+			return (int)(nextLong() >>> Integer.SIZE);
+		}
+
+		@Override
+		public long nextLong() {
+			return mix64(_state += GAMMA);
+		}
+
+		@Override
+		public double nextDouble() {
+			return (nextLong() >>> 11)*0x1.0p-53;
+		}
+
+		@Override
+		public void setSeed(final long seed) {
+			_state = seed;
+		}
+	}
+
 	private static long mix(final long a, final long b) {
 		long c = a^b;
 		c ^= c << 17;
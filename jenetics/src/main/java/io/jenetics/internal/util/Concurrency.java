@@ -21,6 +21,7 @@ package io.jenetics.internal.util;
 
 import static java.lang.Math.ceil;
 import static java.lang.Math.max;
+import static java.lang.String.format;
 import static java.security.AccessController.doPrivileged;
 import static java.util.Objects.requireNonNull;
 
@@ -28,6 +29,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -35,12 +37,15 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
 
 import io.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 4.3
  * @since 2.0
  */
 public abstract class Concurrency implements Executor, AutoCloseable {
@@ -51,6 +56,44 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 	public abstract void execute(final Seq<? extends Runnable> runnables);
 
+	/**
+	 * Executes the given {@code runnables} by taking the estimated execution
+	 * {@code costs} into account. The most expensive runnables are started
+	 * first and the runnables are distributed, so that every worker gets
+	 * approximately the same amount of work. Negative or non-finite costs
+	 * are treated as zero. The given {@code costs} array is not changed. If
+	 * all costs are equal, e.g. zero, the costs carry no scheduling
+	 * information and this method falls back to {@link #execute(Seq)}.
+	 *
+	 * @since 4.3
+	 *
+	 * @param runnables the runnables to execute
+	 * @param costs the estimated execution costs of the {@code runnables}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length of the {@code costs}
+	 *         array doesn't match the number of {@code runnables}
+	 */
+	public void execute(
+		final Seq<? extends Runnable> runnables,
+		final double[] costs
+	) {
+		final double[] c = costs(runnables, costs);
+		if (c != null) {
+			final int[][] bins = bins(IndexSorter.sort(c), c, (CORES + 1)*2);
+			for (int[] bin : bins) {
+				if (bin.length > 0) {
+					execute(() -> {
+						for (int index : bin) {
+							runnables.get(index).run();
+						}
+					});
+				}
+			}
+		} else {
+			execute(runnables);
+		}
+	}
+
 	@Override
 	public abstract void close();
 
@@ -82,6 +125,66 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		}
 	}
 
+	/**
+	 * Executes the tasks with the indexes {@code [0, count)} with the given
+	 * {@code executor} and waits until all tasks are finished. The calling
+	 * thread takes part in the execution and only waits for tasks which are
+	 * already running. This allows to call this method from within a task of
+	 * the same executor, without the danger of a dead-lock.
+	 *
+	 * @since 4.3
+	 *
+	 * @param executor the executor used for the parallel execution
+	 * @param count the number of tasks
+	 * @param task the task, which is called with the task index
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws CancellationException if one of the tasks threw an exception
+	 */
+	public static void execute(
+		final Executor executor,
+		final int count,
+		final IntConsumer task
+	) {
+		requireNonNull(executor);
+		requireNonNull(task);
+
+		final AtomicInteger next = new AtomicInteger();
+		final CountDownLatch done = new CountDownLatch(count);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		final Runnable worker = () -> {
+			for (int i = next.getAndIncrement(); i < count;
+				i = next.getAndIncrement())
+			{
+				try {
+					task.accept(i);
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				} finally {
+					done.countDown();
+				}
+			}
+		};
+
+		if (executor != SERIAL_EXECUTOR) {
+			for (int i = 1, n = Math.min(count, CORES); i < n; ++i) {
+				executor.execute(worker);
+			}
+		}
+		worker.run();
+
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw (CancellationException)new CancellationException(
+				e.getMessage()).initCause(e);
+		}
+		if (error.get() != null) {
+			throw (CancellationException)new CancellationException(
+				error.get().getMessage()).initCause(error.get());
+		}
+	}
+
 	/**
 	 * Return a new Concurrency object using the common ForkJoinPool.
 	 *
@@ -115,6 +218,29 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 			}
 		}
 
+		@Override
+		public void execute(
+			final Seq<? extends Runnable> runnables,
+			final double[] costs
+		) {
+			final double[] c = costs(runnables, costs);
+			if (c != null) {
+				final int[] order = IndexSorter.sort(c);
+				final double[] sums = new double[order.length + 1];
+				for (int i = 0; i < order.length; ++i) {
+					sums[i + 1] = sums[i] + c[order[i]];
+				}
+				final double threshold =
+					sums[order.length]/(4.0*_pool.getParallelism());
+
+				_tasks.add(_pool.submit(
+					new CostRunnablesAction(runnables, order, sums, threshold)
+				));
+			} else {
+				execute(runnables);
+			}
+		}
+
 		@Override
 		public Executor getInnerExecutor() {
 			return _pool;
@@ -243,6 +369,21 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 			runnables.forEach(Runnable::run);
 		}
 
+		@Override
+		public void execute(
+			final Seq<? extends Runnable> runnables,
+			final double[] costs
+		) {
+			final double[] c = costs(runnables, costs);
+			if (c != null) {
+				for (int index : IndexSorter.sort(c)) {
+					runnables.get(index).run();
+				}
+			} else {
+				execute(runnables);
+			}
+		}
+
 		@Override
 		public void close() {
 		}
@@ -327,6 +468,81 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		return partition;
 	}
 
+	/**
+	 * Return a copy of the given costs, where negative and non-finite values
+	 * are replaced by zero, or {@code null} if all costs are equal or the
+	 * total costs are zero.
+	 */
+	private static double[] costs(
+		final Seq<? extends Runnable> runnables,
+		final double[] costs
+	) {
+		requireNonNull(runnables);
+		requireNonNull(costs);
+		if (runnables.size() != costs.length) {
+			throw new IllegalArgumentException(format(
+				"Runnables and costs must have the same size: %d != %d.",
+				runnables.size(), costs.length
+			));
+		}
+
+		final double[] result = new double[costs.length];
+		double sum = 0;
+		boolean equal = true;
+		for (int i = 0; i < costs.length; ++i) {
+			result[i] = costs[i] > 0 && costs[i] < Double.POSITIVE_INFINITY
+				? costs[i]
+				: 0;
+			sum += result[i];
+			equal &= result[i] == result[0];
+		}
+
+		return !equal && sum > 0 && sum < Double.POSITIVE_INFINITY
+			? result
+			: null;
+	}
+
+	/**
+	 * Distributes the ordered indexes into {@code count} bins with
+	 * approximately the same total costs, using the
+	 * <em>longest processing time first</em> rule: the next index is always
+	 * assigned to the bin with the currently lowest total costs.
+	 */
+	private static int[][] bins(
+		final int[] order,
+		final double[] costs,
+		final int count
+	) {
+		final int n = Math.min(order.length, count);
+		final double[] loads = new double[n];
+		final int[] sizes = new int[n];
+		final int[] assignment = new int[order.length];
+
+		for (int i = 0; i < order.length; ++i) {
+			int bin = 0;
+			for (int j = 1; j < n; ++j) {
+				if (loads[j] < loads[bin]) {
+					bin = j;
+				}
+			}
+			loads[bin] += costs[order[i]];
+			assignment[i] = bin;
+			++sizes[bin];
+		}
+
+		final int[][] bins = new int[n][];
+		for (int i = 0; i < n; ++i) {
+			bins[i] = new int[sizes[i]];
+			sizes[i] = 0;
+		}
+		for (int i = 0; i < order.length; ++i) {
+			final int bin = assignment[i];
+			bins[bin][sizes[bin]++] = order[i];
+		}
+
+		return bins;
+	}
+
 	private static final class Env {
 		private static final int maxBatchSize = max(
 			doPrivileged(
@@ -0,0 +1,118 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.util.concurrent.RecursiveAction;
+
+import io.jenetics.util.Seq;
+
+/**
+ * Recursive action which splits the runnables according to its estimated
+ * execution costs. The runnables are executed in the given {@code order},
+ * which is expected to be sorted by descending cost, so that the most
+ * expensive runnables are started first. The cost based splitting lets the
+ * fork/join work stealing balance the load between the worker threads.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+final class CostRunnablesAction extends RecursiveAction {
+	private static final long serialVersionUID = 1;
+
+	private final Seq<? extends Runnable> _runnables;
+	private final int[] _order;
+	private final double[] _costs;
+	private final double _threshold;
+	private final int _low;
+	private final int _high;
+
+	private CostRunnablesAction(
+		final Seq<? extends Runnable> runnables,
+		final int[] order,
+		final double[] costs,
+		final double threshold,
+		final int low,
+		final int high
+	) {
+		_runnables = runnables;
+		_order = order;
+		_costs = costs;
+		_threshold = threshold;
+		_low = low;
+		_high = high;
+	}
+
+	/**
+	 * Create a new action for the given runnables.
+	 *
+	 * @param runnables the runnables to execute
+	 * @param order the execution order of the runnables, sorted by descending
+	 *        execution cost
+	 * @param costs the cumulated execution costs of the ordered runnables,
+	 *        with {@code costs.length == order.length + 1}
+	 * @param threshold the cost threshold, below which the runnables are
+	 *        executed serially
+	 */
+	CostRunnablesAction(
+		final Seq<? extends Runnable> runnables,
+		final int[] order,
+		final double[] costs,
+		final double threshold
+	) {
+		this(runnables, order, costs, threshold, 0, order.length);
+	}
+
+	@Override
+	protected void compute() {
+		if (_high - _low <= 1 || _costs[_high] - _costs[_low] <= _threshold) {
+			for (int i = _low; i < _high; ++i) {
+				_runnables.get(_order[i]).run();
+			}
+		} else {
+			final int mid = split();
+			invokeAll(
+				new CostRunnablesAction(
+					_runnables, _order, _costs, _threshold, _low, mid),
+				new CostRunnablesAction(
+					_runnables, _order, _costs, _threshold, mid, _high)
+			);
+		}
+	}
+
+	// Finds the index which splits the runnables into two parts of equal cost.
+	private int split() {
+		final double half = (_costs[_low] + _costs[_high])/2.0;
+
+		int low = _low + 1;
+		int high = _high - 1;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (_costs[mid] < half) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+}
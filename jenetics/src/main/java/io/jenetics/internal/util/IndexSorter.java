@@ -21,6 +21,7 @@ package io.jenetics.internal.util;
 
 import static io.jenetics.internal.util.array.swap;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 import io.jenetics.util.Seq;
@@ -32,7 +33,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 4.3
  */
 public abstract class IndexSorter {
 
@@ -313,6 +314,105 @@ public abstract class IndexSorter {
 		return sorter.sort(array, indexes(array.length));
 	}
 
+	/**
+	 * Return the indexes of the {@code k} greatest elements, in descending
+	 * order. This is the same as the first {@code k} indexes of a full index
+	 * sort, but the {@code k} greatest elements are determined with the
+	 * <em>quickselect</em> algorithm first. Only these {@code k} indexes are
+	 * sorted afterwards, which leads to an expected runtime complexity of
+	 * <i>O(n + k</i>log<i>(k))</i>.
+	 *
+	 * @since 4.3
+	 *
+	 * @param length the number of elements
+	 * @param k the number of greatest elements to return
+	 * @param comparator the comparator, which compares the elements with the
+	 *        given indexes. The comparator must define a total order, if the
+	 *        result must be deterministic.
+	 * @return the indexes of the {@code k} greatest elements
+	 * @throws IllegalArgumentException if {@code k} is not within the range
+	 *         {@code [0, length]}
+	 * @throws NullPointerException if the {@code comparator} is {@code null}
+	 */
+	public static int[] top(
+		final int length,
+		final int k,
+		final IntComparator comparator
+	) {
+		if (k < 0 || k > length) {
+			throw new IllegalArgumentException(String.format(
+				"k must be within the range [0, %d], but was %d.", length, k
+			));
+		}
+
+		final int[] indexes = indexes(length);
+		if (k > 0 && k < length) {
+			select(indexes, k, comparator);
+		}
+
+		final int[] top = Arrays.copyOf(indexes, k);
+		final int[] order = sorter(k).sort(top, indexes(k), comparator);
+		for (int i = 0; i < k; ++i) {
+			order[i] = top[order[i]];
+		}
+		return order;
+	}
+
+	/*
+	 * Moves the indexes of the k greatest elements to the front of the given
+	 * indexes array, with the quickselect algorithm.
+	 */
+	private static void select(
+		final int[] indexes,
+		final int k,
+		final IntComparator comparator
+	) {
+		int left = 0;
+		int right = indexes.length - 1;
+
+		while (left < right) {
+			final int pivot = median(
+				indexes[left],
+				indexes[(left + right) >>> 1],
+				indexes[right],
+				comparator
+			);
+
+			int i = left;
+			int j = right;
+			while (i <= j) {
+				while (comparator.compare(indexes[i], pivot) > 0) ++i;
+				while (comparator.compare(indexes[j], pivot) < 0) --j;
+				if (i <= j) {
+					swap(indexes, i++, j--);
+				}
+			}
+
+			if (k - 1 <= j) {
+				right = j;
+			} else if (k - 1 >= i) {
+				left = i;
+			} else {
+				break;
+			}
+		}
+	}
+
+	private static int median(
+		final int a,
+		final int b,
+		final int c,
+		final IntComparator comparator
+	) {
+		return comparator.compare(a, b) < 0
+			? comparator.compare(b, c) < 0
+				? b
+				: comparator.compare(a, c) < 0 ? c : a
+			: comparator.compare(a, c) < 0
+				? a
+				: comparator.compare(b, c) < 0 ? c : b;
+	}
+
 	/**
 	 * Create an initial indexes array of the given {@code length}.
 	 *
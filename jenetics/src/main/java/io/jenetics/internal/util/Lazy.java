@@ -34,12 +34,13 @@ import java.util.function.Supplier;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.7
+ * @version 4.3
  */
 public final class Lazy<T> implements Supplier<T>, Serializable {
 	private static final long serialVersionUID = 2L;
 
-	private final transient Supplier<T> _supplier;
+	// The supplier is released after the evaluation.
+	private transient Supplier<T> _supplier;
 
 	private T _value;
 	private transient volatile boolean _evaluated;
@@ -81,11 +82,25 @@ public final class Lazy<T> implements Supplier<T>, Serializable {
 		if (!_evaluated) {
 			_value = _supplier.get();
 			_evaluated = true;
+			_supplier = null;
 		}
 
 		return _value;
 	}
 
+	/**
+	 * Return the supplier of the lazy value, or {@code null} if the value has
+	 * already been evaluated.
+	 *
+	 * @since 4.3
+	 *
+	 * @return the supplier of the lazy value, or {@code null} if the value
+	 *         has already been evaluated
+	 */
+	public Supplier<T> supplier() {
+		return _evaluated ? null : _supplier;
+	}
+
     @Override
     public int hashCode() {
         return Objects.hashCode(get());
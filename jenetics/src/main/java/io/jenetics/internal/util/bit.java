@@ -40,7 +40,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 4.3
  */
 public final class bit {
 	private bit() {}
@@ -178,11 +178,106 @@ public final class bit {
 		final byte[] data, final int start, final int end,
 		final byte[] otherData, final int otherStart
 	) {
-		for (int i = end - start; --i >= 0;) {
-			final boolean temp = get(data, i + start);
-			set(data, i + start, get(otherData, otherStart + i));
-			set(otherData, otherStart + i, temp);
+		if (start == otherStart) {
+			swapAligned(data, otherData, start, end);
+		} else {
+			for (int i = end - start; --i >= 0;) {
+				final boolean temp = get(data, i + start);
+				set(data, i + start, get(otherData, otherStart + i));
+				set(otherData, otherStart + i, temp);
+			}
+		}
+	}
+
+	// Swaps the bits with the same positions, whole bytes at a time. Only the
+	// bytes at the range borders must be masked.
+	private static void swapAligned(
+		final byte[] data,
+		final byte[] otherData,
+		final int start,
+		final int end
+	) {
+		if (start < end) {
+			final int first = start >>> 3;
+			final int last = (end - 1) >>> 3;
+			final int firstMask = 0xFF << (start & 7);
+			final int lastMask = 0xFF >>> (7 - ((end - 1) & 7));
+
+			if (first == last) {
+				swap(data, otherData, first, firstMask & lastMask);
+			} else {
+				swap(data, otherData, first, firstMask);
+				for (int i = first + 1; i < last; ++i) {
+					final byte temp = data[i];
+					data[i] = otherData[i];
+					otherData[i] = temp;
+				}
+				swap(data, otherData, last, lastMask);
+			}
+		}
+	}
+
+	private static void swap(
+		final byte[] data,
+		final byte[] otherData,
+		final int index,
+		final int mask
+	) {
+		final int diff = (data[index] ^ otherData[index]) & mask;
+		data[index] ^= diff;
+		otherData[index] ^= diff;
+	}
+
+	/**
+	 * Swaps the bits of the two given arrays at all positions where the
+	 * {@code mask} array has a one-bit.
+	 *
+	 * @param data the first byte array which is used for swapping
+	 * @param otherData the other byte array to swap the bits with
+	 * @param mask the swap mask
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	public static void swap(
+		final byte[] data,
+		final byte[] otherData,
+		final byte[] mask
+	) {
+		final int n = min(min(data.length, otherData.length), mask.length);
+		for (int i = 0; i < n; ++i) {
+			final int diff = (data[i] ^ otherData[i]) & mask[i];
+			data[i] ^= diff;
+			otherData[i] ^= diff;
+		}
+	}
+
+	/**
+	 * Return the indexes of the bits which are different in the two given
+	 * arrays. The indexes are returned in ascending order.
+	 *
+	 * @param data the first byte array
+	 * @param otherData the second byte array
+	 * @return the (ascending) indexes of the different bits
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	public static int[] diff(final byte[] data, final byte[] otherData) {
+		final int n = min(data.length, otherData.length);
+
+		int count = 0;
+		for (int i = 0; i < n; ++i) {
+			count += count((byte)(data[i] ^ otherData[i]));
+		}
+
+		final int[] indexes = new int[count];
+		int index = 0;
+		for (int i = 0; i < n && index < count; ++i) {
+			int bits = (data[i] ^ otherData[i]) & 0xFF;
+			while (bits != 0) {
+				indexes[index++] = (i << 3) + Integer.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+			}
 		}
+
+		return indexes;
 	}
 
 	/**
@@ -193,8 +288,19 @@ public final class bit {
 	 * @return the number of one bits in the given {@code byte} array.
 	 */
 	public static int count(final byte[] data) {
+		// Counting the bits of whole 32 bit words.
+		final int words = data.length & ~3;
+
 		int count = 0;
-		for (int i = data.length; --i >= 0;) {
+		for (int i = 0; i < words; i += 4) {
+			count += Integer.bitCount(
+				(data[i] & 0xFF) |
+				(data[i + 1] & 0xFF) << 8 |
+				(data[i + 2] & 0xFF) << 16 |
+				data[i + 3] << 24
+			);
+		}
+		for (int i = words; i < data.length; ++i) {
 			count += count(data[i]);
 		}
 		return count;
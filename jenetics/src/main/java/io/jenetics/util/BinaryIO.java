@@ -0,0 +1,801 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+
+/**
+ * Compact binary {@link IO} implementation for genotypes, phenotypes and
+ * populations. The chromosomes of the library are written with
+ * type-specialized encodings:
+ * <ul>
+ *     <li>{@link DoubleChromosome}: bounds, followed by the packed
+ *         {@code double} values.</li>
+ *     <li>{@link IntegerChromosome} and {@link LongChromosome}: bounds,
+ *         followed by the var-int encoded offsets of the values from the
+ *         lower bound.</li>
+ *     <li>{@link BitChromosome}: the bit-packed chromosome bytes.</li>
+ *     <li>{@link PermutationChromosome}: the var-int encoded allele indexes.
+ *         The valid alleles are written only once per stream.</li>
+ * </ul>
+ * Populations ({@link ISeq}s) of {@link Genotype}s and {@link Phenotype}s are
+ * written element by element. All other objects, including unknown
+ * chromosome types and fitness values other than {@code Integer},
+ * {@code Long} and {@code Double}, are written with <i>Java</i>
+ * serialization. Every stream starts with a versioned header.
+ * <p>
+ * The {@link #writer(OutputStream)} and {@link #stream(Class, InputStream)}
+ * methods allow to write and read a population incrementally.
+ *
+ * <pre>{@code
+ * try (BinaryIO.Writer writer = IO.binary.writer(out)) {
+ *     for (Phenotype<DoubleGene, Double> pt : population) {
+ *         writer.write(pt);
+ *     }
+ * }
+ *
+ * try (Stream<Phenotype> stream = IO.binary.stream(Phenotype.class, in)) {
+ *     stream.forEach(System.out::println);
+ * }
+ * }</pre>
+ *
+ * Like with the {@link IO#object} implementation, the fitness function of a
+ * read {@code Phenotype} is the <em>identity</em> function and the
+ * phenotype must be re-evaluated, if needed.
+ *
+ * @see IO#binary
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 4.3
+ * @since 4.3
+ */
+public final class BinaryIO extends IO {
+
+	static final int MAGIC = 0x4A454E42;
+	static final int VERSION = 1;
+
+	// The record tags.
+	private static final int END = 0;
+	private static final int SEQ = 1;
+	private static final int GENOTYPE = 2;
+	private static final int PHENOTYPE = 3;
+	private static final int DOUBLE_CHROMOSOME = 4;
+	private static final int INTEGER_CHROMOSOME = 5;
+	private static final int LONG_CHROMOSOME = 6;
+	private static final int BIT_CHROMOSOME = 7;
+	private static final int PERMUTATION_CHROMOSOME = 8;
+	private static final int DOUBLE = 9;
+	private static final int INTEGER = 10;
+	private static final int LONG = 11;
+	private static final int OBJECT = 12;
+
+	BinaryIO() {
+	}
+
+	@Override
+	public void write(final Object object, final OutputStream out)
+		throws IOException
+	{
+		requireNonNull(object);
+		final Encoder encoder = new Encoder(out);
+		encoder.header();
+		encoder.value(object);
+		encoder.flush();
+	}
+
+	@Override
+	public <T> T read(final Class<T> type, final InputStream in)
+		throws IOException
+	{
+		final Decoder decoder = new Decoder(in);
+		decoder.header();
+		try {
+			return type.cast(decoder.value(decoder.tag()));
+		} catch (ClassCastException | IllegalArgumentException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Return a new writer, which writes the given objects incrementally to
+	 * the given output stream. The written objects can be read with the
+	 * {@link #stream(Class, InputStream)} method.
+	 *
+	 * @param out the output stream
+	 * @return a new writer for the given output stream
+	 * @throws NullPointerException if the given output stream is {@code null}
+	 * @throws IOException if the header can't be written
+	 */
+	public Writer writer(final OutputStream out) throws IOException {
+		return new Writer(new Encoder(requireNonNull(out)));
+	}
+
+	/**
+	 * Return a lazy stream of the objects, written by a
+	 * {@link #writer(OutputStream)}. The objects are read on demand, when the
+	 * stream is consumed, and the stream ends when the writer has been closed
+	 * or at the end of the input. Closing the returned stream closes the
+	 * given input stream. An {@link IOException} during the stream
+	 * consumption is re-thrown as {@link UncheckedIOException}.
+	 *
+	 * @param type the type of the read objects
+	 * @param in the input stream
+	 * @param <T> the object type
+	 * @return a lazy stream of the objects of the given input stream
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if the header is invalid
+	 */
+	public <T> Stream<T> stream(final Class<T> type, final InputStream in)
+		throws IOException
+	{
+		requireNonNull(type);
+		final Decoder decoder = new Decoder(requireNonNull(in));
+		decoder.header();
+
+		final Spliterator<T> spliterator =
+			new Spliterators.AbstractSpliterator<T>(
+				Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL
+			) {
+				private boolean _done = false;
+
+				@Override
+				public boolean tryAdvance(final Consumer<? super T> action) {
+					if (!_done) {
+						try {
+							final int tag = decoder.tag();
+							if (tag == END || tag == -1) {
+								_done = true;
+							} else {
+								action.accept(type.cast(decoder.value(tag)));
+							}
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}
+					return !_done;
+				}
+			};
+
+		return StreamSupport.stream(spliterator, false).onClose(() -> {
+			try {
+				in.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Writes objects incrementally to an output stream.
+	 *
+	 * @see BinaryIO#writer(OutputStream)
+	 * @see BinaryIO#stream(Class, InputStream)
+	 */
+	public static final class Writer implements Closeable {
+
+		private final Encoder _encoder;
+		private boolean _closed = false;
+
+		private Writer(final Encoder encoder) throws IOException {
+			_encoder = encoder;
+			_encoder.header();
+		}
+
+		/**
+		 * Appends the given object to the output stream. The object is
+		 * buffered and not necessarily written to the underlying stream when
+		 * this method returns.
+		 *
+		 * @param object the object to write
+		 * @throws NullPointerException if the given {@code object} is
+		 *         {@code null}
+		 * @throws IOException if the object can't be written or the writer
+		 *         has already been closed
+		 */
+		public void write(final Object object) throws IOException {
+			requireNonNull(object);
+			if (_closed) {
+				throw new IOException("Writer has been closed.");
+			}
+			_encoder.value(object);
+		}
+
+		/**
+		 * Writes all buffered objects to the underlying output stream.
+		 *
+		 * @throws IOException if flushing the output stream fails
+		 */
+		public void flush() throws IOException {
+			if (!_closed) {
+				_encoder.flush();
+			}
+		}
+
+		/**
+		 * Writes the end marker and closes the underlying output stream.
+		 *
+		 * @throws IOException if closing the output stream fails
+		 */
+		@Override
+		public void close() throws IOException {
+			if (!_closed) {
+				try {
+					_encoder.writeByte(END);
+					_encoder.flush();
+				} finally {
+					_closed = true;
+					_encoder.close();
+				}
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Encoding.
+	 * ************************************************************************/
+
+	private static final class Encoder {
+		private final OutputStream _out;
+		private final byte[] _buffer = new byte[8192];
+		private int _pos = 0;
+
+		// Maps the valid alleles of permutation chromosomes to its ID.
+		private final Map<ISeq<?>, Integer> _alleles = new IdentityHashMap<>();
+
+		Encoder(final OutputStream out) {
+			_out = requireNonNull(out);
+		}
+
+		void header() throws IOException {
+			writeInt(MAGIC);
+			writeByte(VERSION);
+		}
+
+		void value(final Object value) throws IOException {
+			if (value instanceof Genotype<?>) {
+				writeByte(GENOTYPE);
+				genotype((Genotype<?>)value);
+			} else if (value instanceof Phenotype<?, ?>) {
+				final Phenotype<?, ?> pt = (Phenotype<?, ?>)value;
+				writeByte(PHENOTYPE);
+				writeVarLong(pt.getGeneration());
+				genotype(pt.getGenotype());
+				value(pt.getRawFitness());
+			} else if (value instanceof ISeq<?>) {
+				final ISeq<?> seq = (ISeq<?>)value;
+				writeByte(SEQ);
+				writeVarLong(seq.size());
+				for (Object element : seq) {
+					value(element);
+				}
+			} else if (value instanceof Chromosome<?>) {
+				chromosome((Chromosome<?>)value);
+			} else if (value.getClass() == Double.class) {
+				writeByte(DOUBLE);
+				writeDouble((Double)value);
+			} else if (value.getClass() == Integer.class) {
+				writeByte(INTEGER);
+				writeVarLong(zigzag((Integer)value));
+			} else if (value.getClass() == Long.class) {
+				writeByte(LONG);
+				writeVarLong(zigzag((Long)value));
+			} else {
+				object(value);
+			}
+		}
+
+		private void genotype(final Genotype<?> gt) throws IOException {
+			writeVarLong(gt.length());
+			for (int i = 0; i < gt.length(); ++i) {
+				chromosome(gt.getChromosome(i));
+			}
+		}
+
+		private void chromosome(final Chromosome<?> ch) throws IOException {
+			final Class<?> type = ch.getClass();
+			if (type == DoubleChromosome.class) {
+				doubleChromosome((DoubleChromosome)ch);
+			} else if (type == IntegerChromosome.class) {
+				integerChromosome((IntegerChromosome)ch);
+			} else if (type == LongChromosome.class) {
+				longChromosome((LongChromosome)ch);
+			} else if (type == BitChromosome.class) {
+				bitChromosome((BitChromosome)ch);
+			} else if (type == PermutationChromosome.class) {
+				permutationChromosome((PermutationChromosome<?>)ch);
+			} else {
+				object(ch);
+			}
+		}
+
+		private void doubleChromosome(final DoubleChromosome ch)
+			throws IOException
+		{
+			writeByte(DOUBLE_CHROMOSOME);
+			writeVarLong(ch.length());
+			writeVarLong(ch.lengthRange().getMin());
+			writeVarLong(ch.lengthRange().getMax());
+			writeDouble(ch.getMin());
+			writeDouble(ch.getMax());
+			for (double value : ch.toArray()) {
+				writeDouble(value);
+			}
+		}
+
+		private void integerChromosome(final IntegerChromosome ch)
+			throws IOException
+		{
+			final int min = ch.getMin();
+			writeByte(INTEGER_CHROMOSOME);
+			writeVarLong(ch.length());
+			writeVarLong(ch.lengthRange().getMin());
+			writeVarLong(ch.lengthRange().getMax());
+			writeInt(min);
+			writeInt(ch.getMax());
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				writeVarLong((ch.getGene(i).intValue() - (long)min));
+			}
+		}
+
+		private void longChromosome(final LongChromosome ch)
+			throws IOException
+		{
+			final long min = ch.getMin();
+			writeByte(LONG_CHROMOSOME);
+			writeVarLong(ch.length());
+			writeVarLong(ch.lengthRange().getMin());
+			writeVarLong(ch.lengthRange().getMax());
+			writeLong(min);
+			writeLong(ch.getMax());
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				// The (unsigned) difference is always correct, even if it
+				// overflows.
+				writeVarLong(ch.getGene(i).longValue() - min);
+			}
+		}
+
+		private void bitChromosome(final BitChromosome ch) throws IOException {
+			writeByte(BIT_CHROMOSOME);
+			writeVarLong(ch.length());
+			writeDouble(ch.getOneProbability());
+			writeBytes(ch.toByteArray());
+		}
+
+		private void permutationChromosome(final PermutationChromosome<?> ch)
+			throws IOException
+		{
+			writeByte(PERMUTATION_CHROMOSOME);
+
+			final ISeq<?> alleles = ch.getValidAlleles();
+			final Integer id = _alleles.get(alleles);
+			if (id != null) {
+				writeVarLong(id);
+			} else {
+				writeVarLong(_alleles.size());
+				blob(alleles);
+				_alleles.put(alleles, _alleles.size());
+			}
+
+			writeVarLong(ch.length());
+			for (int i = 0, n = ch.length(); i < n; ++i) {
+				writeVarLong(ch.getGene(i).getAlleleIndex());
+			}
+		}
+
+		private void object(final Object value) throws IOException {
+			writeByte(OBJECT);
+			blob(value);
+		}
+
+		private void blob(final Object value) throws IOException {
+			final byte[] bytes = IO.object.toByteArray(value);
+			writeVarLong(bytes.length);
+			writeBytes(bytes);
+		}
+
+		private void ensure(final int size) throws IOException {
+			if (_buffer.length - _pos < size) {
+				drain();
+			}
+		}
+
+		private void drain() throws IOException {
+			if (_pos > 0) {
+				_out.write(_buffer, 0, _pos);
+				_pos = 0;
+			}
+		}
+
+		void writeByte(final int value) throws IOException {
+			ensure(1);
+			_buffer[_pos++] = (byte)value;
+		}
+
+		private void writeInt(final int value) throws IOException {
+			ensure(4);
+			_buffer[_pos++] = (byte)(value >>> 24);
+			_buffer[_pos++] = (byte)(value >>> 16);
+			_buffer[_pos++] = (byte)(value >>> 8);
+			_buffer[_pos++] = (byte)value;
+		}
+
+		private void writeLong(final long value) throws IOException {
+			ensure(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				_buffer[_pos++] = (byte)(value >>> shift);
+			}
+		}
+
+		private void writeDouble(final double value) throws IOException {
+			writeLong(Double.doubleToRawLongBits(value));
+		}
+
+		private void writeVarLong(final long value) throws IOException {
+			ensure(10);
+			long v = value;
+			while ((v & ~0x7FL) != 0) {
+				_buffer[_pos++] = (byte)((v & 0x7F) | 0x80);
+				v >>>= 7;
+			}
+			_buffer[_pos++] = (byte)v;
+		}
+
+		private void writeBytes(final byte[] bytes) throws IOException {
+			if (bytes.length > _buffer.length - _pos) {
+				drain();
+			}
+			if (bytes.length > _buffer.length) {
+				_out.write(bytes);
+			} else {
+				System.arraycopy(bytes, 0, _buffer, _pos, bytes.length);
+				_pos += bytes.length;
+			}
+		}
+
+		void flush() throws IOException {
+			drain();
+			_out.flush();
+		}
+
+		void close() throws IOException {
+			_out.close();
+		}
+	}
+
+	private static long zigzag(final long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(final long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+
+	/* *************************************************************************
+	 * Decoding.
+	 * ************************************************************************/
+
+	private static final class Decoder {
+		private final InputStream _in;
+		private final byte[] _buffer = new byte[8192];
+		private int _pos = 0;
+		private int _limit = 0;
+
+		// The valid alleles of the permutation chromosomes, indexed by its ID.
+		private final List<ISeq<?>> _alleles = new ArrayList<>();
+
+		Decoder(final InputStream in) {
+			_in = requireNonNull(in);
+		}
+
+		void header() throws IOException {
+			final int magic = readInt();
+			if (magic != MAGIC) {
+				throw new IOException(format(
+					"Invalid binary IO header: %08X.", magic
+				));
+			}
+			final int version = readByte();
+			if (version != VERSION) {
+				throw new IOException(format(
+					"Unsupported binary IO version: %d.", version
+				));
+			}
+		}
+
+		/**
+		 * Return the next record tag or -1, if the end of the input stream
+		 * has been reached.
+		 */
+		int tag() throws IOException {
+			return fill(1) ? _buffer[_pos++] & 0xFF : -1;
+		}
+
+		Object value(final int tag) throws IOException {
+			switch (tag) {
+				case GENOTYPE: return genotype();
+				case PHENOTYPE: return phenotype();
+				case SEQ: return seq();
+				case DOUBLE: return readDouble();
+				case INTEGER: return (int)unzigzag(readVarLong());
+				case LONG: return unzigzag(readVarLong());
+				case OBJECT: return blob();
+				default: return chromosome(tag);
+			}
+		}
+
+		private ISeq<Object> seq() throws IOException {
+			final MSeq<Object> seq = MSeq.ofLength(readLength());
+			for (int i = 0; i < seq.length(); ++i) {
+				seq.set(i, value(readByte()));
+			}
+			return seq.toISeq();
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private Phenotype<?, ?> phenotype() throws IOException {
+			final long generation = readVarLong();
+			final Genotype genotype = genotype();
+			final Comparable fitness = (Comparable)value(readByte());
+
+			final Function identity = Function.identity();
+			return Phenotype.of(genotype, generation, identity, identity, fitness);
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private Genotype<?> genotype() throws IOException {
+			final MSeq<Chromosome> chromosomes = MSeq.ofLength(readLength());
+			for (int i = 0; i < chromosomes.length(); ++i) {
+				chromosomes.set(i, chromosome(readByte()));
+			}
+			return Genotype.of((ISeq)chromosomes.toISeq());
+		}
+
+		private Chromosome<?> chromosome(final int tag) throws IOException {
+			switch (tag) {
+				case DOUBLE_CHROMOSOME: return doubleChromosome();
+				case INTEGER_CHROMOSOME: return integerChromosome();
+				case LONG_CHROMOSOME: return longChromosome();
+				case BIT_CHROMOSOME: return bitChromosome();
+				case PERMUTATION_CHROMOSOME: return permutationChromosome();
+				case OBJECT: return (Chromosome<?>)blob();
+				default: throw new IOException(format(
+					"Unknown record tag: %d.", tag
+				));
+			}
+		}
+
+		private DoubleChromosome doubleChromosome() throws IOException {
+			final int length = readLength();
+			final IntRange range = IntRange.of(readLength(), readLength());
+			final double min = readDouble();
+			final double max = readDouble();
+
+			final double[] values = new double[length];
+			for (int i = 0; i < length; ++i) {
+				values[i] = readDouble();
+			}
+
+			return DoubleChromosome.of(values, min, max, range);
+		}
+
+		private IntegerChromosome integerChromosome() throws IOException {
+			final int length = readLength();
+			final IntRange range = IntRange.of(readLength(), readLength());
+			final int min = readInt();
+			final int max = readInt();
+
+			final MSeq<IntegerGene> genes = MSeq.ofLength(length);
+			for (int i = 0; i < length; ++i) {
+				genes.set(i, IntegerGene.of(min + (int)readVarLong(), min, max));
+			}
+
+			return range.equals(IntRange.of(length))
+				? IntegerChromosome.of(genes.toISeq())
+				: IntegerChromosome.of(min, max, range)
+					.newInstance(genes.toISeq());
+		}
+
+		private LongChromosome longChromosome() throws IOException {
+			final int length = readLength();
+			final IntRange range = IntRange.of(readLength(), readLength());
+			final long min = readLong();
+			final long max = readLong();
+
+			final MSeq<LongGene> genes = MSeq.ofLength(length);
+			for (int i = 0; i < length; ++i) {
+				genes.set(i, LongGene.of(min + readVarLong(), min, max));
+			}
+
+			return range.equals(IntRange.of(length))
+				? LongChromosome.of(genes.toISeq())
+				: LongChromosome.of(min, max, range)
+					.newInstance(genes.toISeq());
+		}
+
+		private BitChromosome bitChromosome() throws IOException {
+			final int length = readLength();
+			final double p = readDouble();
+			final byte[] bytes = readBytes((int)((length + 7L) >>> 3));
+
+			return BitChromosome.of(BitSet.valueOf(bytes), length, p);
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private PermutationChromosome<?> permutationChromosome()
+			throws IOException
+		{
+			final int id = readLength();
+			final ISeq alleles;
+			if (id < _alleles.size()) {
+				alleles = _alleles.get(id);
+			} else if (id == _alleles.size()) {
+				alleles = (ISeq)blob();
+				_alleles.add(alleles);
+			} else {
+				throw new IOException(format("Invalid alleles ID: %d.", id));
+			}
+
+			final MSeq<EnumGene> genes = MSeq.ofLength(readLength());
+			for (int i = 0; i < genes.length(); ++i) {
+				genes.set(i, EnumGene.of(readLength(), alleles));
+			}
+
+			return new PermutationChromosome(genes.toISeq());
+		}
+
+		private Object blob() throws IOException {
+			return IO.object.fromByteArray(readBytes(readLength()));
+		}
+
+		/**
+		 * Tries to fill the buffer, so that at least {@code size} bytes are
+		 * available. Returns {@code false} if the end of the stream has been
+		 * reached before any bytes has been read.
+		 */
+		private boolean fill(final int size) throws IOException {
+			if (_limit - _pos >= size) {
+				return true;
+			}
+
+			final int available = _limit - _pos;
+			System.arraycopy(_buffer, _pos, _buffer, 0, available);
+			_pos = 0;
+			_limit = available;
+			while (_limit < size) {
+				final int read = _in.read(_buffer, _limit, _buffer.length - _limit);
+				if (read < 0) {
+					if (_limit == 0) {
+						return false;
+					}
+					throw new EOFException();
+				}
+				_limit += read;
+			}
+			return true;
+		}
+
+		private void require(final int size) throws IOException {
+			if (!fill(size)) {
+				throw new EOFException();
+			}
+		}
+
+		private int readByte() throws IOException {
+			require(1);
+			return _buffer[_pos++] & 0xFF;
+		}
+
+		private int readInt() throws IOException {
+			require(4);
+			final int value =
+				(_buffer[_pos] & 0xFF) << 24 |
+				(_buffer[_pos + 1] & 0xFF) << 16 |
+				(_buffer[_pos + 2] & 0xFF) << 8 |
+				(_buffer[_pos + 3] & 0xFF);
+			_pos += 4;
+			return value;
+		}
+
+		private long readLong() throws IOException {
+			require(8);
+			long value = 0;
+			for (int i = 0; i < 8; ++i) {
+				value = value << 8 | (_buffer[_pos++] & 0xFF);
+			}
+			return value;
+		}
+
+		private double readDouble() throws IOException {
+			return Double.longBitsToDouble(readLong());
+		}
+
+		private long readVarLong() throws IOException {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				final int b = readByte();
+				value |= (long)(b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IOException("Malformed var-int value.");
+		}
+
+		private int readLength() throws IOException {
+			final long length = readVarLong();
+			if (length < 0 || length > Integer.MAX_VALUE) {
+				throw new IOException(format("Invalid length: %d.", length));
+			}
+			return (int)length;
+		}
+
+		private byte[] readBytes(final int length) throws IOException {
+			final byte[] bytes = new byte[length];
+			final int buffered = Math.min(length, _limit - _pos);
+			System.arraycopy(_buffer, _pos, bytes, 0, buffered);
+			_pos += buffered;
+
+			int offset = buffered;
+			while (offset < length) {
+				final int read = _in.read(bytes, offset, length - offset);
+				if (read < 0) {
+					throw new EOFException();
+				}
+				offset += read;
+			}
+			return bytes;
+		}
+	}
+
+}
@@ -51,9 +51,13 @@ import java.nio.file.Path;
  *     .stream(population, 1);
  * }</pre>
  *
+ * The {@link #binary} implementation writes genotypes and populations in a
+ * much more compact format and allows to write and read populations
+ * incrementally.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 4.3
  */
 public abstract class IO {
 
@@ -87,6 +91,16 @@ public abstract class IO {
 		}
 	};
 
+	/**
+	 * Compact binary IO implementation for genotypes, phenotypes and
+	 * populations.
+	 *
+	 * @see BinaryIO
+	 *
+	 * @since 4.3
+	 */
+	public static final BinaryIO binary = new BinaryIO();
+
 	/**
 	 * Serializes the given {@code object} to a {@code byte[]} array.
 	 *
@@ -21,10 +21,18 @@ package io.jenetics;
 
 import static io.jenetics.TestUtils.newDoubleGenePopulation;
 
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -48,6 +56,37 @@ public abstract class AltererTester {
 		alterer.alter(population.copy(), 1);
 	}
 
+	@Test(dataProvider = "executors")
+	public void alterParallel(final Executor executor, final Integer size) {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			newDoubleGenePopulation(20, 3, size);
+
+		final Alterer<DoubleGene, Double> alterer = newAlterer(0.3);
+
+		final AltererResult<DoubleGene, Double> serial =
+			RandomRegistry.with(new Random(123), r ->
+				alterer.alter(population, 3, Concurrency.SERIAL_EXECUTOR));
+		final AltererResult<DoubleGene, Double> parallel =
+			RandomRegistry.with(new Random(123), r ->
+				alterer.alter(population, 3, executor));
+
+		Assert.assertEquals(parallel.getPopulation(), serial.getPopulation());
+		Assert.assertEquals(parallel.getAlterations(), serial.getAlterations());
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		final Executor pool = Executors.newFixedThreadPool(3);
+		return new Object[][] {
+			{ForkJoinPool.commonPool(), 0},
+			{ForkJoinPool.commonPool(), 1},
+			{ForkJoinPool.commonPool(), 2},
+			{ForkJoinPool.commonPool(), 500},
+			{pool, 3},
+			{pool, 500}
+		};
+	}
+
 	@DataProvider(name = "parameters")
 	public Object[][] parameters() {
 		return new Object[][] {
@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BitFlipMutatorTest {
+
+	@Test
+	public void mutateGene() {
+		final BitFlipMutator<Double> mutator = new BitFlipMutator<>(0.1);
+		Assert.assertEquals(mutator.mutate(BitGene.TRUE, new Random()), BitGene.FALSE);
+		Assert.assertEquals(mutator.mutate(BitGene.FALSE, new Random()), BitGene.TRUE);
+	}
+
+	@Test
+	public void mutateChromosome() {
+		final BitFlipMutator<Double> mutator = new BitFlipMutator<>();
+		final BitChromosome chromosome = BitChromosome.of(10_007, 0.5);
+
+		final MutatorResult<Chromosome<BitGene>> result =
+			mutator.mutate(chromosome, 0.1, new Random(123));
+		final Chromosome<BitGene> mutated = result.getResult();
+
+		Assert.assertTrue(mutated instanceof BitChromosome);
+		Assert.assertEquals(mutated.length(), chromosome.length());
+		Assert.assertTrue(result.getMutations() > 500);
+		Assert.assertTrue(result.getMutations() < 1500);
+
+		final ChangeSet changes = result.getChanges().orElseThrow(AssertionError::new);
+		Assert.assertEquals(changes.size(), result.getMutations());
+
+		int flipped = 0;
+		for (int i = 0; i < chromosome.length(); ++i) {
+			if (chromosome.getGene(i) != mutated.getGene(i)) {
+				Assert.assertTrue(changes.contains(0, i));
+				++flipped;
+			}
+		}
+		Assert.assertEquals(flipped, result.getMutations());
+		Assert.assertEquals(
+			((BitChromosome)mutated).bitCount(),
+			mutated.stream().filter(BitGene::booleanValue).count()
+		);
+	}
+
+	@Test
+	public void mutateGenericChromosome() {
+		final BitFlipMutator<Double> mutator = new BitFlipMutator<>();
+		final ISeq<BitGene> genes = MSeq.<BitGene>ofLength(1000)
+			.fill(() -> BitGene.FALSE)
+			.toISeq();
+		final Chromosome<BitGene> chromosome = new GenericBitChromosome(genes);
+
+		final MutatorResult<Chromosome<BitGene>> result =
+			mutator.mutate(chromosome, 0.1, new Random(123));
+
+		Assert.assertEquals(
+			result.getResult().stream().filter(BitGene::booleanValue).count(),
+			result.getMutations()
+		);
+	}
+
+	private static final class GenericBitChromosome
+		extends AbstractChromosome<BitGene>
+	{
+		private static final long serialVersionUID = 1L;
+
+		GenericBitChromosome(final ISeq<BitGene> genes) {
+			super(genes);
+		}
+
+		@Override
+		public Chromosome<BitGene> newInstance(final ISeq<BitGene> genes) {
+			return new GenericBitChromosome(genes);
+		}
+
+		@Override
+		public Chromosome<BitGene> newInstance() {
+			return this;
+		}
+	}
+
+}
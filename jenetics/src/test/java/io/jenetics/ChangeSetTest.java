@@ -0,0 +1,90 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ChangeSetTest {
+
+	@Test
+	public void of() {
+		final ChangeSet changes = ChangeSet.of(2, 7, 3, 7, 0);
+
+		Assert.assertEquals(changes.size(), 3);
+		Assert.assertEquals(changes.geneIndexes(2).toArray(), new int[]{0, 3, 7});
+		for (int i = 0; i < changes.size(); ++i) {
+			Assert.assertEquals(changes.getChromosomeIndex(i), 2);
+		}
+		Assert.assertTrue(changes.contains(2, 3));
+		Assert.assertFalse(changes.contains(2, 4));
+		Assert.assertFalse(changes.contains(0, 3));
+		Assert.assertFalse(changes.contains(-1, 3));
+	}
+
+	@Test
+	public void empty() {
+		Assert.assertTrue(ChangeSet.empty().isEmpty());
+		Assert.assertSame(ChangeSet.of(3), ChangeSet.empty());
+		Assert.assertEquals(ChangeSet.empty().toString(), "ChangeSet[]");
+	}
+
+	@Test
+	public void and() {
+		final ChangeSet changes = ChangeSet.of(1, 5, 1)
+			.and(ChangeSet.of(0, 9, 2))
+			.and(ChangeSet.of(1, 1, 8));
+
+		Assert.assertEquals(changes.size(), 5);
+		Assert.assertEquals(changes.geneIndexes(0).toArray(), new int[]{2, 9});
+		Assert.assertEquals(changes.geneIndexes(1).toArray(), new int[]{1, 5, 8});
+		Assert.assertEquals(changes.getChromosomeIndex(0), 0);
+		Assert.assertEquals(changes.getChromosomeIndex(4), 1);
+		Assert.assertEquals(
+			changes.toString(),
+			"ChangeSet[(0, 2), (0, 9), (1, 1), (1, 5), (1, 8)]"
+		);
+		Assert.assertSame(changes.and(ChangeSet.empty()), changes);
+		Assert.assertSame(ChangeSet.empty().and(changes), changes);
+	}
+
+	@Test
+	public void withChromosomeIndex() {
+		final ChangeSet changes = ChangeSet.of(0, 4, 1).withChromosomeIndex(3);
+
+		Assert.assertEquals(changes, ChangeSet.of(3, 1, 4));
+		Assert.assertEquals(changes.hashCode(), ChangeSet.of(3, 4, 1).hashCode());
+		Assert.assertNotEquals(changes, ChangeSet.of(0, 1, 4));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeGeneIndex() {
+		ChangeSet.of(0, 1, -1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeChromosomeIndex() {
+		ChangeSet.of(-1, 1);
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CycleCrossoverTest {
+
+	@Test(invocationCount = 10)
+	public void crossover() {
+		final CycleCrossover<Integer, Double> crossover = new CycleCrossover<>(1);
+
+		final int length = 1000;
+		final ISeq<Integer> alleles = IntStream.range(0, length)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+
+		that.shuffle();
+		other.shuffle();
+
+		final PermutationChromosome<Integer> thatChrom1 = new PermutationChromosome<>(that.toISeq());
+		Assert.assertTrue(thatChrom1.isValid(), "thatChrom1 not valid");
+
+		final PermutationChromosome<Integer> otherChrom1 = new PermutationChromosome<>(other.toISeq());
+		Assert.assertTrue(otherChrom1.isValid(), "otherChrom1 not valid");
+
+		crossover.crossover(that, other);
+
+		final PermutationChromosome<Integer> thatChrom2 = new PermutationChromosome<>(that.toISeq());
+		Assert.assertTrue(thatChrom2.isValid(), "thatChrom2 not valid: " + thatChrom2.toSeq());
+
+		final PermutationChromosome<Integer> otherChrom2 = new PermutationChromosome<>(other.toISeq());
+		Assert.assertTrue(otherChrom2.isValid(), "otherChrom2 not valid: " + otherChrom2.toSeq());
+
+		Assert.assertFalse(thatChrom1.equals(thatChrom2), "That chromosome must not be equal");
+		Assert.assertFalse(otherChrom1.equals(otherChrom2), "That chromosome must not be equal");
+	}
+
+	@Test(invocationCount = 10)
+	public void crossoverPackedGenes() {
+		final CycleCrossover<Integer, Double> crossover = new CycleCrossover<>(1);
+
+		final PermutationChromosome<Integer> thatChrom1 = PermutationChromosome.ofInteger(20_000);
+		final PermutationChromosome<Integer> otherChrom1 = PermutationChromosome.ofInteger(20_000);
+
+		final MSeq<EnumGene<Integer>> that = thatChrom1.toSeq().copy();
+		final MSeq<EnumGene<Integer>> other = otherChrom1.toSeq().copy();
+		Assert.assertTrue(that instanceof EnumGeneMSeq);
+		Assert.assertTrue(other instanceof EnumGeneMSeq);
+
+		crossover.crossover(that, other);
+
+		final PermutationChromosome<Integer> thatChrom2 = thatChrom1.newInstance(that.toISeq());
+		Assert.assertTrue(thatChrom2.isValid(), "thatChrom2 not valid");
+
+		final PermutationChromosome<Integer> otherChrom2 = otherChrom1.newInstance(other.toISeq());
+		Assert.assertTrue(otherChrom2.isValid(), "otherChrom2 not valid");
+
+		Assert.assertTrue(thatChrom1.isValid(), "thatChrom1 not valid");
+		Assert.assertTrue(otherChrom1.isValid(), "otherChrom1 not valid");
+	}
+
+	@Test
+	public void crossoverExample() {
+		final CycleCrossover<Integer, Double> crossover = new CycleCrossover<>(1);
+
+		final ISeq<Integer> alleles = ISeq.of(1, 2, 3, 4, 5, 6, 7, 8);
+		final MSeq<EnumGene<Integer>> that = ISeq.of(1, 2, 3, 4, 5, 6, 7, 8)
+			.map(i -> new EnumGene<>(i - 1, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = ISeq.of(8, 5, 2, 1, 3, 6, 4, 7)
+			.map(i -> new EnumGene<>(i - 1, alleles)).copy();
+
+		crossover.crossover(that, other);
+
+		Assert.assertEquals(
+			that.map(EnumGene::getAllele),
+			ISeq.of(1, 5, 2, 4, 3, 6, 7, 8)
+		);
+		Assert.assertEquals(
+			other.map(EnumGene::getAllele),
+			ISeq.of(8, 2, 3, 1, 5, 6, 4, 7)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void crossoverWithDifferentAlleles() {
+		final CycleCrossover<Integer, Double> crossover = new CycleCrossover<>(1);
+
+		final ISeq<Integer> alleles = IntStream.range(0, 10)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>(i%5, alleles)).copy();
+
+		crossover.crossover(that, other);
+	}
+
+}
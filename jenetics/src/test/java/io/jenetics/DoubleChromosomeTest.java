@@ -23,6 +23,7 @@ import static java.lang.String.format;
 import static io.jenetics.stat.StatisticsAssert.assertUniformDistribution;
 import static io.jenetics.util.RandomRegistry.using;
 
+import java.nio.DoubleBuffer;
 import java.util.Random;
 
 import org.testng.Assert;
@@ -32,7 +33,9 @@ import org.testng.annotations.Test;
 import io.jenetics.stat.Histogram;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -50,6 +53,19 @@ public class DoubleChromosomeTest
 		return _factory;
 	}
 
+	@Override
+	@Test
+	public void getGene() {
+		// The genes are created on demand and are only equal.
+		final DoubleChromosome c = factory().newInstance();
+		final ISeq<DoubleGene> genes = c.toSeq();
+
+		Assert.assertEquals(c.getGene(), genes.get(0));
+		for (int i = 0; i < genes.length(); ++i) {
+			Assert.assertEquals(c.getGene(i), genes.get(i));
+		}
+	}
+
 	@Test(invocationCount = 20, successPercentage = 95)
 	public void newInstanceDistribution() {
 		using(new Random(12345), r -> {
@@ -110,4 +126,100 @@ public class DoubleChromosomeTest
 		}
 	}
 
+	@Test
+	public void asDoubleBuffer() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 1000);
+		final DoubleBuffer values = chromosome.asDoubleBuffer();
+
+		Assert.assertTrue(values.isReadOnly());
+		Assert.assertEquals(values.limit(), 1000);
+		for (int i = 0; i < values.limit(); ++i) {
+			Assert.assertEquals(chromosome.doubleValue(i), values.get(i));
+		}
+	}
+
+	@Test
+	public void packedGenes() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(2, 0, 10),
+			DoubleGene.of(3, 0, 10)
+		);
+		Assert.assertTrue(chromosome.toSeq() instanceof DoubleGeneISeq);
+		Assert.assertEquals(chromosome.toArray(), new double[]{1, 2, 3});
+
+		final MSeq<DoubleGene> genes = chromosome.toSeq().copy();
+		genes.set(1, DoubleGene.of(5, 0, 10));
+		genes.swap(0, 2);
+
+		final DoubleChromosome copy = chromosome.newInstance(genes.toISeq());
+		Assert.assertTrue(copy.toSeq() instanceof DoubleGeneISeq);
+		Assert.assertEquals(copy.toArray(), new double[]{3, 5, 1});
+		Assert.assertEquals(chromosome.toArray(), new double[]{1, 2, 3});
+	}
+
+	@Test
+	public void packedGenesMixedBounds() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 10, 5);
+		final DoubleGene gene = DoubleGene.of(5, 0, 100);
+
+		final MSeq<DoubleGene> genes = chromosome.toSeq().copy();
+		genes.set(0, gene);
+		Assert.assertEquals(genes.get(0), gene);
+		Assert.assertEquals(genes.get(1), chromosome.getGene(1));
+		genes.swap(0, 1);
+		Assert.assertEquals(genes.get(1), gene);
+		Assert.assertEquals(genes.toISeq().get(1), gene);
+		Assert.assertEquals(genes.copy().get(1), gene);
+
+		final MSeq<DoubleGene> appended = chromosome.toSeq().copy()
+			.append(DoubleGene.of(7, 0, 100), gene);
+		Assert.assertEquals(appended.length(), 7);
+		Assert.assertEquals(appended.get(6), gene);
+		Assert.assertEquals(appended.get(0), chromosome.getGene(0));
+
+		final MSeq<DoubleGene> other = DoubleChromosome.of(0, 100, 5).toSeq().copy();
+		final MSeq<DoubleGene> swapped = chromosome.toSeq().copy();
+		final DoubleGene o2 = other.get(2);
+		final DoubleGene o3 = other.get(3);
+		final DoubleGene s1 = swapped.get(1);
+		final DoubleGene s2 = swapped.get(2);
+		swapped.swap(1, 3, other, 2);
+		Assert.assertEquals(swapped.get(1), o2);
+		Assert.assertEquals(swapped.get(2), o3);
+		Assert.assertEquals(other.get(2), s1);
+		Assert.assertEquals(other.get(3), s2);
+		Assert.assertEquals(chromosome.toSeq().get(1), s1);
+	}
+
+	@Test
+	public void mixedBounds() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(
+			DoubleGene.of(1, 0, 10),
+			DoubleGene.of(2, 0, 20)
+		);
+		Assert.assertFalse(chromosome.toSeq() instanceof DoubleGeneISeq);
+		Assert.assertEquals(chromosome.getGene(1), DoubleGene.of(2, 0, 20));
+		Assert.assertEquals(chromosome.toArray(), new double[]{1, 2});
+		Assert.assertEquals(chromosome.asDoubleBuffer().get(1), 2.0);
+	}
+
+	@Test
+	public void ofValues() {
+		final double[] values = {1, 2, 3};
+		final DoubleChromosome chromosome =
+			DoubleChromosome.of(values, 0, 10, IntRange.of(2, 5));
+		values[0] = 7;
+
+		Assert.assertTrue(chromosome.toSeq() instanceof DoubleGeneISeq);
+		Assert.assertEquals(chromosome.toArray(), new double[]{1, 2, 3});
+		Assert.assertEquals(chromosome.lengthRange(), IntRange.of(2, 5));
+		Assert.assertEquals(chromosome.getGene(2), DoubleGene.of(3, 0, 10));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofValuesInvalidLength() {
+		DoubleChromosome.of(new double[]{1}, 0, 10, IntRange.of(2, 5));
+	}
+
 }
@@ -0,0 +1,130 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EdgeRecombinationCrossoverTest {
+
+	@Test(invocationCount = 10)
+	public void crossover() {
+		final EdgeRecombinationCrossover<Integer, Double> crossover = new EdgeRecombinationCrossover<>(1);
+
+		final int length = 1000;
+		final ISeq<Integer> alleles = IntStream.range(0, length)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+
+		that.shuffle();
+		other.shuffle();
+
+		final PermutationChromosome<Integer> thatChrom1 = new PermutationChromosome<>(that.toISeq());
+		Assert.assertTrue(thatChrom1.isValid(), "thatChrom1 not valid");
+
+		final PermutationChromosome<Integer> otherChrom1 = new PermutationChromosome<>(other.toISeq());
+		Assert.assertTrue(otherChrom1.isValid(), "otherChrom1 not valid");
+
+		crossover.crossover(that, other);
+
+		final PermutationChromosome<Integer> thatChrom2 = new PermutationChromosome<>(that.toISeq());
+		Assert.assertTrue(thatChrom2.isValid(), "thatChrom2 not valid: " + thatChrom2.toSeq());
+
+		final PermutationChromosome<Integer> otherChrom2 = new PermutationChromosome<>(other.toISeq());
+		Assert.assertTrue(otherChrom2.isValid(), "otherChrom2 not valid: " + otherChrom2.toSeq());
+
+		Assert.assertFalse(thatChrom1.equals(thatChrom2), "That chromosome must not be equal");
+		Assert.assertFalse(otherChrom1.equals(otherChrom2), "That chromosome must not be equal");
+	}
+
+	@Test(invocationCount = 10)
+	public void crossoverPackedGenes() {
+		final EdgeRecombinationCrossover<Integer, Double> crossover = new EdgeRecombinationCrossover<>(1);
+
+		final PermutationChromosome<Integer> thatChrom1 = PermutationChromosome.ofInteger(20_000);
+		final PermutationChromosome<Integer> otherChrom1 = PermutationChromosome.ofInteger(20_000);
+
+		final MSeq<EnumGene<Integer>> that = thatChrom1.toSeq().copy();
+		final MSeq<EnumGene<Integer>> other = otherChrom1.toSeq().copy();
+		Assert.assertTrue(that instanceof EnumGeneMSeq);
+		Assert.assertTrue(other instanceof EnumGeneMSeq);
+
+		crossover.crossover(that, other);
+
+		final PermutationChromosome<Integer> thatChrom2 = thatChrom1.newInstance(that.toISeq());
+		Assert.assertTrue(thatChrom2.isValid(), "thatChrom2 not valid");
+
+		final PermutationChromosome<Integer> otherChrom2 = otherChrom1.newInstance(other.toISeq());
+		Assert.assertTrue(otherChrom2.isValid(), "otherChrom2 not valid");
+
+		Assert.assertTrue(thatChrom1.isValid(), "thatChrom1 not valid");
+		Assert.assertTrue(otherChrom1.isValid(), "otherChrom1 not valid");
+	}
+
+	@Test
+	public void crossoverPreservesEdges() {
+		final EdgeRecombinationCrossover<Integer, Double> crossover =
+			new EdgeRecombinationCrossover<>(1);
+
+		final ISeq<Integer> alleles = IntStream.range(0, 100)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		// Both parents are the same ring, which must be preserved.
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>((i + 50)%100, alleles)).copy();
+
+		crossover.crossover(that, other);
+
+		for (int i = 0; i < 100; ++i) {
+			final int a = that.get(i).getAlleleIndex();
+			final int b = that.get((i + 1)%100).getAlleleIndex();
+			Assert.assertTrue(Math.abs(a - b) == 1 || Math.abs(a - b) == 99, that.toString());
+		}
+		Assert.assertEquals(that.get(0).getAlleleIndex(), 0);
+		Assert.assertEquals(other.get(0).getAlleleIndex(), 50);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void crossoverWithDifferentAlleles() {
+		final EdgeRecombinationCrossover<Integer, Double> crossover = new EdgeRecombinationCrossover<>(1);
+
+		final ISeq<Integer> alleles = IntStream.range(0, 10)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		final MSeq<EnumGene<Integer>> that = alleles.map(i -> new EnumGene<>(i, alleles)).copy();
+		final MSeq<EnumGene<Integer>> other = alleles.map(i -> new EnumGene<>(i%5, alleles)).copy();
+
+		crossover.crossover(that, other);
+	}
+
+}
@@ -21,9 +21,12 @@ package io.jenetics;
 
 import java.util.Random;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.internal.math.probability;
 import io.jenetics.stat.Histogram;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Range;
 
@@ -61,5 +64,41 @@ public class GaussianMutatorTest extends MutatorTester {
 		//assertDistribution(histogram, new NormalDistribution<>(domain, mean, var));
 	}
 
-}
+	@Test
+	public void bulkMutate() {
+		bulkMutate(DoubleChromosome.of(0, 10, 500));
+		bulkMutate(IntegerChromosome.of(-100, 100, 500));
+		bulkMutate(LongChromosome.of(-100, 100, 500));
+	}
+
+	// The bulk mutation of packed chromosomes must give the same result as
+	// the gene-wise mutation.
+	private static <G extends NumericGene<?, G>>
+	void bulkMutate(final Chromosome<G> chromosome) {
+		final GaussianMutator<G, Double> mutator = new GaussianMutator<>();
+		final double p = 0.3;
 
+		final MutatorResult<Chromosome<G>> result =
+			mutator.mutate(chromosome, p, new Random(123));
+
+		final Random random = new Random(123);
+		final int P = probability.toInt(p);
+		final MSeq<G> expected = MSeq.ofLength(chromosome.length());
+		int mutations = 0;
+		for (int i = 0; i < chromosome.length(); ++i) {
+			final G gene = chromosome.getGene(i);
+			if (random.nextInt() < P) {
+				expected.set(i, mutator.mutate(gene, random));
+				++mutations;
+			} else {
+				expected.set(i, gene);
+			}
+		}
+
+		Assert.assertTrue(mutations > 0);
+		Assert.assertEquals(result.getMutations(), mutations);
+		Assert.assertEquals(result.getResult().toSeq(), expected);
+		Assert.assertEquals(result.getResult().getClass(), chromosome.getClass());
+	}
+
+}
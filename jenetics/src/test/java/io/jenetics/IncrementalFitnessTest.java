@@ -0,0 +1,249 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IncrementalFitnessTest {
+
+	private static double sum(final Genotype<DoubleGene> gt) {
+		return gt.stream()
+			.flatMap(Chromosome::stream)
+			.mapToDouble(DoubleGene::doubleValue)
+			.sum();
+	}
+
+	private static final class Sum implements IncrementalFitness<DoubleGene, Double> {
+		final AtomicInteger full = new AtomicInteger();
+		final AtomicInteger delta = new AtomicInteger();
+
+		@Override
+		public Double apply(final Genotype<DoubleGene> gt) {
+			full.incrementAndGet();
+			return sum(gt);
+		}
+
+		@Override
+		public Double apply(
+			final Genotype<DoubleGene> gt,
+			final Phenotype<DoubleGene, Double> parent,
+			final Double fitness,
+			final ChangeSet changes
+		) {
+			delta.incrementAndGet();
+			double result = fitness;
+			for (int i = 0; i < changes.size(); ++i) {
+				final int c = changes.getChromosomeIndex(i);
+				final int g = changes.getGeneIndex(i);
+				result += gt.get(c, g).doubleValue() -
+					parent.getGenotype().get(c, g).doubleValue();
+			}
+			return result;
+		}
+	}
+
+	// Returns the gene positions, where the two genotypes differ.
+	private static ChangeSet diff(
+		final Genotype<DoubleGene> gt1,
+		final Genotype<DoubleGene> gt2
+	) {
+		ChangeSet changes = ChangeSet.empty();
+		for (int c = 0; c < gt1.length(); ++c) {
+			for (int g = 0; g < gt1.getChromosome(c).length(); ++g) {
+				if (!gt1.get(c, g).equals(gt2.get(c, g))) {
+					changes = changes.and(ChangeSet.of(c, g));
+				}
+			}
+		}
+		return changes;
+	}
+
+	@Test
+	public void mutatorChanges() {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1, 20), 4);
+		final MutatorResult<Genotype<DoubleGene>> result =
+			new Mutator<DoubleGene, Double>(0.5).mutate(gt, 0.5, new Random(12));
+
+		Assert.assertTrue(result.getMutations() > 0);
+		Assert.assertEquals(
+			result.getChanges().orElseThrow(AssertionError::new),
+			diff(gt, result.getResult())
+		);
+	}
+
+	@Test
+	public void swapMutatorChanges() {
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1, 20), 3);
+		final MutatorResult<Genotype<DoubleGene>> result =
+			new SwapMutator<DoubleGene, Double>(0.5).mutate(gt, 0.5, new Random(12));
+
+		final ChangeSet changes = result.getChanges()
+			.orElseThrow(AssertionError::new);
+		final ChangeSet diff = diff(gt, result.getResult());
+
+		Assert.assertFalse(diff.isEmpty());
+		for (int i = 0; i < diff.size(); ++i) {
+			Assert.assertTrue(changes.contains(
+				diff.getChromosomeIndex(i),
+				diff.getGeneIndex(i)
+			));
+		}
+	}
+
+	@Test
+	public void unknownChanges() {
+		final MutatorResult<String> result = MutatorResult.of("a", 2);
+		Assert.assertFalse(result.getChanges().isPresent());
+		Assert.assertEquals(
+			MutatorResult.of("a").getChanges(),
+			java.util.Optional.of(ChangeSet.empty())
+		);
+	}
+
+	@Test
+	public void crossoverAndMutation() {
+		final Sum fitness = new Sum();
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			Genotype.of(DoubleChromosome.of(0, 1, 10), 3).instances()
+				.limit(50)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1, fitness))
+				.map(Phenotype::evaluate)
+				.collect(ISeq.toISeq());
+
+		final Alterer<DoubleGene, Double> alterer =
+			new SinglePointCrossover<DoubleGene, Double>(0.5)
+				.andThen(new Mutator<>(0.3))
+				.andThen(new SwapMutator<>(0.2));
+
+		final ISeq<Phenotype<DoubleGene, Double>> altered =
+			alterer.alter(population, 2).getPopulation();
+
+		fitness.full.set(0);
+		altered.forEach(Phenotype::evaluate);
+
+		Assert.assertTrue(fitness.delta.get() > 0);
+		Assert.assertEquals(fitness.full.get(), 0);
+		for (Phenotype<DoubleGene, Double> pt : altered) {
+			Assert.assertEquals(pt.getFitness(), sum(pt.getGenotype()), 0.000001);
+		}
+	}
+
+	@Test
+	public void unevaluatedAncestor() {
+		final Sum fitness = new Sum();
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			Genotype.of(DoubleChromosome.of(0, 1, 10)), 1, fitness
+		);
+		final Phenotype<DoubleGene, Double> child = pt.newInstance(
+			pt.getGenotype(), 1, ChangeSet.empty()
+		);
+
+		Assert.assertEquals(child.getFitness(), sum(child.getGenotype()));
+		Assert.assertEquals(fitness.full.get(), 1);
+		Assert.assertEquals(fitness.delta.get(), 0);
+	}
+
+	@Test
+	public void unevaluatedChain() {
+		final Sum fitness = new Sum();
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			Genotype.of(DoubleChromosome.of(0, 1, 10)), 1, fitness
+		);
+		pt.evaluate();
+
+		Phenotype<DoubleGene, Double> child = pt;
+		for (int i = 0; i < 5; ++i) {
+			final Genotype<DoubleGene> gt = child.getGenotype();
+			final MSeq<DoubleGene> genes = gt.getChromosome().toSeq().copy();
+			genes.set(i, genes.get(i).newInstance());
+
+			child = child.newInstance(
+				Genotype.of(gt.getChromosome().newInstance(genes.toISeq())),
+				1,
+				ChangeSet.of(0, i)
+			);
+		}
+
+		Assert.assertEquals(child.getFitness(), sum(child.getGenotype()), 0.000001);
+		Assert.assertEquals(fitness.full.get(), 1);
+		Assert.assertEquals(fitness.delta.get(), 1);
+	}
+
+	@Test
+	public void engine() {
+		final Sum fitness = new Sum();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(fitness, DoubleChromosome.of(0, 1, 50))
+			.alterers(new Mutator<>(0.05), new SinglePointCrossover<>(0.2))
+			.populationSize(100)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			RandomRegistry.with(new Random(123), r -> engine.stream()
+				.limit(20)
+				.peek(er -> er.getPopulation().forEach(pt ->
+					Assert.assertEquals(
+						pt.getFitness(),
+						sum(pt.getGenotype()),
+						0.000001
+					)))
+				.collect(EvolutionResult.toBestEvolutionResult()));
+
+		Assert.assertNotNull(result);
+		Assert.assertTrue(fitness.delta.get() > fitness.full.get());
+	}
+
+	@Test
+	public void of() {
+		final Function<Genotype<DoubleGene>, Double> sum =
+			IncrementalFitnessTest::sum;
+		final IncrementalFitness<DoubleGene, Double> fitness =
+			IncrementalFitness.of(sum, (gt, parent, value, changes) -> -1.0);
+
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1, 3));
+		final Phenotype<DoubleGene, Double> pt =
+			Phenotype.<DoubleGene, Double>of(gt, 1, fitness).evaluate();
+		final MSeq<DoubleGene> genes = gt.getChromosome().toSeq().copy();
+		genes.set(1, genes.get(1).newInstance());
+		final Phenotype<DoubleGene, Double> child = pt.newInstance(
+			Genotype.of(DoubleChromosome.of(genes.toISeq())),
+			2,
+			ChangeSet.of(0, 1)
+		);
+
+		Assert.assertEquals(pt.getFitness(), sum(gt));
+		Assert.assertEquals(child.getFitness(), -1.0);
+	}
+
+}
@@ -31,7 +31,9 @@ import org.testng.annotations.Test;
 
 import io.jenetics.stat.Histogram;
 import io.jenetics.stat.MinMax;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -49,6 +51,19 @@ public class IntegerChromosomeTest
 		return _factory;
 	}
 
+	@Override
+	@Test
+	public void getGene() {
+		// The genes are created on demand and are only equal.
+		final IntegerChromosome c = factory().newInstance();
+		final ISeq<IntegerGene> genes = c.toSeq();
+
+		Assert.assertEquals(c.getGene(), genes.get(0));
+		for (int i = 0; i < genes.length(); ++i) {
+			Assert.assertEquals(c.getGene(i), genes.get(i));
+		}
+	}
+
 	@Test(invocationCount = 20, successPercentage = 95)
 	public void newInstanceDistribution() {
 		using(new Random(12345), r -> {
@@ -109,4 +124,69 @@ public class IntegerChromosomeTest
 		}
 	}
 
+	@Test
+	public void packedGenes() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(
+			IntegerGene.of(1, 0, 10),
+			IntegerGene.of(2, 0, 10),
+			IntegerGene.of(3, 0, 10)
+		);
+		Assert.assertTrue(chromosome.toSeq() instanceof IntegerGeneISeq);
+		Assert.assertEquals(chromosome.toArray(), new int[]{1, 2, 3});
+
+		final MSeq<IntegerGene> genes = chromosome.toSeq().copy();
+		genes.set(1, IntegerGene.of(5, 0, 10));
+		genes.swap(0, 2);
+
+		final IntegerChromosome copy = chromosome.newInstance(genes.toISeq());
+		Assert.assertTrue(copy.toSeq() instanceof IntegerGeneISeq);
+		Assert.assertEquals(copy.toArray(), new int[]{3, 5, 1});
+		Assert.assertEquals(chromosome.toArray(), new int[]{1, 2, 3});
+	}
+
+	@Test
+	public void packedGenesMixedBounds() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 10, 5);
+		final IntegerGene gene = IntegerGene.of(5, 0, 100);
+
+		final MSeq<IntegerGene> genes = chromosome.toSeq().copy();
+		genes.set(0, gene);
+		Assert.assertEquals(genes.get(0), gene);
+		Assert.assertEquals(genes.get(1), chromosome.getGene(1));
+		genes.swap(0, 1);
+		Assert.assertEquals(genes.get(1), gene);
+		Assert.assertEquals(genes.toISeq().get(1), gene);
+		Assert.assertEquals(genes.copy().get(1), gene);
+
+		final MSeq<IntegerGene> appended = chromosome.toSeq().copy()
+			.append(IntegerGene.of(7, 0, 100), gene);
+		Assert.assertEquals(appended.length(), 7);
+		Assert.assertEquals(appended.get(6), gene);
+		Assert.assertEquals(appended.get(0), chromosome.getGene(0));
+
+		final MSeq<IntegerGene> other = IntegerChromosome.of(0, 100, 5).toSeq().copy();
+		final MSeq<IntegerGene> swapped = chromosome.toSeq().copy();
+		final IntegerGene o2 = other.get(2);
+		final IntegerGene o3 = other.get(3);
+		final IntegerGene s1 = swapped.get(1);
+		final IntegerGene s2 = swapped.get(2);
+		swapped.swap(1, 3, other, 2);
+		Assert.assertEquals(swapped.get(1), o2);
+		Assert.assertEquals(swapped.get(2), o3);
+		Assert.assertEquals(other.get(2), s1);
+		Assert.assertEquals(other.get(3), s2);
+		Assert.assertEquals(chromosome.toSeq().get(1), s1);
+	}
+
+	@Test
+	public void mixedBounds() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(
+			IntegerGene.of(1, 0, 10),
+			IntegerGene.of(2, 0, 20)
+		);
+		Assert.assertFalse(chromosome.toSeq() instanceof IntegerGeneISeq);
+		Assert.assertEquals(chromosome.getGene(1), IntegerGene.of(2, 0, 20));
+		Assert.assertEquals(chromosome.toArray(), new int[]{1, 2});
+	}
+
 }
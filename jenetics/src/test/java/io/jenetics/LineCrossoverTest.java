@@ -82,4 +82,36 @@ public class LineCrossoverTest {
 		});
 	}
 
+	@Test
+	public void bulkCrossover() {
+		bulkCrossover(DoubleChromosome.of(0, 10, 100), DoubleChromosome.of(0, 10, 100));
+		bulkCrossover(IntegerChromosome.of(-100, 100, 100), IntegerChromosome.of(-100, 100, 100));
+		bulkCrossover(LongChromosome.of(-100, 100, 100), LongChromosome.of(-100, 100, 100));
+	}
+
+	// The bulk crossover of packed chromosomes must give the same result as
+	// the gene-wise crossover.
+	private static <G extends NumericGene<?, G>>
+	void bulkCrossover(final Chromosome<G> a, final Chromosome<G> b) {
+		final LineCrossover<G, Double> crossover = new LineCrossover<>(1, 0.5);
+
+		final MSeq<G> v1 = a.toSeq().copy();
+		final MSeq<G> w1 = b.toSeq().copy();
+		final int result1 = RandomRegistry.with(new Random(123), r ->
+			crossover.crossover(v1, w1)
+		);
+
+		final MSeq<G> v2 = MSeq.<G>ofLength(a.length()).setAll(a);
+		final MSeq<G> w2 = MSeq.<G>ofLength(b.length()).setAll(b);
+		final int result2 = RandomRegistry.with(new Random(123), r ->
+			crossover.crossover(v2, w2)
+		);
+
+		Assert.assertEquals(result1, result2);
+		Assert.assertEquals(v1, v2);
+		Assert.assertEquals(w1, w2);
+		Assert.assertNotEquals(v1, a.toSeq());
+		Assert.assertNotEquals(w1, b.toSeq());
+	}
+
 }
@@ -31,8 +31,10 @@ import org.testng.annotations.Test;
 
 import io.jenetics.stat.Histogram;
 import io.jenetics.stat.MinMax;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
+import io.jenetics.util.MSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -50,6 +52,19 @@ public class LongChromosomeTest
 		return _factory;
 	}
 
+	@Override
+	@Test
+	public void getGene() {
+		// The genes are created on demand and are only equal.
+		final LongChromosome c = factory().newInstance();
+		final ISeq<LongGene> genes = c.toSeq();
+
+		Assert.assertEquals(c.getGene(), genes.get(0));
+		for (int i = 0; i < genes.length(); ++i) {
+			Assert.assertEquals(c.getGene(i), genes.get(i));
+		}
+	}
+
 	@Test(invocationCount = 20, successPercentage = 95)
 	public void newInstanceDistribution() {
 		using(new Random(12345), r -> {
@@ -109,4 +124,69 @@ public class LongChromosomeTest
 		}
 	}
 
+	@Test
+	public void packedGenes() {
+		final LongChromosome chromosome = LongChromosome.of(
+			LongGene.of(1, 0, 10),
+			LongGene.of(2, 0, 10),
+			LongGene.of(3, 0, 10)
+		);
+		Assert.assertTrue(chromosome.toSeq() instanceof LongGeneISeq);
+		Assert.assertEquals(chromosome.toArray(), new long[]{1, 2, 3});
+
+		final MSeq<LongGene> genes = chromosome.toSeq().copy();
+		genes.set(1, LongGene.of(5, 0, 10));
+		genes.swap(0, 2);
+
+		final LongChromosome copy = chromosome.newInstance(genes.toISeq());
+		Assert.assertTrue(copy.toSeq() instanceof LongGeneISeq);
+		Assert.assertEquals(copy.toArray(), new long[]{3, 5, 1});
+		Assert.assertEquals(chromosome.toArray(), new long[]{1, 2, 3});
+	}
+
+	@Test
+	public void packedGenesMixedBounds() {
+		final LongChromosome chromosome = LongChromosome.of(0, 10, 5);
+		final LongGene gene = LongGene.of(5, 0, 100);
+
+		final MSeq<LongGene> genes = chromosome.toSeq().copy();
+		genes.set(0, gene);
+		Assert.assertEquals(genes.get(0), gene);
+		Assert.assertEquals(genes.get(1), chromosome.getGene(1));
+		genes.swap(0, 1);
+		Assert.assertEquals(genes.get(1), gene);
+		Assert.assertEquals(genes.toISeq().get(1), gene);
+		Assert.assertEquals(genes.copy().get(1), gene);
+
+		final MSeq<LongGene> appended = chromosome.toSeq().copy()
+			.append(LongGene.of(7, 0, 100), gene);
+		Assert.assertEquals(appended.length(), 7);
+		Assert.assertEquals(appended.get(6), gene);
+		Assert.assertEquals(appended.get(0), chromosome.getGene(0));
+
+		final MSeq<LongGene> other = LongChromosome.of(0, 100, 5).toSeq().copy();
+		final MSeq<LongGene> swapped = chromosome.toSeq().copy();
+		final LongGene o2 = other.get(2);
+		final LongGene o3 = other.get(3);
+		final LongGene s1 = swapped.get(1);
+		final LongGene s2 = swapped.get(2);
+		swapped.swap(1, 3, other, 2);
+		Assert.assertEquals(swapped.get(1), o2);
+		Assert.assertEquals(swapped.get(2), o3);
+		Assert.assertEquals(other.get(2), s1);
+		Assert.assertEquals(other.get(3), s2);
+		Assert.assertEquals(chromosome.toSeq().get(1), s1);
+	}
+
+	@Test
+	public void mixedBounds() {
+		final LongChromosome chromosome = LongChromosome.of(
+			LongGene.of(1, 0, 10),
+			LongGene.of(2, 0, 20)
+		);
+		Assert.assertFalse(chromosome.toSeq() instanceof LongGeneISeq);
+		Assert.assertEquals(chromosome.getGene(1), LongGene.of(2, 0, 20));
+		Assert.assertEquals(chromosome.toArray(), new long[]{1, 2});
+	}
+
 }
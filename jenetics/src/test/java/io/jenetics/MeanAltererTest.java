@@ -30,6 +30,7 @@ import io.jenetics.stat.Histogram;
 import io.jenetics.stat.LongMomentStatistics;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
+import io.jenetics.util.Mean;
 import io.jenetics.util.Range;
 
 /**
@@ -103,4 +104,30 @@ public class MeanAltererTest extends AltererTester {
 	public Object[][] alterProbabilityParameters() {
 		return TestUtils.alterProbabilityParameters();
 	}
+
+	@Test
+	public void bulkMean() {
+		bulkMean(DoubleChromosome.of(0, 10, 100), DoubleChromosome.of(0, 10, 100));
+		bulkMean(IntegerChromosome.of(-100, 100, 100), IntegerChromosome.of(-100, 100, 100));
+		bulkMean(LongChromosome.of(-100, 100, 100), LongChromosome.of(-100, 100, 100));
+	}
+
+	// The bulk mean of packed chromosomes must give the same result as the
+	// gene-wise mean.
+	private static <G extends NumericGene<?, G> & Mean<G>>
+	void bulkMean(final Chromosome<G> a, final Chromosome<G> b) {
+		final MSeq<Phenotype<G, Double>> population = MSeq.of(
+			Phenotype.of(Genotype.of(a), 0, gt -> 1.0),
+			Phenotype.of(Genotype.of(b), 0, gt -> 1.0)
+		);
+
+		new MeanAlterer<G, Double>().recombine(population, new int[]{0, 1}, 1);
+
+		final Chromosome<G> mean = population.get(0).getGenotype().getChromosome();
+		Assert.assertEquals(mean.getClass(), a.getClass());
+		for (int i = 0; i < a.length(); ++i) {
+			Assert.assertEquals(mean.getGene(i), a.getGene(i).mean(b.getGene(i)));
+		}
+	}
+
 }
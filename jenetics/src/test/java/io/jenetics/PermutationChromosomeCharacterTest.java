@@ -19,10 +19,12 @@
  */
 package io.jenetics;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.CharSeq;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -37,4 +39,17 @@ public class PermutationChromosomeCharacterTest
 		return () -> PermutationChromosome.of(CharSeq.of("a-zA-Z"));
 	}
 
+	@Override
+	@Test
+	public void getGene() {
+		// The genes are created on demand and are only equal.
+		final Chromosome<EnumGene<Character>> c = factory().newInstance();
+		final ISeq<EnumGene<Character>> genes = c.toSeq();
+
+		Assert.assertEquals(c.getGene(), genes.get(0));
+		for (int i = 0; i < genes.length(); ++i) {
+			Assert.assertEquals(c.getGene(i), genes.get(i));
+		}
+	}
+
 }
@@ -45,6 +45,19 @@ public class PermutationChromosomeTest
 		return () -> PermutationChromosome.ofInteger(100);
 	}
 
+	@Override
+	@Test
+	public void getGene() {
+		// The genes are created on demand and are only equal.
+		final Chromosome<EnumGene<Integer>> c = factory().newInstance();
+		final ISeq<EnumGene<Integer>> genes = c.toSeq();
+
+		Assert.assertEquals(c.getGene(), genes.get(0));
+		for (int i = 0; i < genes.length(); ++i) {
+			Assert.assertEquals(c.getGene(i), genes.get(i));
+		}
+	}
+
 	@Test
 	public void invalidChromosome() {
 		final ISeq<Integer> alleles = ISeq.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
@@ -140,4 +153,52 @@ public class PermutationChromosomeTest
 		Assert.assertEquals(ch.length(), 10);
 	}
 
+	@Test
+	public void packedGenes() {
+		final PermutationChromosome<Integer> ch = PermutationChromosome.ofInteger(100);
+		Assert.assertTrue(ch.toSeq() instanceof EnumGeneISeq);
+
+		final int[] indexes = ((EnumGeneISeq<Integer>)ch.toSeq()).indexes();
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(ch.getGene(i).getAlleleIndex(), indexes[i]);
+		}
+
+		final PermutationChromosome<Integer> copy =
+			new PermutationChromosome<>(ch.toSeq().map(g -> g));
+		Assert.assertTrue(copy.toSeq() instanceof EnumGeneISeq);
+		Assert.assertEquals(copy, ch);
+	}
+
+	@Test
+	public void packedGenesMixedAlleles() {
+		final PermutationChromosome<Integer> ch = PermutationChromosome.ofInteger(10);
+		final ISeq<Integer> alleles = ISeq.of(100, 101, 102);
+		final EnumGene<Integer> gene = EnumGene.of(2, alleles);
+
+		final MSeq<EnumGene<Integer>> genes = ch.toSeq().copy();
+		genes.set(3, gene);
+		Assert.assertEquals(genes.get(3), gene);
+		Assert.assertEquals(genes.get(3).getAllele(), Integer.valueOf(102));
+		Assert.assertEquals(genes.get(4), ch.getGene(4));
+
+		genes.swap(3, 4);
+		Assert.assertEquals(genes.get(4), gene);
+		Assert.assertEquals(genes.toISeq().get(4), gene);
+		Assert.assertEquals(genes.copy().get(4), gene);
+
+		final ISeq<EnumGene<Integer>> appended = ch.toSeq().append(gene, gene);
+		Assert.assertEquals(appended.length(), ch.length() + 2);
+		Assert.assertEquals(appended.get(0), ch.getGene(0));
+		Assert.assertEquals(appended.get(ch.length()), gene);
+		Assert.assertEquals(appended.get(ch.length() + 1), gene);
+
+		final MSeq<EnumGene<Integer>> other = MSeq.of(gene, gene, gene);
+		final MSeq<EnumGene<Integer>> packed = ch.toSeq().copy();
+		packed.swap(0, 3, other, 0);
+		for (int i = 0; i < 3; ++i) {
+			Assert.assertEquals(packed.get(i), gene);
+			Assert.assertEquals(other.get(i), ch.getGene(i));
+		}
+	}
+
 }
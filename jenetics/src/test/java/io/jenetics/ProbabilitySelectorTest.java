@@ -24,11 +24,15 @@ import static io.jenetics.internal.util.array.shuffle;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -90,4 +94,29 @@ public class ProbabilitySelectorTest {
 		);
 	}
 
+	@Test
+	public void selectWithExecutorCallsOverriddenSelect() {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			TestUtils.newDoubleGenePopulation(5, 1, 100);
+		final ISeq<Phenotype<DoubleGene, Double>> selection =
+			ISeq.of(population.get(0), population.get(0));
+
+		final RouletteWheelSelector<DoubleGene, Double> selector = new RouletteWheelSelector<DoubleGene, Double>() {
+			@Override
+			public ISeq<Phenotype<DoubleGene, Double>> select(
+				final Seq<Phenotype<DoubleGene, Double>> pop,
+				final int count,
+				final Optimize opt
+			) {
+				return selection;
+			}
+		};
+
+		Assert.assertSame(
+			selector.select(
+				population, 10, Optimize.MAXIMUM, ForkJoinPool.commonPool()),
+			selection
+		);
+	}
+
 }
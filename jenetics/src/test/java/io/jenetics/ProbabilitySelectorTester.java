@@ -100,6 +100,43 @@ public abstract class ProbabilitySelectorTester<
 		}
 	}
 
+	@Test(dataProvider = "probabilitySizes")
+	public void aliasIndexOf(final Integer size) {
+		final Random random = RandomRegistry.getRandom();
+
+		final double[] props = new double[size];
+		double divisor = props.length*(props.length + 1)/2.0;
+		for (int i = 0; i < props.length; ++i) {
+			props[i] = (i + 1)/divisor;
+		}
+		randomize(props, random);
+
+		final double[] table = props.clone();
+		final int[] alias = ProbabilitySelector.alias(table);
+
+		final int samples = 1000000;
+		final double[] indices = new double[props.length];
+		for (int i = 0; i < samples; ++i) {
+			indices[ProbabilitySelector.indexOf(table, alias, random.nextDouble())] += 1;
+		}
+
+		for (int i = 0; i < props.length; ++i) {
+			Assert.assertEquals(indices[i]/samples, props[i], 0.005);
+		}
+	}
+
+	@Test
+	public void aliasWithZeroProbabilities() {
+		final double[] table = {0.0, 0.5, 0.0, 0.0, 0.5, 0.0};
+		final int[] alias = ProbabilitySelector.alias(table);
+
+		for (int i = 0; i < 1000; ++i) {
+			final int index = ProbabilitySelector
+				.indexOf(table, alias, i/1000.0);
+			Assert.assertTrue(index == 1 || index == 4, "Index: " + index);
+		}
+	}
+
 	private static int indexOf(final double[] array, final double value) {
 		int j = 0;
 		double sum = 0;
@@ -0,0 +1,75 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static io.jenetics.TestUtils.newDoubleGenePopulation;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class RecombinatorTest {
+
+	@Test
+	public void alterParallelCallsRecombineFromCallingThread() {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			newDoubleGenePopulation(5, 1, 500);
+
+		final Thread caller = Thread.currentThread();
+		final AtomicInteger calls = new AtomicInteger();
+		final Recombinator<DoubleGene, Double> recombinator =
+			new Recombinator<DoubleGene, Double>(0.5, 2) {
+				@Override
+				protected int recombine(
+					final MSeq<Phenotype<DoubleGene, Double>> pop,
+					final int[] individuals,
+					final long generation
+				) {
+					Assert.assertSame(Thread.currentThread(), caller);
+					calls.incrementAndGet();
+					return 1;
+				}
+			};
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final AltererResult<DoubleGene, Double> result =
+				RandomRegistry.with(new Random(123), r ->
+					recombinator.alter(population, 1, executor));
+
+			Assert.assertTrue(calls.get() > 0);
+			Assert.assertEquals(result.getAlterations(), calls.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
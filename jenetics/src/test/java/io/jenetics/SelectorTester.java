@@ -31,6 +31,9 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -46,6 +49,7 @@ import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.ObjectTester;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -181,6 +185,40 @@ public abstract class SelectorTester<S extends Selector<DoubleGene, Double>>
 	}
 
 
+	@Test(dataProvider = "executors")
+	public void selectParallel(final Executor executor, final Optimize opt) {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			gt -> gt.getGene().getAllele();
+
+		final Factory<Phenotype<DoubleGene, Double>> ptf = () ->
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0.0, 1_000.0)), 1, ff);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, 5_000)
+			.mapToObj(i -> ptf.newInstance())
+			.collect(ISeq.toISeq());
+
+		final int count = ParallelSelection.THRESHOLD + 123;
+		final ISeq<Phenotype<DoubleGene, Double>> serial =
+			RandomRegistry.with(new LCG64ShiftRandom(123), r ->
+				selector().select(population, count, opt));
+		final ISeq<Phenotype<DoubleGene, Double>> parallel =
+			RandomRegistry.with(new LCG64ShiftRandom(123), r ->
+				selector().select(population, count, opt, executor));
+
+		Assert.assertEquals(parallel, serial);
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		final Executor pool = Executors.newFixedThreadPool(3);
+		return new Object[][] {
+			{ForkJoinPool.commonPool(), Optimize.MINIMUM},
+			{ForkJoinPool.commonPool(), Optimize.MAXIMUM},
+			{pool, Optimize.MINIMUM},
+			{pool, Optimize.MAXIMUM}
+		};
+	}
+
 	@DataProvider(name = "selectParameters")
 	public Object[][] selectParameters() {
 		final List<Integer> sizes = Arrays.asList(0, 1, 2, 3, 5, 11, 50, 100, 10_000);
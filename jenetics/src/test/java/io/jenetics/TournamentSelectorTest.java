@@ -25,14 +25,18 @@ import static io.jenetics.util.RandomRegistry.using;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.internal.util.Named;
 import io.jenetics.stat.Histogram;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
 import io.jenetics.util.TestData;
 
 /**
@@ -70,6 +74,50 @@ public class TournamentSelectorTest
 		});
 	}
 
+	// Fitness type with a partial (Pareto dominance) order.
+	private static final class Pareto implements Comparable<Pareto> {
+		private final double _x;
+		private final double _y;
+
+		Pareto(final double x, final double y) {
+			_x = x;
+			_y = y;
+		}
+
+		@Override
+		public int compareTo(final Pareto other) {
+			return _x >= other._x && _y >= other._y &&
+				(_x > other._x || _y > other._y)
+				? 1
+				: _x <= other._x && _y <= other._y &&
+					(_x < other._x || _y < other._y)
+					? -1
+					: 0;
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void selectPartiallyOrderedFitness(final Optimize opt) {
+		final ISeq<Phenotype<DoubleGene, Pareto>> population =
+			Genotype.of(DoubleChromosome.of(0, 1, 2)).instances()
+				.limit(2000)
+				.map(gt -> Phenotype.<DoubleGene, Pareto>of(gt, 1, g -> new Pareto(
+					g.getChromosome().getGene(0).doubleValue(),
+					g.getChromosome().getGene(1).doubleValue())).evaluate())
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Pareto>> selection =
+			new TournamentSelector<DoubleGene, Pareto>(3)
+				.select(population, 100, opt);
+
+		Assert.assertEquals(selection.size(), 100);
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {{Optimize.MINIMUM}, {Optimize.MAXIMUM}};
+	}
+
 	@DataProvider(name = "expectedDistribution")
 	public Object[][] expectedDistribution() {
 		final String resource =
@@ -126,5 +174,29 @@ public class TournamentSelectorTest
 		});
 	}
 
+	@Test
+	public void selectWithExecutorCallsOverriddenSelect() {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			TestUtils.newDoubleGenePopulation(5, 1, 100);
+		final ISeq<Phenotype<DoubleGene, Double>> selection =
+			ISeq.of(population.get(0), population.get(0));
+
+		final TournamentSelector<DoubleGene, Double> selector = new TournamentSelector<DoubleGene, Double>() {
+			@Override
+			public ISeq<Phenotype<DoubleGene, Double>> select(
+				final Seq<Phenotype<DoubleGene, Double>> pop,
+				final int count,
+				final Optimize opt
+			) {
+				return selection;
+			}
+		};
+
+		Assert.assertSame(
+			selector.select(
+				population, 10, Optimize.MAXIMUM, ForkJoinPool.commonPool()),
+			selection
+		);
+	}
 
 }
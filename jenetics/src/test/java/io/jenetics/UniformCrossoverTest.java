@@ -30,6 +30,7 @@ import org.testng.annotations.Test;
 import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -94,4 +95,33 @@ public class UniformCrossoverTest extends AltererTester {
 		});
 	}
 
+	@Test
+	public void bitCrossover() {
+		final UniformCrossover<BitGene, Double> crossover =
+			new UniformCrossover<>(1, 0.3);
+
+		final ISeq<BitGene> g1 = BitChromosome.of(1003, 0.5).toSeq();
+		final ISeq<BitGene> g2 = BitChromosome.of(1003, 0.5).toSeq();
+
+		// Bit mask swapping.
+		final MSeq<BitGene> v1 = g1.copy();
+		final MSeq<BitGene> w1 = g2.copy();
+		Assert.assertTrue(v1 instanceof BitGeneMSeq);
+		final int changed1 = RandomRegistry.with(new Random(123), r ->
+			crossover.crossover(v1, w1)
+		);
+
+		// Gene-wise swapping.
+		final MSeq<BitGene> v2 = MSeq.<BitGene>ofLength(g1.length()).setAll(g1);
+		final MSeq<BitGene> w2 = MSeq.<BitGene>ofLength(g2.length()).setAll(g2);
+		final int changed2 = RandomRegistry.with(new Random(123), r ->
+			crossover.crossover(v2, w2)
+		);
+
+		Assert.assertTrue(changed1 > 0);
+		Assert.assertEquals(changed1, changed2);
+		Assert.assertEquals(v1, v2);
+		Assert.assertEquals(w1, w2);
+	}
+
 }
@@ -0,0 +1,171 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CompletionStageEvaluatorTest {
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population() {
+		return ISeq.of(1, 2, 3, 4, 5)
+			.map(v -> Genotype.of(IntegerChromosome.of(IntegerGene.of(v, 0, 10))))
+			.map(gt -> Phenotype.of(gt, 1, g -> g.getGene().getAllele()));
+	}
+
+	@Test
+	public void evaluateAsync() {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			Engine.Evaluator.ofAsync((gts, ff) -> {
+				count.addAndGet(gts.size());
+				return CompletableFuture.supplyAsync(() -> gts.<Integer>map(ff).asISeq());
+			});
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = population()
+			.map(pt -> pt.getGenotype().getGene().getAllele() == 3 ? pt.evaluate() : pt);
+		final ISeq<Phenotype<IntegerGene, Integer>> result = evaluator
+			.evaluateAsync(population)
+			.toCompletableFuture()
+			.join();
+
+		Assert.assertEquals(count.get(), 4);
+		Assert.assertSame(result.get(2), population.get(2));
+		Assert.assertEquals(result.map(Phenotype::getFitness), ISeq.of(1, 2, 3, 4, 5));
+		Assert.assertFalse(population.get(0).isEvaluated());
+	}
+
+	@Test
+	public void evaluateSync() {
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			Engine.Evaluator.ofAsync((gts, ff) ->
+				CompletableFuture.completedFuture(gts.<Integer>map(ff).asISeq()));
+
+		final ISeq<Phenotype<IntegerGene, Integer>> result =
+			evaluator.evaluate(population());
+
+		Assert.assertEquals(result.map(Phenotype::getFitness), ISeq.of(1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void evaluateEvaluated() {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			Engine.Evaluator.ofAsync((gts, ff) -> {
+				count.incrementAndGet();
+				return CompletableFuture.completedFuture(gts.<Integer>map(ff).asISeq());
+			});
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			population().map(Phenotype::evaluate);
+
+		Assert.assertEquals(evaluator.evaluate(population), population);
+		Assert.assertEquals(count.get(), 0);
+	}
+
+	@Test
+	public void evaluateWrongResultSize() {
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			Engine.Evaluator.ofAsync((gts, ff) ->
+				CompletableFuture.completedFuture(ISeq.of(1)));
+
+		try {
+			evaluator.evaluate(population());
+			Assert.fail("CompletionException expected.");
+		} catch (CompletionException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void engineEvaluation() {
+		// The fitness values are completed by one scheduler thread, which
+		// would not be possible if every evaluation would block a thread.
+		final ScheduledExecutorService scheduler =
+			Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			final AtomicInteger inFlight = new AtomicInteger();
+			final AtomicInteger maxInFlight = new AtomicInteger();
+
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> gt.getGene().getAllele(),
+					DoubleChromosome.of(0, 1))
+				.asyncEvaluator((gts, ff) -> {
+					final ISeq<CompletableFuture<Double>> futures = gts.asISeq().map(gt -> {
+						maxInFlight.accumulateAndGet(
+							inFlight.incrementAndGet(), Math::max);
+
+						final CompletableFuture<Double> future =
+							new CompletableFuture<>();
+						scheduler.schedule(() -> {
+							inFlight.decrementAndGet();
+							future.complete(ff.apply(gt));
+						}, 1, TimeUnit.MILLISECONDS);
+						return future;
+					});
+
+					return CompletableFuture
+						.allOf(futures.toArray(new CompletableFuture<?>[0]))
+						.thenApply(v -> futures.map(CompletableFuture::join));
+				})
+				.populationSize(1000)
+				.fitnessCache(10_000)
+				.deduplicateEvaluation(true)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(5)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.getTotalGenerations(), 5);
+			Assert.assertTrue(
+				maxInFlight.get() > 100,
+				"Max in flight: " + maxInFlight.get()
+			);
+			result.getPopulation().forEach(pt -> Assert.assertEquals(
+				pt.getFitness(),
+				pt.getGenotype().getGene().getAllele()
+			));
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DeduplicatingEvaluatorTest {
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(
+		final Function<Genotype<IntegerGene>, Integer> ff
+	) {
+		return ISeq.of(1, 2, 1, 3, 2, 1, 4, 4, 5, 1)
+			.map(v -> Genotype.of(IntegerChromosome.of(IntegerGene.of(v, 0, 10))))
+			.map(gt -> Phenotype.of(gt, 1, ff));
+	}
+
+	@Test
+	public void evaluateDefaultEvaluator() {
+		final AtomicInteger count = new AtomicInteger();
+		final Function<Genotype<IntegerGene>, Integer> ff = gt -> {
+			count.incrementAndGet();
+			return gt.getGene().getAllele();
+		};
+
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			new DeduplicatingEvaluator<IntegerGene, Integer>(
+				new ConcurrentEvaluator<>(ForkJoinPool.commonPool())
+			);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = population(ff);
+		final ISeq<Phenotype<IntegerGene, Integer>> result =
+			evaluator.evaluate(population);
+
+		Assert.assertEquals(count.get(), 5);
+		Assert.assertEquals(result.length(), population.length());
+		for (int i = 0; i < result.length(); ++i) {
+			Assert.assertTrue(result.get(i).isEvaluated());
+			Assert.assertEquals(
+				result.get(i).getGenotype(),
+				population.get(i).getGenotype()
+			);
+			Assert.assertEquals(
+				result.get(i).getFitness(),
+				population.get(i).getGenotype().getGene().getAllele()
+			);
+		}
+	}
+
+	@Test
+	public void evaluateGenotypeEvaluator() {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine.GenotypeEvaluator<IntegerGene, Integer> gte = (gts, ff) -> {
+			count.addAndGet(gts.size());
+			return gts.<Integer>map(ff).asISeq();
+		};
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			new DeduplicatingEvaluator<>(Engine.Evaluator.of(gte));
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			population(gt -> gt.getGene().getAllele());
+		final ISeq<Phenotype<IntegerGene, Integer>> result =
+			evaluator.evaluate(population);
+
+		Assert.assertEquals(count.get(), 5);
+		Assert.assertEquals(
+			result.map(Phenotype::getFitness),
+			population.map(pt -> pt.getGenotype().getGene().getAllele())
+		);
+	}
+
+	@Test
+	public void evaluateWithoutDuplicates() {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine.GenotypeEvaluator<IntegerGene, Integer> gte = (gts, ff) -> {
+			count.addAndGet(gts.size());
+			return gts.<Integer>map(ff).asISeq();
+		};
+		final Engine.Evaluator<IntegerGene, Integer> evaluator =
+			new DeduplicatingEvaluator<>(Engine.Evaluator.of(gte));
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(1, 2, 3)
+			.map(v -> Genotype.of(IntegerChromosome.of(IntegerGene.of(v, 0, 10))))
+			.map(gt -> Phenotype.of(gt, 1, g -> g.getGene().getAllele()));
+
+		final ISeq<Phenotype<IntegerGene, Integer>> result =
+			evaluator.evaluate(population);
+
+		Assert.assertEquals(count.get(), 3);
+		Assert.assertEquals(result.map(Phenotype::getFitness), ISeq.of(1, 2, 3));
+	}
+
+	@Test
+	public void engineEvaluation() {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				IntegerChromosome.of(0, 10))
+			.populationSize(200)
+			.deduplicateEvaluation(true)
+			.build();
+
+		final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getBestFitness(), Integer.valueOf(10));
+		Assert.assertTrue(count.get() <= 11*10, "Evaluations: " + count.get());
+	}
+
+}
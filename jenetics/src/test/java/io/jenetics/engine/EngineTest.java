@@ -34,6 +34,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -327,6 +328,43 @@ public class EngineTest {
 		//System.out.println(Arrays.toString(result));
 	}
 
+	@Test(dataProvider = "costEngines")
+	public void costAwareEvaluation(final Engine<IntegerGene, Integer> engine) {
+		final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 50);
+		result.getPopulation().forEach(pt -> {
+			Assert.assertTrue(pt.isEvaluated());
+			Assert.assertEquals(
+				pt.getFitness().intValue(),
+				pt.getGenotype().getChromosome().stream()
+					.mapToInt(IntegerGene::intValue)
+					.sum()
+			);
+		});
+	}
+
+	@DataProvider(name = "costEngines")
+	public Object[][] costEngines() {
+		final Supplier<Engine.Builder<IntegerGene, Integer>> builder = () -> Engine
+			.builder(
+				gt -> gt.getChromosome().stream()
+					.mapToInt(IntegerGene::intValue)
+					.sum(),
+				IntegerChromosome.of(0, 100, IntRange.of(1, 200)))
+			.populationSize(50);
+
+		return new Object[][] {
+			{builder.get().costAwareEvaluation(true).build()},
+			{builder.get().evaluationCost(Genotype::geneCount).build()},
+			{builder.get().evaluationCost(gt -> -1).build()},
+			{builder.get().costAwareEvaluation(true)
+				.executor(Executors.newFixedThreadPool(2)).build()}
+		};
+	}
+
 	@Test(dataProvider = "engineParams")
 	public <G extends Gene<?, G>> void variableLengthChromosomes(
 		final Genotype<G> gtf,
@@ -0,0 +1,94 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvaluationCostModelTest {
+
+	private static Genotype<IntegerGene> genotype(final int length) {
+		return Genotype.of(IntegerChromosome.of(0, 10, length));
+	}
+
+	@Test
+	public void initialEstimate() {
+		final EvaluationCostModel<IntegerGene> model = new EvaluationCostModel<>();
+		Assert.assertEquals(model.applyAsDouble(genotype(10)), 10.0);
+		Assert.assertEquals(model.applyAsDouble(genotype(25)), 25.0);
+	}
+
+	@Test
+	public void linearEstimate() {
+		final EvaluationCostModel<IntegerGene> model = new EvaluationCostModel<>();
+		for (int i = 1; i <= 50; ++i) {
+			model.update(genotype(i), 100 + 20*i);
+		}
+
+		Assert.assertEquals(model.count(), 50);
+		Assert.assertEquals(model.applyAsDouble(genotype(10)), 300.0, 0.0001);
+		Assert.assertEquals(model.applyAsDouble(genotype(100)), 2100.0, 0.0001);
+	}
+
+	@Test
+	public void constantEstimate() {
+		final EvaluationCostModel<IntegerGene> model = new EvaluationCostModel<>();
+		for (int i = 0; i < 10; ++i) {
+			model.update(genotype(5), 100 + i);
+		}
+
+		Assert.assertEquals(model.applyAsDouble(genotype(5)), 104.5, 0.0001);
+		Assert.assertEquals(model.applyAsDouble(genotype(50)), 104.5, 0.0001);
+	}
+
+	@Test
+	public void fixedLengthEstimate() {
+		final EvaluationCostModel<IntegerGene> model = new EvaluationCostModel<>();
+		for (int i = 0; i < 10; ++i) {
+			model.update(genotype(5), 100 + 10*i);
+		}
+
+		final double[] estimates = IntStream.range(0, 10)
+			.mapToDouble(i -> model.applyAsDouble(genotype(5)))
+			.toArray();
+		for (double estimate : estimates) {
+			Assert.assertEquals(estimate, 145.0, 0.0001);
+		}
+	}
+
+	@Test
+	public void minimalEstimate() {
+		final EvaluationCostModel<IntegerGene> model = new EvaluationCostModel<>();
+		model.update(genotype(1), 1000);
+		model.update(genotype(10), 10);
+
+		Assert.assertEquals(model.applyAsDouble(genotype(100)), 1.0);
+	}
+
+}
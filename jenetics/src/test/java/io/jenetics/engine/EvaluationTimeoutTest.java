@@ -0,0 +1,182 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.MonteCarloSelector;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvaluationTimeoutTest {
+
+	// Evaluations of alleles > 0.8 are "hanging".
+	private static final Function<Genotype<DoubleGene>, Double> FITNESS = gt -> {
+		final double value = gt.getGene().getAllele();
+		if (value > 0.8) {
+			try {
+				Thread.sleep(60_000);
+			} catch (InterruptedException e) {
+				throw new CancellationException(e.getMessage());
+			}
+		}
+		return value;
+	};
+
+	@Test(timeOut = 30_000)
+	public void penaltyFitness() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(FITNESS, DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofMillis(50), -1.0)
+			.populationSize(30)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(3)
+			.peek(er -> er.getPopulation().forEach(pt -> {
+				final double value = pt.getGenotype().getGene().getAllele();
+				Assert.assertEquals(
+					pt.getFitness(),
+					value > 0.8 ? -1.0 : value
+				);
+			}))
+			.reduce((a, b) -> b.getTimeoutCount() > 0 ? b : a)
+			.orElseThrow(AssertionError::new);
+
+		Assert.assertTrue(result.getTimeoutCount() > 0);
+	}
+
+	@Test(timeOut = 30_000)
+	public void invalidIndividuals() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(FITNESS, DoubleChromosome.of(0, 1))
+				.evaluationTimeout(Duration.ofMillis(50))
+				.selector(new MonteCarloSelector<>())
+				.executor(executor)
+				.populationSize(30)
+				.build();
+
+			final int[] counts = engine.stream()
+				.limit(3)
+				.peek(er -> er.getPopulation().forEach(pt -> {
+					final double value = pt.getGenotype().getGene().getAllele();
+					Assert.assertTrue(value <= 0.8 || pt.getFitness() < 0.8);
+				}))
+				.map(er -> new int[]{er.getTimeoutCount(), er.getInvalidCount()})
+				.reduce((a, b) -> new int[]{a[0] + b[0], a[1] + b[1]})
+				.orElseThrow(AssertionError::new);
+
+			Assert.assertTrue(counts[0] > 0, "Timeout count: " + counts[0]);
+			Assert.assertTrue(counts[1] > 0, "Invalid count: " + counts[1]);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(timeOut = 30_000)
+	public void fitnessCache() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Set<Genotype<DoubleGene>> hanging = ConcurrentHashMap.newKeySet();
+			final FitnessCache<DoubleGene, Double> cache = FitnessCache.of(1000);
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> {
+						if (gt.getGene().getAllele() > 0.8) {
+							hanging.add(gt);
+						}
+						return FITNESS.apply(gt);
+					},
+					DoubleChromosome.of(0, 1))
+				.evaluationTimeout(Duration.ofMillis(50))
+				.fitnessCache(cache)
+				.executor(executor)
+				.populationSize(30)
+				.build();
+
+			final int timeouts = engine.stream()
+				.limit(3)
+				.mapToInt(EvolutionResult::getTimeoutCount)
+				.sum();
+
+			Assert.assertTrue(timeouts > 0, "Timeout count: " + timeouts);
+			Assert.assertFalse(hanging.isEmpty());
+			for (Genotype<DoubleGene> gt : hanging) {
+				Assert.assertNull(cache.get(gt));
+			}
+			Assert.assertTrue(cache.size() > 0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void noTimeouts() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofSeconds(10))
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getTimeoutCount(), 0);
+		Assert.assertEquals(result.getInvalidCount(), 0);
+	}
+
+	@Test
+	public void builderProperties() {
+		final Engine.Builder<DoubleGene, Double> builder = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1));
+		Assert.assertNull(builder.getEvaluationTimeout());
+		Assert.assertNull(builder.getEvaluationTimeoutPenalty());
+
+		builder.evaluationTimeout(Duration.ofSeconds(3), 5.0);
+		Assert.assertEquals(builder.getEvaluationTimeout(), Duration.ofSeconds(3));
+		Assert.assertEquals(builder.getEvaluationTimeoutPenalty(), 5.0);
+
+		builder.evaluationTimeout(Duration.ofSeconds(2));
+		Assert.assertEquals(builder.getEvaluationTimeout(), Duration.ofSeconds(2));
+		Assert.assertNull(builder.getEvaluationTimeoutPenalty());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroTimeout() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ZERO);
+	}
+
+}
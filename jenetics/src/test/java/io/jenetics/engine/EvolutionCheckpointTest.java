@@ -0,0 +1,301 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionCheckpointTest {
+
+	private static Engine<IntegerGene, Integer> engine() {
+		return Engine
+			.builder(gt -> gt.getGene().intValue(), IntegerChromosome.of(0, 1000))
+			.populationSize(50)
+			.executor(Runnable::run)
+			.build();
+	}
+
+	private static Path directory() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-checkpoint");
+		dir.toFile().deleteOnExit();
+		return dir;
+	}
+
+	private static List<Path> files(final Path dir) throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			final List<Path> result = files.sorted().collect(Collectors.toList());
+			result.forEach(p -> p.toFile().deleteOnExit());
+			return result;
+		}
+	}
+
+	@Test
+	public void checkpointGenerations() throws IOException {
+		final Path dir = directory();
+		final List<EvolutionResult<IntegerGene, Integer>> results = new ArrayList<>();
+
+		try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+				EvolutionCheckpoint.of(dir, 5))
+		{
+			engine().stream()
+				.limit(23)
+				.peek(checkpoint)
+				.forEach(results::add);
+		}
+
+		// Pending checkpoints might be coalesced, if the writer is busy.
+		final List<Path> files = files(dir);
+		Assert.assertTrue(files.size() >= 1 && files.size() <= 3, files.toString());
+		Assert.assertTrue(
+			files.get(files.size() - 1).getFileName().toString().endsWith("21.jcp")
+		);
+
+		final EvolutionStart<IntegerGene, Integer> start =
+			EvolutionCheckpoint.<IntegerGene, Integer>restore(dir)
+				.orElseThrow(AssertionError::new);
+
+		Assert.assertEquals(start.getGeneration(), 21);
+		Assert.assertEquals(
+			start.getPopulation().map(Phenotype::getGenotype),
+			results.get(19).getGenotypes()
+		);
+		Assert.assertEquals(
+			start.getPopulation().map(Phenotype::getFitness),
+			results.get(19).getPopulation().map(Phenotype::getFitness)
+		);
+	}
+
+	@Test
+	public void populationBuffering() throws IOException {
+		final Engine<IntegerGene, Integer> engine = engine().builder()
+			.populationBuffering(true)
+			.build();
+
+		final Path dir = directory();
+		final Map<Long, ISeq<Genotype<IntegerGene>>> genotypes = new HashMap<>();
+		try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+				EvolutionCheckpoint.of(dir, 1))
+		{
+			engine.stream()
+				.limit(20)
+				.peek(checkpoint)
+				.forEach(r -> genotypes.put(r.getGeneration(), r.getGenotypes()));
+		}
+
+		final EvolutionStart<IntegerGene, Integer> start =
+			EvolutionCheckpoint.<IntegerGene, Integer>restore(dir)
+				.orElseThrow(AssertionError::new);
+
+		Assert.assertEquals(
+			start.getPopulation().map(Phenotype::getGenotype),
+			genotypes.get(start.getGeneration() - 1)
+		);
+	}
+
+	@Test
+	public void checkpointInterval() throws IOException {
+		final Path dir = directory();
+		try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+				EvolutionCheckpoint.of(dir, Long.MAX_VALUE, Duration.ZERO, 2))
+		{
+			engine().stream()
+				.limit(10)
+				.peek(checkpoint)
+				.forEach(r -> {});
+		}
+
+		Assert.assertTrue(files(dir).size() <= 2);
+		Assert.assertEquals(
+			EvolutionCheckpoint.<IntegerGene, Integer>restore(dir)
+				.map(EvolutionStart::getGeneration),
+			Optional.of(11L)
+		);
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Path dir = directory();
+		try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+				EvolutionCheckpoint.of(dir, 1))
+		{
+			engine().stream()
+				.limit(10)
+				.peek(checkpoint)
+				.forEach(r -> {});
+		}
+
+		final Engine<IntegerGene, Integer> engine = engine();
+		final EvolutionResult<IntegerGene, Integer> result =
+			EvolutionCheckpoint.<IntegerGene, Integer>restore(dir)
+				.map(engine::stream)
+				.orElseGet(engine::stream)
+				.limit(5)
+				.reduce((a, b) -> b)
+				.orElseThrow(AssertionError::new);
+
+		Assert.assertEquals(result.getGeneration(), 15);
+		files(dir);
+	}
+
+	@Test
+	public void restoreCorrupted() throws IOException {
+		final Path dir = directory();
+		try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+				EvolutionCheckpoint.of(dir, 1))
+		{
+			final List<EvolutionResult<IntegerGene, Integer>> results =
+				engine().stream()
+					.limit(4)
+					.collect(Collectors.toList());
+
+			for (EvolutionResult<IntegerGene, Integer> result : results) {
+				checkpoint.accept(result);
+				checkpoint.flush();
+			}
+		}
+
+		final List<Path> files = files(dir);
+		Assert.assertEquals(files.size(), 3, files.toString());
+
+		// Truncate the latest and corrupt the second latest checkpoint.
+		final byte[] latest = Files.readAllBytes(files.get(2));
+		Files.write(files.get(2), java.util.Arrays.copyOf(latest, latest.length/2));
+
+		final byte[] second = Files.readAllBytes(files.get(1));
+		second[second.length/2] ^= 0xFF;
+		Files.write(files.get(1), second);
+
+		Assert.assertEquals(
+			EvolutionCheckpoint.<IntegerGene, Integer>restore(dir)
+				.map(EvolutionStart::getGeneration),
+			Optional.of(3L)
+		);
+	}
+
+	@Test
+	public void restoreEmpty() throws IOException {
+		final Path dir = directory();
+		Assert.assertFalse(EvolutionCheckpoint.restore(dir).isPresent());
+		Assert.assertFalse(
+			EvolutionCheckpoint.restore(dir.resolve("not-existing")).isPresent()
+		);
+	}
+
+	@Test
+	public void restoreRandom() throws IOException {
+		final Path dir = directory();
+		final EvolutionResult<IntegerGene, Integer> result = engine().stream()
+			.limit(3)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final long expected = RandomRegistry.with(new Random(123), random -> {
+			try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+					EvolutionCheckpoint.of(dir, Long.MAX_VALUE, Duration.ZERO, 1))
+			{
+				checkpoint.accept(result);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return RandomRegistry.getRandom().nextLong();
+		});
+
+		final EvolutionCheckpoint.State<IntegerGene, Integer> state =
+			EvolutionCheckpoint.<IntegerGene, Integer>latest(dir)
+				.orElseThrow(AssertionError::new);
+
+		Assert.assertEquals(state.getGeneration(), result.getGeneration() + 1);
+		Assert.assertEquals(
+			state.getRandom().map(Random::nextLong),
+			Optional.of(expected)
+		);
+		files(dir);
+	}
+
+	@Test
+	public void captureLargePopulation() throws IOException {
+		final ISeq<Phenotype<IntegerGene, Integer>> population = engine()
+			.stream()
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult())
+			.getPopulation();
+
+		final ISeq<Phenotype<IntegerGene, Integer>> large = Stream
+			.generate(() -> population)
+			.flatMap(ISeq::stream)
+			.limit(100_000)
+			.collect(ISeq.toISeq());
+		final EvolutionResult<IntegerGene, Integer> result = EvolutionResult.of(
+			io.jenetics.Optimize.MAXIMUM,
+			large,
+			1,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		);
+
+		final Path dir = directory();
+		try (EvolutionCheckpoint<IntegerGene, Integer> checkpoint =
+				EvolutionCheckpoint.of(dir, Long.MAX_VALUE, Duration.ZERO, 1))
+		{
+			final long start = System.nanoTime();
+			checkpoint.accept(result);
+			final long nanos = System.nanoTime() - start;
+
+			// Capturing the state must not serialize the population.
+			Assert.assertTrue(nanos < 1_000_000_000L, "Capture took " + nanos);
+		}
+
+		Assert.assertEquals(
+			EvolutionCheckpoint.<IntegerGene, Integer>latest(dir)
+				.map(s -> s.getPopulation().size()),
+			Optional.of(100_000)
+		);
+		files(dir);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidGenerations() {
+		EvolutionCheckpoint.of(java.nio.file.Paths.get("."), 0);
+	}
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionHistoryTest {
+
+	private static Engine<IntegerGene, Integer> engine() {
+		return Engine
+			.builder(gt -> gt.getGene().intValue(), IntegerChromosome.of(0, 1000, 5))
+			.populationSize(50)
+			.executor(Runnable::run)
+			.build();
+	}
+
+	private static Path directory() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-history");
+		dir.toFile().deleteOnExit();
+		return dir;
+	}
+
+	private static List<Path> files(final Path dir, final String glob)
+		throws IOException
+	{
+		try (Stream<Path> files = Files.list(dir)) {
+			final List<Path> result = files.sorted().collect(Collectors.toList());
+			result.forEach(p -> p.toFile().deleteOnExit());
+			return result.stream()
+				.filter(p -> dir.getFileSystem().getPathMatcher("glob:" + glob)
+					.matches(p.getFileName()))
+				.collect(Collectors.toList());
+		}
+	}
+
+	private static List<EvolutionResult<IntegerGene, Integer>> evolve(
+		final EvolutionHistory<IntegerGene, Integer> history,
+		final EvolutionStream<IntegerGene, Integer> stream,
+		final int generations
+	) {
+		final List<EvolutionResult<IntegerGene, Integer>> results = new ArrayList<>();
+		stream.limit(generations).peek(history).forEach(results::add);
+		return results;
+	}
+
+	private static void assertEquals(
+		final EvolutionHistory.Generation<IntegerGene, Integer> generation,
+		final EvolutionResult<IntegerGene, Integer> result
+	) {
+		Assert.assertEquals(generation.getGeneration(), result.getGeneration());
+		Assert.assertEquals(
+			generation.getPopulation().map(Phenotype::getGenotype),
+			result.getGenotypes()
+		);
+		Assert.assertEquals(
+			generation.getPopulation().map(Phenotype::getFitness),
+			result.getPopulation().map(Phenotype::getFitness)
+		);
+	}
+
+	@Test
+	public void writeAndRead() throws IOException {
+		final Path dir = directory();
+		final List<EvolutionResult<IntegerGene, Integer>> results;
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir))
+		{
+			results = evolve(history, engine().stream(), 30);
+		}
+		Assert.assertEquals(files(dir, "history-*.seg").size(), 1);
+
+		try (EvolutionHistory.Reader<IntegerGene, Integer> reader =
+				EvolutionHistory.open(dir))
+		{
+			Assert.assertEquals(reader.size(), 30);
+			Assert.assertEquals(
+				reader.generations().toArray(),
+				results.stream().mapToLong(EvolutionResult::getGeneration).toArray()
+			);
+
+			for (int i = results.size(); --i >= 0;) {
+				final EvolutionResult<IntegerGene, Integer> result = results.get(i);
+				assertEquals(
+					reader.get(result.getGeneration())
+						.orElseThrow(AssertionError::new),
+					result
+				);
+			}
+
+			final List<EvolutionHistory.Generation<IntegerGene, Integer>> generations =
+				reader.stream().collect(Collectors.toList());
+			for (int i = 0; i < results.size(); ++i) {
+				assertEquals(generations.get(i), results.get(i));
+			}
+
+			Assert.assertFalse(reader.get(0).isPresent());
+			Assert.assertFalse(reader.get(31).isPresent());
+		}
+	}
+
+	@Test
+	public void populationBuffering() throws IOException {
+		final Engine<IntegerGene, Integer> engine = engine().builder()
+			.populationBuffering(true)
+			.build();
+
+		final Path dir = directory();
+		final List<ISeq<Genotype<IntegerGene>>> genotypes = new ArrayList<>();
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir))
+		{
+			engine.stream()
+				.limit(30)
+				.peek(history)
+				.forEach(result -> genotypes.add(result.getGenotypes()));
+		}
+
+		try (EvolutionHistory.Reader<IntegerGene, Integer> reader =
+				EvolutionHistory.open(dir))
+		{
+			final List<EvolutionHistory.Generation<IntegerGene, Integer>> generations =
+				reader.stream().collect(Collectors.toList());
+
+			Assert.assertEquals(generations.size(), genotypes.size());
+			for (int i = 0; i < genotypes.size(); ++i) {
+				Assert.assertEquals(
+					generations.get(i).getPopulation().map(Phenotype::getGenotype),
+					genotypes.get(i)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void smallSegments() throws IOException {
+		final Path dir = directory();
+		final List<EvolutionResult<IntegerGene, Integer>> results;
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir, 2000, 1))
+		{
+			results = evolve(history, engine().stream(), 20);
+		}
+		Assert.assertTrue(files(dir, "history-*.seg").size() > 5);
+
+		try (EvolutionHistory.Reader<IntegerGene, Integer> reader =
+				EvolutionHistory.open(dir))
+		{
+			Assert.assertEquals(reader.size(), 20);
+			final List<EvolutionHistory.Generation<IntegerGene, Integer>> generations =
+				reader.stream().collect(Collectors.toList());
+			for (int i = 0; i < results.size(); ++i) {
+				assertEquals(generations.get(i), results.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void appendExisting() throws IOException {
+		final Path dir = directory();
+		final List<EvolutionResult<IntegerGene, Integer>> first;
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir))
+		{
+			first = evolve(history, engine().stream(), 10);
+		}
+
+		// Resuming the evolution from generation 6.
+		final EvolutionResult<IntegerGene, Integer> resume = first.get(4);
+		final List<EvolutionResult<IntegerGene, Integer>> second;
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir))
+		{
+			second = evolve(
+				history,
+				engine().stream(resume.getPopulation(), resume.getGeneration() + 1),
+				10
+			);
+		}
+		Assert.assertEquals(files(dir, "history-*.seg").size(), 2);
+
+		try (EvolutionHistory.Reader<IntegerGene, Integer> reader =
+				EvolutionHistory.open(dir))
+		{
+			Assert.assertEquals(reader.size(), 15);
+			for (int i = 0; i < 5; ++i) {
+				assertEquals(reader.get(i + 1).orElseThrow(AssertionError::new), first.get(i));
+			}
+			for (EvolutionResult<IntegerGene, Integer> result : second) {
+				assertEquals(
+					reader.get(result.getGeneration())
+						.orElseThrow(AssertionError::new),
+					result
+				);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readCorrupted() throws IOException {
+		final Path dir = directory();
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir))
+		{
+			evolve(history, engine().stream(), 3);
+		}
+
+		final Path segment = files(dir, "history-*.seg").get(0);
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(100);
+			file.write(~file.read());
+		}
+
+		try (EvolutionHistory.Reader<IntegerGene, Integer> reader =
+				EvolutionHistory.open(dir))
+		{
+			reader.get(1);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void readClosed() throws IOException {
+		final Path dir = directory();
+		try (EvolutionHistory<IntegerGene, Integer> history =
+				EvolutionHistory.of(dir))
+		{
+			evolve(history, engine().stream(), 3);
+		}
+
+		final EvolutionHistory.Reader<IntegerGene, Integer> reader =
+			EvolutionHistory.open(dir);
+		reader.close();
+		reader.get(1);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void openMissing() throws IOException {
+		EvolutionHistory.open(directory().resolve("missing"));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSegmentSize() throws IOException {
+		EvolutionHistory.of(directory(), 10, 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxPending() throws IOException {
+		EvolutionHistory.of(directory(), 1000, 0);
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FitnessCacheTest {
+
+	private static Genotype<IntegerGene> genotype(final int value) {
+		return Genotype.of(IntegerChromosome.of(IntegerGene.of(value, 0, 100)));
+	}
+
+	@Test
+	public void getAndPut() {
+		final FitnessCache<IntegerGene, Integer> cache = FitnessCache.of(10);
+		Assert.assertNull(cache.get(genotype(1)));
+
+		Assert.assertEquals(cache.put(genotype(1), 1), 0);
+		Assert.assertEquals(cache.get(genotype(1)), Integer.valueOf(1));
+
+		Assert.assertEquals(cache.getHitCount(), 1);
+		Assert.assertEquals(cache.getMissCount(), 1);
+		Assert.assertEquals(cache.getEvictionCount(), 0);
+		Assert.assertEquals(cache.size(), 1);
+	}
+
+	@Test
+	public void leastRecentlyUsedEviction() {
+		final FitnessCache<IntegerGene, Integer> cache = FitnessCache.of(3);
+		cache.put(genotype(1), 1);
+		cache.put(genotype(2), 2);
+		cache.put(genotype(3), 3);
+
+		// Touch the first entry, which makes the second one the eldest.
+		Assert.assertEquals(cache.get(genotype(1)), Integer.valueOf(1));
+		Assert.assertEquals(cache.put(genotype(4), 4), 1);
+
+		Assert.assertEquals(cache.size(), 3);
+		Assert.assertEquals(cache.getEvictionCount(), 1);
+		Assert.assertNull(cache.get(genotype(2)));
+		Assert.assertEquals(cache.get(genotype(1)), Integer.valueOf(1));
+		Assert.assertEquals(cache.get(genotype(3)), Integer.valueOf(3));
+		Assert.assertEquals(cache.get(genotype(4)), Integer.valueOf(4));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxSize() {
+		FitnessCache.of(0);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void putNullGenotype() {
+		FitnessCache.<IntegerGene, Integer>of(10).put(null, 1);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void putNullFitness() {
+		FitnessCache.<IntegerGene, Integer>of(10).put(genotype(1), null);
+	}
+
+	@Test
+	public void engineEvaluation() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final FitnessCache<IntegerGene, Integer> cache = FitnessCache.of(1000);
+
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> {
+					evaluations.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				IntegerChromosome.of(0, 20))
+			.populationSize(100)
+			.fitnessCache(cache)
+			.build();
+
+		final ISeq<EvolutionResult<IntegerGene, Integer>> results = engine
+			.stream()
+			.limit(20)
+			.collect(ISeq.toISeq());
+
+		final int hits = results.stream()
+			.mapToInt(EvolutionResult::getCacheHitCount)
+			.sum();
+		final int misses = results.stream()
+			.mapToInt(EvolutionResult::getCacheMissCount)
+			.sum();
+
+		Assert.assertTrue(hits > 0, "Expected cache hits.");
+		Assert.assertTrue(evaluations.get() <= misses);
+		Assert.assertEquals(cache.getHitCount(), hits);
+		Assert.assertEquals(cache.getMissCount(), misses);
+		Assert.assertTrue(cache.size() <= 21);
+		Assert.assertSame(engine.builder().build().getFitnessCache(), cache);
+	}
+
+	@Test
+	public void templateWithOtherFitnessFunction() {
+		final FitnessCache<IntegerGene, Integer> cache = FitnessCache.of(1000);
+		final Engine<IntegerGene, Integer> template = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 20))
+			.fitnessCache(cache)
+			.build();
+
+		template.stream().limit(5).forEach(r -> {});
+		Assert.assertTrue(cache.size() > 0);
+
+		final Engine<IntegerGene, Integer> engine = template.builder()
+			.fitnessFunction(gt -> -gt.getGene().getAllele())
+			.build();
+
+		Assert.assertNotSame(engine.getFitnessCache(), cache);
+		Assert.assertEquals(engine.getFitnessCache().size(), 0);
+		Assert.assertEquals(engine.getFitnessCache().getMaxSize(), 1000);
+		engine.stream()
+			.limit(5)
+			.forEach(r -> r.getPopulation().forEach(pt ->
+				Assert.assertEquals(
+					pt.getFitness().intValue(),
+					-pt.getGenotype().getGene().getAllele().intValue()
+				)
+			));
+	}
+
+	@Test
+	public void engineWithoutCache() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), IntegerChromosome.of(0, 20))
+			.build();
+
+		Assert.assertNull(engine.getFitnessCache());
+		engine.stream()
+			.limit(5)
+			.forEach(r -> {
+				Assert.assertEquals(r.getCacheHitCount(), 0);
+				Assert.assertEquals(r.getCacheMissCount(), 0);
+			});
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.engine.HistogramInstrumentation.Histogram;
+import io.jenetics.engine.Instrumentation.Phase;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HistogramInstrumentationTest {
+
+	private static final Function<Genotype<DoubleGene>, Double> FITNESS =
+		gt -> gt.getGene().getAllele();
+
+	@Test
+	public void phases() {
+		final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+			HistogramInstrumentation.of();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(FITNESS, DoubleChromosome.of(0, 1))
+			.instrumentation(instrumentation)
+			.populationSize(20)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+
+		for (Phase phase : Phase.values()) {
+			final long count = instrumentation.getPhaseHistogram(phase).getCount();
+			Assert.assertEquals(
+				count,
+				phase == Phase.EVALUATION ? 20 : 10,
+				phase.toString()
+			);
+		}
+
+		final Histogram evaluations = instrumentation.getEvaluationHistogram();
+		Assert.assertTrue(evaluations.getCount() >= 20);
+		Assert.assertEquals(
+			instrumentation.getQueueWaitHistogram().getCount(),
+			evaluations.getCount()
+		);
+		Assert.assertEquals(instrumentation.getEvaluationFailureCount(), 0);
+		Assert.assertNotNull(instrumentation.toString());
+	}
+
+	@Test
+	public void alterations() {
+		final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+			HistogramInstrumentation.of();
+
+		final Alterer<DoubleGene, Double> crossover =
+			new SinglePointCrossover<>(0.5);
+		final Alterer<DoubleGene, Double> mutator = new Mutator<>(0.5);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(FITNESS, DoubleChromosome.of(0, 1, 5))
+			.alterers(crossover, mutator)
+			.instrumentation(instrumentation)
+			.populationSize(50)
+			.build();
+
+		final int alterations = engine.stream()
+			.limit(10)
+			.mapToInt(EvolutionResult::getAlterCount)
+			.sum();
+
+		final Map<Alterer<DoubleGene, Double>, Long> counts =
+			instrumentation.getAlterationCounts();
+
+		Assert.assertEquals(counts.size(), 2);
+		Assert.assertTrue(counts.get(crossover) > 0);
+		Assert.assertTrue(counts.get(mutator) > 0);
+		Assert.assertEquals(
+			counts.get(crossover) + counts.get(mutator),
+			alterations
+		);
+	}
+
+	@Test
+	public void engineBuilder() {
+		final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+			HistogramInstrumentation.of();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(FITNESS, DoubleChromosome.of(0, 1))
+			.instrumentation(instrumentation)
+			.build();
+
+		final Engine.Builder<DoubleGene, Double> builder = engine.builder();
+		Assert.assertSame(builder.getInstrumentation(), instrumentation);
+		Assert.assertFalse(builder.getAlterers() instanceof InstrumentedAlterer);
+
+		final Engine<DoubleGene, Double> plain = builder
+			.instrumentation(null)
+			.build();
+		Assert.assertFalse(plain.getAlterer() instanceof InstrumentedAlterer);
+	}
+
+	@Test(timeOut = 30_000)
+	public void failures() {
+		final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+			HistogramInstrumentation.of();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					final double value = gt.getGene().getAllele();
+					if (value > 0.8) {
+						try {
+							Thread.sleep(60_000);
+						} catch (InterruptedException e) {
+							throw new CancellationException(e.getMessage());
+						}
+					}
+					return value;
+				},
+				DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofMillis(50), -1.0)
+			.instrumentation(instrumentation)
+			.populationSize(30)
+			.build();
+
+		final int timeouts = engine.stream()
+			.limit(3)
+			.mapToInt(EvolutionResult::getTimeoutCount)
+			.sum();
+
+		Assert.assertTrue(timeouts > 0);
+		Assert.assertEquals(instrumentation.getEvaluationFailureCount(), timeouts);
+	}
+
+	@Test
+	public void customInstrumentation() {
+		final AtomicInteger started = new AtomicInteger();
+		final AtomicInteger completed = new AtomicInteger();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(FITNESS, DoubleChromosome.of(0, 1))
+			.instrumentation(new Instrumentation<DoubleGene, Double>() {
+				@Override
+				public void phaseStarted(final long generation, final Phase phase) {
+					started.incrementAndGet();
+				}
+				@Override
+				public void phaseCompleted(
+					final long generation,
+					final Phase phase,
+					final long nanos
+				) {
+					completed.incrementAndGet();
+				}
+			})
+			.build();
+
+		engine.stream().limit(5).forEach(r -> {});
+
+		Assert.assertEquals(started.get(), 5*(Phase.values().length + 1));
+		Assert.assertEquals(completed.get(), started.get());
+	}
+
+	@Test
+	public void quantiles() {
+		final HistogramInstrumentation<DoubleGene, Double> instrumentation =
+			HistogramInstrumentation.of();
+
+		for (int i = 1; i <= 1000; ++i) {
+			instrumentation.evaluationCompleted(null, i*1000L);
+		}
+
+		final Histogram histogram = instrumentation.getEvaluationHistogram();
+		Assert.assertEquals(histogram.getCount(), 1000);
+		Assert.assertEquals(histogram.getMin(), 1000);
+		Assert.assertEquals(histogram.getMax(), 1_000_000);
+		Assert.assertEquals(histogram.getMean(), 500_500.0);
+
+		for (double p : new double[]{0.1, 0.5, 0.9, 0.99}) {
+			final double expected = p*1_000_000;
+			final long quantile = histogram.getQuantile(p);
+			Assert.assertTrue(quantile >= expected, p + ": " + quantile);
+			Assert.assertTrue(quantile <= expected*1.125, p + ": " + quantile);
+		}
+		Assert.assertEquals(histogram.getQuantile(0), 1000);
+		Assert.assertEquals(histogram.getQuantile(1), 1_000_000);
+	}
+
+	@Test
+	public void emptyHistogram() {
+		final Histogram histogram = HistogramInstrumentation.of()
+			.getEvaluationHistogram();
+
+		Assert.assertEquals(histogram.getCount(), 0);
+		Assert.assertEquals(histogram.getQuantile(0.5), 0);
+		Assert.assertTrue(Double.isNaN(histogram.getMean()));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		HistogramInstrumentation.of().getEvaluationHistogram().getQuantile(1.5);
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.internal.collection.BufferMSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PopulationBufferTest {
+
+	private static final Function<Genotype<DoubleGene>, Double> FITNESS =
+		gt -> gt.getChromosome().stream()
+			.mapToDouble(DoubleGene::doubleValue)
+			.sum();
+
+	private static Engine<DoubleGene, Double> engine(final boolean buffering) {
+		return Engine.builder(FITNESS, DoubleChromosome.of(0, 1, 10))
+			.alterers(
+				new SinglePointCrossover<>(0.3),
+				new Mutator<>(0.1),
+				new MeanAlterer<>(0.1))
+			.phenotypeValidator(pt -> pt.getGenotype().getGene().doubleValue() < 0.9)
+			.maximalPhenotypeAge(5)
+			.populationBuffering(buffering)
+			.executor(Runnable::run)
+			.populationSize(100)
+			.build();
+	}
+
+	private static List<List<Genotype<DoubleGene>>> populations(
+		final boolean buffering
+	) {
+		return RandomRegistry.with(new Random(123), r ->
+			engine(buffering).stream()
+				.limit(50)
+				.map(result -> result.getPopulation().stream()
+					.map(Phenotype::getGenotype)
+					.collect(toList()))
+				.collect(toList())
+		);
+	}
+
+	@Test
+	public void sameEvolution() {
+		final List<List<Genotype<DoubleGene>>> expected = populations(false);
+		final List<List<Genotype<DoubleGene>>> actual = populations(true);
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@Test
+	public void reusedBuffers() {
+		final Engine<DoubleGene, Double> engine = engine(true);
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult());
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			first.getPopulation().copy().toISeq();
+
+		final EvolutionResult<DoubleGene, Double> second =
+			engine.evolve(first.next());
+		Assert.assertEquals(first.getPopulation(), population);
+
+		final EvolutionResult<DoubleGene, Double> third =
+			engine.evolve(second.next());
+		Assert.assertEquals(first.getPopulation(), population);
+		Assert.assertNotEquals(third.getPopulation(), population);
+	}
+
+	@Test
+	public void reusedBuffersWithFitnessCache() {
+		final Engine<DoubleGene, Double> engine = engine(true).builder()
+			.fitnessCache(FitnessCache.of(1000))
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Double>> results = engine
+			.stream()
+			.limit(3)
+			.collect(toList());
+
+		final ISeq<Phenotype<DoubleGene, Double>> first =
+			results.get(0).next().getSlab().population();
+		final ISeq<Phenotype<DoubleGene, Double>> second =
+			results.get(1).next().getSlab().population();
+		final ISeq<Phenotype<DoubleGene, Double>> third =
+			results.get(2).next().getSlab().population();
+
+		Assert.assertEquals(third, results.get(2).getPopulation());
+		Assert.assertNotEquals(second, third);
+		for (int i = 0; i < first.size(); ++i) {
+			Assert.assertSame(first.get(i), third.get(i));
+		}
+	}
+
+	@Test
+	public void bestEvolutionResult() {
+		final EvolutionResult<DoubleGene, Double> expected =
+			RandomRegistry.with(new Random(123), r ->
+				engine(false).stream()
+					.limit(50)
+					.collect(EvolutionResult.toBestEvolutionResult()));
+		final EvolutionResult<DoubleGene, Double> actual =
+			RandomRegistry.with(new Random(123), r ->
+				engine(true).stream()
+					.limit(50)
+					.collect(EvolutionResult.toBestEvolutionResult()));
+
+		Assert.assertEquals(actual.getGeneration(), expected.getGeneration());
+		Assert.assertEquals(actual.getGenotypes(), expected.getGenotypes());
+	}
+
+	@Test
+	public void evolveTwice() {
+		final Engine<DoubleGene, Double> engine = engine(true);
+
+		final EvolutionResult<DoubleGene, Double> first = engine.stream()
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult());
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			first.getPopulation().copy().toISeq();
+
+		final EvolutionResult<DoubleGene, Double> a = engine.evolve(first.next());
+		final ISeq<Phenotype<DoubleGene, Double>> copy =
+			a.getPopulation().copy().toISeq();
+		final EvolutionResult<DoubleGene, Double> b = engine.evolve(first.next());
+
+		Assert.assertEquals(first.getPopulation(), population);
+		Assert.assertEquals(a.getPopulation(), copy);
+		Assert.assertNotSame(a.getPopulation(), b.getPopulation());
+	}
+
+	@Test
+	public void alterInPlace() {
+		final Object[] buffer = Genotype.of(DoubleChromosome.of(0, 1, 5))
+			.instances()
+			.limit(20)
+			.map(gt -> Phenotype.of(gt, 1, FITNESS))
+			.toArray();
+		final Object[] original = buffer.clone();
+
+		final BufferMSeq<Phenotype<DoubleGene, Double>> population =
+			new BufferMSeq<>(buffer, 5, 20);
+
+		final int alterations = new Mutator<DoubleGene, Double>(1.0)
+			.andThen(new SinglePointCrossover<>(1.0))
+			.alter(population, 2)
+			.getAlterations();
+
+		Assert.assertTrue(alterations > 0);
+		for (int i = 0; i < 5; ++i) {
+			Assert.assertSame(buffer[i], original[i]);
+		}
+		for (int i = 5; i < 20; ++i) {
+			Assert.assertNotSame(buffer[i], original[i]);
+			Assert.assertSame(population.get(i - 5), buffer[i]);
+		}
+	}
+
+}
@@ -0,0 +1,409 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SurrogateEvaluatorTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(
+		final long generation,
+		final Function<Genotype<DoubleGene>, Double> ff,
+		final double... values
+	) {
+		return Arrays.stream(values)
+			.mapToObj(v -> Genotype.of(DoubleChromosome.of(DoubleGene.of(v, 0, 100))))
+			.map(gt -> Phenotype.of(gt, generation, ff))
+			.collect(ISeq.toISeq());
+	}
+
+	private static Engine.Evaluator<DoubleGene, Double> counting(
+		final AtomicInteger count
+	) {
+		return Engine.Evaluator.of((gts, ff) -> {
+			count.addAndGet(gts.size());
+			return gts.<Double>map(ff).asISeq();
+		});
+	}
+
+	@Test
+	public void evaluateWithEmptyArchive() {
+		final AtomicInteger count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				counting(count),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MAXIMUM,
+				0.2
+			);
+
+		final ISeq<Phenotype<DoubleGene, Double>> result = evaluator.evaluate(
+			population(1, gt -> gt.getGene().doubleValue(), 1, 2, 3, 4, 5)
+		);
+
+		Assert.assertEquals(count.get(), 5);
+		Assert.assertEquals(
+			result.map(Phenotype::getFitness),
+			ISeq.of(1.0, 2.0, 3.0, 4.0, 5.0)
+		);
+		Assert.assertEquals(evaluator.getExactEvaluations(), 5);
+		Assert.assertEquals(evaluator.getSavedEvaluations(), 0);
+		Assert.assertEquals(evaluator.getArchiveSize(), 5);
+	}
+
+	@Test
+	public void evaluateScreened() {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			gt -> gt.getGene().doubleValue();
+
+		final AtomicInteger count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				counting(count),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MAXIMUM,
+				0.25,
+				1,
+				100
+			);
+
+		// Training of the surrogate model.
+		evaluator.evaluate(population(1, ff, 10, 20, 30, 40, 50, 60, 70, 80));
+		Assert.assertEquals(count.get(), 8);
+
+		count.set(0);
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(2, ff, 11, 79, 32, 58, 21, 71, 42, 49);
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.evaluate(population);
+
+		Assert.assertEquals(count.get(), 2);
+		Assert.assertEquals(result.length(), population.length());
+		Assert.assertEquals(
+			result.map(Phenotype::getGenotype),
+			population.map(Phenotype::getGenotype)
+		);
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+
+		// The two best predicted individuals are evaluated exactly.
+		Assert.assertEquals(result.get(1).getFitness(), 79.0);
+		Assert.assertEquals(result.get(5).getFitness(), 71.0);
+
+		// The others get the fitness of the nearest neighbour.
+		Assert.assertEquals(result.get(0).getFitness(), 10.0);
+		Assert.assertEquals(result.get(2).getFitness(), 30.0);
+		Assert.assertEquals(result.get(3).getFitness(), 60.0);
+		Assert.assertEquals(result.get(4).getFitness(), 20.0);
+		Assert.assertEquals(result.get(6).getFitness(), 40.0);
+		Assert.assertEquals(result.get(7).getFitness(), 50.0);
+
+		Assert.assertEquals(evaluator.getExactEvaluations(), 10);
+		Assert.assertEquals(evaluator.getSavedEvaluations(), 6);
+		Assert.assertEquals(evaluator.getSavedEvaluations(1), 0);
+		Assert.assertEquals(evaluator.getSavedEvaluations(2), 6);
+		Assert.assertEquals(evaluator.getArchiveSize(), 10);
+	}
+
+	@Test
+	public void evaluateAsyncScreened() {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			gt -> gt.getGene().doubleValue();
+
+		final AtomicInteger count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				counting(count),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MINIMUM,
+				0.5,
+				1,
+				4
+			);
+
+		evaluator.evaluate(population(1, ff, 10, 20, 30, 40));
+		count.set(0);
+
+		final ISeq<Phenotype<DoubleGene, Double>> result = evaluator
+			.evaluateAsync(population(2, ff, 41, 12, 33, 19))
+			.toCompletableFuture()
+			.join();
+
+		Assert.assertEquals(count.get(), 2);
+		Assert.assertEquals(
+			result.map(Phenotype::getFitness),
+			ISeq.of(40.0, 12.0, 30.0, 19.0)
+		);
+		Assert.assertEquals(evaluator.getArchiveSize(), 4);
+	}
+
+	@Test
+	public void evaluatePredicted() {
+		final Function<Genotype<DoubleGene>, Double> ff =
+			gt -> gt.getGene().doubleValue();
+
+		final AtomicInteger count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				counting(count),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MAXIMUM,
+				0.25,
+				1,
+				100
+			);
+
+		evaluator.evaluate(population(1, ff, 10, 20, 30, 40, 50, 60, 70, 80));
+		final ISeq<Phenotype<DoubleGene, Double>> screened = evaluator
+			.evaluate(population(2, ff, 11, 79, 32, 58, 21, 71, 42, 49));
+		Assert.assertEquals(evaluator.getSavedEvaluations(2), 6);
+		Assert.assertTrue(evaluator.isPredicted(screened.get(0)));
+		Assert.assertFalse(evaluator.isPredicted(screened.get(1)));
+
+		// The predicted individuals are evaluated exactly, when they are part
+		// of the next population.
+		count.set(0);
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.evaluate(screened);
+
+		Assert.assertEquals(count.get(), 6);
+		Assert.assertEquals(
+			result.map(Phenotype::getFitness),
+			ISeq.of(11.0, 79.0, 32.0, 58.0, 21.0, 71.0, 42.0, 49.0)
+		);
+		Assert.assertEquals(
+			result.map(Phenotype::getGeneration),
+			screened.map(Phenotype::getGeneration)
+		);
+		Assert.assertTrue(result.stream().noneMatch(evaluator::isPredicted));
+		Assert.assertEquals(evaluator.getSavedEvaluations(), 0);
+		Assert.assertEquals(evaluator.getSavedEvaluations(2), 0);
+		Assert.assertEquals(evaluator.getExactEvaluations(), 16);
+	}
+
+	@Test
+	public void evaluatePredictedBest() {
+		// The exact fitness of 43 is worse than its prediction.
+		final Function<Genotype<DoubleGene>, Double> ff = gt ->
+			gt.getGene().doubleValue() == 43 ? 0 : gt.getGene().doubleValue();
+
+		final AtomicInteger count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				counting(count),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MAXIMUM,
+				0.5,
+				1,
+				100
+			);
+
+		evaluator.evaluate(population(1, ff, 10, 40, 44));
+		count.set(0);
+
+		// The predicted fitness of 31 (40) is better than the exact fitness
+		// of 43, which requires the exact evaluation of 31.
+		final ISeq<Phenotype<DoubleGene, Double>> result = evaluator
+			.evaluate(population(2, ff, 43, 31));
+
+		Assert.assertEquals(count.get(), 2);
+		Assert.assertEquals(result.map(Phenotype::getFitness), ISeq.of(0.0, 31.0));
+		Assert.assertTrue(result.stream().noneMatch(evaluator::isPredicted));
+		Assert.assertEquals(evaluator.getSavedEvaluations(), 0);
+	}
+
+	@Test
+	public void evaluateEvaluated() {
+		final AtomicInteger count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				counting(count),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MAXIMUM,
+				0.5
+			);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(1, gt -> gt.getGene().doubleValue(), 1, 2, 3)
+				.map(Phenotype::evaluate);
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			evaluator.evaluate(population);
+
+		Assert.assertEquals(count.get(), 0);
+		Assert.assertEquals(result, population);
+	}
+
+	@Test
+	public void euclidean() {
+		final SurrogateEvaluator.Distance<DoubleGene> distance =
+			SurrogateEvaluator.euclidean();
+
+		final Genotype<DoubleGene> a = Genotype.of(
+			DoubleChromosome.of(DoubleGene.of(1, 0, 10), DoubleGene.of(2, 0, 10)),
+			DoubleChromosome.of(DoubleGene.of(3, 0, 10))
+		);
+		final Genotype<DoubleGene> b = Genotype.of(
+			DoubleChromosome.of(DoubleGene.of(4, 0, 10), DoubleGene.of(6, 0, 10)),
+			DoubleChromosome.of(DoubleGene.of(3, 0, 10))
+		);
+
+		Assert.assertEquals(distance.apply(a, b), 5.0);
+		Assert.assertEquals(distance.apply(a, a), 0.0);
+	}
+
+	@Test
+	public void hamming() {
+		final SurrogateEvaluator.Distance<BitGene> distance =
+			SurrogateEvaluator.hamming();
+
+		final Genotype<BitGene> a = Genotype.of(
+			BitChromosome.of("10110011"),
+			BitChromosome.of("0101")
+		);
+		final Genotype<BitGene> b = Genotype.of(
+			BitChromosome.of("10010111"),
+			BitChromosome.of("0110")
+		);
+
+		Assert.assertEquals(distance.apply(a, b), 4.0);
+		Assert.assertEquals(distance.apply(b, b), 0.0);
+	}
+
+	@Test
+	public void engineEvaluation() {
+		final AtomicInteger count = new AtomicInteger();
+		final Function<Genotype<DoubleGene>, Double> ff = gt -> {
+			count.incrementAndGet();
+			final double x = gt.getGene().doubleValue();
+			return x*x;
+		};
+
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				Engine.Evaluator.<DoubleGene, Double>concurrent(Runnable::run),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MINIMUM,
+				0.3
+			);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(ff, DoubleChromosome.of(-10, 10))
+			.minimizing()
+			.populationSize(50)
+			.evaluator(evaluator)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(30)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(result.getBestFitness() < 1.0);
+		Assert.assertEquals(count.get(), evaluator.getExactEvaluations());
+		Assert.assertTrue(evaluator.getSavedEvaluations() > 0);
+
+		long saved = 0;
+		for (long generation = 0; generation <= 31; ++generation) {
+			saved += evaluator.getSavedEvaluations(generation);
+		}
+		Assert.assertEquals(saved, evaluator.getSavedEvaluations());
+	}
+
+	@Test
+	public void engineEvaluationWithCache() {
+		final Function<Genotype<DoubleGene>, Double> ff = gt -> {
+			final double x = gt.getGene().doubleValue();
+			return x*x;
+		};
+
+		final SurrogateEvaluator<DoubleGene, Double> evaluator =
+			SurrogateEvaluator.of(
+				Engine.Evaluator.<DoubleGene, Double>concurrent(Runnable::run),
+				SurrogateEvaluator.euclidean(),
+				Optimize.MINIMUM,
+				0.3
+			);
+		final FitnessCache<DoubleGene, Double> cache = FitnessCache.of(10_000);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(ff, DoubleChromosome.of(-10, 10))
+			.minimizing()
+			.populationSize(50)
+			.evaluator(evaluator)
+			.fitnessCache(cache)
+			.build();
+
+		engine.stream()
+			.limit(30)
+			.forEach(er -> {
+				final Phenotype<DoubleGene, Double> best = er.getBestPhenotype();
+				Assert.assertFalse(evaluator.isPredicted(best));
+				Assert.assertEquals(best.getFitness(), ff.apply(best.getGenotype()));
+
+				er.getPopulation().forEach(pt -> {
+					final Double fitness = cache.get(pt.getGenotype());
+					if (fitness != null) {
+						Assert.assertEquals(fitness, ff.apply(pt.getGenotype()));
+					}
+				});
+			});
+
+		Assert.assertTrue(evaluator.getSavedEvaluations() > 0);
+		Assert.assertTrue(cache.size() > 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidFraction() {
+		SurrogateEvaluator.of(
+			Engine.Evaluator.<DoubleGene, Double>concurrent(Runnable::run),
+			SurrogateEvaluator.euclidean(),
+			Optimize.MAXIMUM,
+			0.0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidArchiveSize() {
+		SurrogateEvaluator.of(
+			Engine.Evaluator.<DoubleGene, Double>concurrent(Runnable::run),
+			SurrogateEvaluator.euclidean(),
+			Optimize.MAXIMUM,
+			0.5,
+			10,
+			5
+		);
+	}
+
+}
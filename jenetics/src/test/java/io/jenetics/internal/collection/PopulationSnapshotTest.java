@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PopulationSnapshotTest {
+
+	private static <C extends Comparable<? super C>>
+	ISeq<Phenotype<IntegerGene, C>> population(
+		final Function<Integer, C> fitness,
+		final int size
+	) {
+		final Random random = new Random(1234);
+		final Function<Genotype<IntegerGene>, C> ff =
+			gt -> fitness.apply(gt.getGene().getAllele());
+
+		return ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(IntegerChromosome.of(
+					IntegerGene.of(random.nextInt(20), 0, 20))),
+				1,
+				ff
+			),
+			size
+		);
+	}
+
+	@Test(dataProvider = "optimize")
+	public void sortedIndexes(final Optimize opt) {
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			population(Function.identity(), 500);
+
+		final MSeq<Phenotype<IntegerGene, Integer>> expected = population.copy();
+		expected.sort((a, b) ->
+			opt.<Integer>descending().compare(a.getFitness(), b.getFitness()));
+
+		final PopulationSnapshot<IntegerGene, Integer> snapshot =
+			PopulationSnapshot.of(population);
+		final int[] indexes = snapshot.sortedIndexes(opt);
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertSame(snapshot.get(indexes[i]), expected.get(i));
+		}
+		Assert.assertEquals(snapshot.sorted(opt), expected);
+	}
+
+	@Test(dataProvider = "optimize")
+	public void topIndexes(final Optimize opt) {
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			population(Function.identity(), 1000);
+
+		final PopulationSnapshot<IntegerGene, Integer> snapshot =
+			PopulationSnapshot.of(population);
+		final int[] sorted = snapshot.sortedIndexes(opt);
+		for (int k : new int[]{0, 1, 10, 249, 250, 999, 1000, 2000}) {
+			Assert.assertEquals(
+				snapshot.sortedIndexes(opt, k),
+				Arrays.copyOf(sorted, Math.min(k, sorted.length))
+			);
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void compare(final Optimize opt) {
+		final ISeq<Phenotype<IntegerGene, String>> population =
+			population(String::valueOf, 100);
+
+		final PopulationSnapshot<IntegerGene, String> snapshot =
+			PopulationSnapshot.of(population);
+		Assert.assertNull(snapshot.values());
+
+		for (int i = 0; i < population.size(); ++i) {
+			for (int j = 0; j < population.size(); ++j) {
+				Assert.assertEquals(
+					Integer.signum(snapshot.compare(i, j, opt)),
+					Integer.signum(opt.compare(
+						population.get(i).getFitness(),
+						population.get(j).getFitness()))
+				);
+			}
+		}
+	}
+
+	@Test
+	public void values() {
+		final ISeq<Phenotype<IntegerGene, Double>> population =
+			population(i -> i/3.0, 100);
+
+		final PopulationSnapshot<IntegerGene, Double> snapshot =
+			PopulationSnapshot.of(population);
+		Assert.assertSame(PopulationSnapshot.of(snapshot), snapshot);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(
+				snapshot.values()[i],
+				population.get(i).getFitness()
+			);
+		}
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {
+			{Optimize.MAXIMUM},
+			{Optimize.MINIMUM}
+		};
+	}
+
+}
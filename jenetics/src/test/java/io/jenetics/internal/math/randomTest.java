@@ -24,6 +24,7 @@ import static java.lang.String.format;
 import java.util.Random;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.prngine.LCG64ShiftRandom;
@@ -46,4 +47,84 @@ public class randomTest {
 		}
 	}
 
+	@Test(dataProvider = "probabilities")
+	public void indexes(final Double p) {
+		final Random rnd = new LCG64ShiftRandom(123);
+		final int n = 100_000;
+
+		final int[] indexes = random.indexes(rnd, 10, n + 10, p).toArray();
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertTrue(indexes[i] >= 10, format("%d < 10", indexes[i]));
+			Assert.assertTrue(indexes[i] < n + 10, format("%d >= n", indexes[i]));
+			if (i > 0) {
+				Assert.assertTrue(
+					indexes[i - 1] < indexes[i],
+					format("%d >= %d", indexes[i - 1], indexes[i])
+				);
+			}
+		}
+
+		final double mean = n*p;
+		final double std = Math.sqrt(n*p*(1 - p));
+		Assert.assertEquals(indexes.length, mean, 5*std);
+	}
+
+	@DataProvider(name = "probabilities")
+	public Object[][] probabilities() {
+		return new Object[][] {
+			{0.0001},
+			{0.001},
+			{0.01},
+			{random.SKIP_THRESHOLD/2},
+			{random.SKIP_THRESHOLD},
+			{0.1},
+			{0.5},
+			{0.9}
+		};
+	}
+
+	@Test
+	public void indexesGapDistribution() {
+		final Random rnd = new LCG64ShiftRandom(456);
+		final double p = 0.01;
+
+		// The first index is geometrically distributed: P(X = 0) = p.
+		final int samples = 200_000;
+		int zeros = 0;
+		for (int i = 0; i < samples; ++i) {
+			if (random.indexes(rnd, 0, 100, p).findFirst().orElse(-1) == 0) {
+				++zeros;
+			}
+		}
+
+		final double std = Math.sqrt(samples*p*(1 - p));
+		Assert.assertEquals(zeros, samples*p, 5*std);
+	}
+
+	@Test
+	public void indexesMaxRange() {
+		final Random rnd = new LCG64ShiftRandom(789);
+		final int start = Integer.MAX_VALUE - 1000;
+
+		random.indexes(rnd, start, Integer.MAX_VALUE, 1E-15)
+			.forEach(i -> Assert.assertTrue(i >= start));
+		random.indexes(rnd, start, Integer.MAX_VALUE, 0.01)
+			.forEach(i -> Assert.assertTrue(i >= start));
+	}
+
+	@Test
+	public void stream() {
+		final int[] a = random.stream(123, 7).ints(100).toArray();
+		final int[] b = random.stream(123, 7).ints(100).toArray();
+		final int[] c = random.stream(123, 8).ints(100).toArray();
+
+		Assert.assertEquals(a, b);
+		Assert.assertNotEquals(a, c);
+
+		final double mean = random.stream(456, 0).doubles(100_000)
+			.average()
+			.orElse(0);
+		Assert.assertEquals(mean, 0.5, 0.01);
+	}
+
 }
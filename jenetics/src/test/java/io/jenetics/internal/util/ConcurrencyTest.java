@@ -21,10 +21,23 @@ package io.jenetics.internal.util;
 
 import static java.lang.String.format;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
 import io.jenetics.util.ISeq;
 
 /**
@@ -32,6 +45,113 @@ import io.jenetics.util.ISeq;
  */
 public class ConcurrencyTest {
 
+	@Test(dataProvider = "executors")
+	public void executeWithCosts(final Executor executor, final double[] costs) {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(costs.length);
+		final ISeq<Runnable> runnables = IntStream.range(0, costs.length)
+			.mapToObj(i -> (Runnable)() -> counts.incrementAndGet(i))
+			.collect(ISeq.toISeq());
+
+		final double[] copy = costs.clone();
+		try (Concurrency concurrency = Concurrency.with(executor)) {
+			concurrency.execute(runnables, costs);
+		}
+
+		for (int i = 0; i < costs.length; ++i) {
+			Assert.assertEquals(counts.get(i), 1, "Index " + i);
+		}
+		Assert.assertTrue(Arrays.equals(costs, copy));
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		final Random random = new Random(123);
+		final double[] skewed = random.doubles(1000)
+			.map(v -> v < 0.05 ? 1000*v : v)
+			.toArray();
+		final double[] invalid = random.doubles(100)
+			.map(v -> v < 0.1 ? Double.NaN : v < 0.2 ? -v : v)
+			.toArray();
+		final double[] equal = new double[100];
+		Arrays.fill(equal, 5.0);
+
+		final ExecutorService service = Executors.newFixedThreadPool(3);
+		final Executor executor = command -> new Thread(command).start();
+
+		final List<Object[]> result = new ArrayList<>();
+		for (double[] costs : new double[][] {
+			skewed, invalid, equal, new double[100], new double[]{1},
+			new double[0]})
+		{
+			result.add(new Object[]{ForkJoinPool.commonPool(), costs.clone()});
+			result.add(new Object[]{new ForkJoinPool(2), costs.clone()});
+			result.add(new Object[]{service, costs.clone()});
+			result.add(new Object[]{executor, costs.clone()});
+			result.add(new Object[]{Concurrency.SERIAL_EXECUTOR, costs.clone()});
+		}
+
+		return result.toArray(new Object[0][]);
+	}
+
+	@Test(dataProvider = "executors")
+	public void executeIndexed(final Executor executor, final double[] costs) {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(costs.length);
+		Concurrency.execute(executor, costs.length, counts::incrementAndGet);
+
+		for (int i = 0; i < costs.length; ++i) {
+			Assert.assertEquals(counts.get(i), 1, "Index " + i);
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void executeIndexedNested() throws Exception {
+		final ExecutorService service = Executors.newFixedThreadPool(1);
+		try {
+			final AtomicIntegerArray counts = new AtomicIntegerArray(100);
+			service.submit(() ->
+				Concurrency.execute(service, 100, counts::incrementAndGet)
+			).get();
+
+			for (int i = 0; i < counts.length(); ++i) {
+				Assert.assertEquals(counts.get(i), 1, "Index " + i);
+			}
+		} finally {
+			service.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = CancellationException.class)
+	public void executeIndexedWithError() {
+		Concurrency.execute(ForkJoinPool.commonPool(), 10, i -> {
+			if (i == 5) {
+				throw new IllegalStateException("Task " + i);
+			}
+		});
+	}
+
+	@Test
+	public void executeWithCostsOrder() {
+		final double[] costs = {3, 1, 7, 5, 0, 2};
+		final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		final ISeq<Runnable> runnables = IntStream.range(0, costs.length)
+			.mapToObj(i -> (Runnable)() -> order.add(i))
+			.collect(ISeq.toISeq());
+
+		try (Concurrency concurrency = Concurrency.SERIAL_EXECUTOR) {
+			concurrency.execute(runnables, costs);
+		}
+
+		Assert.assertEquals(order, Arrays.asList(2, 3, 0, 5, 1, 4));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void executeWithInvalidCostsLength() {
+		final ISeq<Runnable> runnables = ISeq.of(() -> {}, () -> {});
+		try (Concurrency concurrency = Concurrency.withCommonPool()) {
+			concurrency.execute(runnables, new double[3]);
+		}
+	}
+
 	//@org.testng.annotations.Test
 	public void cpuTime() {
 		final Random random = new Random(123);
@@ -202,6 +202,29 @@ public class IndexSorterTest {
         Assert.assertEquals(actual, expected);
 	}
 
+	@Test(dataProvider = "topSizes")
+	public void top(final Integer size, final Integer k) {
+		final int[] values = new Random().ints(size, 0, size/3 + 1).toArray();
+		final IntComparator comparator = (i, j) -> {
+			final int cmp = Integer.compare(values[i], values[j]);
+			return cmp != 0 ? cmp : Integer.compare(j, i);
+		};
+
+		final int[] expected = Arrays.copyOf(
+			HeapSorter.INSTANCE.sort(indexes(size), indexes(size), comparator),
+			k
+		);
+		Assert.assertEquals(IndexSorter.top(size, k, comparator), expected);
+	}
+
+	@DataProvider(name = "topSizes")
+	public Object[][] topSizes() {
+		return new Object[][] {
+			{0, 0}, {1, 0}, {1, 1}, {2, 1}, {5, 3}, {33, 1}, {33, 32},
+			{1000, 10}, {1000, 500}, {1000, 1000}, {100_000, 100}
+		};
+	}
+
 	@DataProvider(name = "sorters")
 	public Object[][] sorters() {
 		return new Object[][] {
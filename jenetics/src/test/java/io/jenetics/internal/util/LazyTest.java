@@ -21,6 +21,7 @@ package io.jenetics.internal.util;
 
 import java.util.Random;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.Factory;
@@ -41,4 +42,14 @@ public class LazyTest extends ObjectTester<Lazy<Double>> {
 		};
 	}
 
+	@Test
+	public void releaseSupplier() {
+		final Lazy<Integer> lazy = Lazy.of(() -> 42);
+		Assert.assertNotNull(lazy.supplier());
+
+		Assert.assertEquals(lazy.get().intValue(), 42);
+		Assert.assertNull(lazy.supplier());
+		Assert.assertEquals(lazy.get().intValue(), 42);
+	}
+
 }
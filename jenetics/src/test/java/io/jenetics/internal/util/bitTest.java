@@ -23,6 +23,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -187,6 +188,92 @@ public class bitTest {
 		}
 	}
 
+	@Test
+	public void swapAligned() {
+		final Random random = new Random(123);
+		final int bitLength = 1_000*8;
+
+		for (int k = 0; k < 1_000; ++k) {
+			final byte[] data = newByteArray(1_000, random);
+			final byte[] other = newByteArray(1_000, random);
+			final byte[] dataCopy = data.clone();
+			final byte[] otherCopy = other.clone();
+
+			final int a = random.nextInt(bitLength + 1);
+			final int b = random.nextInt(bitLength + 1);
+			final int start = Math.min(a, b);
+			final int end = Math.max(a, b);
+
+			io.jenetics.internal.util.bit.swap(data, start, end, other, start);
+
+			for (int i = 0; i < bitLength; ++i) {
+				final boolean swapped = i >= start && i < end;
+				Assert.assertEquals(
+					io.jenetics.internal.util.bit.get(data, i),
+					io.jenetics.internal.util.bit.get(swapped ? otherCopy : dataCopy, i)
+				);
+				Assert.assertEquals(
+					io.jenetics.internal.util.bit.get(other, i),
+					io.jenetics.internal.util.bit.get(swapped ? dataCopy : otherCopy, i)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void swapMask() {
+		final Random random = new Random(123);
+		final byte[] data = newByteArray(1_000, random);
+		final byte[] other = newByteArray(1_000, random);
+		final byte[] mask = newByteArray(1_000, random);
+		final byte[] dataCopy = data.clone();
+		final byte[] otherCopy = other.clone();
+
+		io.jenetics.internal.util.bit.swap(data, other, mask);
+
+		for (int i = 0; i < 1_000*8; ++i) {
+			final boolean swapped = io.jenetics.internal.util.bit.get(mask, i);
+			Assert.assertEquals(
+				io.jenetics.internal.util.bit.get(data, i),
+				io.jenetics.internal.util.bit.get(swapped ? otherCopy : dataCopy, i)
+			);
+			Assert.assertEquals(
+				io.jenetics.internal.util.bit.get(other, i),
+				io.jenetics.internal.util.bit.get(swapped ? dataCopy : otherCopy, i)
+			);
+		}
+	}
+
+	@Test
+	public void diff() {
+		final Random random = new Random(123);
+		final byte[] data = newByteArray(1_000, random);
+		final byte[] other = newByteArray(1_000, random);
+
+		final int[] expected = IntStream.range(0, 1_000*8)
+			.filter(i ->
+				io.jenetics.internal.util.bit.get(data, i) !=
+				io.jenetics.internal.util.bit.get(other, i))
+			.toArray();
+
+		Assert.assertEquals(io.jenetics.internal.util.bit.diff(data, other), expected);
+		Assert.assertEquals(io.jenetics.internal.util.bit.diff(data, data), new int[0]);
+	}
+
+	@Test
+	public void countArray() {
+		final Random random = new Random(123);
+		for (int length = 0; length < 100; ++length) {
+			final byte[] data = newByteArray(length, random);
+
+			int expected = 0;
+			for (byte value : data) {
+				expected += count(value);
+			}
+			Assert.assertEquals(io.jenetics.internal.util.bit.count(data), expected);
+		}
+	}
+
 	private static byte[] newByteArray(final int length, final Random random) {
 		final byte[] array = new byte[length];
 		for (int i = 0; i < length; ++i) {
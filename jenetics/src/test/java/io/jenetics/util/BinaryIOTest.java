@@ -0,0 +1,194 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.String.format;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BinaryIOTest {
+
+	@Test(dataProvider = "objects")
+	public void serialize(final Object object) throws IOException {
+		Serialize.binary.test(object);
+	}
+
+	@DataProvider(name = "objects")
+	public Object[][] objects() {
+		return new Object[][] {
+			{DoubleChromosome.of(-10, 10, 20)},
+			{DoubleChromosome.of(0, 1, IntRange.of(5, 15))},
+			{IntegerChromosome.of(-100, 100, 20)},
+			{IntegerChromosome.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 20)},
+			{LongChromosome.of(Long.MIN_VALUE, Long.MAX_VALUE, 20)},
+			{LongChromosome.of(0, 1000, IntRange.of(5, 15))},
+			{BitChromosome.of(1)},
+			{BitChromosome.of(77, 0.3)},
+			{PermutationChromosome.ofInteger(50)},
+			{CharacterChromosome.of(15)},
+			{Genotype.of(DoubleChromosome.of(0, 1, 10), 5)},
+			{Genotype.of(
+				PermutationChromosome.of(ISeq.of("a", "b", "c", "d")),
+				PermutationChromosome.of(ISeq.of("a", "b", "c", "d")))},
+			{population(100)},
+			{population(1).get(0)},
+			{ISeq.of(1, -1L, 3.5, "some string")}
+		};
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Function<Genotype<DoubleGene>, Double> ff = gt ->
+			gt.getGene().doubleValue();
+
+		return Genotype.of(DoubleChromosome.of(0, 1, 10), 3).instances()
+			.limit(size)
+			.map(gt -> Phenotype.of(gt, 5, ff).evaluate())
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void permutationAllelesWrittenOnce() throws IOException {
+		final ISeq<Integer> alleles = IntStream.range(0, 100).boxed()
+			.collect(ISeq.toISeq());
+		final ISeq<Genotype<EnumGene<Integer>>> population = ISeq.of(
+			() -> Genotype.of(PermutationChromosome.of(alleles)),
+			50
+		);
+
+		final byte[] data = IO.binary.toByteArray(population);
+		final byte[] single = IO.binary.toByteArray(population.get(0));
+		Assert.assertTrue(
+			data.length < 50*single.length/2,
+			format("%d < %d", data.length, 50*single.length/2)
+		);
+
+		@SuppressWarnings("unchecked")
+		final ISeq<Genotype<EnumGene<Integer>>> copy =
+			(ISeq<Genotype<EnumGene<Integer>>>)IO.binary
+			.fromByteArray(data);
+		Assert.assertEquals(copy, population);
+		Assert.assertSame(
+			copy.get(0).getChromosome().getGene().getValidAlleles(),
+			copy.get(49).getChromosome().getGene().getValidAlleles()
+		);
+	}
+
+	@Test
+	public void compactness() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(500);
+
+		final int binary = IO.binary.toByteArray(population).length;
+		final int object = IO.object.toByteArray(population).length;
+		Assert.assertTrue(binary < object, format("%d < %d", binary, object));
+	}
+
+	@Test
+	public void stream() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (BinaryIO.Writer writer = IO.binary.writer(out)) {
+			for (Phenotype<DoubleGene, Double> pt : population) {
+				writer.write(pt);
+			}
+		}
+
+		final ByteArrayInputStream in =
+			new ByteArrayInputStream(out.toByteArray());
+		try (Stream<Phenotype> stream = IO.binary.stream(Phenotype.class, in)) {
+			Assert.assertEquals(stream.collect(ISeq.toISeq()), population);
+		}
+	}
+
+	@Test
+	public void streamTruncated() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final BinaryIO.Writer writer = IO.binary.writer(out);
+		writer.write(1);
+		writer.write(2);
+		writer.flush();
+
+		final byte[] data = out.toByteArray();
+		final List<Integer> values = IO.binary
+			.stream(Integer.class, new ByteArrayInputStream(data))
+			.collect(Collectors.toList());
+		Assert.assertEquals(values, Arrays.asList(1, 2));
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void streamCorrupted() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (BinaryIO.Writer writer = IO.binary.writer(out)) {
+			writer.write(DoubleChromosome.of(0, 1, 100));
+		}
+
+		final byte[] data = Arrays.copyOf(out.toByteArray(), 100);
+		IO.binary.stream(DoubleChromosome.class, new ByteArrayInputStream(data))
+			.count();
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void writeClosed() throws IOException {
+		final BinaryIO.Writer writer =
+			IO.binary.writer(new ByteArrayOutputStream());
+		writer.close();
+		writer.write(1);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readInvalidHeader() throws IOException {
+		final byte[] data = IO.object.toByteArray(DoubleChromosome.of(0, 1));
+		IO.binary.fromByteArray(data);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readInvalidType() throws IOException {
+		final byte[] data = IO.binary.toByteArray(DoubleChromosome.of(0, 1));
+		IO.binary.read(BitChromosome.class, new ByteArrayInputStream(data));
+	}
+
+}
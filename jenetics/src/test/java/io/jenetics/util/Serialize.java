@@ -38,6 +38,8 @@ public class Serialize {
 
 	public static final Serialize object = new Serialize(IO.object);
 
+	public static final Serialize binary = new Serialize(IO.binary);
+
 	public void test(final Object object) throws IOException {
 		final ByteArrayOutputStream out = new ByteArrayOutputStream();
 		_io.write(object, out);